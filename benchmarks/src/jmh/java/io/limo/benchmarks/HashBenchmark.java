@@ -0,0 +1,55 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.benchmarks;
+
+import io.limo.bench.HashBench;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class HashBenchmark {
+
+    @Param({"64", "4096", "1048576"})
+    int byteSize;
+
+    HashBench parent;
+
+    @Setup
+    public void setup() {
+        parent = new HashBench(byteSize);
+        parent.setup();
+    }
+
+    @TearDown
+    public void tearDown() {
+        parent.tearDown();
+    }
+
+    @Benchmark
+    public long xxHash64() {
+        return parent.xxHash64();
+    }
+
+    @Benchmark
+    public long murmur3Hash64() {
+        return parent.murmur3Hash64();
+    }
+
+    @Benchmark
+    public long xxHash64Streaming() {
+        return parent.xxHash64Streaming();
+    }
+
+    @Benchmark
+    public long toByteArrayHashCode() {
+        return parent.toByteArrayHashCode();
+    }
+}
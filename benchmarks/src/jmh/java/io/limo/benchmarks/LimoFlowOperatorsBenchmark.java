@@ -0,0 +1,91 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.benchmarks;
+
+import io.limo.bench.LimoFlowOperatorsBench;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class LimoFlowOperatorsBenchmark {
+
+    LimoFlowOperatorsBench parent = new LimoFlowOperatorsBench();
+
+    @Benchmark
+    public long limoMapFilter() {
+        return parent.limoMapFilter();
+    }
+
+    @Benchmark
+    public long submissionPublisherMapFilter() {
+        return parent.submissionPublisherMapFilter();
+    }
+
+    @Benchmark
+    public long limoSkipTake() {
+        return parent.limoSkipTake();
+    }
+
+    @Benchmark
+    public long submissionPublisherSkipTake() {
+        return parent.submissionPublisherSkipTake();
+    }
+
+    @Benchmark
+    public long limoBatch() {
+        return parent.limoBatch();
+    }
+
+    @Benchmark
+    public long submissionPublisherBatch() {
+        return parent.submissionPublisherBatch();
+    }
+
+    @Benchmark
+    public long limoWindow() {
+        return parent.limoWindow();
+    }
+
+    @Benchmark
+    public long submissionPublisherWindow() {
+        return parent.submissionPublisherWindow();
+    }
+
+    @Benchmark
+    public long limoFlatMap() {
+        return parent.limoFlatMap();
+    }
+
+    @Benchmark
+    public long submissionPublisherFlatMap() {
+        return parent.submissionPublisherFlatMap();
+    }
+
+    @Benchmark
+    public long limoMerge() {
+        return parent.limoMerge();
+    }
+
+    @Benchmark
+    public long submissionPublisherMerge() {
+        return parent.submissionPublisherMerge();
+    }
+
+    @Benchmark
+    public long limoZip() {
+        return parent.limoZip();
+    }
+
+    @Benchmark
+    public long submissionPublisherZip() {
+        return parent.submissionPublisherZip();
+    }
+}
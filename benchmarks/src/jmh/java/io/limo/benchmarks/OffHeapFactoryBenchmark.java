@@ -0,0 +1,106 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.benchmarks;
+
+import io.limo.bench.OffHeapFactoryBench;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class OffHeapFactoryBenchmark {
+
+    @Param({"BASE", "POOLED", "MEMORY_SEGMENT"})
+    OffHeapFactoryBench.Backend backend;
+
+    @Param({"SAFE", "UNSAFE"})
+    OffHeapFactoryBench.Access access;
+
+    OffHeapFactoryBench parent;
+
+    @Setup
+    public void setup() {
+        parent = new OffHeapFactoryBench(backend, access);
+        parent.setup();
+    }
+
+    @TearDown
+    public void tearDown() {
+        parent.tearDown();
+    }
+
+    @Benchmark
+    public long readLong() {
+        return parent.readLong();
+    }
+
+    @Benchmark
+    public void writeLong() {
+        parent.writeLong();
+    }
+
+    @Benchmark
+    public long sequentialScan() {
+        return parent.sequentialScan();
+    }
+
+    @Benchmark
+    public long randomScan() {
+        return parent.randomScan();
+    }
+
+    @Benchmark
+    public long slice() {
+        return parent.slice();
+    }
+
+    @Benchmark
+    public long acquire() {
+        return parent.acquire();
+    }
+
+    @Benchmark
+    public long allocateClose() {
+        return parent.allocateClose();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long crossThreadRead(SharedState shared) {
+        return shared.parent.crossThreadRead();
+    }
+
+    /**
+     * One memory for all benchmark threads, owned by none of them
+     */
+    @State(Scope.Benchmark)
+    public static class SharedState {
+
+        @Param({"BASE", "POOLED", "MEMORY_SEGMENT"})
+        OffHeapFactoryBench.Backend backend;
+
+        @Param({"SAFE", "UNSAFE"})
+        OffHeapFactoryBench.Access access;
+
+        OffHeapFactoryBench parent;
+
+        @Setup
+        public void setup() throws ExecutionException, InterruptedException {
+            parent = new OffHeapFactoryBench(backend, access);
+            parent.setupShared();
+        }
+
+        @TearDown
+        public void tearDown() throws ExecutionException, InterruptedException {
+            parent.tearDownShared();
+        }
+    }
+}
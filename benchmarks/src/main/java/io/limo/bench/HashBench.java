@@ -0,0 +1,67 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.bench;
+
+import io.limo.memory.MutableOffHeap;
+import io.limo.memory.OffHeapFactory;
+import io.limo.utils.Murmur3Hash64;
+import io.limo.utils.XxHash64;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Hash of an off-heap payload read in place, compared with a copy to a byte[] followed by a heap hash
+ */
+public final class HashBench {
+
+    private static final int UPDATE_SIZE = 4096;
+
+    private final int byteSize;
+    private final XxHash64 xxHasher = new XxHash64();
+
+    private MutableOffHeap memory;
+
+    public HashBench(int byteSize) {
+        this.byteSize = byteSize;
+    }
+
+    public void setup() {
+        final var bytes = new byte[this.byteSize];
+        new Random(42).nextBytes(bytes);
+        this.memory = OffHeapFactory.allocate((long) this.byteSize);
+        this.memory.writeBytesAt(0, bytes, 0, this.byteSize);
+    }
+
+    public void tearDown() {
+        this.memory.close();
+    }
+
+    public long xxHash64() {
+        return XxHash64.hash(this.memory, 0, this.byteSize, 0L);
+    }
+
+    public long murmur3Hash64() {
+        return Murmur3Hash64.hash(this.memory, 0, this.byteSize, 0);
+    }
+
+    /**
+     * Streaming hash, the payload is read in {@value #UPDATE_SIZE} bytes updates like consecutive chunks of a Data
+     */
+    public long xxHash64Streaming() {
+        this.xxHasher.reset();
+        for (var offset = 0; offset < this.byteSize; offset += UPDATE_SIZE) {
+            this.xxHasher.update(this.memory, offset, Math.min(UPDATE_SIZE, this.byteSize - offset));
+        }
+        return this.xxHasher.getValue();
+    }
+
+    /**
+     * The payload is copied on heap then hashed, what was needed before hashing off-heap memory in place
+     */
+    public long toByteArrayHashCode() {
+        return Arrays.hashCode(this.memory.toByteArray());
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.bench;
+
+import io.limo.concurrent.LimoFlow;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Each operator of {@link LimoFlow} is compared to the equivalent pipeline of {@link SubmissionPublisher}, where each
+ * operator is a {@link Flow.Processor} stage that hands elements over to the next stage through its own buffer
+ */
+public final class LimoFlowOperatorsBench {
+
+    private static final int NUM_ELEM = 100_000;
+    private static final int BATCH_SIZE = 64;
+    private static final int INNER_COUNT = 100;
+    private static final int MERGED_COUNT = 4;
+
+    public long limoMapFilter() {
+        return await(range(NUM_ELEM)
+                .map(i -> i * 3)
+                .filter(i -> (i & 1) == 0));
+    }
+
+    public long submissionPublisherMapFilter() {
+        return awaitSubmission(NUM_ELEM, source -> source
+                .<Integer>stage((i, next) -> next.accept(i * 3))
+                .stage((i, next) -> {
+                    if ((i & 1) == 0) {
+                        next.accept(i);
+                    }
+                }));
+    }
+
+    public long limoSkipTake() {
+        return await(range(NUM_ELEM)
+                .skip(BATCH_SIZE)
+                .take(NUM_ELEM >> 1));
+    }
+
+    public long submissionPublisherSkipTake() {
+        final var skipped = new int[1];
+        final var taken = new int[1];
+        return awaitSubmission(NUM_ELEM, source -> source
+                .<Integer>stage((i, next) -> {
+                    if (skipped[0] < BATCH_SIZE) {
+                        skipped[0]++;
+                    } else if (taken[0] < NUM_ELEM >> 1) {
+                        taken[0]++;
+                        next.accept(i);
+                    }
+                }));
+    }
+
+    public long limoBatch() {
+        return await(range(NUM_ELEM).batch(BATCH_SIZE, Duration.ofMillis(1)));
+    }
+
+    public long submissionPublisherBatch() {
+        final List<List<Integer>> batch = new ArrayList<>(List.of(new ArrayList<>()));
+        return awaitSubmission(NUM_ELEM, source -> source
+                .<List<Integer>>stage((i, next) -> {
+                    batch.get(0).add(i);
+                    if (batch.get(0).size() == BATCH_SIZE) {
+                        next.accept(batch.get(0));
+                        batch.set(0, new ArrayList<>());
+                    }
+                }));
+    }
+
+    public long limoWindow() {
+        return await(range(NUM_ELEM).window(Duration.ofMillis(1)));
+    }
+
+    public long submissionPublisherWindow() {
+        final var timespan = Duration.ofMillis(1).toNanos();
+        final List<List<Integer>> window = new ArrayList<>(List.of(new ArrayList<>()));
+        final var deadline = new long[]{System.nanoTime() + timespan};
+        return awaitSubmission(NUM_ELEM, source -> source
+                .<List<Integer>>stage((i, next) -> {
+                    final var now = System.nanoTime();
+                    if (now >= deadline[0]) {
+                        if (!window.get(0).isEmpty()) {
+                            next.accept(window.get(0));
+                            window.set(0, new ArrayList<>());
+                        }
+                        deadline[0] = now + timespan;
+                    }
+                    window.get(0).add(i);
+                }));
+    }
+
+    public long limoFlatMap() {
+        return await(range(INNER_COUNT)
+                .flatMap(i -> range(NUM_ELEM / INNER_COUNT), MERGED_COUNT));
+    }
+
+    public long submissionPublisherFlatMap() {
+        return awaitSubmission(INNER_COUNT, source -> source
+                .<Integer>stage((i, next) -> {
+                    for (var j = 0; j < NUM_ELEM / INNER_COUNT; j++) {
+                        next.accept(j);
+                    }
+                }));
+    }
+
+    public long limoMerge() {
+        @SuppressWarnings("unchecked") final LimoFlow.DemandPublisher<Integer>[] sources =
+                new LimoFlow.DemandPublisher[MERGED_COUNT];
+        for (var index = 0; index < MERGED_COUNT; index++) {
+            sources[index] = range(NUM_ELEM / MERGED_COUNT);
+        }
+        return await(LimoFlow.merge(sources));
+    }
+
+    public long submissionPublisherMerge() {
+        final var sink = new CountingSubscriber<Integer>(MERGED_COUNT);
+        final var threads = new Thread[MERGED_COUNT];
+        for (var index = 0; index < MERGED_COUNT; index++) {
+            threads[index] = new Thread(() -> submitAll(NUM_ELEM / MERGED_COUNT, sink));
+            threads[index].start();
+        }
+        return sink.await();
+    }
+
+    public long limoZip() {
+        return await(LimoFlow.zip(range(NUM_ELEM), range(NUM_ELEM), Integer::sum));
+    }
+
+    public long submissionPublisherZip() {
+        final BlockingQueue<Integer> left = new LinkedBlockingQueue<>(Flow.defaultBufferSize());
+        final BlockingQueue<Integer> right = new LinkedBlockingQueue<>(Flow.defaultBufferSize());
+        new Thread(() -> submitAll(NUM_ELEM, new QueueSubscriber(left))).start();
+        new Thread(() -> submitAll(NUM_ELEM, new QueueSubscriber(right))).start();
+        var count = 0L;
+        try {
+            for (var index = 0; index < NUM_ELEM; index++) {
+                if (left.take() + right.take() >= 0) {
+                    count++;
+                }
+            }
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        return count;
+    }
+
+    private static LimoFlow.DemandPublisher<Integer> range(int count) {
+        return LimoFlow.create(emitter -> {
+            for (var i = 0; i < count; i++) {
+                if (!emitter.emit(i)) {
+                    return;
+                }
+            }
+        });
+    }
+
+    /**
+     * Requests all elements of {@code publisher}, waits for its completion
+     *
+     * @return the number of received elements
+     */
+    private static long await(LimoFlow.DemandPublisher<?> publisher) {
+        final var count = new long[1];
+        final var completed = new CountDownLatch(1);
+        publisher.subscribe(new LimoFlow.DemandSubscriber<Object>() {
+            @Override
+            public void onSubscribe(LimoFlow.@NotNull Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void receive(Object item) {
+                count[0]++;
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+
+            @Override
+            public void onError(@NotNull Throwable throwable) {
+                completed.countDown();
+            }
+        });
+        try {
+            completed.await();
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        return count[0];
+    }
+
+    /**
+     * Submits {@code count} elements to a pipeline built by {@code pipeline}, waits for its completion
+     *
+     * @return the number of received elements
+     */
+    private static long awaitSubmission(int count, Consumer<Stage<Integer, Integer>> pipeline) {
+        // source stage is only used as a publisher
+        final var source = new Stage<Integer, Integer>((i, next) -> next.accept(i));
+        final var sink = new CountingSubscriber<>(1);
+        pipeline.accept(source);
+        source.last().subscribe(sink);
+        for (var i = 0; i < count; i++) {
+            source.submit(i);
+        }
+        source.close();
+        return sink.await();
+    }
+
+    private static void submitAll(int count, Flow.Subscriber<Integer> subscriber) {
+        try (final var publisher = new SubmissionPublisher<Integer>()) {
+            publisher.subscribe(subscriber);
+            for (var i = 0; i < count; i++) {
+                publisher.submit(i);
+            }
+        }
+    }
+
+    /**
+     * A pipeline stage, the usual way to build operators with {@link SubmissionPublisher}
+     */
+    private static final class Stage<T, R> extends SubmissionPublisher<R> implements Flow.Processor<T, R> {
+
+        private final BiConsumer<T, Consumer<R>> step;
+        private Flow.Subscription subscription;
+        private Stage<R, ?> next;
+
+        private Stage(BiConsumer<T, Consumer<R>> step) {
+            this.step = step;
+        }
+
+        private <V> Stage<R, V> stage(BiConsumer<R, Consumer<V>> nextStep) {
+            final var nextStage = new Stage<R, V>(nextStep);
+            subscribe(nextStage);
+            this.next = nextStage;
+            return nextStage;
+        }
+
+        private Stage<?, ?> last() {
+            return (this.next == null) ? this : this.next.last();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1L);
+        }
+
+        @Override
+        public void onNext(T item) {
+            this.step.accept(item, this::submit);
+            this.subscription.request(1L);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            closeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            close();
+        }
+    }
+
+    private static final class CountingSubscriber<T> implements Flow.Subscriber<T> {
+
+        private final CountDownLatch completed;
+        private long count = 0L;
+
+        private CountingSubscriber(int publisherCount) {
+            this.completed = new CountDownLatch(publisherCount);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public synchronized void onNext(T item) {
+            this.count++;
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed.countDown();
+        }
+
+        private long await() {
+            try {
+                this.completed.await();
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (this) {
+                return this.count;
+            }
+        }
+    }
+
+    private static final class QueueSubscriber implements Flow.Subscriber<Integer> {
+
+        private final BlockingQueue<Integer> queue;
+
+        private QueueSubscriber(BlockingQueue<Integer> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            try {
+                this.queue.put(item);
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.bench;
+
+import io.limo.internal.jdk14.memory.MemorySegmentOffHeapFactory;
+import io.limo.internal.memory.BaseByteBufferOffHeapFactory;
+import io.limo.internal.memory.PooledByteBufferOffHeapFactory;
+import io.limo.memory.MutableOffHeap;
+import io.limo.memory.OffHeapFactory;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Same access paths for each {@link OffHeapFactory} implementation, with its safe or its unsafe {@link MutableOffHeap}
+ */
+public final class OffHeapFactoryBench {
+
+    public enum Backend {
+        BASE {
+            @Override
+            @NotNull OffHeapFactory newFactory() {
+                return new BaseByteBufferOffHeapFactory();
+            }
+        },
+        POOLED {
+            @Override
+            @NotNull OffHeapFactory newFactory() {
+                return new PooledByteBufferOffHeapFactory();
+            }
+        },
+        MEMORY_SEGMENT {
+            @Override
+            @NotNull OffHeapFactory newFactory() {
+                return new MemorySegmentOffHeapFactory();
+            }
+        };
+
+        abstract @NotNull OffHeapFactory newFactory();
+    }
+
+    public enum Access {
+        SAFE, UNSAFE
+    }
+
+    private static final int BYTE_SIZE = 1 << 20;
+    private static final int LONG_COUNT = BYTE_SIZE / Long.BYTES;
+    private static final int RANDOM_COUNT = 1 << 12;
+    private static final int SLICE_SIZE = 64;
+    private static final int CHURN_SIZE = 4096;
+
+    private final OffHeapFactory factory;
+    private final Access access;
+    private final long[] randomIndexes = new long[RANDOM_COUNT];
+
+    private MutableOffHeap memory;
+
+    /**
+     * Index of next single read or write, it walks the whole memory
+     */
+    private long index = 0L;
+
+    /**
+     * Offset of next slice, it walks the whole memory
+     */
+    private long sliceOffset = 0L;
+
+    /**
+     * Owns {@link #memory} when it is shared, so all benchmark threads access it from outside its owning thread
+     */
+    private ExecutorService owner;
+
+    public OffHeapFactoryBench(@NotNull Backend backend, @NotNull Access access) {
+        this.factory = backend.newFactory();
+        this.access = access;
+        final var random = new Random(42);
+        for (var i = 0; i < RANDOM_COUNT; i++) {
+            this.randomIndexes[i] = (long) random.nextInt(LONG_COUNT) * Long.BYTES;
+        }
+    }
+
+    public void setup() {
+        this.memory = allocate(BYTE_SIZE);
+        for (var i = 0; i < LONG_COUNT; i++) {
+            this.memory.writeLongAt((long) i * Long.BYTES, i);
+        }
+    }
+
+    public void tearDown() {
+        this.memory.close();
+    }
+
+    /**
+     * Allocates the memory in a dedicated owner thread
+     */
+    public void setupShared() throws ExecutionException, InterruptedException {
+        this.owner = Executors.newSingleThreadExecutor();
+        this.owner.submit(this::setup).get();
+    }
+
+    public void tearDownShared() throws ExecutionException, InterruptedException {
+        try {
+            this.owner.submit(this::tearDown).get();
+        } finally {
+            this.owner.shutdown();
+        }
+    }
+
+    public long readLong() {
+        final var value = this.memory.readLongAt(this.index);
+        this.index = (this.index + Long.BYTES) & (BYTE_SIZE - 1);
+        return value;
+    }
+
+    public void writeLong() {
+        this.memory.writeLongAt(this.index, this.index);
+        this.index = (this.index + Long.BYTES) & (BYTE_SIZE - 1);
+    }
+
+    public long sequentialScan() {
+        var sum = 0L;
+        for (var i = 0L; i < BYTE_SIZE; i += Long.BYTES) {
+            sum += this.memory.readLongAt(i);
+        }
+        return sum;
+    }
+
+    public long randomScan() {
+        var sum = 0L;
+        for (final var randomIndex : this.randomIndexes) {
+            sum += this.memory.readLongAt(randomIndex);
+        }
+        return sum;
+    }
+
+    /**
+     * A slice is a view, it is not closed
+     */
+    public long slice() {
+        final var slice = this.memory.slice(this.sliceOffset, SLICE_SIZE);
+        this.sliceOffset = (this.sliceOffset + SLICE_SIZE) & (BYTE_SIZE - 1);
+        return slice.readLongAt(0L);
+    }
+
+    public long acquire() {
+        try (final var acquired = this.memory.acquire()) {
+            return acquired.readLongAt(0L);
+        }
+    }
+
+    public long allocateClose() {
+        try (final var allocated = allocate(CHURN_SIZE)) {
+            allocated.writeLongAt(0L, CHURN_SIZE);
+            return allocated.readLongAt(0L);
+        }
+    }
+
+    /**
+     * Reads the shared memory from a thread that does not own it, the memory must be acquired first
+     */
+    public long crossThreadRead() {
+        try (final var acquired = this.memory.acquire()) {
+            var sum = 0L;
+            for (final var randomIndex : this.randomIndexes) {
+                sum += acquired.readLongAt(randomIndex);
+            }
+            return sum;
+        }
+    }
+
+    private MutableOffHeap allocate(long byteSize) {
+        if (this.access == Access.UNSAFE) {
+            return this.factory.newUnsafeMutableOffHeap(byteSize);
+        }
+        return this.factory.newSafeMutableOffHeap(byteSize);
+    }
+}
@@ -5,5 +5,8 @@
 module limo.benchmarks {
     requires hadoop.common;
     requires jdk.incubator.foreign;
+    requires limo.concurrent;
     requires limo.core;
+    requires limo.core.jdk14;
+    requires org.jetbrains.annotations;
 }
@@ -0,0 +1,47 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.jdk21.concurrent;
+
+import io.limo.concurrent.ThreadExecutorFactory;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * A {@link ThreadExecutorFactory} that supplies virtual threads, each IO operation is executed in a new virtual thread.
+ * No pooling is needed, blocking IO operations just unmount virtual threads from their carrier thread.
+ */
+public final class VirtualThreadExecutorFactory implements ThreadExecutorFactory {
+
+    private final ThreadFactory threadFactory = Thread.ofVirtual()
+            .name("limo-virtual-", 0)
+            .factory();
+
+    private final Executor executor = task -> this.threadFactory.newThread(Objects.requireNonNull(task)).start();
+
+    @Override
+    public final @NotNull Thread newThread(@NotNull String name, @NotNull Runnable task) {
+        return Thread.ofVirtual()
+                .name(Objects.requireNonNull(name))
+                .unstarted(Objects.requireNonNull(task));
+    }
+
+    @Override
+    public final @NotNull Executor getExecutor() {
+        return this.executor;
+    }
+
+    @Override
+    public final int getLoadPriority() {
+        return 21;
+    }
+
+    @Override
+    public final boolean hasVirtualThreads() {
+        return true;
+    }
+}
@@ -0,0 +1,14 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+import io.limo.concurrent.ThreadExecutorFactory;
+import io.limo.internal.jdk21.concurrent.VirtualThreadExecutorFactory;
+
+@SuppressWarnings("module")
+module limo.concurrent.jdk21 {
+    requires limo.concurrent;
+    requires org.jetbrains.annotations;
+
+    provides ThreadExecutorFactory with VirtualThreadExecutorFactory;
+}
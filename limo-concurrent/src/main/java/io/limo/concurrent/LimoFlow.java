@@ -4,7 +4,28 @@
 
 package io.limo.concurrent;
 
+import io.limo.internal.concurrent.BatchPublisher;
+import io.limo.internal.concurrent.BufferedPublisher;
+import io.limo.internal.concurrent.EmitterPublisher;
+import io.limo.internal.concurrent.FilterPublisher;
+import io.limo.internal.concurrent.FlatMapPublisher;
+import io.limo.internal.concurrent.FlowAdapters;
+import io.limo.internal.concurrent.MapPublisher;
+import io.limo.internal.concurrent.SkipPublisher;
+import io.limo.internal.concurrent.TakePublisher;
+import io.limo.internal.concurrent.ZipPublisher;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Interrelated interfaces and static methods for establishing
@@ -20,6 +41,16 @@ import org.jetbrains.annotations.ApiStatus;
  *
  * <p>Loom allows an imperative style code that greatly simplify Flow API by making blocking IO operations non-blocking
  * transparently without any change when running in a virtual thread.
+ *
+ * <p>{@link DemandPublisher DemandPublishers} add backpressure : they never emit more items than their
+ * {@link DemandSubscriber DemandSubscribers} have {@link Subscription#request(long) requested}. A publisher that has
+ * no credit left simply parks its thread until more items are requested.
+ *
+ * <p>Operators like {@link DemandPublisher#map(Function)}, {@link DemandPublisher#filter(Predicate)},
+ * {@link DemandPublisher#take(long)} and {@link DemandPublisher#skip(long)} are fused : they run in the thread of their
+ * upstream publisher, without any queue. Operators that must wait for time or for several publishers, like
+ * {@link DemandPublisher#batch(int, Duration)} or {@link #merge(DemandPublisher[])}, hand elements over to a single
+ * drain thread through a bounded queue.
  */
 @ApiStatus.Experimental
 public final class LimoFlow {
@@ -28,6 +59,122 @@ public final class LimoFlow {
     private LimoFlow() {
     }
 
+    /**
+     * Each subscription to the returned publisher subscribes to {@code publisher} in a thread supplied by
+     * {@link ThreadExecutorFactory}, so a blocking publisher does not block the caller of
+     * {@link Publisher#subscribe(Subscriber)}
+     *
+     * @param <T> type of elements that are emitted to subscribers
+     */
+    @ApiStatus.Experimental
+    public static <T> @NotNull Publisher<T> subscribeAsync(@NotNull Publisher<T> publisher) {
+        Objects.requireNonNull(publisher);
+        final var threadExecutorFactory = ThreadExecutorFactory.get();
+        return subscriber -> threadExecutorFactory.newThread("limo-flow-subscribe",
+                () -> publisher.subscribe(subscriber)).start();
+    }
+
+    /**
+     * Creates a {@link DemandPublisher} that runs {@code source} for each subscriber, in a thread supplied by
+     * {@link ThreadExecutorFactory}
+     * <p>{@link Emitter#emit(Object)} parks the source thread while the subscriber has not requested more items. When
+     * {@code source} returns, the subscriber receives {@link DemandSubscriber#onComplete()}, or
+     * {@link DemandSubscriber#onError(Throwable)} if {@code source} has thrown.
+     *
+     * @param <T> type of elements that are emitted to subscribers
+     */
+    @ApiStatus.Experimental
+    public static <T> @NotNull DemandPublisher<T> create(@NotNull Consumer<? super Emitter<T>> source) {
+        return new EmitterPublisher<>(source);
+    }
+
+    /**
+     * Adapts a {@link Publisher}, that pushes its elements whatever the demand, to a {@link DemandPublisher}
+     * <p>{@link Publisher#subscribe(Subscriber)} is invoked in a thread supplied by {@link ThreadExecutorFactory}, this
+     * thread parks while the subscriber has not requested more items. Elements pushed after the subscription was
+     * cancelled are dropped.
+     *
+     * @param <T> type of elements that are emitted to subscribers
+     */
+    @ApiStatus.Experimental
+    public static <T> @NotNull DemandPublisher<T> fromPublisher(@NotNull Publisher<T> publisher) {
+        Objects.requireNonNull(publisher);
+        return create(emitter -> publisher.subscribe(emitter::emit));
+    }
+
+    /**
+     * Decouples {@code upstream} from the subscribers of the returned publisher with a bounded buffer of
+     * {@code capacity} elements
+     * <p>{@code upstream} is never requested more elements than the free room in buffer, elements are delivered to
+     * subscribers as they request them in a thread supplied by {@link ThreadExecutorFactory}.
+     *
+     * @param <T> type of elements that are emitted to subscribers
+     * @throws IllegalArgumentException if {@code capacity} is not positive
+     */
+    @ApiStatus.Experimental
+    public static <T> @NotNull DemandPublisher<T> buffer(@NotNull DemandPublisher<? extends T> upstream,
+                                                         int capacity) {
+        return new BufferedPublisher<>(upstream, capacity);
+    }
+
+    /**
+     * Adapts a {@link DemandPublisher} to a JDK {@link Flow.Publisher}
+     *
+     * @param <T> type of elements that are emitted to subscribers
+     */
+    @ApiStatus.Experimental
+    public static <T> Flow.@NotNull Publisher<T> toFlow(@NotNull DemandPublisher<T> publisher) {
+        return FlowAdapters.toFlow(publisher);
+    }
+
+    /**
+     * Adapts a JDK {@link Flow.Publisher}, like {@link java.util.concurrent.SubmissionPublisher}, to a
+     * {@link DemandPublisher}
+     *
+     * @param <T> type of elements that are emitted to subscribers
+     */
+    @ApiStatus.Experimental
+    public static <T> @NotNull DemandPublisher<T> fromFlow(Flow.@NotNull Publisher<T> publisher) {
+        return FlowAdapters.fromFlow(publisher);
+    }
+
+    /**
+     * Merges the elements of all {@code publishers}, they are all subscribed at once
+     *
+     * @param <T> type of elements that are emitted to subscribers
+     */
+    @ApiStatus.Experimental
+    @SafeVarargs
+    public static <T> @NotNull DemandPublisher<T> merge(@NotNull DemandPublisher<? extends T> @NotNull ... publishers) {
+        // elements are copied one by one, the generic varargs array itself is never passed on
+        final var sources = new ArrayList<DemandPublisher<? extends T>>(publishers.length);
+        for (final var publisher : publishers) {
+            sources.add(Objects.requireNonNull(publisher));
+        }
+        return LimoFlow.<DemandPublisher<? extends T>>create(emitter -> {
+            for (final var source : sources) {
+                if (!emitter.emit(source)) {
+                    return;
+                }
+            }
+        }).flatMap(Function.identity(), Math.max(1, sources.size()));
+    }
+
+    /**
+     * Combines the elements of {@code left} and {@code right} pairwise with {@code zipper}, the returned publisher
+     * completes as soon as one of them completes
+     *
+     * @param <T> type of elements of left publisher
+     * @param <U> type of elements of right publisher
+     * @param <R> type of elements that are emitted to subscribers
+     */
+    @ApiStatus.Experimental
+    public static <T, U, R> @NotNull DemandPublisher<R> zip(@NotNull DemandPublisher<? extends T> left,
+                                                            @NotNull DemandPublisher<? extends U> right,
+                                                            @NotNull BiFunction<? super T, ? super U, ? extends R> zipper) {
+        return new ZipPublisher<>(left, right, zipper);
+    }
+
     /**
      * A cold value publisher. Each subscriber must {@link Publisher#subscribe(Subscriber) subscribe} to start receiving
      * the elements from this
@@ -60,4 +207,159 @@ public final class LimoFlow {
          */
         void receive(T item);
     }
+
+    /**
+     * A cold value publisher that respects the demand of its subscribers. Each subscriber receives a
+     * {@link Subscription} to request elements or cancel
+     *
+     * @param <T> type of elements that are emitted to subscribers
+     */
+    @ApiStatus.Experimental
+    @FunctionalInterface
+    public interface DemandPublisher<T> {
+
+        /**
+         * The parameter {@code subscriber} receives {@link DemandSubscriber#onSubscribe(Subscription)} before this
+         * method returns, then starts receiving elements as it requests them
+         */
+        void subscribe(@NotNull DemandSubscriber<? super T> subscriber);
+
+        /**
+         * Fused operator that transforms each element with {@code mapper}
+         *
+         * @param <R> type of transformed elements
+         */
+        default <R> @NotNull DemandPublisher<R> map(@NotNull Function<? super T, ? extends R> mapper) {
+            return new MapPublisher<>(this, mapper);
+        }
+
+        /**
+         * Fused operator that only emits the elements matching {@code predicate}
+         */
+        default @NotNull DemandPublisher<T> filter(@NotNull Predicate<? super T> predicate) {
+            return new FilterPublisher<>(this, predicate);
+        }
+
+        /**
+         * Fused operator that emits the first {@code count} elements, then cancels this publisher and completes
+         *
+         * @throws IllegalArgumentException if {@code count} is negative
+         */
+        default @NotNull DemandPublisher<T> take(long count) {
+            return new TakePublisher<>(this, count);
+        }
+
+        /**
+         * Fused operator that drops the first {@code count} elements
+         *
+         * @throws IllegalArgumentException if {@code count} is negative
+         */
+        default @NotNull DemandPublisher<T> skip(long count) {
+            return new SkipPublisher<>(this, count);
+        }
+
+        /**
+         * Groups elements in lists of {@code maxSize} elements, a smaller list is emitted when {@code timeout} has
+         * elapsed since its first element was received
+         * <p>Batching lets a subscriber amortize a costly operation, like a write syscall, over many elements.
+         *
+         * @throws IllegalArgumentException if {@code maxSize} or {@code timeout} is not positive
+         */
+        default @NotNull DemandPublisher<List<T>> batch(int maxSize, @NotNull Duration timeout) {
+            return BatchPublisher.batch(this, maxSize, timeout);
+        }
+
+        /**
+         * Groups elements received during each fixed time window of {@code timespan} in a list, empty windows are
+         * not emitted
+         *
+         * @throws IllegalArgumentException if {@code timespan} is not positive
+         */
+        default @NotNull DemandPublisher<List<T>> window(@NotNull Duration timespan) {
+            return BatchPublisher.window(this, timespan);
+        }
+
+        /**
+         * Maps each element to a publisher with {@code mapper}, and merges the elements of at most
+         * {@code concurrency} of these publishers at a time
+         *
+         * @param <R> type of elements of mapped publishers
+         * @throws IllegalArgumentException if {@code concurrency} is not positive
+         */
+        default <R> @NotNull DemandPublisher<R> flatMap(
+                @NotNull Function<? super T, ? extends DemandPublisher<? extends R>> mapper, int concurrency) {
+            return new FlatMapPublisher<>(this, mapper, concurrency);
+        }
+    }
+
+    /**
+     * A Subscriber that receives elements from a {@link DemandPublisher} only after it has requested them
+     *
+     * @param <T> type of elements that are received
+     */
+    @ApiStatus.Experimental
+    public interface DemandSubscriber<T> {
+
+        /**
+         * Invoked once before any other method, the subscriber must {@link Subscription#request(long) request} some
+         * elements to start receiving them
+         */
+        void onSubscribe(@NotNull Subscription subscription);
+
+        /**
+         * Receive one value emitted by the Publisher
+         * <p>This method is not thread-safe, it should not be invoked concurrently.
+         */
+        void receive(T item);
+
+        /**
+         * Invoked once after the last element, unless the subscription was cancelled
+         */
+        default void onComplete() {
+        }
+
+        /**
+         * Invoked once when the publisher has failed, or when {@link Subscription#request(long)} was invoked with a
+         * non positive value
+         */
+        default void onError(@NotNull Throwable throwable) {
+        }
+    }
+
+    /**
+     * The link between a {@link DemandPublisher} and one of its {@link DemandSubscriber}
+     * <p>Both methods are thread-safe.
+     */
+    @ApiStatus.Experimental
+    public interface Subscription {
+
+        /**
+         * Adds {@code n} elements to the demand of the subscriber, {@link Long#MAX_VALUE} means unbounded demand
+         * <p>A non positive value fails the subscription with an {@link IllegalArgumentException}.
+         */
+        void request(long n);
+
+        /**
+         * The publisher stops emitting elements to the subscriber, the subscriber may still receive some elements
+         * that were already in flight
+         */
+        void cancel();
+    }
+
+    /**
+     * Emits the elements of a {@link DemandPublisher} created with {@link #create(Consumer)}
+     *
+     * @param <T> type of elements that are emitted
+     */
+    @ApiStatus.Experimental
+    @FunctionalInterface
+    public interface Emitter<T> {
+
+        /**
+         * Emits one element to the subscriber, parks the current thread until the subscriber has requested it
+         *
+         * @return false if the subscription was cancelled or has failed, source should then stop emitting
+         */
+        boolean emit(@NotNull T item);
+    }
 }
@@ -0,0 +1,145 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.concurrent;
+
+import io.limo.internal.concurrent.OffHeapRingBuffer;
+import io.limo.memory.MutableOffHeap;
+import io.limo.memory.OffHeap;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A bounded lock-free ring buffer of length-prefixed records, stored in a off-heap memory.
+ * <p>It allows to hand records from producer threads to one consumer thread without allocation : producers claim
+ * room for records, write them in place, then publish them ; the consumer reads records in place, then their room can
+ * be claimed again. When the ring buffer is full, claims fail instead of blocking, this is the backpressure signal.
+ *
+ * <h2>Thread confinement</h2>
+ * Each {@link Producer} and {@link Consumer} accesses the off-heap memory through its own acquired view, so it must be
+ * created and used by one thread only, then closed by this thread. The ring buffer must be closed by the thread that
+ * created it, after all its producers and consumer were closed.
+ */
+public interface RingBuffer extends AutoCloseable {
+
+    /**
+     * @param capacity byte size of the off-heap memory that stores the records, must be a power of two, at least 128.
+     *                 A record is at most 1/8 of the capacity, its 8-byte header included
+     * @return a ring buffer that supports one producer and one consumer
+     * @throws IllegalArgumentException if {@code capacity} is not a power of two, or is less than 128
+     */
+    static @NotNull RingBuffer spsc(int capacity) {
+        return new OffHeapRingBuffer(capacity, false);
+    }
+
+    /**
+     * @param capacity byte size of the off-heap memory that stores the records, must be a power of two, at least 128.
+     *                 A record is at most 1/8 of the capacity, its 8-byte header included
+     * @return a ring buffer that supports many producers and one consumer
+     * @throws IllegalArgumentException if {@code capacity} is not a power of two, or is less than 128
+     */
+    static @NotNull RingBuffer mpsc(int capacity) {
+        return new OffHeapRingBuffer(capacity, true);
+    }
+
+    /**
+     * @return byte size of the off-heap memory that stores the records
+     */
+    int getCapacity();
+
+    /**
+     * @return max byte size of the content of a record : 1/8 of the capacity, minus the 8-byte record header
+     */
+    int getMaxRecordLength();
+
+    /**
+     * @return a new producer, bound to the current thread
+     * @throws IllegalStateException if this single producer ring buffer already has a producer
+     */
+    @NotNull Producer newProducer();
+
+    /**
+     * @return a new consumer, bound to the current thread
+     * @throws IllegalStateException if this ring buffer already has a consumer
+     */
+    @NotNull Consumer newConsumer();
+
+    /**
+     * Release the off-heap memory
+     */
+    @Override
+    void close();
+
+    /**
+     * Writes records in the ring buffer
+     */
+    interface Producer extends AutoCloseable {
+
+        /**
+         * Claims room for a record of {@code length} bytes, its content must then be written in {@link #getMemory()}
+         * starting from the returned index. Several records can be claimed before they are all published at once by
+         * {@link #publish()}.
+         *
+         * @return index of the claimed record in {@link #getMemory()}, or -1 if the ring buffer is full
+         * @throws IllegalArgumentException if {@code length} is negative or greater than max record length
+         * @throws IllegalStateException    if too many records were claimed without being published
+         */
+        long tryClaim(int length);
+
+        /**
+         * @return the memory of the ring buffer, viewed by this producer
+         */
+        @NotNull MutableOffHeap getMemory();
+
+        /**
+         * Makes all claimed records visible to the consumer
+         */
+        void publish();
+
+        /**
+         * Claims a record, copies {@code length} bytes of {@code src} into it, then publishes all claimed records
+         *
+         * @return true if record was written, false if the ring buffer is full
+         */
+        boolean offer(@NotNull OffHeap src, long srcIndex, int length);
+
+        /**
+         * Release this producer's view of the memory
+         */
+        @Override
+        void close();
+    }
+
+    /**
+     * Reads records from the ring buffer
+     */
+    interface Consumer extends AutoCloseable {
+
+        /**
+         * Reads at most {@code maxRecords} published records in order, then frees their room for producers
+         *
+         * @return number of read records
+         */
+        int poll(@NotNull RecordHandler handler, int maxRecords);
+
+        /**
+         * Release this consumer's view of the memory
+         */
+        @Override
+        void close();
+    }
+
+    /**
+     * Handles a record read by a {@link Consumer}
+     */
+    @FunctionalInterface
+    interface RecordHandler {
+
+        /**
+         * @param memory the memory of the ring buffer, viewed by the consumer. It must not be accessed after this call
+         * @param index  index of the record content in {@code memory}
+         * @param length byte size of the record content
+         */
+        void onRecord(@NotNull OffHeap memory, long index, int length);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.concurrent;
+
+import io.limo.internal.concurrent.ThreadExecutorServiceLoader;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Supplies the threads that run IO operations, Limo runs one thread per IO operation.
+ * <p>Implementations are discovered with {@link java.util.ServiceLoader}, the one with the greatest
+ * {@link #getLoadPriority() load priority} is used. A module that supports virtual threads supplies virtual threads,
+ * otherwise platform threads from a bounded pool are used.
+ */
+public interface ThreadExecutorFactory {
+
+    /**
+     * @return a new unstarted thread that will run {@code task}, for a long running operation
+     */
+    @NotNull Thread newThread(@NotNull String name, @NotNull Runnable task);
+
+    /**
+     * @return the shared executor that runs each IO operation in its own thread, it must not be shut down
+     * @implNote the executor of platform threads is bounded : a task that blocks as long as a connection is open must
+     * run in a thread obtained with {@link #newThread(String, Runnable)} instead, or it would starve other tasks
+     */
+    @NotNull Executor getExecutor();
+
+    int getLoadPriority();
+
+    /**
+     * @return true if threads supplied by this factory are virtual threads, so a blocked thread is cheap
+     */
+    default boolean hasVirtualThreads() {
+        return false;
+    }
+
+    /**
+     * @return the {@link ThreadExecutorFactory} with the greatest load priority
+     */
+    static @NotNull ThreadExecutorFactory get() {
+        return ThreadExecutorServiceLoader.THREAD_EXECUTOR_FACTORY;
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.concurrent;
+
+import io.limo.concurrent.LimoFlow;
+import io.limo.concurrent.ThreadExecutorFactory;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link LimoFlow.DemandPublisher} that groups upstream elements in lists
+ * <ul>
+ * <li>batch mode : a list is emitted when it contains {@code maxSize} elements, or when {@code timeout} has elapsed
+ * since its first element was received</li>
+ * <li>window mode : a list is emitted at the end of each fixed time window of {@code timeout}, if it is not empty</li>
+ * </ul>
+ * <p>Upstream elements are staged in a bounded queue, lists are built and delivered by a drain thread supplied by
+ * {@link ThreadExecutorFactory}. Credit is given back to upstream as elements are moved from the queue to the current
+ * list, so a time window is not limited to the queue capacity. Batching amortizes the per-element cost of downstream,
+ * for example one vectored write for many elements.
+ *
+ * @param <T> type of elements that are received from upstream
+ */
+public final class BatchPublisher<T> implements LimoFlow.DemandPublisher<List<T>> {
+
+    /**
+     * Capacity of the queue, that is also the credit given to upstream on subscription
+     */
+    private static final int PREFETCH = 256;
+
+    private final @NotNull LimoFlow.DemandPublisher<? extends T> upstream;
+    private final int maxSize;
+    private final long timeoutNanos;
+    private final boolean window;
+
+    private BatchPublisher(@NotNull LimoFlow.DemandPublisher<? extends T> upstream, int maxSize,
+                           @NotNull Duration timeout, boolean window) {
+        this.upstream = Objects.requireNonNull(upstream);
+        if (Objects.requireNonNull(timeout).isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be a positive Duration");
+        }
+        this.maxSize = maxSize;
+        this.timeoutNanos = timeout.toNanos();
+        this.window = window;
+    }
+
+    public static <T> @NotNull BatchPublisher<T> batch(@NotNull LimoFlow.DemandPublisher<? extends T> upstream,
+                                                       int maxSize, @NotNull Duration timeout) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be a positive Integer");
+        }
+        return new BatchPublisher<>(upstream, maxSize, timeout, false);
+    }
+
+    public static <T> @NotNull BatchPublisher<T> window(@NotNull LimoFlow.DemandPublisher<? extends T> upstream,
+                                                        @NotNull Duration timespan) {
+        return new BatchPublisher<>(upstream, Integer.MAX_VALUE, timespan, true);
+    }
+
+    @Override
+    public void subscribe(LimoFlow.@NotNull DemandSubscriber<? super List<T>> subscriber) {
+        Objects.requireNonNull(subscriber);
+        new BatchSubscriber(subscriber).subscribeTo(this.upstream);
+    }
+
+    private final class BatchSubscriber implements LimoFlow.DemandSubscriber<T> {
+
+        private final @NotNull LimoFlow.DemandSubscriber<? super List<T>> downstream;
+        private final @NotNull Credit downstreamCredit = new Credit();
+
+        /**
+         * Upstream items, then maybe one {@link Terminal}
+         */
+        private final @NotNull BlockingQueue<Object> queue;
+
+        private volatile LimoFlow.Subscription upstreamSubscription;
+
+        private BatchSubscriber(@NotNull LimoFlow.DemandSubscriber<? super List<T>> downstream) {
+            this.downstream = downstream;
+            this.queue = new ArrayBlockingQueue<>(PREFETCH + 1);
+        }
+
+        private void subscribeTo(@NotNull LimoFlow.DemandPublisher<? extends T> upstream) {
+            this.downstream.onSubscribe(this.downstreamCredit);
+            upstream.subscribe(this);
+        }
+
+        @Override
+        public void onSubscribe(LimoFlow.@NotNull Subscription subscription) {
+            this.upstreamSubscription = subscription;
+            subscription.request(PREFETCH);
+            ThreadExecutorFactory.get().newThread("limo-flow-batch", this::drain).start();
+        }
+
+        @Override
+        public void receive(T item) {
+            // never blocks, upstream never has more credit than free room in queue
+            this.queue.add(item);
+        }
+
+        @Override
+        public void onError(@NotNull Throwable throwable) {
+            this.queue.add(new Terminal(throwable));
+        }
+
+        @Override
+        public void onComplete() {
+            this.queue.add(Terminal.COMPLETE);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void drain() {
+            var batch = new ArrayList<T>();
+            // credit is given back to upstream by batches of half the prefetch
+            final var replenishThreshold = PREFETCH >> 1;
+            var consumed = 0;
+            // in window mode the deadline is the end of current window, in batch mode it is set on first element
+            var deadline = System.nanoTime() + timeoutNanos;
+            try {
+                while (true) {
+                    final Object element;
+                    if (!window && batch.isEmpty()) {
+                        element = this.queue.take();
+                        deadline = System.nanoTime() + timeoutNanos;
+                    } else {
+                        final var remaining = deadline - System.nanoTime();
+                        element = (remaining > 0L) ? this.queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    }
+
+                    if (element == null) {
+                        // timeout
+                        if (!batch.isEmpty()) {
+                            if (!deliver(batch)) {
+                                return;
+                            }
+                            batch = new ArrayList<>();
+                        }
+                        deadline += timeoutNanos;
+                        continue;
+                    }
+                    if (element instanceof Terminal) {
+                        if (!batch.isEmpty() && !deliver(batch)) {
+                            return;
+                        }
+                        final var error = ((Terminal) element).error;
+                        if (error != null) {
+                            this.downstream.onError(error);
+                        } else {
+                            this.downstream.onComplete();
+                        }
+                        return;
+                    }
+                    batch.add((T) element);
+                    if (++consumed == replenishThreshold) {
+                        this.upstreamSubscription.request(consumed);
+                        consumed = 0;
+                    }
+                    if (batch.size() == maxSize) {
+                        if (!deliver(batch)) {
+                            return;
+                        }
+                        batch = new ArrayList<>();
+                    }
+                }
+            } catch (InterruptedException interruptedException) {
+                this.upstreamSubscription.cancel();
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * Delivers {@code batch} downstream when it has credit
+         *
+         * @return false if downstream has cancelled or has failed, upstream was then cancelled
+         */
+        private boolean deliver(@NotNull List<T> batch) {
+            if (!this.downstreamCredit.acquire()) {
+                this.upstreamSubscription.cancel();
+                final var error = this.downstreamCredit.getError();
+                if (error != null) {
+                    this.downstream.onError(error);
+                }
+                return false;
+            }
+            this.downstream.receive(batch);
+            return true;
+        }
+    }
+}
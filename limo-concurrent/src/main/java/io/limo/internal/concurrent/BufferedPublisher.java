@@ -0,0 +1,126 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.concurrent;
+
+import io.limo.concurrent.LimoFlow;
+import io.limo.concurrent.ThreadExecutorFactory;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A {@link LimoFlow.DemandPublisher} that decouples an upstream publisher from its subscriber with a bounded buffer.
+ * <p>Upstream is never granted more credit than free room in buffer, items are delivered to the subscriber by a
+ * drain thread supplied by {@link ThreadExecutorFactory}, according to the subscriber's credit. Memory used by
+ * in-flight items is therefore bounded, whatever the respective speeds of upstream and subscriber.
+ *
+ * @param <T> type of elements that are emitted to subscribers
+ */
+public final class BufferedPublisher<T> implements LimoFlow.DemandPublisher<T> {
+
+    private final @NotNull LimoFlow.DemandPublisher<? extends T> upstream;
+    private final int capacity;
+
+    public BufferedPublisher(@NotNull LimoFlow.DemandPublisher<? extends T> upstream, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be a positive Integer");
+        }
+        this.upstream = Objects.requireNonNull(upstream);
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void subscribe(LimoFlow.@NotNull DemandSubscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        new BufferSubscriber<T>(subscriber, this.capacity).subscribeTo(this.upstream);
+    }
+
+    private static final class BufferSubscriber<T> implements LimoFlow.DemandSubscriber<T> {
+
+        private final @NotNull LimoFlow.DemandSubscriber<? super T> downstream;
+        private final @NotNull Credit downstreamCredit = new Credit();
+        private final int capacity;
+
+        /**
+         * Upstream items, then maybe one {@link Terminal}
+         */
+        private final @NotNull BlockingQueue<Object> buffer;
+
+        private volatile LimoFlow.Subscription upstreamSubscription;
+
+        private BufferSubscriber(@NotNull LimoFlow.DemandSubscriber<? super T> downstream, int capacity) {
+            this.downstream = downstream;
+            this.capacity = capacity;
+            this.buffer = new ArrayBlockingQueue<>(capacity + 1);
+        }
+
+        private void subscribeTo(@NotNull LimoFlow.DemandPublisher<? extends T> upstream) {
+            this.downstream.onSubscribe(this.downstreamCredit);
+            upstream.subscribe(this);
+        }
+
+        @Override
+        public void onSubscribe(LimoFlow.@NotNull Subscription subscription) {
+            this.upstreamSubscription = subscription;
+            subscription.request(this.capacity);
+            ThreadExecutorFactory.get().newThread("limo-flow-buffer", this::drain).start();
+        }
+
+        @Override
+        public void receive(T item) {
+            // never blocks, upstream never has more credit than free room in buffer
+            this.buffer.add(item);
+        }
+
+        @Override
+        public void onError(@NotNull Throwable throwable) {
+            this.buffer.add(new Terminal(throwable));
+        }
+
+        @Override
+        public void onComplete() {
+            this.buffer.add(Terminal.COMPLETE);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void drain() {
+            // credit is given back to upstream by batches of half the capacity
+            final var replenishThreshold = Math.max(1, this.capacity >> 1);
+            var consumed = 0;
+            try {
+                while (true) {
+                    final var element = this.buffer.take();
+                    if (element instanceof Terminal) {
+                        final var error = ((Terminal) element).error;
+                        if (error != null) {
+                            this.downstream.onError(error);
+                        } else {
+                            this.downstream.onComplete();
+                        }
+                        return;
+                    }
+                    if (!this.downstreamCredit.acquire()) {
+                        this.upstreamSubscription.cancel();
+                        final var error = this.downstreamCredit.getError();
+                        if (error != null) {
+                            this.downstream.onError(error);
+                        }
+                        return;
+                    }
+                    this.downstream.receive((T) element);
+                    if (++consumed == replenishThreshold) {
+                        this.upstreamSubscription.request(consumed);
+                        consumed = 0;
+                    }
+                }
+            } catch (InterruptedException interruptedException) {
+                this.upstreamSubscription.cancel();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
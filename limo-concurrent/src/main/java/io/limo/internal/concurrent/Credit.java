@@ -0,0 +1,94 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.concurrent;
+
+import io.limo.concurrent.LimoFlow;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Implementation of {@link LimoFlow.Subscription} : the credit granted by a subscriber to its publisher
+ * <p>The publisher thread consumes one credit per item with {@link #acquire()}, it parks when there is no credit left.
+ * Parking is cheap on a virtual thread, it just unmounts from its carrier thread.
+ */
+public final class Credit implements LimoFlow.Subscription {
+
+    private final AtomicLong credit = new AtomicLong();
+
+    /**
+     * The publisher thread, when it is parked waiting for credit
+     */
+    private volatile @Nullable Thread waiter;
+
+    private volatile boolean cancelled = false;
+    private volatile @Nullable Throwable error;
+
+    @Override
+    public void request(long n) {
+        if (n <= 0L) {
+            this.error = new IllegalArgumentException(
+                    String.format("Requested credit must be a positive Long, but was %d", n));
+        } else {
+            // Long.MAX_VALUE means unbounded credit
+            this.credit.getAndAccumulate(n, (current, added) -> {
+                final var sum = current + added;
+                return (sum < 0L) ? Long.MAX_VALUE : sum;
+            });
+        }
+        LockSupport.unpark(this.waiter);
+    }
+
+    @Override
+    public void cancel() {
+        this.cancelled = true;
+        LockSupport.unpark(this.waiter);
+    }
+
+    /**
+     * Consumes one credit, parks the current thread until there is one
+     *
+     * @return true if a credit was consumed, false if this subscription was cancelled, has failed, or current thread
+     * was interrupted
+     */
+    public boolean acquire() {
+        while (true) {
+            if (isTerminated() || Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            final var current = this.credit.get();
+            if (current == Long.MAX_VALUE) {
+                return true;
+            }
+            if (current > 0L) {
+                if (this.credit.compareAndSet(current, current - 1L)) {
+                    return true;
+                }
+                continue;
+            }
+            this.waiter = Thread.currentThread();
+            // check again after waiter was published, so a concurrent request or cancel will unpark it
+            if (this.credit.get() == 0L && !isTerminated()) {
+                LockSupport.park(this);
+            }
+            this.waiter = null;
+        }
+    }
+
+    /**
+     * @return true if this subscription was cancelled or has failed
+     */
+    public boolean isTerminated() {
+        return this.cancelled || this.error != null;
+    }
+
+    /**
+     * @return the error caused by an invalid request, or null
+     */
+    public @Nullable Throwable getError() {
+        return this.error;
+    }
+}
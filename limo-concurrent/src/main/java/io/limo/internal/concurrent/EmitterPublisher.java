@@ -0,0 +1,57 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.concurrent;
+
+import io.limo.concurrent.LimoFlow;
+import io.limo.concurrent.ThreadExecutorFactory;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A {@link LimoFlow.DemandPublisher} that runs its source in a dedicated thread supplied by
+ * {@link ThreadExecutorFactory} for each subscriber. The source emits items with an {@link LimoFlow.Emitter} that parks when the subscriber has not
+ * granted enough credit.
+ *
+ * @param <T> type of elements that are emitted to subscribers
+ */
+public final class EmitterPublisher<T> implements LimoFlow.DemandPublisher<T> {
+
+    private final @NotNull Consumer<? super LimoFlow.Emitter<T>> source;
+
+    public EmitterPublisher(@NotNull Consumer<? super LimoFlow.Emitter<T>> source) {
+        this.source = Objects.requireNonNull(source);
+    }
+
+    @Override
+    public void subscribe(LimoFlow.@NotNull DemandSubscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        final var credit = new Credit();
+        subscriber.onSubscribe(credit);
+        final LimoFlow.Emitter<T> emitter = item -> {
+            Objects.requireNonNull(item);
+            if (!credit.acquire()) {
+                return false;
+            }
+            subscriber.receive(item);
+            return true;
+        };
+        ThreadExecutorFactory.get().newThread("limo-flow-emitter", () -> {
+            try {
+                this.source.accept(emitter);
+            } catch (Throwable t) {
+                subscriber.onError(t);
+                return;
+            }
+            final var error = credit.getError();
+            if (error != null) {
+                subscriber.onError(error);
+            } else if (!credit.isTerminated()) {
+                subscriber.onComplete();
+            }
+        }).start();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.concurrent;
+
+import io.limo.concurrent.LimoFlow;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * A fused operator that only emits the elements that match a predicate, one more element is requested from upstream
+ * for each dropped element
+ * <p>Successive filter operators are merged in a single one.
+ *
+ * @param <T> type of elements that are emitted to subscribers
+ */
+public final class FilterPublisher<T> implements LimoFlow.DemandPublisher<T> {
+
+    private final @NotNull LimoFlow.DemandPublisher<? extends T> upstream;
+    private final @NotNull Predicate<? super T> predicate;
+
+    public FilterPublisher(@NotNull LimoFlow.DemandPublisher<? extends T> upstream,
+                           @NotNull Predicate<? super T> predicate) {
+        this.upstream = Objects.requireNonNull(upstream);
+        this.predicate = Objects.requireNonNull(predicate);
+    }
+
+    @Override
+    public void subscribe(LimoFlow.@NotNull DemandSubscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        this.upstream.subscribe(new OperatorSubscriber<T, T>(subscriber) {
+            @Override
+            void next(T item) {
+                if (predicate.test(item)) {
+                    this.downstream.receive(item);
+                } else {
+                    this.upstream.request(1L);
+                }
+            }
+        });
+    }
+
+    @Override
+    public LimoFlow.@NotNull DemandPublisher<T> filter(@NotNull Predicate<? super T> next) {
+        Objects.requireNonNull(next);
+        final var current = this.predicate;
+        return new FilterPublisher<T>(this.upstream, item -> current.test(item) && next.test(item));
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.concurrent;
+
+import io.limo.concurrent.LimoFlow;
+import io.limo.concurrent.ThreadExecutorFactory;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+
+/**
+ * A {@link LimoFlow.DemandPublisher} that maps each upstream element to an inner publisher, and merges the elements of
+ * at most {@code concurrency} inner publishers at a time
+ * <p>Each inner publisher is requested {@link #INNER_PREFETCH} elements, that are staged in a shared queue and
+ * delivered by a drain thread supplied by {@link ThreadExecutorFactory}. A new upstream element is requested each time
+ * an inner publisher completes.
+ *
+ * @param <T> type of elements that are received from upstream
+ * @param <R> type of elements that are emitted to subscribers
+ */
+public final class FlatMapPublisher<T, R> implements LimoFlow.DemandPublisher<R> {
+
+    private static final int INNER_PREFETCH = 32;
+
+    private final @NotNull LimoFlow.DemandPublisher<? extends T> upstream;
+    private final @NotNull Function<? super T, ? extends LimoFlow.DemandPublisher<? extends R>> mapper;
+    private final int concurrency;
+
+    public FlatMapPublisher(@NotNull LimoFlow.DemandPublisher<? extends T> upstream,
+                            @NotNull Function<? super T, ? extends LimoFlow.DemandPublisher<? extends R>> mapper,
+                            int concurrency) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency must be a positive Integer");
+        }
+        this.upstream = Objects.requireNonNull(upstream);
+        this.mapper = Objects.requireNonNull(mapper);
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    public void subscribe(LimoFlow.@NotNull DemandSubscriber<? super R> subscriber) {
+        Objects.requireNonNull(subscriber);
+        new OuterSubscriber(subscriber).subscribeTo(this.upstream);
+    }
+
+    private final class OuterSubscriber implements LimoFlow.DemandSubscriber<T> {
+
+        private final @NotNull LimoFlow.DemandSubscriber<? super R> downstream;
+        private final @NotNull Credit downstreamCredit = new Credit();
+
+        /**
+         * {@link InnerItem inner items}, completed {@link InnerSubscriber inner subscribers}, or {@link Terminal}.
+         * Its size is bounded by the credit given to upstream and inner publishers, so a linked queue avoids to
+         * allocate {@code concurrency * INNER_PREFETCH} slots upfront
+         */
+        private final @NotNull BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+
+        private final @NotNull Set<InnerSubscriber> inners = ConcurrentHashMap.newKeySet();
+
+        private volatile LimoFlow.Subscription upstreamSubscription;
+
+        /**
+         * Number of subscribed inner publishers, only written by upstream thread
+         */
+        private volatile long innerCount = 0L;
+
+        private OuterSubscriber(@NotNull LimoFlow.DemandSubscriber<? super R> downstream) {
+            this.downstream = downstream;
+        }
+
+        private void subscribeTo(@NotNull LimoFlow.DemandPublisher<? extends T> upstream) {
+            this.downstream.onSubscribe(this.downstreamCredit);
+            upstream.subscribe(this);
+        }
+
+        @Override
+        public void onSubscribe(LimoFlow.@NotNull Subscription subscription) {
+            this.upstreamSubscription = subscription;
+            subscription.request(concurrency);
+            ThreadExecutorFactory.get().newThread("limo-flow-flatmap", this::drain).start();
+        }
+
+        @Override
+        public void receive(T item) {
+            final LimoFlow.DemandPublisher<? extends R> inner;
+            try {
+                inner = Objects.requireNonNull(mapper.apply(item));
+            } catch (Throwable throwable) {
+                this.upstreamSubscription.cancel();
+                this.queue.add(new Terminal(throwable));
+                return;
+            }
+            final var innerSubscriber = new InnerSubscriber(this.queue);
+            this.inners.add(innerSubscriber);
+            this.innerCount++;
+            inner.subscribe(innerSubscriber);
+        }
+
+        @Override
+        public void onError(@NotNull Throwable throwable) {
+            this.queue.add(new Terminal(throwable));
+        }
+
+        @Override
+        public void onComplete() {
+            this.queue.add(Terminal.COMPLETE);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void drain() {
+            var upstreamDone = false;
+            var completedCount = 0L;
+            try {
+                while (true) {
+                    final var element = this.queue.take();
+                    if (element instanceof InnerItem) {
+                        final var innerItem = (InnerItem) element;
+                        if (!this.downstreamCredit.acquire()) {
+                            cancelAll();
+                            final var error = this.downstreamCredit.getError();
+                            if (error != null) {
+                                this.downstream.onError(error);
+                            }
+                            return;
+                        }
+                        this.downstream.receive((R) innerItem.item);
+                        innerItem.inner.consumed();
+                        continue;
+                    }
+                    if (element instanceof InnerSubscriber) {
+                        this.inners.remove(element);
+                        completedCount++;
+                        this.upstreamSubscription.request(1L);
+                    } else {
+                        final var error = ((Terminal) element).error;
+                        if (error != null) {
+                            cancelAll();
+                            this.downstream.onError(error);
+                            return;
+                        }
+                        upstreamDone = true;
+                    }
+                    // innerCount is final once upstream has completed
+                    if (upstreamDone && completedCount == this.innerCount) {
+                        this.downstream.onComplete();
+                        return;
+                    }
+                }
+            } catch (InterruptedException interruptedException) {
+                cancelAll();
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void cancelAll() {
+            this.upstreamSubscription.cancel();
+            this.inners.forEach(InnerSubscriber::cancel);
+        }
+    }
+
+    /**
+     * Subscribes to one inner publisher, it is itself put in the queue when the inner publisher has completed
+     */
+    private static final class InnerSubscriber implements LimoFlow.DemandSubscriber<Object> {
+
+        private final @NotNull BlockingQueue<Object> queue;
+
+        private volatile LimoFlow.Subscription subscription;
+
+        /**
+         * Number of delivered elements not requested again yet, only used by drain thread
+         */
+        private int consumed = 0;
+
+        private InnerSubscriber(@NotNull BlockingQueue<Object> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public void onSubscribe(LimoFlow.@NotNull Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(INNER_PREFETCH);
+        }
+
+        @Override
+        public void receive(Object item) {
+            this.queue.add(new InnerItem(this, item));
+        }
+
+        @Override
+        public void onError(@NotNull Throwable throwable) {
+            this.queue.add(new Terminal(throwable));
+        }
+
+        @Override
+        public void onComplete() {
+            this.queue.add(this);
+        }
+
+        /**
+         * Credit is given back to this inner publisher by batches of half the prefetch
+         */
+        private void consumed() {
+            if (++this.consumed == INNER_PREFETCH >> 1) {
+                this.subscription.request(this.consumed);
+                this.consumed = 0;
+            }
+        }
+
+        private void cancel() {
+            final var currentSubscription = this.subscription;
+            if (currentSubscription != null) {
+                currentSubscription.cancel();
+            }
+        }
+    }
+
+    private static final class InnerItem {
+        private final @NotNull InnerSubscriber inner;
+        private final Object item;
+
+        private InnerItem(@NotNull InnerSubscriber inner, Object item) {
+            this.inner = inner;
+            this.item = item;
+        }
+    }
+}
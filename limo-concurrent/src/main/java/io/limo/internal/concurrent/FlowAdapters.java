@@ -0,0 +1,98 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.concurrent;
+
+import io.limo.concurrent.LimoFlow;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+
+/**
+ * Adapters between {@link LimoFlow.DemandPublisher} and the JDK {@link Flow} API
+ * <p>Both APIs share the same request(n) demand semantics, so signals are just forwarded.
+ */
+public final class FlowAdapters {
+
+    // uninstanciable
+    private FlowAdapters() {
+    }
+
+    public static <T> Flow.@NotNull Publisher<T> toFlow(LimoFlow.@NotNull DemandPublisher<T> publisher) {
+        Objects.requireNonNull(publisher);
+        return subscriber -> {
+            Objects.requireNonNull(subscriber);
+            publisher.subscribe(new LimoFlow.DemandSubscriber<T>() {
+                @Override
+                public void onSubscribe(LimoFlow.@NotNull Subscription subscription) {
+                    subscriber.onSubscribe(new Flow.Subscription() {
+                        @Override
+                        public void request(long n) {
+                            subscription.request(n);
+                        }
+
+                        @Override
+                        public void cancel() {
+                            subscription.cancel();
+                        }
+                    });
+                }
+
+                @Override
+                public void receive(T item) {
+                    subscriber.onNext(item);
+                }
+
+                @Override
+                public void onComplete() {
+                    subscriber.onComplete();
+                }
+
+                @Override
+                public void onError(@NotNull Throwable throwable) {
+                    subscriber.onError(throwable);
+                }
+            });
+        };
+    }
+
+    public static <T> LimoFlow.@NotNull DemandPublisher<T> fromFlow(Flow.@NotNull Publisher<T> publisher) {
+        Objects.requireNonNull(publisher);
+        return subscriber -> {
+            Objects.requireNonNull(subscriber);
+            publisher.subscribe(new Flow.Subscriber<T>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscriber.onSubscribe(new LimoFlow.Subscription() {
+                        @Override
+                        public void request(long n) {
+                            subscription.request(n);
+                        }
+
+                        @Override
+                        public void cancel() {
+                            subscription.cancel();
+                        }
+                    });
+                }
+
+                @Override
+                public void onNext(T item) {
+                    subscriber.receive(item);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    subscriber.onError(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    subscriber.onComplete();
+                }
+            });
+        };
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.concurrent;
+
+import io.limo.concurrent.ThreadExecutorFactory;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A {@link ThreadExecutorFactory} that supplies platform threads, IO operations are executed by a bounded
+ * {@link ForkJoinPool}. When all its threads are busy, operations wait for a free thread.
+ * <p>Max number of threads is {@value #DEFAULT_MAX_THREADS}, it can be changed with the
+ * {@value #MAX_THREADS_PROPERTY} system property.
+ */
+final class ForkJoinThreadExecutorFactory implements ThreadExecutorFactory {
+
+    static final String MAX_THREADS_PROPERTY = "io.limo.concurrent.maxThreads";
+
+    static final int DEFAULT_MAX_THREADS = 2 * 1024;
+
+    /**
+     * FIFO ForkJoinPool, threads are created when needed and are daemon threads
+     */
+    private final ForkJoinPool pool =
+            new ForkJoinPool(Integer.getInteger(MAX_THREADS_PROPERTY, DEFAULT_MAX_THREADS),
+                    ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+
+    @Override
+    public final @NotNull Thread newThread(@NotNull String name, @NotNull Runnable task) {
+        final var thread = new Thread(Objects.requireNonNull(task), Objects.requireNonNull(name));
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    @Override
+    public final @NotNull Executor getExecutor() {
+        return this.pool;
+    }
+
+    @Override
+    public final int getLoadPriority() {
+        return Integer.MIN_VALUE;
+    }
+}
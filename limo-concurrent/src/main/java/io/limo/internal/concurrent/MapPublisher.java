@@ -0,0 +1,48 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.concurrent;
+
+import io.limo.concurrent.LimoFlow;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A fused operator that transforms each element with a mapper function
+ * <p>Successive map operators are merged in a single one.
+ *
+ * @param <T> type of elements that are received from upstream
+ * @param <R> type of elements that are emitted to subscribers
+ */
+public final class MapPublisher<T, R> implements LimoFlow.DemandPublisher<R> {
+
+    private final @NotNull LimoFlow.DemandPublisher<? extends T> upstream;
+    private final @NotNull Function<? super T, ? extends R> mapper;
+
+    public MapPublisher(@NotNull LimoFlow.DemandPublisher<? extends T> upstream,
+                        @NotNull Function<? super T, ? extends R> mapper) {
+        this.upstream = Objects.requireNonNull(upstream);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    @Override
+    public void subscribe(LimoFlow.@NotNull DemandSubscriber<? super R> subscriber) {
+        Objects.requireNonNull(subscriber);
+        this.upstream.subscribe(new OperatorSubscriber<T, R>(subscriber) {
+            @Override
+            void next(T item) {
+                this.downstream.receive(mapper.apply(item));
+            }
+        });
+    }
+
+    @Override
+    public <V> LimoFlow.@NotNull DemandPublisher<V> map(@NotNull Function<? super R, ? extends V> next) {
+        Objects.requireNonNull(next);
+        final var current = this.mapper;
+        return new MapPublisher<T, V>(this.upstream, item -> next.apply(current.apply(item)));
+    }
+}
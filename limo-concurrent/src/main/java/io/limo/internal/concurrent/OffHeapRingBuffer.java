@@ -0,0 +1,273 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.concurrent;
+
+import io.limo.concurrent.RingBuffer;
+import io.limo.memory.MutableByBuOffHeap;
+import io.limo.memory.MutableOffHeap;
+import io.limo.memory.OffHeap;
+import io.limo.memory.OffHeapFactory;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Implementation of {@link RingBuffer} based on a {@link MutableByBuOffHeap}
+ * <p>Each record starts with an 8-byte header : the record length (header included) then the record type. Records are
+ * aligned on 8 bytes. A record that does not fit before the end of the memory is preceded by a padding record that
+ * fills the end of the memory, then it is written at the beginning.
+ * <p>The record length is written last with release semantics by {@link Producer#publish()}, and read first with
+ * acquire semantics by the consumer : a record is readable when its length is not zero. The consumer zeroes the
+ * records it read before freeing their room.
+ */
+public final class OffHeapRingBuffer extends RingBufferSequences implements RingBuffer {
+
+    private static final VarHandle TAIL;
+    private static final VarHandle HEAD;
+    private static final VarHandle INT_HANDLE = MethodHandles.byteBufferViewVarHandle(int[].class,
+            ByteOrder.nativeOrder());
+
+    static {
+        try {
+            final var lookup = MethodHandles.lookup();
+            TAIL = lookup.findVarHandle(RingBufferTail.class, "tail", long.class);
+            HEAD = lookup.findVarHandle(RingBufferHead.class, "head", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final int HEADER_LENGTH = 8;
+    private static final int TYPE_OFFSET = 4;
+    private static final int ALIGNMENT = 8;
+    private static final int MIN_CAPACITY = 128;
+
+    private static final int DATA_TYPE = 1;
+    private static final int PADDING_TYPE = -1;
+
+    /**
+     * Max number of records a producer can claim before publishing them
+     */
+    static final int MAX_CLAIMED_RECORDS = 64;
+
+    private final @NotNull MutableByBuOffHeap memory;
+
+    /**
+     * Used by all threads to read and write record lengths with memory ordering
+     */
+    private final @NotNull ByteBuffer byteBuffer;
+
+    private final int capacity;
+    private final int mask;
+    private final int maxRecordLength;
+    private final boolean multiProducer;
+    private final @NotNull AtomicBoolean hasProducer = new AtomicBoolean();
+    private final @NotNull AtomicBoolean hasConsumer = new AtomicBoolean();
+
+    /**
+     * @param capacity byte size of the off-heap memory, a power of two at least {@value #MIN_CAPACITY}. A record is at
+     *                 most 1/8 of the capacity, header included
+     * @throws IllegalArgumentException if {@code capacity} is not a power of two, or is less than
+     *                                  {@value #MIN_CAPACITY}
+     */
+    public OffHeapRingBuffer(int capacity, boolean multiProducer) {
+        if (capacity < MIN_CAPACITY || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException(
+                    String.format("capacity must be a power of two, at least %d, but was %d", MIN_CAPACITY, capacity));
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.maxRecordLength = (capacity >> 3) - HEADER_LENGTH;
+        this.multiProducer = multiProducer;
+        this.memory = OffHeapFactory.allocate(capacity);
+        this.memory.fill((byte) 0);
+        this.byteBuffer = this.memory.getByteBuffer();
+    }
+
+    @Override
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    @Override
+    public int getMaxRecordLength() {
+        return this.maxRecordLength;
+    }
+
+    @Override
+    public @NotNull Producer newProducer() {
+        if (!this.multiProducer && !this.hasProducer.compareAndSet(false, true)) {
+            throw new IllegalStateException("Single producer ring buffer already has a producer");
+        }
+        return new ProducerImpl(this.memory.acquire());
+    }
+
+    @Override
+    public @NotNull Consumer newConsumer() {
+        if (!this.hasConsumer.compareAndSet(false, true)) {
+            throw new IllegalStateException("Ring buffer already has a consumer");
+        }
+        return new ConsumerImpl(this.memory.acquire());
+    }
+
+    @Override
+    public void close() {
+        this.memory.close();
+    }
+
+    private static int align(int length) {
+        return (length + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    private final class ProducerImpl implements Producer {
+
+        private final @NotNull MutableByBuOffHeap view;
+
+        /**
+         * Last read value of head, avoids reading the head written by consumer thread at each claim
+         */
+        private long headCache;
+
+        /**
+         * Claimed records not published yet, each one is the index of the record in the high 32 bits and its length
+         * in the low 32 bits
+         */
+        private final long @NotNull [] claimed = new long[MAX_CLAIMED_RECORDS];
+        private int claimedCount = 0;
+
+        private ProducerImpl(@NotNull MutableByBuOffHeap view) {
+            this.view = view;
+            this.headCache = (long) HEAD.getAcquire(OffHeapRingBuffer.this);
+        }
+
+        @Override
+        public long tryClaim(int length) {
+            if (length < 0 || length > maxRecordLength) {
+                throw new IllegalArgumentException(
+                        String.format("length must be between 0 and %d, but was %d", maxRecordLength, length));
+            }
+            if (this.claimedCount > MAX_CLAIMED_RECORDS - 2) {
+                throw new IllegalStateException(
+                        String.format("At most %d records can be claimed before publish", MAX_CLAIMED_RECORDS));
+            }
+            final var recordLength = HEADER_LENGTH + length;
+            final var alignedLength = align(recordLength);
+            int tailIndex;
+            int padding;
+            while (true) {
+                final var tail = (long) TAIL.getVolatile(OffHeapRingBuffer.this);
+                tailIndex = (int) tail & mask;
+                final var toEnd = capacity - tailIndex;
+                padding = (alignedLength > toEnd) ? toEnd : 0;
+                final var required = alignedLength + padding;
+                if (required > capacity - (tail - this.headCache)) {
+                    this.headCache = (long) HEAD.getAcquire(OffHeapRingBuffer.this);
+                    if (required > capacity - (tail - this.headCache)) {
+                        return -1L;
+                    }
+                }
+                if (!multiProducer) {
+                    // single producer : no other thread writes tail
+                    TAIL.setRelease(OffHeapRingBuffer.this, tail + required);
+                    break;
+                }
+                if (TAIL.compareAndSet(OffHeapRingBuffer.this, tail, tail + required)) {
+                    break;
+                }
+            }
+
+            if (padding > 0) {
+                this.view.writeIntAt(tailIndex + TYPE_OFFSET, PADDING_TYPE);
+                this.claimed[this.claimedCount++] = ((long) tailIndex << 32) | padding;
+                tailIndex = 0;
+            }
+            this.view.writeIntAt(tailIndex + TYPE_OFFSET, DATA_TYPE);
+            this.claimed[this.claimedCount++] = ((long) tailIndex << 32) | recordLength;
+            return tailIndex + HEADER_LENGTH;
+        }
+
+        @Override
+        public @NotNull MutableOffHeap getMemory() {
+            return this.view;
+        }
+
+        @Override
+        public void publish() {
+            for (var i = 0; i < this.claimedCount; i++) {
+                final var record = this.claimed[i];
+                INT_HANDLE.setRelease(byteBuffer, (int) (record >>> 32), (int) record);
+            }
+            this.claimedCount = 0;
+        }
+
+        @Override
+        public boolean offer(@NotNull OffHeap src, long srcIndex, int length) {
+            Objects.requireNonNull(src);
+            final var index = tryClaim(length);
+            if (index < 0) {
+                return false;
+            }
+            this.view.writeBytesAt(index, src, srcIndex, length);
+            publish();
+            return true;
+        }
+
+        @Override
+        public void close() {
+            this.view.close();
+        }
+    }
+
+    private final class ConsumerImpl implements Consumer {
+
+        private final @NotNull MutableByBuOffHeap view;
+
+        private ConsumerImpl(@NotNull MutableByBuOffHeap view) {
+            this.view = view;
+        }
+
+        @Override
+        public int poll(@NotNull RecordHandler handler, int maxRecords) {
+            Objects.requireNonNull(handler);
+            final var head = (long) HEAD.getOpaque(OffHeapRingBuffer.this);
+            var readBytes = 0;
+            var readRecords = 0;
+            try {
+                while (readRecords < maxRecords && readBytes < capacity) {
+                    final var index = (int) (head + readBytes) & mask;
+                    final var recordLength = (int) INT_HANDLE.getAcquire(byteBuffer, index);
+                    if (recordLength <= 0) {
+                        // record is not published yet
+                        break;
+                    }
+                    readBytes += align(recordLength);
+                    if (this.view.readIntAt(index + TYPE_OFFSET) != PADDING_TYPE) {
+                        readRecords++;
+                        handler.onRecord(this.view, index + HEADER_LENGTH, recordLength - HEADER_LENGTH);
+                    }
+                }
+            } finally {
+                if (readBytes > 0) {
+                    // zeroes read records, then frees their room
+                    for (var offset = 0; offset < readBytes; offset += Long.BYTES) {
+                        this.view.writeLongAt((int) (head + offset) & mask, 0L);
+                    }
+                    HEAD.setRelease(OffHeapRingBuffer.this, head + readBytes);
+                }
+            }
+            return readRecords;
+        }
+
+        @Override
+        public void close() {
+            this.view.close();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.concurrent;
+
+import io.limo.concurrent.LimoFlow;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Base class of fused operators : an operator subscriber runs in the thread of its upstream publisher, there is no
+ * thread hop nor queue between upstream and downstream
+ * <p>Once {@link #fail(Throwable)} was invoked, later signals from upstream are ignored.
+ *
+ * @param <T> type of elements that are received from upstream
+ * @param <R> type of elements that are emitted downstream
+ */
+abstract class OperatorSubscriber<T, R> implements LimoFlow.DemandSubscriber<T> {
+
+    final @NotNull LimoFlow.DemandSubscriber<? super R> downstream;
+    LimoFlow.Subscription upstream;
+    boolean done = false;
+
+    OperatorSubscriber(@NotNull LimoFlow.DemandSubscriber<? super R> downstream) {
+        this.downstream = downstream;
+    }
+
+    @Override
+    public void onSubscribe(LimoFlow.@NotNull Subscription subscription) {
+        this.upstream = subscription;
+        this.downstream.onSubscribe(subscription);
+    }
+
+    @Override
+    public final void receive(T item) {
+        if (this.done) {
+            return;
+        }
+        try {
+            next(item);
+        } catch (Throwable throwable) {
+            fail(throwable);
+        }
+    }
+
+    @Override
+    public final void onComplete() {
+        if (!this.done) {
+            this.done = true;
+            this.downstream.onComplete();
+        }
+    }
+
+    @Override
+    public final void onError(@NotNull Throwable throwable) {
+        if (!this.done) {
+            this.done = true;
+            this.downstream.onError(throwable);
+        }
+    }
+
+    /**
+     * Handles one element received from upstream
+     */
+    abstract void next(T item);
+
+    /**
+     * Cancels upstream, then terminates downstream with {@code throwable}
+     */
+    final void fail(@NotNull Throwable throwable) {
+        this.upstream.cancel();
+        onError(throwable);
+    }
+}
@@ -0,0 +1,17 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.concurrent;
+
+/**
+ * Head sequence of a ring buffer, written by the consumer
+ *
+ * @see RingBufferSequences
+ */
+abstract class RingBufferHead extends RingBufferPadding1 {
+    /**
+     * Total number of bytes freed by the consumer since creation
+     */
+    volatile long head;
+}
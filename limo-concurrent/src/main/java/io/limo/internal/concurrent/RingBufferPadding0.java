@@ -0,0 +1,14 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.concurrent;
+
+/**
+ * Padding before the tail sequence of a ring buffer
+ *
+ * @see RingBufferSequences
+ */
+abstract class RingBufferPadding0 {
+    long p00, p01, p02, p03, p04, p05, p06;
+}
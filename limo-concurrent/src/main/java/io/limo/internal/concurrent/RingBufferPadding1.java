@@ -0,0 +1,14 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.concurrent;
+
+/**
+ * Padding between the tail and the head sequences of a ring buffer
+ *
+ * @see RingBufferSequences
+ */
+abstract class RingBufferPadding1 extends RingBufferTail {
+    long p10, p11, p12, p13, p14, p15, p16;
+}
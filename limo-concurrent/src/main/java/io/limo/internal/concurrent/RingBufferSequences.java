@@ -0,0 +1,15 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.concurrent;
+
+/**
+ * Head and tail sequences of a ring buffer, each one is surrounded by 56 bytes of padding so they are never in the
+ * same cache line : the consumer that writes head and the producers that write tail do not suffer from false sharing.
+ * <p>Padding is done with class inheritance, because fields of a super class are laid out before fields of a sub
+ * class, whereas fields of a same class can be reordered.
+ */
+abstract class RingBufferSequences extends RingBufferHead {
+    long p20, p21, p22, p23, p24, p25, p26;
+}
@@ -0,0 +1,17 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.concurrent;
+
+/**
+ * Tail sequence of a ring buffer, written by producers
+ *
+ * @see RingBufferSequences
+ */
+abstract class RingBufferTail extends RingBufferPadding0 {
+    /**
+     * Total number of bytes claimed by producers since creation
+     */
+    volatile long tail;
+}
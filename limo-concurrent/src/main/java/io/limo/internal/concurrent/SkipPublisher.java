@@ -0,0 +1,65 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.concurrent;
+
+import io.limo.concurrent.LimoFlow;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * A fused operator that drops the first elements, they are requested from upstream on subscription
+ *
+ * @param <T> type of elements that are emitted to subscribers
+ */
+public final class SkipPublisher<T> implements LimoFlow.DemandPublisher<T> {
+
+    private final @NotNull LimoFlow.DemandPublisher<? extends T> upstream;
+    private final long count;
+
+    public SkipPublisher(@NotNull LimoFlow.DemandPublisher<? extends T> upstream, long count) {
+        if (count < 0L) {
+            throw new IllegalArgumentException("count must be a positive or zero Long");
+        }
+        this.upstream = Objects.requireNonNull(upstream);
+        this.count = count;
+    }
+
+    @Override
+    public void subscribe(LimoFlow.@NotNull DemandSubscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        this.upstream.subscribe(new OperatorSubscriber<T, T>(subscriber) {
+            private long remaining = count;
+
+            @Override
+            public void onSubscribe(LimoFlow.@NotNull Subscription subscription) {
+                // skipped elements are requested before downstream may request its own
+                if (count > 0L) {
+                    subscription.request(count);
+                }
+                super.onSubscribe(subscription);
+            }
+
+            @Override
+            void next(T item) {
+                if (this.remaining > 0L) {
+                    this.remaining--;
+                } else {
+                    this.downstream.receive(item);
+                }
+            }
+        });
+    }
+
+    @Override
+    public LimoFlow.@NotNull DemandPublisher<T> skip(long next) {
+        if (next < 0L) {
+            throw new IllegalArgumentException("count must be a positive or zero Long");
+        }
+        // saturates at Long.MAX_VALUE
+        final var sum = this.count + next;
+        return new SkipPublisher<T>(this.upstream, (sum < 0L) ? Long.MAX_VALUE : sum);
+    }
+}
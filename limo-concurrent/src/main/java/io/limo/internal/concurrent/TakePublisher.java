@@ -0,0 +1,60 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.concurrent;
+
+import io.limo.concurrent.LimoFlow;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * A fused operator that emits the first elements, then cancels upstream and completes
+ *
+ * @param <T> type of elements that are emitted to subscribers
+ */
+public final class TakePublisher<T> implements LimoFlow.DemandPublisher<T> {
+
+    private final @NotNull LimoFlow.DemandPublisher<? extends T> upstream;
+    private final long count;
+
+    public TakePublisher(@NotNull LimoFlow.DemandPublisher<? extends T> upstream, long count) {
+        if (count < 0L) {
+            throw new IllegalArgumentException("count must be a positive or zero Long");
+        }
+        this.upstream = Objects.requireNonNull(upstream);
+        this.count = count;
+    }
+
+    @Override
+    public void subscribe(LimoFlow.@NotNull DemandSubscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        this.upstream.subscribe(new OperatorSubscriber<T, T>(subscriber) {
+            private long remaining = count;
+
+            @Override
+            public void onSubscribe(LimoFlow.@NotNull Subscription subscription) {
+                super.onSubscribe(subscription);
+                if (this.remaining == 0L) {
+                    subscription.cancel();
+                    onComplete();
+                }
+            }
+
+            @Override
+            void next(T item) {
+                this.downstream.receive(item);
+                if (--this.remaining == 0L) {
+                    this.upstream.cancel();
+                    onComplete();
+                }
+            }
+        });
+    }
+
+    @Override
+    public LimoFlow.@NotNull DemandPublisher<T> take(long next) {
+        return new TakePublisher<T>(this.upstream, Math.min(this.count, next));
+    }
+}
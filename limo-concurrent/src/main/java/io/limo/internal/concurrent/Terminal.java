@@ -0,0 +1,21 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.concurrent;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A terminal signal of a publisher, stored in a queue after all its elements
+ */
+final class Terminal {
+
+    static final Terminal COMPLETE = new Terminal(null);
+
+    final @Nullable Throwable error;
+
+    Terminal(@Nullable Throwable error) {
+        this.error = error;
+    }
+}
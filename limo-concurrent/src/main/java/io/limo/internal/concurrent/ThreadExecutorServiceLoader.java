@@ -0,0 +1,40 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.concurrent;
+
+import io.limo.concurrent.ThreadExecutorFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Comparator;
+import java.util.ServiceLoader;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.StreamSupport;
+
+public final class ThreadExecutorServiceLoader {
+    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    public static final ThreadExecutorFactory THREAD_EXECUTOR_FACTORY = getThreadExecutorFactory();
+
+
+    // uninstanciable
+    private ThreadExecutorServiceLoader() {
+    }
+
+    private static ThreadExecutorFactory getThreadExecutorFactory() {
+        final var iterator = ServiceLoader.load(ThreadExecutorFactory.class).iterator();
+
+        final var threadExecutorFactory = StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED),false)
+                // Integer.MIN_VALUE priority means this ThreadExecutorFactory is disabled
+                .filter(factory -> factory.getLoadPriority() > Integer.MIN_VALUE)
+                .max(Comparator.comparingInt(ThreadExecutorFactory::getLoadPriority))
+                // If no module in classpath implements this Service, fallback to ForkJoinThreadExecutorFactory
+                .orElse(new ForkJoinThreadExecutorFactory());
+        logger.info("ServiceLoader<ThreadExecutorFactory> loaded : {}", threadExecutorFactory.getClass().getTypeName());
+        return threadExecutorFactory;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.concurrent;
+
+import io.limo.concurrent.LimoFlow;
+import io.limo.concurrent.ThreadExecutorFactory;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiFunction;
+
+/**
+ * A {@link LimoFlow.DemandPublisher} that combines the elements of two publishers pairwise, it completes as soon as one
+ * of them completes
+ * <p>Each publisher has its own bounded queue, pairs are combined and delivered by a drain thread supplied by
+ * {@link ThreadExecutorFactory}. The drain thread is woken up by a signal of either publisher, so an idle publisher
+ * does not delay the completion of the other one.
+ *
+ * @param <T> type of elements of left publisher
+ * @param <U> type of elements of right publisher
+ * @param <R> type of elements that are emitted to subscribers
+ */
+public final class ZipPublisher<T, U, R> implements LimoFlow.DemandPublisher<R> {
+
+    private static final int PREFETCH = 32;
+
+    private final @NotNull LimoFlow.DemandPublisher<? extends T> left;
+    private final @NotNull LimoFlow.DemandPublisher<? extends U> right;
+    private final @NotNull BiFunction<? super T, ? super U, ? extends R> zipper;
+
+    public ZipPublisher(@NotNull LimoFlow.DemandPublisher<? extends T> left,
+                        @NotNull LimoFlow.DemandPublisher<? extends U> right,
+                        @NotNull BiFunction<? super T, ? super U, ? extends R> zipper) {
+        this.left = Objects.requireNonNull(left);
+        this.right = Objects.requireNonNull(right);
+        this.zipper = Objects.requireNonNull(zipper);
+    }
+
+    @Override
+    public void subscribe(LimoFlow.@NotNull DemandSubscriber<? super R> subscriber) {
+        Objects.requireNonNull(subscriber);
+        final var downstreamCredit = new Credit();
+        final var leftSide = new Side<T>();
+        final var rightSide = new Side<U>();
+        subscriber.onSubscribe(downstreamCredit);
+        this.left.subscribe(leftSide);
+        this.right.subscribe(rightSide);
+        ThreadExecutorFactory.get().newThread("limo-flow-zip", () -> {
+            // the drain thread is unparked by any signal of either side
+            leftSide.drainer = Thread.currentThread();
+            rightSide.drainer = Thread.currentThread();
+            var consumed = 0;
+            while (true) {
+                // a Terminal at the head of a queue means no more pair can be combined, an error is sent at once
+                final var terminal = leftSide.terminal(rightSide);
+                if (terminal != null) {
+                    terminate(terminal, subscriber, leftSide, rightSide);
+                    return;
+                }
+                if (leftSide.queue.isEmpty() || rightSide.queue.isEmpty()) {
+                    LockSupport.park(this);
+                    if (Thread.interrupted()) {
+                        terminate(null, subscriber, leftSide, rightSide);
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    continue;
+                }
+                final R zipped;
+                try {
+                    zipped = this.zipper.apply(leftSide.cast(leftSide.queue.poll()),
+                            rightSide.cast(rightSide.queue.poll()));
+                } catch (Throwable throwable) {
+                    terminate(new Terminal(throwable), subscriber, leftSide, rightSide);
+                    return;
+                }
+                if (!downstreamCredit.acquire()) {
+                    final var error = downstreamCredit.getError();
+                    terminate((error != null) ? new Terminal(error) : null, subscriber, leftSide, rightSide);
+                    return;
+                }
+                subscriber.receive(zipped);
+                // credit is given back to both publishers by batches of half the prefetch
+                if (++consumed == PREFETCH >> 1) {
+                    leftSide.subscription.request(consumed);
+                    rightSide.subscription.request(consumed);
+                    consumed = 0;
+                }
+            }
+        }).start();
+    }
+
+    /**
+     * Cancels both publishers, then sends {@code terminal} downstream if not null
+     */
+    private static void terminate(Terminal terminal, LimoFlow.@NotNull DemandSubscriber<?> subscriber,
+                                  @NotNull Side<?> leftSide, @NotNull Side<?> rightSide) {
+        leftSide.subscription.cancel();
+        rightSide.subscription.cancel();
+        if (terminal == null) {
+            return;
+        }
+        if (terminal.error != null) {
+            subscriber.onError(terminal.error);
+        } else {
+            subscriber.onComplete();
+        }
+    }
+
+    private static final class Side<V> implements LimoFlow.DemandSubscriber<V> {
+
+        /**
+         * Items, then maybe {@link Terminal#COMPLETE}
+         */
+        private final @NotNull Queue<Object> queue = new ArrayBlockingQueue<>(PREFETCH + 1);
+
+        private volatile LimoFlow.Subscription subscription;
+
+        /**
+         * The drain thread, unparked after each signal
+         */
+        private volatile @Nullable Thread drainer;
+
+        private volatile @Nullable Throwable error;
+
+        @Override
+        public void onSubscribe(LimoFlow.@NotNull Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(PREFETCH);
+        }
+
+        @Override
+        public void receive(V item) {
+            this.queue.add(item);
+            LockSupport.unpark(this.drainer);
+        }
+
+        @Override
+        public void onError(@NotNull Throwable throwable) {
+            this.error = throwable;
+            LockSupport.unpark(this.drainer);
+        }
+
+        @Override
+        public void onComplete() {
+            this.queue.add(Terminal.COMPLETE);
+            LockSupport.unpark(this.drainer);
+        }
+
+        /**
+         * @return the error of either side, or completion if a side completed and its queue holds no more element,
+         * or null
+         */
+        private @Nullable Terminal terminal(@NotNull Side<?> other) {
+            final var firstError = (this.error != null) ? this.error : other.error;
+            if (firstError != null) {
+                return new Terminal(firstError);
+            }
+            if (this.queue.peek() instanceof Terminal || other.queue.peek() instanceof Terminal) {
+                return Terminal.COMPLETE;
+            }
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private V cast(Object element) {
+            return (V) element;
+        }
+    }
+}
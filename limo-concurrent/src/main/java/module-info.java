@@ -0,0 +1,15 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+import io.limo.concurrent.ThreadExecutorFactory;
+
+module limo.concurrent {
+    requires limo.core;
+    requires org.jetbrains.annotations;
+    requires org.slf4j;
+
+    uses ThreadExecutorFactory;
+
+    exports io.limo.concurrent;
+}
@@ -0,0 +1,204 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.concurrent;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class LimoFlowOperatorsTests {
+
+    @Test
+    @DisplayName("Verify map, filter, skip and take run in the thread of the source")
+    void fusedOperators() throws InterruptedException {
+        final var threads = ConcurrentHashMap.<Thread>newKeySet();
+        final var received = collect(range(1_000)
+                .map(i -> {
+                    threads.add(Thread.currentThread());
+                    return i * 2;
+                })
+                .filter(i -> i % 3 == 0)
+                .map(i -> i + 1)
+                .skip(5)
+                .take(10));
+        assertThat(received).isEqualTo(List.of(31, 37, 43, 49, 55, 61, 67, 73, 79, 85));
+        assertThat(threads).hasSize(1)
+                .doesNotContain(Thread.currentThread());
+    }
+
+    @Test
+    @DisplayName("Verify batch emits full lists, then the remaining elements on completion")
+    void batchBySize() throws InterruptedException {
+        final var received = collect(range(10).batch(4, Duration.ofSeconds(10)));
+        assertThat(received).isEqualTo(List.of(List.of(0, 1, 2, 3), List.of(4, 5, 6, 7), List.of(8, 9)));
+    }
+
+    @Test
+    @DisplayName("Verify batch emits a partial list when timeout has elapsed")
+    void batchByTimeout() throws InterruptedException {
+        final var batches = new CopyOnWriteArrayList<List<Integer>>();
+        final var firstBatch = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        LimoFlow.<Integer>create(emitter -> {
+            emitter.emit(0);
+            emitter.emit(1);
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }).batch(100, Duration.ofMillis(20)).subscribe(unbounded(batch -> {
+            batches.add(batch);
+            firstBatch.countDown();
+        }, null));
+        assertThat(firstBatch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(batches).isEqualTo(List.of(List.of(0, 1)));
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Verify window groups elements of the same time window")
+    void window() throws InterruptedException {
+        final var received = collect(LimoFlow.<Integer>create(emitter -> {
+            for (var i = 0; i < 6; i++) {
+                if (i == 3) {
+                    try {
+                        Thread.sleep(150);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                emitter.emit(i);
+            }
+        }).window(Duration.ofMillis(100)));
+        assertThat(received.stream().flatMap(List::stream).collect(Collectors.toList())).isEqualTo(range(6, 0));
+        assertThat(received.size()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Verify flatMap never subscribes to more inner publishers than its concurrency")
+    void flatMapConcurrency() throws InterruptedException {
+        final var active = new AtomicInteger();
+        final var maxActive = new AtomicInteger();
+        final var received = collect(range(20).flatMap(i -> LimoFlow.<Integer>create(emitter -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            for (var j = 0; j < 10; j++) {
+                emitter.emit(i * 10 + j);
+            }
+            active.decrementAndGet();
+        }), 3));
+        assertThat(received).hasSize(200);
+        assertThat(received.stream().sorted().collect(Collectors.toList())).isEqualTo(range(200, 0));
+        assertThat(maxActive.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Verify merge emits all elements of all publishers")
+    void merge() throws InterruptedException {
+        final var received = collect(LimoFlow.merge(range(100), range(100).map(i -> i + 100)));
+        assertThat(received.stream().sorted().collect(Collectors.toList())).isEqualTo(range(200, 0));
+    }
+
+    @Test
+    @DisplayName("Verify zip combines elements pairwise and completes with the shortest publisher")
+    void zip() throws InterruptedException {
+        final var received = collect(LimoFlow.zip(range(100), range(5), (left, right) -> left * 1000 + right));
+        assertThat(received).isEqualTo(List.of(0, 1001, 2002, 3003, 4004));
+    }
+
+    @Test
+    @DisplayName("Verify zip completes when the right publisher completes, while the left one never emits")
+    void zipIdleLeft() throws InterruptedException {
+        final var release = new CountDownLatch(1);
+        final var idle = LimoFlow.<Integer>create(emitter -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        try {
+            final var received = collect(LimoFlow.zip(idle, range(0), (left, right) -> left + right));
+            assertThat(received).isEmpty();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Verify sources and drain loops run in dedicated threads, not in the shared bounded executor")
+    void dedicatedThreads() throws InterruptedException {
+        final var threads = ConcurrentHashMap.<Thread>newKeySet();
+        final var received = collect(LimoFlow.zip(range(1_000), range(1_000), (left, right) -> {
+            threads.add(Thread.currentThread());
+            return left + right;
+        }));
+        assertThat(received).hasSize(1_000);
+        assertThat(threads).hasSize(1);
+        assertThat(threads.iterator().next()).isNotInstanceOf(ForkJoinWorkerThread.class);
+    }
+
+    private static LimoFlow.DemandPublisher<Integer> range(int count) {
+        return LimoFlow.create(emitter -> {
+            for (var i = 0; i < count; i++) {
+                if (!emitter.emit(i)) {
+                    return;
+                }
+            }
+        });
+    }
+
+    private static List<Integer> range(int count, int start) {
+        return IntStream.range(start, start + count).boxed().collect(Collectors.toList());
+    }
+
+    /**
+     * Requests all elements of {@code publisher}, waits for its completion
+     */
+    private static <T> List<T> collect(LimoFlow.DemandPublisher<T> publisher) throws InterruptedException {
+        final var received = new ArrayList<T>();
+        final var completed = new CountDownLatch(1);
+        publisher.subscribe(unbounded(received::add, completed));
+        assertThat(completed.await(10, TimeUnit.SECONDS)).isTrue();
+        // completion happens-before await returns
+        return received;
+    }
+
+    private static <T> LimoFlow.DemandSubscriber<T> unbounded(LimoFlow.Subscriber<T> onItem,
+                                                             CountDownLatch completed) {
+        return new LimoFlow.DemandSubscriber<>() {
+            @Override
+            public void onSubscribe(LimoFlow.@NotNull Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void receive(T item) {
+                onItem.receive(item);
+            }
+
+            @Override
+            public void onComplete() {
+                if (completed != null) {
+                    completed.countDown();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.concurrent;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class LimoFlowTests {
+
+    @Test
+    @DisplayName("Verify a created publisher emits no more elements than requested")
+    void createRespectsDemand() throws InterruptedException {
+        final var received = new CopyOnWriteArrayList<Integer>();
+        final var sourceDone = new CountDownLatch(1);
+        final var subscription = new AtomicReference<LimoFlow.Subscription>();
+        final var completed = new CountDownLatch(1);
+        LimoFlow.<Integer>create(emitter -> {
+            for (var i = 0; i < 1_000; i++) {
+                if (!emitter.emit(i)) {
+                    break;
+                }
+            }
+            sourceDone.countDown();
+        }).subscribe(new LimoFlow.DemandSubscriber<>() {
+            @Override
+            public void onSubscribe(LimoFlow.@NotNull Subscription s) {
+                subscription.set(s);
+                s.request(10);
+            }
+
+            @Override
+            public void receive(Integer item) {
+                received.add(item);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        });
+        // source parks after 10 elements
+        assertThat(sourceDone.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(received).hasSize(10);
+
+        subscription.get().request(5);
+        assertThat(sourceDone.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(received).hasSize(15);
+
+        subscription.get().cancel();
+        assertThat(sourceDone.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).isEqualTo(range(15));
+        assertThat(completed.getCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Verify a non positive request fails the subscription")
+    void invalidRequest() throws InterruptedException {
+        final var error = new AtomicReference<Throwable>();
+        final var failed = new CountDownLatch(1);
+        LimoFlow.<Integer>create(emitter -> {
+            while (emitter.emit(0)) {
+            }
+        }).subscribe(new LimoFlow.DemandSubscriber<>() {
+            @Override
+            public void onSubscribe(LimoFlow.@NotNull Subscription s) {
+                s.request(0);
+            }
+
+            @Override
+            public void receive(Integer item) {
+            }
+
+            @Override
+            public void onError(@NotNull Throwable throwable) {
+                error.set(throwable);
+                failed.countDown();
+            }
+        });
+        assertThat(failed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(error.get()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Verify SubmissionPublisher elements go through a bounded buffer to a Flow.Subscriber")
+    void flowInteropThroughBuffer() throws InterruptedException {
+        final var elementCount = 1_000;
+        final var received = new CopyOnWriteArrayList<Integer>();
+        final var completed = new CountDownLatch(1);
+        try (final var submissionPublisher = new SubmissionPublisher<Integer>()) {
+            final var buffered = LimoFlow.buffer(LimoFlow.fromFlow(submissionPublisher), 16);
+            LimoFlow.toFlow(buffered).subscribe(new Flow.Subscriber<>() {
+                private Flow.Subscription subscription;
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    this.subscription = subscription;
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onNext(Integer item) {
+                    received.add(item);
+                    this.subscription.request(1);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                }
+
+                @Override
+                public void onComplete() {
+                    completed.countDown();
+                }
+            });
+            for (var i = 0; i < elementCount; i++) {
+                submissionPublisher.submit(i);
+            }
+        }
+        assertThat(completed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).isEqualTo(range(elementCount));
+    }
+
+    @Test
+    @DisplayName("Verify a fire-and-forget publisher is slowed down to the demand")
+    void fromPublisher() throws InterruptedException {
+        final var received = new CopyOnWriteArrayList<Integer>();
+        final var completed = new CountDownLatch(1);
+        final LimoFlow.Publisher<Integer> publisher = subscriber -> {
+            for (var i = 0; i < 100; i++) {
+                subscriber.receive(i);
+            }
+        };
+        LimoFlow.fromPublisher(publisher).subscribe(new LimoFlow.DemandSubscriber<>() {
+            private LimoFlow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(LimoFlow.@NotNull Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void receive(Integer item) {
+                received.add(item);
+                this.subscription.request(1);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        });
+        assertThat(completed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).isEqualTo(range(100));
+    }
+
+    private static List<Integer> range(int count) {
+        return IntStream.range(0, count).boxed().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.concurrent;
+
+import io.limo.memory.OffHeapFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public final class RingBufferTests {
+
+    private static final int RECORDS_PER_PRODUCER = 100_000;
+
+    @Test
+    @DisplayName("Verify a single producer ring buffer hands all records in order")
+    void spsc() throws InterruptedException {
+        handOff(RingBuffer.spsc(1024), 1);
+    }
+
+    @Test
+    @DisplayName("Verify a multi producer ring buffer hands records of each producer in order")
+    void mpsc() throws InterruptedException {
+        handOff(RingBuffer.mpsc(1024), 4);
+    }
+
+    @Test
+    @DisplayName("Verify offer fails when ring buffer is full")
+    void offerWhenFull() {
+        try (final var ring = RingBuffer.spsc(128);
+             final var producer = ring.newProducer();
+             final var consumer = ring.newConsumer();
+             final var src = OffHeapFactory.allocate(8)) {
+            src.writeLongAt(0, 42L);
+            // each record has a 8-byte header, a 8-byte content needs 16 bytes
+            for (var i = 0; i < 8; i++) {
+                assertThat(producer.offer(src, 0, 8)).isTrue();
+            }
+            assertThat(producer.offer(src, 0, 8)).isFalse();
+            assertThatThrownBy(ring::newProducer).isInstanceOf(IllegalStateException.class);
+
+            final var received = new ArrayList<Long>();
+            assertThat(consumer.poll((memory, index, length) -> received.add(memory.readLongAt(index)), 10))
+                    .isEqualTo(8);
+            assertThat(received).hasSize(8)
+                    .containsOnly(42L);
+            assertThat(producer.offer(src, 0, 8)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Verify capacity must be a power of two of at least 128 bytes, a record is at most 1/8 of it")
+    void capacity() {
+        assertThatThrownBy(() -> RingBuffer.spsc(64)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RingBuffer.mpsc(192)).isInstanceOf(IllegalArgumentException.class);
+        try (final var ring = RingBuffer.spsc(128)) {
+            assertThat(ring.getMaxRecordLength()).isEqualTo(8);
+        }
+        try (final var ring = RingBuffer.mpsc(1024)) {
+            assertThat(ring.getMaxRecordLength()).isEqualTo(120);
+        }
+    }
+
+    /**
+     * Each producer claims records by batches, a record contains the producer id and a sequence number
+     */
+    private static void handOff(RingBuffer ring, int producerCount) throws InterruptedException {
+        final var errors = new ConcurrentLinkedQueue<Throwable>();
+        final var producers = new Thread[producerCount];
+        for (var p = 0; p < producerCount; p++) {
+            final var producerId = p;
+            producers[p] = new Thread(() -> {
+                try (final var producer = ring.newProducer()) {
+                    var sequence = 0;
+                    while (sequence < RECORDS_PER_PRODUCER && errors.isEmpty()) {
+                        var claimed = 0;
+                        for (var i = 0; i < 3 && sequence < RECORDS_PER_PRODUCER; i++) {
+                            final var index = producer.tryClaim(8 + (sequence % 24));
+                            if (index < 0) {
+                                break;
+                            }
+                            producer.getMemory().writeIntAt(index, producerId);
+                            producer.getMemory().writeIntAt(index + 4, sequence++);
+                            claimed++;
+                        }
+                        producer.publish();
+                        if (claimed == 0) {
+                            Thread.yield();
+                        }
+                    }
+                } catch (Throwable t) {
+                    errors.add(t);
+                }
+            });
+            producers[p].setDaemon(true);
+            producers[p].start();
+        }
+
+        final var nextSequences = new int[producerCount];
+        var received = 0L;
+        try (ring; final var consumer = ring.newConsumer()) {
+            while (received < (long) producerCount * RECORDS_PER_PRODUCER && errors.isEmpty()) {
+                final var polled = consumer.poll((memory, index, length) -> {
+                    final var producerId = memory.readIntAt(index);
+                    assertThat(memory.readIntAt(index + 4)).isEqualTo(nextSequences[producerId]++);
+                    assertThat(length).isEqualTo(8 + (nextSequences[producerId] - 1) % 24);
+                }, 100);
+                if (polled == 0) {
+                    Thread.yield();
+                }
+                received += polled;
+            }
+            for (final var producer : producers) {
+                producer.join();
+            }
+        }
+        assertThat(errors).isEmpty();
+        assertThat(nextSequences).containsOnly(RECORDS_PER_PRODUCER);
+    }
+}
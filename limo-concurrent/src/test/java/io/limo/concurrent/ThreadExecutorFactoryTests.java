@@ -0,0 +1,54 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class ThreadExecutorFactoryTests {
+
+    @Test
+    @DisplayName("Verify blocking operations run concurrently in executor threads")
+    void executorRunsBlockingOperations() throws InterruptedException {
+        final var operationCount = 100;
+        final var allStarted = new CountDownLatch(operationCount);
+        final var allDone = new CountDownLatch(operationCount);
+        final var executor = ThreadExecutorFactory.get().getExecutor();
+        for (var i = 0; i < operationCount; i++) {
+            executor.execute(() -> {
+                allStarted.countDown();
+                try {
+                    // each operation blocks until all operations are started
+                    allStarted.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                allDone.countDown();
+            });
+        }
+        assertThat(allDone.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Verify subscribeAsync subscribes in another thread")
+    void subscribeAsync() throws InterruptedException {
+        final var received = new ConcurrentLinkedQueue<Thread>();
+        final var done = new CountDownLatch(1);
+        final LimoFlow.Publisher<Thread> publisher = subscriber -> {
+            subscriber.receive(Thread.currentThread());
+            done.countDown();
+        };
+        LimoFlow.subscribeAsync(publisher).subscribe(received::add);
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).hasSize(1)
+                .doesNotContain(Thread.currentThread());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.jdk14.memory;
+
+import io.limo.memory.MappedOffHeap;
+import jdk.incubator.foreign.MemorySegment;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Path;
+
+/**
+ * This class contains a mapped {@link MemorySegment}.
+ */
+class MemorySegmentMappedOffHeap extends MemorySegmentSafeOffHeap implements MappedOffHeap {
+
+    /**
+     * Page size used to prefault mapped memory
+     */
+    private static final int PAGE_SIZE = 4096;
+
+    /**
+     * Path of the mapped file
+     */
+    final @NotNull Path path;
+
+    @SuppressWarnings("unused")
+    private int loadSink;
+
+    MemorySegmentMappedOffHeap(MemorySegment segment, @NotNull Path path) {
+        super(segment);
+        this.path = path;
+    }
+
+    @Override
+    public @NotNull MappedOffHeap slice(long offset, long length) {
+        sliceIndexCheck(offset, length, getByteSize());
+        return new MemorySegmentMappedOffHeap(this.segment.asSlice(offset, length), this.path);
+    }
+
+    @Override
+    public @NotNull MappedOffHeap acquire() {
+        return new MemorySegmentMappedOffHeap(this.segment.acquire(), this.path);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote touches one byte in each page
+     */
+    @Override
+    public final void load() {
+        final var byteSize = getByteSize();
+        var sum = 0;
+        for (var index = 0L; index < byteSize; index += PAGE_SIZE) {
+            sum += readByteAt(index);
+        }
+        // store read bytes, so the JIT can not eliminate the loop
+        this.loadSink = sum;
+    }
+}
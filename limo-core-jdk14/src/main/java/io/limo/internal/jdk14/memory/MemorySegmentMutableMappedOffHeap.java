@@ -0,0 +1,132 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.jdk14.memory;
+
+import io.limo.LimoIOException;
+import io.limo.jdk14.utils.MemorySegmentOps;
+import io.limo.memory.MappedOffHeap;
+import io.limo.memory.MutableByBuOffHeap;
+import io.limo.memory.MutableMappedOffHeap;
+import io.limo.memory.OffHeap;
+import jdk.incubator.foreign.MemorySegment;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class contains a writable mapped {@link MemorySegment}.
+ */
+final class MemorySegmentMutableMappedOffHeap extends MemorySegmentMappedOffHeap implements MutableMappedOffHeap {
+
+    MemorySegmentMutableMappedOffHeap(MemorySegment segment, @NotNull Path path) {
+        super(segment, path);
+    }
+
+    @Override
+    public final @NotNull MappedOffHeap asReadOnly() {
+        return new MemorySegmentMappedOffHeap(this.segment.asReadOnly(), this.path);
+    }
+
+    @Override
+    public final @NotNull MutableMappedOffHeap slice(long offset, long length) {
+        sliceIndexCheck(offset, length, getByteSize());
+        return new MemorySegmentMutableMappedOffHeap(this.segment.asSlice(offset, length), this.path);
+    }
+
+    @Override
+    public final @NotNull MutableMappedOffHeap acquire() {
+        return new MemorySegmentMutableMappedOffHeap(this.segment.acquire(), this.path);
+    }
+
+    @Override
+    public final @NotNull MutableByBuOffHeap asByBuOffHeap() {
+        if (getByteSize() > Integer.MAX_VALUE) {
+            throw new UnsupportedOperationException(
+                    String.format("ByteSize=%d of this memory is too big to export as a ByBuOffHeap", getByteSize()));
+        }
+        return new MemorySegmentMutableSafeByBuOffHeap(this.segment);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote jdk14 MemorySegment has no force operation, so the whole mapped file is forced through a
+     * {@link FileChannel}
+     */
+    @Override
+    public final void force() {
+        MemorySegmentOps.checkStateForSegment(this.segment);
+        try (final var channel = FileChannel.open(this.path, StandardOpenOption.WRITE)) {
+            channel.force(false);
+        } catch (IOException ioe) {
+            throw new LimoIOException(String.format("Failed to force file %s", this.path), ioe);
+        }
+    }
+
+    @Override
+    public final void fill(byte value) {
+        MemorySegmentOps.fill(this.baseAddress, getByteSize(), value);
+    }
+
+    @Override
+    public final void writeByteAt(long index, byte value) {
+        MemorySegmentOps.writeByte(this.baseAddress.addOffset(index), value);
+    }
+
+    @Override
+    public final void writeShortAt(long index, short value) {
+        MemorySegmentOps.writeShort(this.baseAddress.addOffset(index), value);
+    }
+
+    @Override
+    public final void writeShortAtLE(long index, short value) {
+        MemorySegmentOps.writeShortLE(this.baseAddress.addOffset(index), value);
+    }
+
+    @Override
+    public final void writeIntAt(long index, int value) {
+        MemorySegmentOps.writeInt(this.baseAddress.addOffset(index), value);
+    }
+
+    @Override
+    public final void writeIntAtLE(long index, int value) {
+        MemorySegmentOps.writeIntLE(this.baseAddress.addOffset(index), value);
+    }
+
+    @Override
+    public final void writeLongAt(long index, long value) {
+        MemorySegmentOps.writeLong(this.baseAddress.addOffset(index), value);
+    }
+
+    @Override
+    public final void writeLongAtLE(long index, long value) {
+        MemorySegmentOps.writeLongLE(this.baseAddress.addOffset(index), value);
+    }
+
+    @Override
+    public final void writeBytesAt(long index, byte @NotNull [] src, int offset, int length) {
+        MemorySegmentOps.writeBytes(this.baseAddress.addOffset(index), src, offset, length);
+    }
+
+    @Override
+    public final void writeBytesAt(long index, @NotNull ByteBuffer src) {
+        MemorySegmentOps.writeBytes(this.baseAddress.addOffset(index), src);
+    }
+
+    @Override
+    public final void writeBytesAt(long index, @NotNull OffHeap src, long srcIndex, long length) {
+        // src copies its bytes directly into ByteBuffer views of this segment
+        var copied = 0L;
+        while (copied < length) {
+            final var chunkLength = Math.min(length - copied, Integer.MAX_VALUE);
+            src.readBytesAt(srcIndex + copied, this.segment.asSlice(index + copied, chunkLength).asByteBuffer());
+            copied += chunkLength;
+        }
+    }
+}
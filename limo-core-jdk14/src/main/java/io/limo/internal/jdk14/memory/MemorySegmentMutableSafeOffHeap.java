@@ -11,6 +11,8 @@ import io.limo.memory.OffHeap;
 import jdk.incubator.foreign.MemorySegment;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.ByteBuffer;
+
 /**
  * This class contains a native {@link MemorySegment}.
  */
@@ -45,11 +47,26 @@ final class MemorySegmentMutableSafeOffHeap extends MemorySegmentSafeOffHeap imp
         return new MemorySegmentMutableSafeByBuOffHeap(this.segment);
     }
 
+    @Override
+    public final void fill(byte value) {
+        MemorySegmentOps.fill(this.baseAddress, getByteSize(), value);
+    }
+
     @Override
     public final void writeByteAt(long index, byte value) {
         MemorySegmentOps.writeByte(this.baseAddress.addOffset(index), value);
     }
 
+    @Override
+    public final void writeShortAt(long index, short value) {
+        MemorySegmentOps.writeShort(this.baseAddress.addOffset(index), value);
+    }
+
+    @Override
+    public final void writeShortAtLE(long index, short value) {
+        MemorySegmentOps.writeShortLE(this.baseAddress.addOffset(index), value);
+    }
+
     @Override
     public final void writeIntAt(long index, int value) {
         MemorySegmentOps.writeInt(this.baseAddress.addOffset(index), value);
@@ -59,4 +76,35 @@ final class MemorySegmentMutableSafeOffHeap extends MemorySegmentSafeOffHeap imp
     public final void writeIntAtLE(long index, int value) {
         MemorySegmentOps.writeIntLE(this.baseAddress.addOffset(index), value);
     }
+
+    @Override
+    public final void writeLongAt(long index, long value) {
+        MemorySegmentOps.writeLong(this.baseAddress.addOffset(index), value);
+    }
+
+    @Override
+    public final void writeLongAtLE(long index, long value) {
+        MemorySegmentOps.writeLongLE(this.baseAddress.addOffset(index), value);
+    }
+
+    @Override
+    public final void writeBytesAt(long index, byte @NotNull [] src, int offset, int length) {
+        MemorySegmentOps.writeBytes(this.baseAddress.addOffset(index), src, offset, length);
+    }
+
+    @Override
+    public final void writeBytesAt(long index, @NotNull ByteBuffer src) {
+        MemorySegmentOps.writeBytes(this.baseAddress.addOffset(index), src);
+    }
+
+    @Override
+    public final void writeBytesAt(long index, @NotNull OffHeap src, long srcIndex, long length) {
+        // src copies its bytes directly into ByteBuffer views of this segment
+        var copied = 0L;
+        while (copied < length) {
+            final var chunkLength = Math.min(length - copied, Integer.MAX_VALUE);
+            src.readBytesAt(srcIndex + copied, this.segment.asSlice(index + copied, chunkLength).asByteBuffer());
+            copied += chunkLength;
+        }
+    }
 }
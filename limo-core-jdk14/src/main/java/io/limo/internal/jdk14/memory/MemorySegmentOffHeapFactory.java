@@ -4,11 +4,17 @@
 
 package io.limo.internal.jdk14.memory;
 
+import io.limo.LimoIOException;
 import io.limo.memory.*;
 import io.limo.memory.impl.*;
 import jdk.incubator.foreign.MemorySegment;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 public final class MemorySegmentOffHeapFactory implements OffHeapFactory {
 
     @Override
@@ -47,8 +53,44 @@ public final class MemorySegmentOffHeapFactory implements OffHeapFactory {
         return new MemorySegmentUnsafeByBuOffHeap(segment, segment.asByteBuffer(), bytes);
     }
 
+    @Override
+    public final @NotNull MappedOffHeap newMappedOffHeap(@NotNull Path path, long offset, long byteSize) {
+        return new MemorySegmentMappedOffHeap(mapFromPath(path, offset, byteSize, FileChannel.MapMode.READ_ONLY), path);
+    }
+
+    @Override
+    public final @NotNull MutableMappedOffHeap newMutableMappedOffHeap(@NotNull Path path, long offset, long byteSize) {
+        try {
+            if (Files.notExists(path)) {
+                Files.createFile(path);
+            }
+        } catch (IOException ioe) {
+            throw new LimoIOException(String.format("Failed to create file %s", path), ioe);
+        }
+        return new MemorySegmentMutableMappedOffHeap(
+                mapFromPath(path, offset, byteSize, FileChannel.MapMode.READ_WRITE), path);
+    }
+
     @Override
     public final int getLoadPriority() {
         return 14;
     }
+
+    /**
+     * jdk14 can only map a file from its beginning, so the file is mapped until {@code offset + byteSize}, then sliced
+     *
+     * @implNote closing the returned slice unmaps the whole mapped segment
+     */
+    private static MemorySegment mapFromPath(Path path, long offset, long byteSize, FileChannel.MapMode mapMode) {
+        if ((offset | byteSize) < 0) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Incorrect parameters to map : offset=%d, byteSize=%d", offset, byteSize));
+        }
+        try {
+            final var segment = MemorySegment.mapFromPath(path, offset + byteSize, mapMode);
+            return (offset == 0) ? segment : segment.asSlice(offset, byteSize);
+        } catch (IOException ioe) {
+            throw new LimoIOException(String.format("Failed to map file %s", path), ioe);
+        }
+    }
 }
@@ -12,6 +12,8 @@ import jdk.incubator.foreign.MemoryAddress;
 import jdk.incubator.foreign.MemorySegment;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.ByteBuffer;
+
 /**
  * This class contains a native {@link MemorySegment}.
  */
@@ -60,6 +62,16 @@ class MemorySegmentSafeOffHeap extends AbstractOffHeap {
         return MemorySegmentOps.readByte(this.baseAddress.addOffset(index));
     }
 
+    @Override
+    public final short readShortAt(long index) {
+        return MemorySegmentOps.readShort(this.baseAddress.addOffset(index));
+    }
+
+    @Override
+    public final short readShortAtLE(long index) {
+        return MemorySegmentOps.readShortLE(this.baseAddress.addOffset(index));
+    }
+
     @Override
     public final int readIntAt(long index) {
         return MemorySegmentOps.readInt(this.baseAddress.addOffset(index));
@@ -70,6 +82,26 @@ class MemorySegmentSafeOffHeap extends AbstractOffHeap {
         return MemorySegmentOps.readIntLE(this.baseAddress.addOffset(index));
     }
 
+    @Override
+    public final long readLongAt(long index) {
+        return MemorySegmentOps.readLong(this.baseAddress.addOffset(index));
+    }
+
+    @Override
+    public final long readLongAtLE(long index) {
+        return MemorySegmentOps.readLongLE(this.baseAddress.addOffset(index));
+    }
+
+    @Override
+    public final void readBytesAt(long index, byte @NotNull [] dst, int offset, int length) {
+        MemorySegmentOps.readBytes(this.baseAddress.addOffset(index), dst, offset, length);
+    }
+
+    @Override
+    public final void readBytesAt(long index, @NotNull ByteBuffer dst) {
+        MemorySegmentOps.readBytes(this.baseAddress.addOffset(index), dst);
+    }
+
     @Override
     protected final byte[] toByteArrayNoIndexCheck() {
         return this.segment.toByteArray();
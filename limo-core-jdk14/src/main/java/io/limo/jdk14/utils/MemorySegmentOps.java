@@ -23,6 +23,12 @@ public final class MemorySegmentOps {
     private static final VarHandle INT_AS_BYTE_SEQ_HANDLE = MemoryLayout.ofSequence(4, MemoryLayouts.BITS_8_BE)
             .varHandle(byte.class, MemoryLayout.PathElement.sequenceElement());
 
+    // 1 byte alignment : allow unaligned access
+    private static final VarHandle SHORT_HANDLE = MemoryHandles.varHandle(short.class, 1, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle SHORT_LE_HANDLE = MemoryHandles.varHandle(short.class, 1, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_HANDLE = MemoryHandles.varHandle(long.class, 1, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_LE_HANDLE = MemoryHandles.varHandle(long.class, 1, ByteOrder.LITTLE_ENDIAN);
+
     // uninstanciable
     private MemorySegmentOps() {
     }
@@ -68,6 +74,90 @@ public final class MemorySegmentOps {
         INT_AS_BYTE_SEQ_HANDLE.set(address, 3L, (byte) ((value >> 24) & 0xff));
     }
 
+    public static short readShort(@NotNull MemoryAddress address) {
+        return (short) SHORT_HANDLE.get(address);
+    }
+
+    public static short readShortLE(@NotNull MemoryAddress address) {
+        return (short) SHORT_LE_HANDLE.get(address);
+    }
+
+    public static void writeShort(@NotNull MemoryAddress address, short value) {
+        SHORT_HANDLE.set(address, value);
+    }
+
+    public static void writeShortLE(@NotNull MemoryAddress address, short value) {
+        SHORT_LE_HANDLE.set(address, value);
+    }
+
+    public static long readLong(@NotNull MemoryAddress address) {
+        return (long) LONG_HANDLE.get(address);
+    }
+
+    public static long readLongLE(@NotNull MemoryAddress address) {
+        return (long) LONG_LE_HANDLE.get(address);
+    }
+
+    public static void writeLong(@NotNull MemoryAddress address, long value) {
+        LONG_HANDLE.set(address, value);
+    }
+
+    public static void writeLongLE(@NotNull MemoryAddress address, long value) {
+        LONG_LE_HANDLE.set(address, value);
+    }
+
+    /**
+     * Copy {@code length} bytes from {@code address} into {@code dst} byte array, starting at {@code offset}
+     */
+    public static void readBytes(@NotNull MemoryAddress address, byte @NotNull [] dst, int offset, int length) {
+        MemoryAddress.copy(address, MemorySegment.ofArray(dst).baseAddress().addOffset(offset), length);
+    }
+
+    /**
+     * Copy {@code dst.remaining()} bytes from {@code address} into {@code dst}, {@code dst} position is increased by
+     * the number of copied bytes
+     */
+    public static void readBytes(@NotNull MemoryAddress address, @NotNull ByteBuffer dst) {
+        final var length = dst.remaining();
+        // buffer segment starts at dst position
+        MemoryAddress.copy(address, MemorySegment.ofByteBuffer(dst).baseAddress(), length);
+        dst.position(dst.position() + length);
+    }
+
+    /**
+     * Copy {@code length} bytes of {@code src} byte array, starting at {@code offset}, at {@code address}
+     */
+    public static void writeBytes(@NotNull MemoryAddress address, byte @NotNull [] src, int offset, int length) {
+        MemoryAddress.copy(MemorySegment.ofArray(src).baseAddress().addOffset(offset), address, length);
+    }
+
+    /**
+     * Copy {@code src.remaining()} bytes of {@code src} at {@code address}, {@code src} position is increased by
+     * the number of copied bytes
+     */
+    public static void writeBytes(@NotNull MemoryAddress address, @NotNull ByteBuffer src) {
+        final var length = src.remaining();
+        // buffer segment starts at src position
+        MemoryAddress.copy(MemorySegment.ofByteBuffer(src).baseAddress(), address, length);
+        src.position(src.position() + length);
+    }
+
+    /**
+     * Set {@code length} bytes starting at {@code address} to {@code value}
+     *
+     * @implNote jdk14 MemorySegment has no fill operation, this writes 8 bytes at a time
+     */
+    public static void fill(@NotNull MemoryAddress address, long length, byte value) {
+        final var longValue = (value & 0xffL) * 0x0101010101010101L;
+        var index = 0L;
+        for (; index <= length - Long.BYTES; index += Long.BYTES) {
+            LONG_HANDLE.set(address.addOffset(index), longValue);
+        }
+        for (; index < length; index++) {
+            BYTE_HANDLE.set(address.addOffset(index), value);
+        }
+    }
+
     /**
      * Depending on segment's byteSize, returns :
      * <ul>
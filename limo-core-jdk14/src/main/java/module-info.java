@@ -14,5 +14,7 @@ module limo.core.jdk14 {
 
     exports io.limo.jdk14.utils;
 
+    exports io.limo.internal.jdk14.memory to limo.benchmarks;
+
     provides OffHeapFactory with MemorySegmentOffHeapFactory;
 }
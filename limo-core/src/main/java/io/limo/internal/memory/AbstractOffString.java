@@ -4,8 +4,10 @@
 
 package io.limo.internal.memory;
 
+import io.limo.internal.utils.AsciiOps;
+import io.limo.internal.utils.Latin1Ops;
+import io.limo.internal.utils.UnsafeStringOps;
 import io.limo.memory.OffHeap;
-import io.limo.memory.OffHeapFactory;
 import io.limo.memory.OffString;
 import org.jetbrains.annotations.NotNull;
 
@@ -13,6 +15,8 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
+import static java.lang.Boolean.TRUE;
+
 abstract class AbstractOffString implements OffString {
 
     /**
@@ -43,20 +47,29 @@ abstract class AbstractOffString implements OffString {
 
     @Override
     public final @NotNull OffHeap toMemory(@NotNull Charset charset) {
-        // 1) fastest-path : directly return memory : if destination charset is the same, or is fully compatible with current
-        if (Objects.requireNonNull(charset).contains(this.charset)) {
+        // 1) fastest-path : directly return memory if destination charset is the same
+        if (this.charset.equals(Objects.requireNonNull(charset))) {
             return this.memory;
         }
 
-        // fixme implement code below !
         // fast-path 2) if destination and current charsets are ASCII compatible, then current OffString is maybe ASCII
-        if (charset.contains(StandardCharsets.US_ASCII)
-                && this.charset.contains(StandardCharsets.US_ASCII)
-                && this.isAscii == null) {
+        if (UnsafeStringOps.isAsciiCompatible(charset) && UnsafeStringOps.isAsciiCompatible(this.charset)) {
+            if (this.isAscii == null) {
+                this.isAscii = !AsciiOps.hasNegatives(this.memory, 0, this.memory.getByteSize());
+            }
+            // ASCII bytes are the same in all ASCII compatible charsets
+            if (this.isAscii) {
+                return this.memory;
+            }
+        }
 
+        // fast-path 3) transcode Latin1 to UTF-8 directly in off-heap memory
+        if (TRUE.equals(this.isLatin1) && charset == StandardCharsets.UTF_8) {
+            return Latin1Ops.encodeLatin1ToUtf8(this.memory);
         }
 
-        return OffHeapFactory.allocate(0);
+        // encode String to target charset
+        return UnsafeStringOps.encode(toString(), charset).getBbMemory();
     }
 
     @Override
@@ -10,8 +10,13 @@ import io.limo.memory.impl.*;
 import org.jetbrains.annotations.NotNull;
 
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
 
-final class BaseByteBufferOffHeapFactory implements OffHeapFactory {
+/**
+ * Default {@link OffHeapFactory}, used when no other factory is loaded by {@link OffHeapServiceLoader}
+ */
+public final class BaseByteBufferOffHeapFactory implements OffHeapFactory {
 
     @Override
     public @NotNull MutableOffHeap newSafeMutableOffHeap(long byteSize) {
@@ -32,23 +37,43 @@ final class BaseByteBufferOffHeapFactory implements OffHeapFactory {
     @Override
     public final @NotNull MutableSafeByBuOffHeap newMutableSafeByBuOffHeap(int byteSize) {
         final var bb = ByteBuffer.allocateDirect(byteSize);
-        return new BaseMutableSafeByBuOffHeap(bb, BaseOffHeapOps.cleanByteBuffer(bb), Thread.currentThread());
+        return OffHeapTracker.BYTE_BUFFER.track(byteSize, BaseOffHeapOps.cleanByteBuffer(bb), cleanupAction ->
+                new BaseMutableSafeByBuOffHeap(bb, cleanupAction, Thread.currentThread()));
     }
 
     @Override
     public final @NotNull MutableUnsafeByBuOffHeap newMutableUnsafeByBuOffHeap(int byteSize) {
         final var bb = ByteBuffer.allocateDirect(byteSize);
-        return new BaseMutableUnsafeByBuOffHeap(bb, BaseOffHeapOps.cleanByteBuffer(bb), Thread.currentThread());
+        return OffHeapTracker.BYTE_BUFFER.track(byteSize, BaseOffHeapOps.cleanByteBuffer(bb), cleanupAction ->
+                new BaseMutableUnsafeByBuOffHeap(bb, cleanupAction, Thread.currentThread()));
     }
 
     @Override
     public final @NotNull SafeByBuOffHeap newSafeByteBufferOffHeap(byte @NotNull [] bytes) {
-        return new BaseSafeByBuOffHeap(ByteBuffer.allocateDirect(bytes.length), bytes, Thread.currentThread());
+        final var bb = ByteBuffer.allocateDirect(bytes.length);
+        return OffHeapTracker.BYTE_BUFFER.track(bytes.length, BaseOffHeapOps.cleanByteBuffer(bb), cleanupAction ->
+                new BaseSafeByBuOffHeap(bb, bytes, cleanupAction, Thread.currentThread()));
     }
 
     @Override
     public final @NotNull UnsafeByBuOffHeap newUnsafeByteBufferOffHeap(byte @NotNull [] bytes) {
-        return new BaseUnsafeByBuOffHeap(ByteBuffer.allocateDirect(bytes.length), bytes, Thread.currentThread());
+        final var bb = ByteBuffer.allocateDirect(bytes.length);
+        return OffHeapTracker.BYTE_BUFFER.track(bytes.length, BaseOffHeapOps.cleanByteBuffer(bb), cleanupAction ->
+                new BaseUnsafeByBuOffHeap(bb, bytes, cleanupAction, Thread.currentThread()));
+    }
+
+    @Override
+    public final @NotNull MappedOffHeap newMappedOffHeap(@NotNull Path path, long offset, long byteSize) {
+        final var chunks = MappedByteBufferChunks.map(path, offset, byteSize, FileChannel.MapMode.READ_ONLY);
+        return OffHeapTracker.MAPPED.track(chunks.getByteSize(), chunks::unmap, cleanupAction ->
+                new BaseMappedOffHeap(chunks, 0, chunks.getByteSize(), cleanupAction, Thread.currentThread()));
+    }
+
+    @Override
+    public final @NotNull MutableMappedOffHeap newMutableMappedOffHeap(@NotNull Path path, long offset, long byteSize) {
+        final var chunks = MappedByteBufferChunks.map(path, offset, byteSize, FileChannel.MapMode.READ_WRITE);
+        return OffHeapTracker.MAPPED.track(chunks.getByteSize(), chunks::unmap, cleanupAction ->
+                new BaseMutableMappedOffHeap(chunks, 0, chunks.getByteSize(), cleanupAction, Thread.currentThread()));
     }
 
     /**
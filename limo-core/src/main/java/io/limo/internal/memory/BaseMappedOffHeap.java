@@ -0,0 +1,197 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.memory;
+
+import io.limo.internal.utils.UnsafeByteBufferOps;
+import io.limo.memory.ByBuOffHeap;
+import io.limo.memory.MappedOffHeap;
+import io.limo.memory.impl.AbstractOffHeap;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A read-only {@link MappedOffHeap} backed by {@link MappedByteBufferChunks}, so it can map regions bigger than
+ * Integer.MAX_VALUE bytes.
+ */
+class BaseMappedOffHeap extends AbstractOffHeap implements MappedOffHeap {
+
+    final @NotNull MappedByteBufferChunks chunks;
+
+    /**
+     * Index of the first byte of this memory in {@link #chunks}
+     */
+    final long baseIndex;
+    final long byteSize;
+    final Thread owner;
+    private final Runnable cleanupAction;
+    private boolean closed = false;
+
+    BaseMappedOffHeap(@NotNull MappedByteBufferChunks chunks, long baseIndex, long byteSize,
+                      Runnable cleanupAction, Thread owner) {
+        this.chunks = chunks;
+        this.baseIndex = baseIndex;
+        this.byteSize = byteSize;
+        this.cleanupAction = cleanupAction;
+        this.owner = owner;
+    }
+
+    /**
+     * The mapped chunks will be unmapped when close method will be invoked
+     */
+    BaseMappedOffHeap(@NotNull MappedByteBufferChunks chunks, Thread owner) {
+        this(chunks, 0, chunks.getByteSize(), chunks::unmap, owner);
+    }
+
+    @Override
+    public final long getByteSize() {
+        return this.byteSize;
+    }
+
+    @Override
+    public @NotNull MappedOffHeap slice(long offset, long length) {
+        checkState();
+        sliceIndexCheck(offset, length, this.byteSize);
+        // call constructor to do nothing on close, only the root memory unmaps chunks
+        return new BaseMappedOffHeap(this.chunks, this.baseIndex + offset, length,
+                OffHeapTracker.viewCleanupAction(this), this.owner);
+    }
+
+    @Override
+    public @NotNull MappedOffHeap acquire() {
+        checkAlive();
+        return new BaseMappedOffHeap(this.chunks, this.baseIndex, this.byteSize,
+                OffHeapTracker.viewCleanupAction(this), Thread.currentThread());
+    }
+
+    @Override
+    public @NotNull ByBuOffHeap asByBuOffHeap() {
+        final var bb = byteBufferView();
+        // call constructor to do nothing on close, only the root memory unmaps chunks
+        if (UnsafeByteBufferOps.SUPPORT_UNSAFE) {
+            return new BaseUnsafeByBuOffHeap(bb, OffHeapTracker.viewCleanupAction(this), this.owner);
+        }
+        return new BaseSafeByBuOffHeap(bb, OffHeapTracker.viewCleanupAction(this), this.owner);
+    }
+
+    @Override
+    public final void load() {
+        checkState();
+        this.chunks.load(this.baseIndex, this.byteSize);
+    }
+
+    @Override
+    public final void close() {
+        checkState();
+        this.cleanupAction.run();
+        this.closed = true;
+    }
+
+    @Override
+    public final byte readByteAt(long index) {
+        checkState();
+        return this.chunks.readByteAt(this.baseIndex + index);
+    }
+
+    @Override
+    public final short readShortAt(long index) {
+        checkState();
+        return this.chunks.readShortAt(this.baseIndex + index);
+    }
+
+    @Override
+    public final short readShortAtLE(long index) {
+        checkState();
+        return this.chunks.readShortAtLE(this.baseIndex + index);
+    }
+
+    @Override
+    public final int readIntAt(long index) {
+        checkState();
+        return this.chunks.readIntAt(this.baseIndex + index);
+    }
+
+    @Override
+    public final int readIntAtLE(long index) {
+        checkState();
+        return this.chunks.readIntAtLE(this.baseIndex + index);
+    }
+
+    @Override
+    public final long readLongAt(long index) {
+        checkState();
+        return this.chunks.readLongAt(this.baseIndex + index);
+    }
+
+    @Override
+    public final long readLongAtLE(long index) {
+        checkState();
+        return this.chunks.readLongAtLE(this.baseIndex + index);
+    }
+
+    @Override
+    public final void readBytesAt(long index, byte @NotNull [] dst, int offset, int length) {
+        checkState();
+        this.chunks.readBytesAt(this.baseIndex + index, dst, offset, length);
+    }
+
+    @Override
+    public final void readBytesAt(long index, @NotNull ByteBuffer dst) {
+        checkState();
+        this.chunks.readBytesAt(this.baseIndex + index, dst);
+    }
+
+    @Override
+    protected final byte[] toByteArrayNoIndexCheck() {
+        checkState();
+        return this.chunks.toByteArray(this.baseIndex, (int) this.byteSize);
+    }
+
+    /**
+     * @return byte size of the region from {@code offset} that does not straddle 2 mapped chunks
+     */
+    final long contiguousByteSize(long offset) {
+        return Math.min(this.byteSize - offset, this.chunks.contiguousByteSize(this.baseIndex + offset));
+    }
+
+    /**
+     * @return a ByteBuffer bound to the same memory region as this memory
+     */
+    final @NotNull ByteBuffer byteBufferView() {
+        checkState();
+        if (this.byteSize > Integer.MAX_VALUE) {
+            throw new UnsupportedOperationException(
+                    String.format("ByteSize=%d of this memory is too big to export as a ByBuOffHeap", this.byteSize));
+        }
+        final var bb = this.chunks.byteBuffer(this.baseIndex, (int) this.byteSize);
+        if (bb == null) {
+            throw new UnsupportedOperationException(
+                    "This memory straddles 2 mapped chunks, it can not be exported as a ByBuOffHeap");
+        }
+        return bb;
+    }
+
+    /**
+     * Check it is ok to do an operation on this off-heap memory
+     *
+     * @throws IllegalStateException if this memory has been closed, or if access occurs from a thread other
+     *                               than the thread owning this memory.
+     */
+    final void checkState() {
+        if (this.owner != Thread.currentThread()) {
+            throw new IllegalStateException("Attempt to access OffHeap outside owning thread");
+        }
+        checkAlive();
+    }
+
+    /**
+     * @throws IllegalStateException if this memory has been closed
+     */
+    final void checkAlive() {
+        if (this.closed) {
+            throw new IllegalStateException("OffHeap is not alive");
+        }
+    }
+}
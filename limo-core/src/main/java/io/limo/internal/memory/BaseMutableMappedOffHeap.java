@@ -0,0 +1,137 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.memory;
+
+import io.limo.internal.utils.UnsafeByteBufferOps;
+import io.limo.memory.MappedOffHeap;
+import io.limo.memory.MutableByBuOffHeap;
+import io.limo.memory.MutableMappedOffHeap;
+import io.limo.memory.OffHeap;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A writable {@link MutableMappedOffHeap} backed by {@link MappedByteBufferChunks}
+ */
+final class BaseMutableMappedOffHeap extends BaseMappedOffHeap implements MutableMappedOffHeap {
+
+    BaseMutableMappedOffHeap(@NotNull MappedByteBufferChunks chunks, long baseIndex, long byteSize,
+                             Runnable cleanupAction, Thread owner) {
+        super(chunks, baseIndex, byteSize, cleanupAction, owner);
+    }
+
+    /**
+     * The mapped chunks will be unmapped when close method will be invoked
+     */
+    BaseMutableMappedOffHeap(@NotNull MappedByteBufferChunks chunks, Thread owner) {
+        super(chunks, owner);
+    }
+
+    @Override
+    public final @NotNull MappedOffHeap asReadOnly() {
+        // call constructor to do nothing on close, only the root memory unmaps chunks
+        return new BaseMappedOffHeap(this.chunks, this.baseIndex, this.byteSize,
+                OffHeapTracker.viewCleanupAction(this), this.owner);
+    }
+
+    @Override
+    public final @NotNull MutableMappedOffHeap slice(long offset, long length) {
+        checkState();
+        sliceIndexCheck(offset, length, this.byteSize);
+        // call constructor to do nothing on close, only the root memory unmaps chunks
+        return new BaseMutableMappedOffHeap(this.chunks, this.baseIndex + offset, length,
+                OffHeapTracker.viewCleanupAction(this), this.owner);
+    }
+
+    @Override
+    public final @NotNull MutableMappedOffHeap acquire() {
+        checkAlive();
+        return new BaseMutableMappedOffHeap(this.chunks, this.baseIndex, this.byteSize,
+                OffHeapTracker.viewCleanupAction(this), Thread.currentThread());
+    }
+
+    @Override
+    public final @NotNull MutableByBuOffHeap asByBuOffHeap() {
+        final var bb = byteBufferView();
+        // call constructor to do nothing on close, only the root memory unmaps chunks
+        if (UnsafeByteBufferOps.SUPPORT_UNSAFE) {
+            return new BaseMutableUnsafeByBuOffHeap(bb, OffHeapTracker.viewCleanupAction(this), this.owner);
+        }
+        return new BaseMutableSafeByBuOffHeap(bb, OffHeapTracker.viewCleanupAction(this), this.owner);
+    }
+
+    @Override
+    public final void force() {
+        checkState();
+        this.chunks.force(this.baseIndex, this.byteSize);
+    }
+
+    @Override
+    public final void fill(byte value) {
+        checkState();
+        this.chunks.fill(this.baseIndex, this.byteSize, value);
+    }
+
+    @Override
+    public final void writeByteAt(long index, byte value) {
+        checkState();
+        this.chunks.writeByteAt(this.baseIndex + index, value);
+    }
+
+    @Override
+    public final void writeShortAt(long index, short value) {
+        checkState();
+        this.chunks.writeShortAt(this.baseIndex + index, value);
+    }
+
+    @Override
+    public final void writeShortAtLE(long index, short value) {
+        checkState();
+        this.chunks.writeShortAtLE(this.baseIndex + index, value);
+    }
+
+    @Override
+    public final void writeIntAt(long index, int value) {
+        checkState();
+        this.chunks.writeIntAt(this.baseIndex + index, value);
+    }
+
+    @Override
+    public final void writeIntAtLE(long index, int value) {
+        checkState();
+        this.chunks.writeIntAtLE(this.baseIndex + index, value);
+    }
+
+    @Override
+    public final void writeLongAt(long index, long value) {
+        checkState();
+        this.chunks.writeLongAt(this.baseIndex + index, value);
+    }
+
+    @Override
+    public final void writeLongAtLE(long index, long value) {
+        checkState();
+        this.chunks.writeLongAtLE(this.baseIndex + index, value);
+    }
+
+    @Override
+    public final void writeBytesAt(long index, byte @NotNull [] src, int offset, int length) {
+        checkState();
+        this.chunks.writeBytesAt(this.baseIndex + index, src, offset, length);
+    }
+
+    @Override
+    public final void writeBytesAt(long index, @NotNull ByteBuffer src) {
+        checkState();
+        this.chunks.writeBytesAt(this.baseIndex + index, src);
+    }
+
+    @Override
+    public final void writeBytesAt(long index, @NotNull OffHeap src, long srcIndex, long length) {
+        checkState();
+        this.chunks.writeBytesAt(this.baseIndex + index, src, srcIndex, length);
+    }
+}
@@ -26,7 +26,7 @@ final class BaseMutableSafeByBuOffHeap extends MutableSafeByBuOffHeap {
     @Override
     public final @NotNull ByBuOffHeap asReadOnly() {
         // call constructor to do nothing on close, because cleaner is already associated to this ByteBuffer
-        return new BaseSafeByBuOffHeap(getByteBuffer(), () -> {}, this.owner);
+        return new BaseSafeByBuOffHeap(getByteBuffer(), OffHeapTracker.viewCleanupAction(this), this.owner);
     }
 
     @Override
@@ -41,7 +41,8 @@ final class BaseMutableSafeByBuOffHeap extends MutableSafeByBuOffHeap {
         getByteBuffer().limit((int) (offset + length));
         getByteBuffer().position((int) offset);
         // call constructor to do nothing on close, because invoke cleaner on a sliced ByteBuffer throws an Exception
-        final var slice = new BaseMutableSafeByBuOffHeap(getByteBuffer().slice(), () -> {}, this.owner);
+        final var slice = new BaseMutableSafeByBuOffHeap(getByteBuffer().slice(),
+                OffHeapTracker.viewCleanupAction(this), this.owner);
 
         // re-affect previous values
         getByteBuffer().limit(limit);
@@ -52,7 +53,8 @@ final class BaseMutableSafeByBuOffHeap extends MutableSafeByBuOffHeap {
 
     @Override
     public final @NotNull MutableByBuOffHeap acquire() {
-        return new BaseMutableSafeByBuOffHeap(getByteBuffer(), () -> {}, Thread.currentThread());
+        return new BaseMutableSafeByBuOffHeap(getByteBuffer(),
+                OffHeapTracker.viewCleanupAction(this), Thread.currentThread());
     }
 
     @Override
@@ -61,6 +63,14 @@ final class BaseMutableSafeByBuOffHeap extends MutableSafeByBuOffHeap {
         this.closed = true;
     }
 
+    /**
+     * Marks this memory as closed without running cleanup action, used by {@link BaseOffHeapArena} that releases
+     * its blocks itself
+     */
+    final void invalidate() {
+        this.closed = true;
+    }
+
     @Override
     protected final void checkState() {
         if (this.owner != Thread.currentThread()) {
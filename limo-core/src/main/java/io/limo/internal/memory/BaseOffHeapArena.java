@@ -0,0 +1,185 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.memory;
+
+import io.limo.internal.utils.UnsafeByteBufferOps;
+import io.limo.memory.MutableByBuOffHeap;
+import io.limo.memory.MutableOffHeap;
+import io.limo.memory.OffHeapArena;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Implementation of {@link OffHeapArena} that bump-allocates slices of direct ByteBuffer blocks
+ * <p>Each allocation is aligned on 8 bytes. An allocation bigger than a quarter of the block size gets its own
+ * ByteBuffer, so a big allocation never wastes the remaining of current block.
+ */
+public final class BaseOffHeapArena implements OffHeapArena {
+
+    private static final int ALIGNMENT_MASK = Long.BYTES - 1;
+
+    private final int blockByteSize;
+    private final Thread owner;
+
+    /**
+     * All ByteBuffers of this arena, they are freed on close
+     */
+    private final List<ByteBuffer> blocks = new ArrayList<>();
+
+    /**
+     * All memories allocated by this arena, they are invalidated on close
+     */
+    private final List<MutableByBuOffHeap> allocations = new ArrayList<>();
+
+    /**
+     * Current block for small allocations
+     */
+    private ByteBuffer block;
+
+    /**
+     * Bump index in {@link #block}
+     */
+    private int blockIndex;
+
+    /**
+     * Tracked native memory of this arena, null if tracking is disabled
+     */
+    private final OffHeapTracker.Region region;
+
+    /**
+     * Cleanup action of allocated memories : it does nothing, but keeps this arena reachable while they are
+     */
+    private final Runnable allocationCleanupAction = OffHeapTracker.viewCleanupAction(this);
+
+    private long allocatedByteSize = 0L;
+    private long reservedByteSize = 0L;
+    private boolean closed = false;
+
+    public BaseOffHeapArena(int blockByteSize, @NotNull Thread owner) {
+        if (blockByteSize < 64) {
+            throw new IllegalArgumentException("blockByteSize must be at least 64 bytes");
+        }
+        this.blockByteSize = blockByteSize;
+        this.owner = Objects.requireNonNull(owner);
+        // first allocation will obtain a new block
+        this.blockIndex = blockByteSize;
+        // cleanup action references blocks, not this arena
+        final var arenaBlocks = this.blocks;
+        this.region = OffHeapTracker.ARENA.track(this, 0L, () -> freeBlocks(arenaBlocks));
+    }
+
+    @Override
+    public final @NotNull MutableOffHeap allocate(long byteSize) {
+        if (byteSize > Integer.MAX_VALUE) {
+            throw new IndexOutOfBoundsException("byteSize must be a positive Integer");
+        }
+        return allocate((int) byteSize);
+    }
+
+    @Override
+    public final @NotNull MutableByBuOffHeap allocate(int byteSize) {
+        checkState();
+        if (byteSize < 0) {
+            throw new IllegalArgumentException(String.format("byteSize must be positive, but was %d", byteSize));
+        }
+        final ByteBuffer bb;
+        if (byteSize > (this.blockByteSize >> 2)) {
+            // big allocation : dedicated block
+            bb = newBlock(byteSize);
+        } else {
+            final var alignedByteSize = (byteSize + ALIGNMENT_MASK) & ~ALIGNMENT_MASK;
+            if (this.blockByteSize - this.blockIndex < alignedByteSize) {
+                this.block = newBlock(this.blockByteSize);
+                this.blockIndex = 0;
+            }
+            bb = this.block.duplicate()
+                    .limit(this.blockIndex + byteSize)
+                    .position(this.blockIndex)
+                    .slice();
+            this.blockIndex += alignedByteSize;
+        }
+        this.allocatedByteSize += byteSize;
+
+        // memory does nothing on close, its block is freed when this arena is closed
+        final MutableByBuOffHeap memory;
+        if (UnsafeByteBufferOps.SUPPORT_UNSAFE) {
+            memory = new BaseMutableUnsafeByBuOffHeap(bb, this.allocationCleanupAction, this.owner);
+        } else {
+            memory = new BaseMutableSafeByBuOffHeap(bb, this.allocationCleanupAction, this.owner);
+        }
+        this.allocations.add(memory);
+        return memory;
+    }
+
+    @Override
+    public final @NotNull MutableByBuOffHeap copyOf(byte @NotNull [] bytes) {
+        final var memory = allocate(Objects.requireNonNull(bytes).length);
+        memory.writeBytesAt(0, bytes, 0, bytes.length);
+        return memory;
+    }
+
+    @Override
+    public final long getAllocatedByteSize() {
+        return this.allocatedByteSize;
+    }
+
+    @Override
+    public final long getReservedByteSize() {
+        return this.reservedByteSize;
+    }
+
+    @Override
+    public final void close() {
+        checkState();
+        this.closed = true;
+        for (final var memory : this.allocations) {
+            if (memory instanceof BaseMutableUnsafeByBuOffHeap) {
+                ((BaseMutableUnsafeByBuOffHeap) memory).invalidate();
+            } else {
+                ((BaseMutableSafeByBuOffHeap) memory).invalidate();
+            }
+        }
+        this.allocations.clear();
+        this.block = null;
+        if (this.region != null) {
+            this.region.close();
+        } else {
+            freeBlocks(this.blocks);
+        }
+    }
+
+    private ByteBuffer newBlock(int byteSize) {
+        final var bb = ByteBuffer.allocateDirect(byteSize);
+        this.blocks.add(bb);
+        this.reservedByteSize += byteSize;
+        if (this.region != null) {
+            this.region.grow(byteSize);
+        }
+        return bb;
+    }
+
+    /**
+     * One free per block, instead of one per allocation
+     */
+    private static void freeBlocks(@NotNull List<ByteBuffer> blocks) {
+        for (final var bb : blocks) {
+            UnsafeByteBufferOps.invokeCleaner(bb);
+        }
+        blocks.clear();
+    }
+
+    private void checkState() {
+        if (this.owner != Thread.currentThread()) {
+            throw new IllegalStateException("Attempt to access OffHeapArena outside owning thread");
+        }
+        if (this.closed) {
+            throw new IllegalStateException("OffHeapArena is not alive");
+        }
+    }
+}
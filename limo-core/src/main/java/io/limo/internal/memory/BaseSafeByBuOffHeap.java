@@ -27,8 +27,12 @@ final class BaseSafeByBuOffHeap extends SafeByBuOffHeap {
      * The ByteBuffer passed as parameter will be cleaned when close method will be invoked
      */
     BaseSafeByBuOffHeap(final ByteBuffer bb, byte[] bytes, Thread owner) {
+        this(bb, bytes, BaseOffHeapOps.cleanByteBuffer(bb), owner);
+    }
+
+    BaseSafeByBuOffHeap(final ByteBuffer bb, byte[] bytes, Runnable cleanupAction, Thread owner) {
         super(bb, bytes);
-        this.cleanupAction = BaseOffHeapOps.cleanByteBuffer(bb);
+        this.cleanupAction = cleanupAction;
         this.owner = owner;
     }
 
@@ -44,7 +48,8 @@ final class BaseSafeByBuOffHeap extends SafeByBuOffHeap {
         getByteBuffer().limit((int) (offset + length));
         getByteBuffer().position((int) offset);
         // call constructor to do nothing on close, because invoke cleaner on a sliced ByteBuffer throws an Exception
-        final var slice = new BaseSafeByBuOffHeap(getByteBuffer().slice(), () -> {}, this.owner);
+        final var slice = new BaseSafeByBuOffHeap(getByteBuffer().slice(),
+                OffHeapTracker.viewCleanupAction(this), this.owner);
 
         // re-affect previous values
         getByteBuffer().limit(limit);
@@ -55,7 +60,7 @@ final class BaseSafeByBuOffHeap extends SafeByBuOffHeap {
 
     @Override
     public final @NotNull ByBuOffHeap acquire() {
-        return new BaseSafeByBuOffHeap(getByteBuffer(), () -> {}, Thread.currentThread());
+        return new BaseSafeByBuOffHeap(getByteBuffer(), OffHeapTracker.viewCleanupAction(this), Thread.currentThread());
     }
 
     @Override
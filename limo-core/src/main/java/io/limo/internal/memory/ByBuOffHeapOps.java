@@ -0,0 +1,50 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.memory;
+
+import io.limo.internal.utils.UnsafeByteBufferOps;
+import io.limo.memory.MutableByBuOffHeap;
+import io.limo.memory.OffHeap;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Util class providing operations to build ByBuOffHeap from existing direct ByteBuffers, or to export OffHeap regions
+ * as ByBuOffHeap
+ */
+public final class ByBuOffHeapOps {
+
+    // uninstanciable
+    private ByBuOffHeapOps() {
+    }
+
+    /**
+     * @param bb            a direct ByteBuffer
+     * @param cleanupAction invoked when returned memory is closed, instead of freeing {@code bb}
+     * @return a MutableByBuOffHeap bound to {@code bb}, owned by current thread
+     */
+    public static @NotNull MutableByBuOffHeap wrapMutable(@NotNull ByteBuffer bb, @NotNull Runnable cleanupAction) {
+        Objects.requireNonNull(bb);
+        Objects.requireNonNull(cleanupAction);
+        if (UnsafeByteBufferOps.SUPPORT_UNSAFE) {
+            return new BaseMutableUnsafeByBuOffHeap(bb, cleanupAction, Thread.currentThread());
+        }
+        return new BaseMutableSafeByBuOffHeap(bb, cleanupAction, Thread.currentThread());
+    }
+
+    /**
+     * @return byte size of the region of {@code memory} from {@code offset} that is backed by a single ByteBuffer, so
+     * its slice can be exported with {@link OffHeap#asByBuOffHeap()}. It is at most Integer.MAX_VALUE
+     * @implSpec {@code offset} must be between {@code 0} and {@code memory.getByteSize()}
+     */
+    public static long contiguousByteSize(@NotNull OffHeap memory, long offset) {
+        final var byteSize = (memory instanceof BaseMappedOffHeap)
+                ? ((BaseMappedOffHeap) memory).contiguousByteSize(offset)
+                : memory.getByteSize() - offset;
+        return Math.min(Integer.MAX_VALUE, byteSize);
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.memory;
+
+import io.limo.internal.utils.BoundedFreeList;
+import io.limo.internal.utils.UnsafeByteBufferOps;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * A pool of direct {@link ByteBuffer} organized in power of two size classes.
+ * <p>Released ByteBuffers are first stored in a small cache local to the releasing thread, then in a shared arena
+ * (one {@link BoundedFreeList} per size class). When both are full, the ByteBuffer is freed.
+ * <p>Only long-lived pool worker threads, a {@link ForkJoinWorkerThread}, have a thread cache : Limo runs one thread
+ * per IO operation, so ByteBuffers released by short-lived or virtual threads go straight to the shared arena instead
+ * of being stranded in the cache of a terminated thread. A thread cache retains at most
+ * {@value #THREAD_CACHE_MAX_BYTES} bytes, it is flushed to the shared arena by {@link #flushThreadCache()}, or when it
+ * becomes unreachable after its worker thread is gone.
+ *
+ * @implNote Content of a recycled ByteBuffer is not cleared
+ */
+final class ByteBufferPool {
+
+    /**
+     * Smallest size class is 64 bytes
+     */
+    static final int MIN_SHIFT = 6;
+
+    /**
+     * Biggest size class is 1 MiB, bigger requests are not pooled
+     */
+    static final int MAX_SHIFT = 20;
+
+    private static final int NUM_SIZE_CLASSES = MAX_SHIFT - MIN_SHIFT + 1;
+
+    /**
+     * Max number of bytes retained in each size class of the shared arena
+     */
+    private static final int ARENA_BYTES_PER_SIZE_CLASS = 8 << 20;
+
+    /**
+     * Max number of bytes retained in each size class of a thread local cache
+     */
+    private static final int THREAD_CACHE_BYTES_PER_SIZE_CLASS = 256 << 10;
+
+    /**
+     * Max number of bytes retained in a thread local cache, all size classes included
+     */
+    private static final int THREAD_CACHE_MAX_BYTES = 512 << 10;
+
+    private static final int THREAD_CACHE_MAX_SLOTS = 32;
+
+    @SuppressWarnings("unchecked")
+    private final BoundedFreeList<ByteBuffer>[] arena =
+            (BoundedFreeList<ByteBuffer>[]) new BoundedFreeList<?>[NUM_SIZE_CLASSES];
+
+    private final ThreadLocal<ThreadCache> threadCache = ThreadLocal.withInitial(() -> new ThreadCache(this.arena));
+
+    ByteBufferPool() {
+        for (var sizeClass = 0; sizeClass < NUM_SIZE_CLASSES; sizeClass++) {
+            this.arena[sizeClass] = new BoundedFreeList<>(Math.max(1, ARENA_BYTES_PER_SIZE_CLASS >> (sizeClass + MIN_SHIFT)));
+        }
+    }
+
+    /**
+     * @return true if a ByteBuffer of {@code byteSize} will be obtained from this pool
+     */
+    static boolean isPooled(int byteSize) {
+        return byteSize <= (1 << MAX_SHIFT);
+    }
+
+    /**
+     * @return the size class index that fits {@code byteSize}
+     */
+    static int sizeClass(int byteSize) {
+        if (byteSize <= (1 << MIN_SHIFT)) {
+            return 0;
+        }
+        return (Integer.SIZE - Integer.numberOfLeadingZeros(byteSize - 1)) - MIN_SHIFT;
+    }
+
+    /**
+     * @return a direct ByteBuffer which capacity is the size class that fits {@code byteSize}
+     * @implSpec {@code byteSize} must be pooled, see {@link #isPooled(int)}
+     */
+    ByteBuffer allocate(int byteSize) {
+        final var sizeClass = sizeClass(byteSize);
+
+        // 1) fastest-path : thread local cache
+        final var cache = threadCache();
+        if (cache != null) {
+            final var bb = cache.poll(sizeClass);
+            if (bb != null) {
+                return bb;
+            }
+        }
+
+        // 2) fast-path : shared arena
+        final var bb = this.arena[sizeClass].poll();
+        if (bb != null) {
+            return bb;
+        }
+
+        // 3) allocate a fresh ByteBuffer
+        return ByteBuffer.allocateDirect(1 << (sizeClass + MIN_SHIFT));
+    }
+
+    /**
+     * Returns a ByteBuffer previously obtained by {@link #allocate(int)} to this pool
+     */
+    void release(ByteBuffer bb) {
+        final var sizeClass = sizeClass(bb.capacity());
+        final var cache = threadCache();
+        if ((cache == null || !cache.offer(sizeClass, bb)) && !this.arena[sizeClass].offer(bb)) {
+            // pool is full for this size class, free native memory
+            UnsafeByteBufferOps.invokeCleaner(bb);
+        }
+    }
+
+    /**
+     * Flushes the ByteBuffers of the current thread cache, if any, to the shared arena
+     */
+    void flushThreadCache() {
+        final var cache = threadCache();
+        if (cache != null) {
+            cache.flush();
+        }
+    }
+
+    /**
+     * @return the cache of current thread, or null if current thread is not a long-lived pool worker thread
+     */
+    private ThreadCache threadCache() {
+        if (Thread.currentThread() instanceof ForkJoinWorkerThread) {
+            return this.threadCache.get();
+        }
+        return null;
+    }
+
+    /**
+     * A small LIFO cache of ByteBuffers, for each size class. Only accessed by its thread so no synchronization needed
+     * <p>It is registered in a {@link java.lang.ref.Cleaner} : when its worker thread is gone, remaining ByteBuffers
+     * are flushed to the shared arena.
+     */
+    private static final class ThreadCache {
+
+        private final ByteBuffer[][] stacks = new ByteBuffer[NUM_SIZE_CLASSES][];
+        private final int[] sizes = new int[NUM_SIZE_CLASSES];
+        private final Flush flush;
+        private int cachedBytes = 0;
+
+        private ThreadCache(BoundedFreeList<ByteBuffer>[] arena) {
+            for (var sizeClass = 0; sizeClass < NUM_SIZE_CLASSES; sizeClass++) {
+                final var slots = THREAD_CACHE_BYTES_PER_SIZE_CLASS >> (sizeClass + MIN_SHIFT);
+                this.stacks[sizeClass] = new ByteBuffer[Math.max(1, Math.min(THREAD_CACHE_MAX_SLOTS, slots))];
+            }
+            this.flush = new Flush(this.stacks, this.sizes, arena);
+            OffHeapTracker.CleanerHolder.CLEANER.register(this, this.flush);
+        }
+
+        private void flush() {
+            this.flush.run();
+            this.cachedBytes = 0;
+        }
+
+        private ByteBuffer poll(int sizeClass) {
+            final var size = this.sizes[sizeClass];
+            if (size == 0) {
+                return null;
+            }
+            final var stack = this.stacks[sizeClass];
+            final var bb = stack[size - 1];
+            stack[size - 1] = null;
+            this.sizes[sizeClass] = size - 1;
+            this.cachedBytes -= bb.capacity();
+            return bb;
+        }
+
+        private boolean offer(int sizeClass, ByteBuffer bb) {
+            final var size = this.sizes[sizeClass];
+            final var stack = this.stacks[sizeClass];
+            if (size == stack.length || this.cachedBytes > THREAD_CACHE_MAX_BYTES - bb.capacity()) {
+                return false;
+            }
+            stack[size] = bb;
+            this.sizes[sizeClass] = size + 1;
+            this.cachedBytes += bb.capacity();
+            return true;
+        }
+    }
+
+    /**
+     * Flushes the ByteBuffers of a thread cache to the shared arena, it must not reference the cache
+     */
+    private static final class Flush implements Runnable {
+
+        private final ByteBuffer[][] stacks;
+        private final int[] sizes;
+        private final BoundedFreeList<ByteBuffer>[] arena;
+
+        private Flush(ByteBuffer[][] stacks, int[] sizes, BoundedFreeList<ByteBuffer>[] arena) {
+            this.stacks = stacks;
+            this.sizes = sizes;
+            this.arena = arena;
+        }
+
+        @Override
+        public void run() {
+            for (var sizeClass = 0; sizeClass < NUM_SIZE_CLASSES; sizeClass++) {
+                final var stack = this.stacks[sizeClass];
+                for (var index = 0; index < this.sizes[sizeClass]; index++) {
+                    if (!this.arena[sizeClass].offer(stack[index])) {
+                        UnsafeByteBufferOps.invokeCleaner(stack[index]);
+                    }
+                    stack[index] = null;
+                }
+                this.sizes[sizeClass] = 0;
+            }
+        }
+    }
+}
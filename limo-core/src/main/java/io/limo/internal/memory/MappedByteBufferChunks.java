@@ -0,0 +1,360 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.memory;
+
+import io.limo.LimoIOException;
+import io.limo.internal.utils.IndexedByBuReaderWriter;
+import io.limo.internal.utils.UnsafeByteBufferOps;
+import io.limo.memory.OffHeap;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A file region mapped in memory as an array of {@link MappedByteBuffer} chunks.
+ * <p>A region which byteSize is less than Integer.MAX_VALUE is mapped as one single chunk. A bigger region is mapped
+ * as consecutive 1 GiB chunks (the last one can be smaller), because a ByteBuffer can not address more than
+ * Integer.MAX_VALUE bytes.
+ *
+ * @implNote No index check, no state check : see {@link BaseMappedOffHeap}
+ */
+final class MappedByteBufferChunks {
+
+    /**
+     * Big mapped regions are split in 1 GiB chunks
+     */
+    private static final int CHUNK_SHIFT = 30;
+
+    /**
+     * Page size used to prefault mapped memory
+     */
+    private static final int PAGE_SIZE = 4096;
+
+    private final @NotNull MappedByteBuffer @NotNull [] chunks;
+    private final @NotNull IndexedByBuReaderWriter @NotNull [] readerWriters;
+    private final long byteSize;
+
+    /**
+     * 31 if there is only one chunk, so every index shifted by this value is 0
+     */
+    private final int chunkShift;
+    private final long chunkMask;
+
+    @SuppressWarnings("unused")
+    private int loadSink;
+
+    private MappedByteBufferChunks(MappedByteBuffer[] chunks, long byteSize) {
+        this.chunks = chunks;
+        this.byteSize = byteSize;
+        this.chunkShift = (chunks.length == 1) ? Integer.SIZE - 1 : CHUNK_SHIFT;
+        this.chunkMask = (1L << this.chunkShift) - 1;
+        this.readerWriters = new IndexedByBuReaderWriter[chunks.length];
+        for (var i = 0; i < chunks.length; i++) {
+            this.readerWriters[i] = UnsafeByteBufferOps.SUPPORT_UNSAFE
+                    ? UnsafeByteBufferOps.UNSAFE_READER_WRITER.apply(chunks[i])
+                    : UnsafeByteBufferOps.SAFE_READER_WRITER.apply(chunks[i]);
+        }
+    }
+
+    /**
+     * Map the region of the file located at {@code path}, starting at {@code offset} with {@code byteSize} bytes.
+     * <p>In {@link FileChannel.MapMode#READ_WRITE} mode, the file is created if it does not exist, and extended if it
+     * is smaller than the mapped region.
+     *
+     * @throws LimoIOException if an I/O error occurs
+     */
+    static @NotNull MappedByteBufferChunks map(@NotNull Path path, long offset, long byteSize,
+                                               FileChannel.@NotNull MapMode mode) {
+        if ((offset | byteSize) < 0) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Incorrect parameters to map : offset=%d, byteSize=%d", offset, byteSize));
+        }
+        final var options = (mode == FileChannel.MapMode.READ_ONLY)
+                ? new StandardOpenOption[]{StandardOpenOption.READ}
+                : new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE};
+        // mapped buffers stay valid after their channel is closed
+        try (final var channel = FileChannel.open(path, options)) {
+            final MappedByteBuffer[] chunks;
+            if (byteSize <= Integer.MAX_VALUE) {
+                chunks = new MappedByteBuffer[]{channel.map(mode, offset, byteSize)};
+            } else {
+                final var chunkByteSize = 1L << CHUNK_SHIFT;
+                chunks = new MappedByteBuffer[(int) ((byteSize + chunkByteSize - 1) >>> CHUNK_SHIFT)];
+                for (var i = 0; i < chunks.length; i++) {
+                    final var chunkOffset = (long) i << CHUNK_SHIFT;
+                    chunks[i] = channel.map(mode, offset + chunkOffset, Math.min(chunkByteSize, byteSize - chunkOffset));
+                }
+            }
+            return new MappedByteBufferChunks(chunks, byteSize);
+        } catch (IOException ioe) {
+            throw new LimoIOException(String.format("Failed to map file %s", path), ioe);
+        }
+    }
+
+    long getByteSize() {
+        return this.byteSize;
+    }
+
+    byte readByteAt(long index) {
+        return this.readerWriters[chunkIndex(index)].readByteAt(index & this.chunkMask);
+    }
+
+    short readShortAt(long index) {
+        final var chunkIndex = chunkIndex(index);
+        final var position = index & this.chunkMask;
+        if (position + 2 <= this.chunks[chunkIndex].capacity()) {
+            return this.readerWriters[chunkIndex].readShortAt(position);
+        }
+        // this short straddles 2 chunks
+        return (short) (((readByteAt(index) & 0xff) << 8) | (readByteAt(index + 1) & 0xff));
+    }
+
+    short readShortAtLE(long index) {
+        return Short.reverseBytes(readShortAt(index));
+    }
+
+    int readIntAt(long index) {
+        final var chunkIndex = chunkIndex(index);
+        final var position = index & this.chunkMask;
+        if (position + 4 <= this.chunks[chunkIndex].capacity()) {
+            return this.readerWriters[chunkIndex].readIntAt(position);
+        }
+        // this int straddles 2 chunks
+        return ((readByteAt(index) & 0xff) << 24)
+                | ((readByteAt(index + 1) & 0xff) << 16)
+                | ((readByteAt(index + 2) & 0xff) << 8)
+                | (readByteAt(index + 3) & 0xff);
+    }
+
+    int readIntAtLE(long index) {
+        return Integer.reverseBytes(readIntAt(index));
+    }
+
+    long readLongAt(long index) {
+        final var chunkIndex = chunkIndex(index);
+        final var position = index & this.chunkMask;
+        if (position + 8 <= this.chunks[chunkIndex].capacity()) {
+            return this.readerWriters[chunkIndex].readLongAt(position);
+        }
+        // this long straddles 2 chunks
+        var value = 0L;
+        for (var i = 0; i < 8; i++) {
+            value = (value << 8) | (readByteAt(index + i) & 0xff);
+        }
+        return value;
+    }
+
+    long readLongAtLE(long index) {
+        return Long.reverseBytes(readLongAt(index));
+    }
+
+    void writeByteAt(long index, byte value) {
+        this.readerWriters[chunkIndex(index)].writeByteAt(index & this.chunkMask, value);
+    }
+
+    void writeShortAt(long index, short value) {
+        final var chunkIndex = chunkIndex(index);
+        final var position = index & this.chunkMask;
+        if (position + 2 <= this.chunks[chunkIndex].capacity()) {
+            this.readerWriters[chunkIndex].writeShortAt(position, value);
+            return;
+        }
+        // this short straddles 2 chunks
+        writeByteAt(index, (byte) (value >> 8));
+        writeByteAt(index + 1, (byte) value);
+    }
+
+    void writeShortAtLE(long index, short value) {
+        writeShortAt(index, Short.reverseBytes(value));
+    }
+
+    void writeIntAt(long index, int value) {
+        final var chunkIndex = chunkIndex(index);
+        final var position = index & this.chunkMask;
+        if (position + 4 <= this.chunks[chunkIndex].capacity()) {
+            this.readerWriters[chunkIndex].writeIntAt(position, value);
+            return;
+        }
+        // this int straddles 2 chunks
+        writeByteAt(index, (byte) (value >> 24));
+        writeByteAt(index + 1, (byte) (value >> 16));
+        writeByteAt(index + 2, (byte) (value >> 8));
+        writeByteAt(index + 3, (byte) value);
+    }
+
+    void writeIntAtLE(long index, int value) {
+        writeIntAt(index, Integer.reverseBytes(value));
+    }
+
+    void writeLongAt(long index, long value) {
+        final var chunkIndex = chunkIndex(index);
+        final var position = index & this.chunkMask;
+        if (position + 8 <= this.chunks[chunkIndex].capacity()) {
+            this.readerWriters[chunkIndex].writeLongAt(position, value);
+            return;
+        }
+        // this long straddles 2 chunks
+        for (var i = 0; i < 8; i++) {
+            writeByteAt(index + i, (byte) (value >> (56 - (i << 3))));
+        }
+    }
+
+    void writeLongAtLE(long index, long value) {
+        writeLongAt(index, Long.reverseBytes(value));
+    }
+
+    void readBytesAt(long index, byte[] dst, int offset, int length) {
+        var copied = 0;
+        while (copied < length) {
+            final var current = index + copied;
+            final var chunkIndex = chunkIndex(current);
+            final var position = current & this.chunkMask;
+            final var chunkLength = (int) Math.min(length - copied, this.chunks[chunkIndex].capacity() - position);
+            this.readerWriters[chunkIndex].readBytesAt(position, dst, offset + copied, chunkLength);
+            copied += chunkLength;
+        }
+    }
+
+    void readBytesAt(long index, ByteBuffer dst) {
+        final var limit = dst.limit();
+        var current = index;
+        while (dst.hasRemaining()) {
+            final var chunkIndex = chunkIndex(current);
+            final var position = current & this.chunkMask;
+            final var chunkLength = (int) Math.min(dst.remaining(), this.chunks[chunkIndex].capacity() - position);
+            dst.limit(dst.position() + chunkLength);
+            this.readerWriters[chunkIndex].readBytesAt(position, dst);
+            dst.limit(limit);
+            current += chunkLength;
+        }
+    }
+
+    void writeBytesAt(long index, byte[] src, int offset, int length) {
+        var copied = 0;
+        while (copied < length) {
+            final var current = index + copied;
+            final var chunkIndex = chunkIndex(current);
+            final var position = current & this.chunkMask;
+            final var chunkLength = (int) Math.min(length - copied, this.chunks[chunkIndex].capacity() - position);
+            this.readerWriters[chunkIndex].writeBytesAt(position, src, offset + copied, chunkLength);
+            copied += chunkLength;
+        }
+    }
+
+    void writeBytesAt(long index, ByteBuffer src) {
+        final var limit = src.limit();
+        var current = index;
+        while (src.hasRemaining()) {
+            final var chunkIndex = chunkIndex(current);
+            final var position = current & this.chunkMask;
+            final var chunkLength = (int) Math.min(src.remaining(), this.chunks[chunkIndex].capacity() - position);
+            src.limit(src.position() + chunkLength);
+            this.readerWriters[chunkIndex].writeBytesAt(position, src);
+            src.limit(limit);
+            current += chunkLength;
+        }
+    }
+
+    void fill(long index, long length, byte value) {
+        var filled = 0L;
+        while (filled < length) {
+            final var current = index + filled;
+            final var chunkIndex = chunkIndex(current);
+            final var position = current & this.chunkMask;
+            final var chunkLength = Math.min(length - filled, this.chunks[chunkIndex].capacity() - position);
+            this.readerWriters[chunkIndex].fill(position, chunkLength, value);
+            filled += chunkLength;
+        }
+    }
+
+    /**
+     * Copy {@code length} bytes of {@code src}, starting at {@code srcIndex}, at {@code index} : {@code src} copies
+     * its bytes directly into a view of each target chunk
+     */
+    void writeBytesAt(long index, @NotNull OffHeap src, long srcIndex, long length) {
+        var copied = 0L;
+        while (copied < length) {
+            final var current = index + copied;
+            final var chunk = this.chunks[chunkIndex(current)];
+            final var position = (int) (current & this.chunkMask);
+            final var chunkLength = (int) Math.min(length - copied, chunk.capacity() - position);
+            src.readBytesAt(srcIndex + copied, chunk.duplicate().position(position).limit(position + chunkLength));
+            copied += chunkLength;
+        }
+    }
+
+    /**
+     * @return a fresh byte array copy of {@code length} bytes starting at {@code index}
+     */
+    byte[] toByteArray(long index, int length) {
+        final var bytes = new byte[length];
+        readBytesAt(index, bytes, 0, length);
+        return bytes;
+    }
+
+    /**
+     * @return a ByteBuffer view of {@code length} bytes starting at {@code index}, or null if this region straddles
+     * 2 chunks
+     */
+    ByteBuffer byteBuffer(long index, int length) {
+        final var chunk = this.chunks[chunkIndex(index)];
+        final var position = (int) (index & this.chunkMask);
+        if (position + length > chunk.capacity()) {
+            return null;
+        }
+        return chunk.duplicate().position(position).limit(position + length).slice();
+    }
+
+    /**
+     * @return byte size from {@code index} to the end of its chunk
+     */
+    long contiguousByteSize(long index) {
+        return this.chunks[chunkIndex(index)].capacity() - (index & this.chunkMask);
+    }
+
+    /**
+     * Prefault {@code length} bytes starting at {@code index}, by touching one byte in each page
+     */
+    void load(long index, long length) {
+        final var end = index + length;
+        var sum = 0;
+        for (var current = index; current < end; current += PAGE_SIZE) {
+            sum += readByteAt(current);
+        }
+        // store read bytes, so the JIT can not eliminate the loop
+        this.loadSink = sum;
+    }
+
+    /**
+     * Force changes in all chunks that contain bytes from {@code index} to {@code index + length} to the storage device
+     */
+    void force(long index, long length) {
+        if (length == 0) {
+            return;
+        }
+        final var lastChunkIndex = chunkIndex(index + length - 1);
+        for (var chunkIndex = chunkIndex(index); chunkIndex <= lastChunkIndex; chunkIndex++) {
+            this.chunks[chunkIndex].force();
+        }
+    }
+
+    private int chunkIndex(long index) {
+        return (int) (index >>> this.chunkShift);
+    }
+
+    /**
+     * Unmap all chunks
+     */
+    void unmap() {
+        for (final var chunk : this.chunks) {
+            UnsafeByteBufferOps.invokeCleaner(chunk);
+        }
+    }
+}
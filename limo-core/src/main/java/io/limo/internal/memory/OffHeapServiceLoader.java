@@ -29,6 +29,8 @@ public final class OffHeapServiceLoader {
         final var iterator = ServiceLoader.load(OffHeapFactory.class).iterator();
 
         final var offHeapFactory = StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED),false)
+                // Integer.MIN_VALUE priority means this OffHeapFactory is disabled
+                .filter(factory -> factory.getLoadPriority() > Integer.MIN_VALUE)
                 .max(Comparator.comparingInt(OffHeapFactory::getLoadPriority))
                 // If no module in classpath implements this Service, fallback to BaseByteBufferOffHeapFactory
                 .orElse(new BaseByteBufferOffHeapFactory());
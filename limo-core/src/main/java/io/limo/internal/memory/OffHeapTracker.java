@@ -0,0 +1,255 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.memory;
+
+import io.limo.memory.OffHeapTrackingMXBean;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.ObjectName;
+import java.lang.invoke.MethodHandles;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Cleaner;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Optional native memory accounting and leak detection, one tracker per off-heap implementation
+ * <p>When tracking is enabled, the cleanup action of each tracked memory is wrapped to update counters on close, and
+ * the memory is registered in a {@link Cleaner} : if it becomes unreachable before being closed, the leak is logged
+ * with its allocation site (if it was sampled), then its cleanup action is run to release native memory.
+ * <p>When tracking is disabled, {@link #track(long, Runnable, Function)} only invokes the constructor.
+ * <p>A view of a memory (slice, read-only view, acquired memory...) does nothing on close, but its cleanup action is
+ * obtained with {@link #viewCleanupAction(Object)} : the view keeps its parent memory reachable, so native memory
+ * is never released by {@link Cleaner} while a view of it is still in use.
+ */
+public final class OffHeapTracker implements OffHeapTrackingMXBean {
+    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    static final String TRACKING_PROPERTY = "io.limo.memory.tracking";
+    static final String SAMPLE_INTERVAL_PROPERTY = "io.limo.memory.tracking.sampleInterval";
+
+    public static final boolean ENABLED = Boolean.getBoolean(TRACKING_PROPERTY);
+
+    private static final int SAMPLE_INTERVAL = Math.max(1, Integer.getInteger(SAMPLE_INTERVAL_PROPERTY, 128));
+
+    static final OffHeapTracker BYTE_BUFFER = new OffHeapTracker("ByteBuffer", ENABLED);
+    static final OffHeapTracker POOLED_BYTE_BUFFER = new OffHeapTracker("PooledByteBuffer", ENABLED);
+    static final OffHeapTracker MAPPED = new OffHeapTracker("Mapped", ENABLED);
+    static final OffHeapTracker ARENA = new OffHeapTracker("Arena", ENABLED);
+
+    /**
+     * All trackers, in a stable order
+     */
+    public static final List<OffHeapTracker> TRACKERS = List.of(BYTE_BUFFER, POOLED_BYTE_BUFFER, MAPPED, ARENA);
+
+    private final @NotNull String kind;
+    private final boolean enabled;
+    private final LongAdder liveBytes = new LongAdder();
+    private final LongAdder liveRegions = new LongAdder();
+    private final LongAdder allocatedRegions = new LongAdder();
+    private final LongAdder leakedRegions = new LongAdder();
+    private final LongAdder leakedBytes = new LongAdder();
+    private final AtomicBoolean registered = new AtomicBoolean();
+
+    OffHeapTracker(@NotNull String kind, boolean enabled) {
+        this.kind = kind;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Builds a memory with {@code constructor}, then tracks it if tracking is enabled
+     *
+     * @param byteSize      native byte size of the memory
+     * @param cleanupAction releases native memory, it must not reference the memory
+     * @param constructor   builds the memory from the cleanup action it must run on close
+     * @param <T>           type of the tracked memory
+     */
+    <T> @NotNull T track(long byteSize, @NotNull Runnable cleanupAction, @NotNull Function<Runnable, T> constructor) {
+        if (!this.enabled) {
+            return constructor.apply(cleanupAction);
+        }
+        final var region = newRegion(byteSize, cleanupAction);
+        final var memory = constructor.apply(region::close);
+        region.cleanable = CleanerHolder.CLEANER.register(memory, region);
+        return memory;
+    }
+
+    /**
+     * Tracks an already built {@code memory}, the returned region must be closed when the memory is closed
+     *
+     * @return the region of {@code memory}, or null if tracking is disabled
+     */
+    @Nullable Region track(@NotNull Object memory, long byteSize, @NotNull Runnable cleanupAction) {
+        if (!this.enabled) {
+            return null;
+        }
+        final var region = newRegion(byteSize, cleanupAction);
+        region.cleanable = CleanerHolder.CLEANER.register(memory, region);
+        return region;
+    }
+
+    /**
+     * @return the cleanup action of a view of {@code parent} : it does nothing, but keeps {@code parent} reachable as
+     * long as the view is
+     */
+    static @NotNull Runnable viewCleanupAction(@NotNull Object parent) {
+        return new ViewCleanupAction(parent);
+    }
+
+    private @NotNull Region newRegion(long byteSize, @NotNull Runnable cleanupAction) {
+        registerMBean();
+        // only sampled allocations pay the cost of a stack trace
+        final var allocationSite = (ThreadLocalRandom.current().nextInt(SAMPLE_INTERVAL) == 0)
+                ? new Throwable("Allocation site of a leaked OffHeap") : null;
+        final var region = new Region(this, cleanupAction, allocationSite);
+        region.grow(byteSize);
+        this.liveRegions.increment();
+        this.allocatedRegions.increment();
+        return region;
+    }
+
+    /**
+     * MBean is registered on first tracked allocation
+     */
+    private void registerMBean() {
+        if (this.registered.get() || !this.registered.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer()
+                    .registerMBean(this, new ObjectName("io.limo:type=OffHeapTracking,name=" + this.kind));
+        } catch (Exception exception) {
+            logger.warn("Failed to register OffHeapTracking MBean for {}", this.kind, exception);
+        }
+    }
+
+    @Override
+    public @NotNull String getKind() {
+        return this.kind;
+    }
+
+    @Override
+    public long getLiveBytes() {
+        return this.liveBytes.sum();
+    }
+
+    @Override
+    public long getLiveRegions() {
+        return this.liveRegions.sum();
+    }
+
+    @Override
+    public long getAllocatedRegions() {
+        return this.allocatedRegions.sum();
+    }
+
+    @Override
+    public long getLeakedRegions() {
+        return this.leakedRegions.sum();
+    }
+
+    @Override
+    public long getLeakedBytes() {
+        return this.leakedBytes.sum();
+    }
+
+    @Override
+    public int getSampleInterval() {
+        return SAMPLE_INTERVAL;
+    }
+
+    /**
+     * The cleaner thread is only started by the first tracked allocation, or by the first thread cache of a
+     * {@link ByteBufferPool}
+     */
+    static final class CleanerHolder {
+        static final Cleaner CLEANER = Cleaner.create();
+    }
+
+    /**
+     * Cleanup action of a view, the strong reference to the parent memory prevents its tracked region from being
+     * cleaned while the view is reachable
+     */
+    private static final class ViewCleanupAction implements Runnable {
+
+        private final @NotNull Object parent;
+
+        private ViewCleanupAction(@NotNull Object parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public void run() {
+            // closing a view does nothing, only the parent memory releases native memory
+        }
+    }
+
+    /**
+     * The tracked native memory of one memory, it is also the {@link Cleaner} action of this memory so it must not
+     * reference it
+     */
+    static final class Region implements Runnable {
+
+        private final @NotNull OffHeapTracker tracker;
+        private final @NotNull Runnable cleanupAction;
+        private final @Nullable Throwable allocationSite;
+        private final LongAdder byteSize = new LongAdder();
+        private volatile boolean closed = false;
+        private Cleaner.Cleanable cleanable;
+
+        private Region(@NotNull OffHeapTracker tracker, @NotNull Runnable cleanupAction,
+                       @Nullable Throwable allocationSite) {
+            this.tracker = tracker;
+            this.cleanupAction = cleanupAction;
+            this.allocationSite = allocationSite;
+        }
+
+        /**
+         * Adds {@code byteSize} bytes to this region, an arena grows when it allocates a new block
+         */
+        void grow(long byteSize) {
+            this.byteSize.add(byteSize);
+            this.tracker.liveBytes.add(byteSize);
+        }
+
+        /**
+         * Invoked when the memory is closed : runs its cleanup action, then stops tracking it
+         */
+        void close() {
+            this.closed = true;
+            this.cleanupAction.run();
+            this.cleanable.clean();
+        }
+
+        /**
+         * Invoked once by {@link Cleaner}, after {@link #close()} or when the memory became unreachable
+         */
+        @Override
+        public void run() {
+            final var regionByteSize = this.byteSize.sum();
+            if (!this.closed) {
+                this.tracker.leakedRegions.increment();
+                this.tracker.leakedBytes.add(regionByteSize);
+                if (this.allocationSite != null) {
+                    logger.warn("{} OffHeap of {} bytes was not closed before being garbage collected",
+                            this.tracker.kind, regionByteSize, this.allocationSite);
+                } else {
+                    logger.warn("{} OffHeap of {} bytes was not closed before being garbage collected, set {} " +
+                                    "system property to 1 to record all allocation sites", this.tracker.kind,
+                            regionByteSize, SAMPLE_INTERVAL_PROPERTY);
+                }
+                this.cleanupAction.run();
+            }
+            this.tracker.liveBytes.add(-regionByteSize);
+            this.tracker.liveRegions.decrement();
+        }
+    }
+}
@@ -42,11 +42,7 @@ public final class OffstringImpl extends AbstractOffString {
             return this.string = UnsafeStringOps.toLatin1String(this.memory.toByteArray());
         }
 
-        // 3) fast-path for UTF-16
-        if (StandardCharsets.UTF_16 == this.charset) {
-            return this.string = UnsafeStringOps.toUtf16String(this.memory.toByteArray());
-        }
-
-        return this.string = new String(this.memory.toByteArray(), this.charset);
+        // 3) decode bytes, copied once from off-heap memory
+        return this.string = UnsafeStringOps.decode(this.memory, 0, this.memory.getByteSize(), this.charset);
     }
 }
@@ -0,0 +1,130 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.memory;
+
+import io.limo.internal.utils.BaseOffHeapOps;
+import io.limo.internal.utils.UnsafeByteBufferOps;
+import io.limo.memory.MappedOffHeap;
+import io.limo.memory.MutableMappedOffHeap;
+import io.limo.memory.MutableOffHeap;
+import io.limo.memory.OffHeapFactory;
+import io.limo.memory.impl.*;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+/**
+ * A {@link OffHeapFactory} that obtains its direct ByteBuffers from a {@link ByteBufferPool}.
+ * <p>Closing an off-heap memory obtained from this factory returns its ByteBuffer to the pool instead of freeing it.
+ * <p>This factory is disabled by default, it is selected by {@link OffHeapServiceLoader} if the
+ * {@value #LOAD_PRIORITY_PROPERTY} system property is set with a priority greater than other factories
+ * (for example {@code -Dio.limo.memory.pool.loadPriority=100}).
+ */
+public final class PooledByteBufferOffHeapFactory implements OffHeapFactory {
+
+    static final String LOAD_PRIORITY_PROPERTY = "io.limo.memory.pool.loadPriority";
+
+    private final ByteBufferPool pool = new ByteBufferPool();
+
+    @Override
+    public @NotNull MutableOffHeap newSafeMutableOffHeap(long byteSize) {
+        if (byteSize > Integer.MAX_VALUE) {
+            throw new IndexOutOfBoundsException("byteSize must be a positive Integer");
+        }
+        return newMutableSafeByBuOffHeap((int) byteSize);
+    }
+
+    @Override
+    public @NotNull MutableUnsafeOffHeap newUnsafeMutableOffHeap(long byteSize) {
+        if (byteSize > Integer.MAX_VALUE) {
+            throw new IndexOutOfBoundsException("byteSize must be a positive Integer");
+        }
+        return newMutableUnsafeByBuOffHeap((int) byteSize);
+    }
+
+    @Override
+    public final @NotNull MutableSafeByBuOffHeap newMutableSafeByBuOffHeap(int byteSize) {
+        if (!ByteBufferPool.isPooled(byteSize)) {
+            final var bb = ByteBuffer.allocateDirect(byteSize);
+            return OffHeapTracker.BYTE_BUFFER.track(byteSize, BaseOffHeapOps.cleanByteBuffer(bb), cleanupAction ->
+                    new BaseMutableSafeByBuOffHeap(bb, cleanupAction, Thread.currentThread()));
+        }
+        final var pooledBb = this.pool.allocate(byteSize);
+        return OffHeapTracker.POOLED_BYTE_BUFFER.track(byteSize, () -> this.pool.release(pooledBb), cleanupAction ->
+                new BaseMutableSafeByBuOffHeap(view(pooledBb, byteSize), cleanupAction, Thread.currentThread()));
+    }
+
+    @Override
+    public final @NotNull MutableUnsafeByBuOffHeap newMutableUnsafeByBuOffHeap(int byteSize) {
+        if (!ByteBufferPool.isPooled(byteSize)) {
+            final var bb = ByteBuffer.allocateDirect(byteSize);
+            return OffHeapTracker.BYTE_BUFFER.track(byteSize, BaseOffHeapOps.cleanByteBuffer(bb), cleanupAction ->
+                    new BaseMutableUnsafeByBuOffHeap(bb, cleanupAction, Thread.currentThread()));
+        }
+        final var pooledBb = this.pool.allocate(byteSize);
+        return OffHeapTracker.POOLED_BYTE_BUFFER.track(byteSize, () -> this.pool.release(pooledBb), cleanupAction ->
+                new BaseMutableUnsafeByBuOffHeap(view(pooledBb, byteSize), cleanupAction, Thread.currentThread()));
+    }
+
+    @Override
+    public final @NotNull SafeByBuOffHeap newSafeByteBufferOffHeap(byte @NotNull [] bytes) {
+        if (!ByteBufferPool.isPooled(bytes.length)) {
+            final var bb = ByteBuffer.allocateDirect(bytes.length);
+            return OffHeapTracker.BYTE_BUFFER.track(bytes.length, BaseOffHeapOps.cleanByteBuffer(bb), cleanupAction ->
+                    new BaseSafeByBuOffHeap(bb, bytes, cleanupAction, Thread.currentThread()));
+        }
+        final var pooledBb = this.pool.allocate(bytes.length);
+        final var bb = UnsafeByteBufferOps.safeFillWithByteArray(view(pooledBb, bytes.length), 0, bytes, 0, bytes.length);
+        return OffHeapTracker.POOLED_BYTE_BUFFER.track(bytes.length, () -> this.pool.release(pooledBb),
+                cleanupAction -> new BaseSafeByBuOffHeap(bb, cleanupAction, Thread.currentThread()));
+    }
+
+    @Override
+    public final @NotNull UnsafeByBuOffHeap newUnsafeByteBufferOffHeap(byte @NotNull [] bytes) {
+        if (!ByteBufferPool.isPooled(bytes.length)) {
+            final var bb = ByteBuffer.allocateDirect(bytes.length);
+            return OffHeapTracker.BYTE_BUFFER.track(bytes.length, BaseOffHeapOps.cleanByteBuffer(bb), cleanupAction ->
+                    new BaseUnsafeByBuOffHeap(bb, bytes, cleanupAction, Thread.currentThread()));
+        }
+        final var pooledBb = this.pool.allocate(bytes.length);
+        final var bb = UnsafeByteBufferOps.unsafeFillWithByteArray(view(pooledBb, bytes.length), 0, bytes, 0, bytes.length);
+        return OffHeapTracker.POOLED_BYTE_BUFFER.track(bytes.length, () -> this.pool.release(pooledBb),
+                cleanupAction -> new BaseUnsafeByBuOffHeap(bb, cleanupAction, Thread.currentThread()));
+    }
+
+    /**
+     * Mapped memory is not pooled
+     */
+    @Override
+    public final @NotNull MappedOffHeap newMappedOffHeap(@NotNull Path path, long offset, long byteSize) {
+        final var chunks = MappedByteBufferChunks.map(path, offset, byteSize, FileChannel.MapMode.READ_ONLY);
+        return OffHeapTracker.MAPPED.track(chunks.getByteSize(), chunks::unmap, cleanupAction ->
+                new BaseMappedOffHeap(chunks, 0, chunks.getByteSize(), cleanupAction, Thread.currentThread()));
+    }
+
+    @Override
+    public final @NotNull MutableMappedOffHeap newMutableMappedOffHeap(@NotNull Path path, long offset, long byteSize) {
+        final var chunks = MappedByteBufferChunks.map(path, offset, byteSize, FileChannel.MapMode.READ_WRITE);
+        return OffHeapTracker.MAPPED.track(chunks.getByteSize(), chunks::unmap, cleanupAction ->
+                new BaseMutableMappedOffHeap(chunks, 0, chunks.getByteSize(), cleanupAction, Thread.currentThread()));
+    }
+
+    /**
+     * @return value of {@value #LOAD_PRIORITY_PROPERTY} system property, or Integer.MIN_VALUE (disabled) if not set
+     */
+    @Override
+    public final int getLoadPriority() {
+        return Integer.getInteger(LOAD_PRIORITY_PROPERTY, Integer.MIN_VALUE);
+    }
+
+    /**
+     * @return a view of the pooled ByteBuffer, which capacity is exactly {@code byteSize}
+     */
+    private static ByteBuffer view(ByteBuffer pooledBb, int byteSize) {
+        return pooledBb.duplicate().limit(byteSize).slice();
+    }
+}
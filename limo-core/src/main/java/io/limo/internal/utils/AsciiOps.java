@@ -4,8 +4,16 @@
 
 package io.limo.internal.utils;
 
+import io.limo.memory.OffHeap;
+import org.jetbrains.annotations.NotNull;
+
 public final class AsciiOps {
 
+    /**
+     * Sign bit of each of the 8 bytes of a long
+     */
+    static final long NEGATIVES_MASK = 0x8080808080808080L;
+
     // uninstanciable
     private AsciiOps() {
     }
@@ -31,8 +39,43 @@ public final class AsciiOps {
         return hasNegativesInternal(bytes, offset, length);
     }
 
+    /**
+     * @param offset from position (inclusive)
+     * @param length number of bytes to scan
+     * @return if off-heap memory section contains a negative value (= a non ASCII value)
+     */
+    public static boolean hasNegatives(@NotNull OffHeap memory, long offset, long length) {
+        if ((offset | length) < 0 || length > memory.getByteSize() - offset) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Incorrect parameters to parse OffHeap : byteSize=%d, offset=%d, length=%d",
+                            memory.getByteSize(), offset, length));
+        }
+        final var end = offset + length;
+        var index = offset;
+        // check 8 bytes at a time
+        for (; index <= end - Long.BYTES; index += Long.BYTES) {
+            if ((memory.readLongAt(index) & NEGATIVES_MASK) != 0) {
+                return true;
+            }
+        }
+        for (; index < end; index++) {
+            if (memory.readByteAt(index) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static boolean hasNegativesInternal(byte[] bytes, int offset, int length) {
-        for (var i = offset; i < offset + length; i++) {
+        final var end = offset + length;
+        var i = offset;
+        // check 8 bytes at a time, byte order does not matter
+        for (; i <= end - Long.BYTES; i += Long.BYTES) {
+            if ((UnsafeArrayOps.getLong(bytes, i) & NEGATIVES_MASK) != 0) {
+                return true;
+            }
+        }
+        for (; i < end; i++) {
             if (UnsafeArrayOps.getByte(bytes, i) < 0) {
                 return true;
             }
@@ -0,0 +1,124 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.utils;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded lock-free free list, elements are stored in a fixed size ring of slots.
+ * <p>This is a multi-producer multi-consumer array queue : each slot has a sequence number that tells if it is ready
+ * to be offered or polled at the current position, so {@link #poll()} and {@link #offer(Object)} take constant time
+ * whatever the capacity, and an element offered by a thread can be polled by any other thread.
+ *
+ * @param <T> type of pooled elements
+ * @implNote positions are ints that wrap around, differences between positions and sequences stay correct as long as
+ * capacity is less than {@code 2^30}
+ * @see <a href="https://www.1024cores.net/home/lock-free-algorithms/queues/bounded-mpmc-queue">Bounded MPMC queue</a>
+ */
+public final class BoundedFreeList<T> {
+
+    private final AtomicReferenceArray<T> slots;
+
+    /**
+     * For slot at index {@code i} : equals position {@code p} if an element can be offered at {@code p}, equals
+     * {@code p + 1} if an element offered at {@code p} can be polled
+     */
+    private final AtomicIntegerArray sequences;
+
+    private final int mask;
+
+    /**
+     * Next position to offer an element to
+     */
+    private final AtomicInteger tail = new AtomicInteger();
+
+    /**
+     * Next position to poll an element from
+     */
+    private final AtomicInteger head = new AtomicInteger();
+
+    /**
+     * @param capacity maximum number of elements in this free list, rounded up to the next power of two
+     */
+    public BoundedFreeList(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be a positive Integer, not greater than 2^30");
+        }
+        final var length = (capacity == 1) ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(length);
+        this.sequences = new AtomicIntegerArray(length);
+        for (var index = 0; index < length; index++) {
+            this.sequences.set(index, index);
+        }
+        this.mask = length - 1;
+    }
+
+    /**
+     * @return an element from this free list, or null if it is empty
+     */
+    public @Nullable T poll() {
+        var position = this.head.get();
+        while (true) {
+            final var index = position & this.mask;
+            final var difference = this.sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (this.head.compareAndSet(position, position + 1)) {
+                    final var element = this.slots.getPlain(index);
+                    this.slots.setPlain(index, null);
+                    // volatile write publishes the emptied slot to the next offer at this index
+                    this.sequences.set(index, position + this.mask + 1);
+                    return element;
+                }
+                position = this.head.get();
+            } else if (difference < 0) {
+                // no element was offered at this position yet
+                return null;
+            } else {
+                // another thread polled this position
+                position = this.head.get();
+            }
+        }
+    }
+
+    /**
+     * @return true if element was added to this free list, false if it is full
+     */
+    public boolean offer(@NotNull T element) {
+        Objects.requireNonNull(element);
+        var position = this.tail.get();
+        while (true) {
+            final var index = position & this.mask;
+            final var difference = this.sequences.get(index) - position;
+            if (difference == 0) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    this.slots.setPlain(index, element);
+                    // volatile write publishes the element to the poll at this position
+                    this.sequences.set(index, position + 1);
+                    return true;
+                }
+                position = this.tail.get();
+            } else if (difference < 0) {
+                // element at this index, offered one lap earlier, was not polled yet
+                return false;
+            } else {
+                // another thread offered at this position
+                position = this.tail.get();
+            }
+        }
+    }
+
+    /**
+     * @return the maximum number of elements of this free list
+     */
+    public int capacity() {
+        return this.mask + 1;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.utils;
+
+import io.limo.memory.OffHeap;
+import org.jetbrains.annotations.NotNull;
+
+public final class ByteSearchOps {
+
+    /**
+     * The 7 low bits of each of the 8 bytes of a long
+     */
+    private static final long LOW_BITS_MASK = 0x7f7f7f7f7f7f7f7fL;
+
+    /**
+     * Multiplying an unsigned byte by this value broadcasts it to each of the 8 bytes of a long
+     */
+    private static final long BROADCAST = 0x0101010101010101L;
+
+    // uninstanciable
+    private ByteSearchOps() {
+    }
+
+    /**
+     * Search the first occurrence of {@code value} in {@code memory}, from {@code fromIndex} (inclusive) to
+     * {@code toIndex} (exclusive)
+     * <p>Memory is scanned 8 bytes at a time (SWAR) : each long is XORed with {@code value} broadcast to its 8 bytes,
+     * then a byte of the result is zero if and only if the matching byte of memory is equal to {@code value}.
+     *
+     * @return index of the first occurrence of {@code value}, or {@code -1} if there is none
+     */
+    public static long indexOf(@NotNull OffHeap memory, long fromIndex, long toIndex, byte value) {
+        final var pattern = (value & 0xffL) * BROADCAST;
+        var index = fromIndex;
+        for (; index <= toIndex - Long.BYTES; index += Long.BYTES) {
+            final var zeroBytes = zeroBytes(memory.readLongAt(index) ^ pattern);
+            if (zeroBytes != 0) {
+                // BIG ENDIAN read : first byte in memory is the most significant byte of the long
+                return index + (Long.numberOfLeadingZeros(zeroBytes) >>> 3);
+            }
+        }
+        for (; index < toIndex; index++) {
+            if (memory.readByteAt(index) == value) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return a long with the high bit set in each byte that is zero in {@code word}, all other bits are 0
+     * @implNote the 7 low bits of each byte are added to 0x7f, so no carry can propagate to the next byte : there are
+     * no false positives, unlike the shorter {@code (word - 0x01..) & ~word & 0x80..} test
+     */
+    private static long zeroBytes(long word) {
+        return ~(((word & LOW_BITS_MASK) + LOW_BITS_MASK) | word | LOW_BITS_MASK);
+    }
+}
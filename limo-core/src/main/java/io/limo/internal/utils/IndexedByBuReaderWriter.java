@@ -4,19 +4,65 @@
 
 package io.limo.internal.utils;
 
+import java.nio.ByteBuffer;
+
 /**
  * Write operations in ByteBuffer without any index bound check (very dangerous !!)
  */
 public interface IndexedByBuReaderWriter {
     byte readByteAt(long index);
+    short readShortAt(long index);
+    default short readShortAtLE(long index) {
+        return Short.reverseBytes(readShortAt(index));
+    }
     int readIntAt(long index);
     default int readIntAtLE(long index) {
         return Integer.reverseBytes(readIntAt(index));
     }
+    long readLongAt(long index);
+    default long readLongAtLE(long index) {
+        return Long.reverseBytes(readLongAt(index));
+    }
     void writeByteAt(long index, byte value);
+    void writeShortAt(long index, short value);
+    default void writeShortAtLE(long index, short value) {
+        writeShortAt(index, Short.reverseBytes(value));
+    }
     void writeIntAt(long index, int value);
     default void writeIntAtLE(long index, int value) {
         writeIntAt(index, Integer.reverseBytes(value));
     }
+    void writeLongAt(long index, long value);
+    default void writeLongAtLE(long index, long value) {
+        writeLongAt(index, Long.reverseBytes(value));
+    }
+
+    /**
+     * Copy {@code length} bytes starting at {@code index} into {@code dst} byte array, starting at {@code offset}
+     */
+    void readBytesAt(long index, byte[] dst, int offset, int length);
+
+    /**
+     * Copy {@code dst.remaining()} bytes starting at {@code index} into {@code dst}, {@code dst} position is
+     * increased by the number of copied bytes
+     */
+    void readBytesAt(long index, ByteBuffer dst);
+
+    /**
+     * Copy {@code length} bytes of {@code src} byte array, starting at {@code offset}, at {@code index}
+     */
+    void writeBytesAt(long index, byte[] src, int offset, int length);
+
+    /**
+     * Copy {@code src.remaining()} bytes of {@code src} at {@code index}, {@code src} position is increased by the
+     * number of copied bytes
+     */
+    void writeBytesAt(long index, ByteBuffer src);
+
+    /**
+     * Set {@code length} bytes starting at {@code index} to {@code value}
+     */
+    void fill(long index, long length, byte value);
+
     byte[] toByteArray();
 }
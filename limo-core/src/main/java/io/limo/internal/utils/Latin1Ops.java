@@ -5,7 +5,14 @@
 package io.limo.internal.utils;
 
 import io.limo.memory.ByBuOffHeap;
+import io.limo.memory.MutableOffHeap;
+import io.limo.memory.OffHeap;
+import io.limo.memory.OffHeapArena;
 import io.limo.memory.OffHeapFactory;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.LongFunction;
 
 public final class Latin1Ops {
 
@@ -39,4 +46,67 @@ public final class Latin1Ops {
         }
         return bbMemory.slice(0, writtenBytes);
     }
+
+    /**
+     * Transcode Latin1 off-heap memory to UTF-8 off-heap memory, bytes never go through the heap
+     *
+     * @param latin1 Latin1 off-heap memory
+     * @return a newly allocated UTF-8 encoded off-heap memory, it must be closed by the caller
+     */
+    public static @NotNull MutableOffHeap encodeLatin1ToUtf8(@NotNull OffHeap latin1) {
+        return encodeLatin1ToUtf8(latin1, byteSize -> OffHeapFactory.allocate(byteSize));
+    }
+
+    /**
+     * Transcode Latin1 off-heap memory to UTF-8 off-heap memory allocated in {@code arena}, bytes never go through
+     * the heap
+     *
+     * @param latin1 Latin1 off-heap memory
+     * @return a UTF-8 encoded off-heap memory, it is released when {@code arena} is closed
+     */
+    public static @NotNull MutableOffHeap encodeLatin1ToUtf8(@NotNull OffHeap latin1, @NotNull OffHeapArena arena) {
+        Objects.requireNonNull(arena);
+        return encodeLatin1ToUtf8(latin1, byteSize -> arena.allocate(byteSize));
+    }
+
+    private static @NotNull MutableOffHeap encodeLatin1ToUtf8(@NotNull OffHeap latin1,
+                                                              @NotNull LongFunction<MutableOffHeap> allocator) {
+        final var byteSize = latin1.getByteSize();
+
+        // first pass : each non ASCII Latin1 byte is encoded with 2 bytes in UTF-8
+        var utf8ByteSize = byteSize;
+        var index = 0L;
+        for (; index <= byteSize - Long.BYTES; index += Long.BYTES) {
+            utf8ByteSize += Long.bitCount(latin1.readLongAt(index) & AsciiOps.NEGATIVES_MASK);
+        }
+        for (; index < byteSize; index++) {
+            if (latin1.readByteAt(index) < 0) {
+                utf8ByteSize++;
+            }
+        }
+
+        // second pass : copy ASCII bytes 8 at a time, encode non ASCII bytes with 2 bytes
+        final var utf8 = allocator.apply(utf8ByteSize);
+        var utf8Index = 0L;
+        index = 0L;
+        while (index < byteSize) {
+            if (index <= byteSize - Long.BYTES) {
+                final var value = latin1.readLongAt(index);
+                if ((value & AsciiOps.NEGATIVES_MASK) == 0) {
+                    utf8.writeLongAt(utf8Index, value);
+                    index += Long.BYTES;
+                    utf8Index += Long.BYTES;
+                    continue;
+                }
+            }
+            final var c = latin1.readByteAt(index++);
+            if (c < 0) {
+                utf8.writeByteAt(utf8Index++, (byte) (0xc0 | ((c & 0xff) >> 6)));
+                utf8.writeByteAt(utf8Index++, (byte) (0x80 | (c & 0x3f)));
+            } else {
+                utf8.writeByteAt(utf8Index++, c);
+            }
+        }
+        return utf8;
+    }
 }
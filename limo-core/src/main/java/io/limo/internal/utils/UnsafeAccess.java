@@ -204,6 +204,22 @@ public final class UnsafeAccess {
         UNSAFE.putInt(address, value);
     }
 
+    static short getShort(long address) {
+        return UNSAFE.getShort(address);
+    }
+
+    static void putShort(long address, short value) {
+        UNSAFE.putShort(address, value);
+    }
+
+    static long getLong(long address) {
+        return UNSAFE.getLong(address);
+    }
+
+    static void putLong(long address, long value) {
+        UNSAFE.putLong(address, value);
+    }
+
     static byte getByte(Object target, long offset) {
         return UNSAFE.getByte(target, offset);
     }
@@ -247,4 +263,8 @@ public final class UnsafeAccess {
     static void copyMemory(Object srcBase, long srcOffset, Object destBase, long destOffset, long bytes) {
         UNSAFE.copyMemory(srcBase, srcOffset, destBase, destOffset, bytes);
     }
+
+    static void setMemory(long address, long bytes, byte value) {
+        UNSAFE.setMemory(address, bytes, value);
+    }
 }
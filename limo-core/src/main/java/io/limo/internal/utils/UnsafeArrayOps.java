@@ -4,6 +4,10 @@
 
 package io.limo.internal.utils;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
 /**
  * Util class providing unsafe optimised operations on arrays (fallback to safe if unsafe is not supported)
  */
@@ -19,6 +23,13 @@ public final class UnsafeArrayOps {
         return OPS.getByte(target, index);
     }
 
+    /**
+     * @return 8 bytes starting at {@code index} as a long, in native byte order
+     */
+    public static long getLong(byte[] target, long index) {
+        return OPS.getLong(target, index);
+    }
+
     /*static void arraycopy(byte[] src, long srcIndex, byte[] target, long targetIndex, long length) {
         System.arraycopy(src, (int) srcIndex, target, (int) targetIndex, (int) length);
     }*/
@@ -26,6 +37,8 @@ public final class UnsafeArrayOps {
     private static abstract class Ops {
 
         abstract byte getByte(byte[] target, long index);
+
+        abstract long getLong(byte[] target, long index);
     }
 
     static final class UnsafeOps extends Ops {
@@ -36,13 +49,26 @@ public final class UnsafeArrayOps {
         final byte getByte(byte[] target, long index) {
             return UnsafeAccess.getByte(target, BYTE_ARRAY_BASE_OFFSET + index);
         }
+
+        @Override
+        final long getLong(byte[] target, long index) {
+            return UnsafeAccess.getLong(target, BYTE_ARRAY_BASE_OFFSET + index);
+        }
     }
 
     private static final class SafeOps extends Ops {
 
+        private static final VarHandle LONG_HANDLE =
+                MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
         @Override
         final byte getByte(byte[] target, long index) {
             return target[(int) index];
         }
+
+        @Override
+        final long getLong(byte[] target, long index) {
+            return (long) LONG_HANDLE.get(target, (int) index);
+        }
     }
 }
@@ -6,6 +6,7 @@ package io.limo.internal.utils;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -92,6 +93,16 @@ public final class UnsafeByteBufferOps {
             return this.delegate.readByteAt(index);
         }
 
+        @Override
+        public short readShortAt(long index) {
+            return Short.reverseBytes(this.delegate.readShortAt(index));
+        }
+
+        @Override
+        public short readShortAtLE(long index) {
+            return this.delegate.readShortAt(index);
+        }
+
         @Override
         public int readIntAt(long index) {
             return Integer.reverseBytes(this.delegate.readIntAt(index));
@@ -102,11 +113,31 @@ public final class UnsafeByteBufferOps {
             return this.delegate.readIntAt(index);
         }
 
+        @Override
+        public long readLongAt(long index) {
+            return Long.reverseBytes(this.delegate.readLongAt(index));
+        }
+
+        @Override
+        public long readLongAtLE(long index) {
+            return this.delegate.readLongAt(index);
+        }
+
         @Override
         public void writeByteAt(long index, byte value) {
             this.delegate.writeByteAt(index, value);
         }
 
+        @Override
+        public void writeShortAt(long index, short value) {
+            this.delegate.writeShortAt(index, Short.reverseBytes(value));
+        }
+
+        @Override
+        public void writeShortAtLE(long index, short value) {
+            this.delegate.writeShortAt(index, value);
+        }
+
         @Override
         public void writeIntAt(long index, int value) {
             this.delegate.writeIntAt(index, Integer.reverseBytes(value));
@@ -117,6 +148,41 @@ public final class UnsafeByteBufferOps {
             this.delegate.writeIntAt(index, value);
         }
 
+        @Override
+        public void writeLongAt(long index, long value) {
+            this.delegate.writeLongAt(index, Long.reverseBytes(value));
+        }
+
+        @Override
+        public void writeLongAtLE(long index, long value) {
+            this.delegate.writeLongAt(index, value);
+        }
+
+        @Override
+        public void readBytesAt(long index, byte[] dst, int offset, int length) {
+            this.delegate.readBytesAt(index, dst, offset, length);
+        }
+
+        @Override
+        public void readBytesAt(long index, ByteBuffer dst) {
+            this.delegate.readBytesAt(index, dst);
+        }
+
+        @Override
+        public void writeBytesAt(long index, byte[] src, int offset, int length) {
+            this.delegate.writeBytesAt(index, src, offset, length);
+        }
+
+        @Override
+        public void writeBytesAt(long index, ByteBuffer src) {
+            this.delegate.writeBytesAt(index, src);
+        }
+
+        @Override
+        public void fill(long index, long length, byte value) {
+            this.delegate.fill(index, length, value);
+        }
+
         @Override
         public byte[] toByteArray() {
             return this.delegate.toByteArray();
@@ -191,21 +257,92 @@ public final class UnsafeByteBufferOps {
                 return UnsafeAccess.getByte(this.baseAddress + index);
             }
 
+            @Override
+            public short readShortAt(long index) {
+                return UnsafeAccess.getShort(this.baseAddress + index);
+            }
+
             @Override
             public int readIntAt(long index) {
                 return UnsafeAccess.getInt(this.baseAddress + index);
             }
 
+            @Override
+            public long readLongAt(long index) {
+                return UnsafeAccess.getLong(this.baseAddress + index);
+            }
+
             @Override
             public void writeByteAt(long index, byte value) {
                 UnsafeAccess.putByte(this.baseAddress + index, value);
             }
 
+            @Override
+            public void writeShortAt(long index, short value) {
+                UnsafeAccess.putShort(this.baseAddress + index, value);
+            }
+
             @Override
             public void writeIntAt(long index, int value) {
                 UnsafeAccess.putInt(this.baseAddress + index, value);
             }
 
+            @Override
+            public void writeLongAt(long index, long value) {
+                UnsafeAccess.putLong(this.baseAddress + index, value);
+            }
+
+            @Override
+            public void readBytesAt(long index, byte[] dst, int offset, int length) {
+                UnsafeAccess.copyMemory(null, this.baseAddress + index, dst,
+                        UnsafeArrayOps.UnsafeOps.BYTE_ARRAY_BASE_OFFSET + offset, length);
+            }
+
+            @Override
+            public void readBytesAt(long index, ByteBuffer dst) {
+                if (dst.isReadOnly()) {
+                    throw new ReadOnlyBufferException();
+                }
+                final var position = dst.position();
+                final var length = dst.remaining();
+                if (dst.isDirect()) {
+                    UnsafeAccess.copyMemory(null, this.baseAddress + index, null,
+                            getBaseAddress(dst) + position, length);
+                } else {
+                    readBytesAt(index, dst.array(), dst.arrayOffset() + position, length);
+                }
+                dst.position(position + length);
+            }
+
+            @Override
+            public void writeBytesAt(long index, byte[] src, int offset, int length) {
+                UnsafeAccess.copyMemory(src, UnsafeArrayOps.UnsafeOps.BYTE_ARRAY_BASE_OFFSET + offset, null,
+                        this.baseAddress + index, length);
+            }
+
+            @Override
+            public void writeBytesAt(long index, ByteBuffer src) {
+                final var position = src.position();
+                final var length = src.remaining();
+                if (src.isDirect()) {
+                    UnsafeAccess.copyMemory(null, getBaseAddress(src) + position, null,
+                            this.baseAddress + index, length);
+                } else if (src.hasArray()) {
+                    writeBytesAt(index, src.array(), src.arrayOffset() + position, length);
+                } else {
+                    // readonly heap ByteBuffer, its array is not accessible
+                    for (var i = 0; i < length; i++) {
+                        UnsafeAccess.putByte(this.baseAddress + index + i, src.get(position + i));
+                    }
+                }
+                src.position(position + length);
+            }
+
+            @Override
+            public void fill(long index, long length, byte value) {
+                UnsafeAccess.setMemory(this.baseAddress + index, length, value);
+            }
+
             @Override
             public byte[] toByteArray() {
                 final var bytes = new byte[this.byteSize];
@@ -279,21 +416,76 @@ public final class UnsafeByteBufferOps {
                 return bybu.get((int) index);
             }
 
+            @Override
+            public short readShortAt(long index) {
+                return bybu.getShort((int) index);
+            }
+
             @Override
             public int readIntAt(long index) {
                 return bybu.getInt((int) index);
             }
 
+            @Override
+            public long readLongAt(long index) {
+                return bybu.getLong((int) index);
+            }
+
             @Override
             public void writeByteAt(long index, byte value) {
                 bybu.put((int) index, value);
             }
 
+            @Override
+            public void writeShortAt(long index, short value) {
+                bybu.putShort((int) index, value);
+            }
+
             @Override
             public void writeIntAt(long index, int value) {
                 bybu.putInt((int) index, value);
             }
 
+            @Override
+            public void writeLongAt(long index, long value) {
+                bybu.putLong((int) index, value);
+            }
+
+            @Override
+            public void readBytesAt(long index, byte[] dst, int offset, int length) {
+                view(index, length).get(dst, offset, length);
+            }
+
+            @Override
+            public void readBytesAt(long index, ByteBuffer dst) {
+                dst.put(view(index, dst.remaining()));
+            }
+
+            @Override
+            public void writeBytesAt(long index, byte[] src, int offset, int length) {
+                view(index, length).put(src, offset, length);
+            }
+
+            @Override
+            public void writeBytesAt(long index, ByteBuffer src) {
+                view(index, src.remaining()).put(src);
+            }
+
+            @Override
+            public void fill(long index, long length, byte value) {
+                final var end = (int) (index + length);
+                for (var i = (int) index; i < end; i++) {
+                    bybu.put(i, value);
+                }
+            }
+
+            /**
+             * @return a view of {@code length} bytes of this ByteBuffer starting at {@code index}
+             */
+            private ByteBuffer view(long index, int length) {
+                return bybu.duplicate().position((int) index).limit((int) index + length);
+            }
+
             @Override
             public byte[] toByteArray() {
                 final var bytes = new byte[this.bybu.capacity()];
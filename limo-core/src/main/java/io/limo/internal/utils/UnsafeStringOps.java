@@ -5,10 +5,15 @@
 package io.limo.internal.utils;
 
 import io.limo.memory.ByBuOffHeap;
+import io.limo.memory.MutableOffHeap;
+import io.limo.memory.OffHeap;
 import io.limo.memory.OffHeapFactory;
+import org.jetbrains.annotations.NotNull;
 
+import java.nio.ByteOrder;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 /**
  * Util class providing unsafe optimised operations on String (fallback to safe if unsafe is not supported)
@@ -17,6 +22,23 @@ public final class UnsafeStringOps {
 
     private static final Ops OPS = (UnsafeAccess.UNSAFE_STRING_OFFSETS != null) ? new UnsafeOps() : new SafeOps();
 
+    /**
+     * UTF-16 charset that uses native byte order
+     */
+    private static final Charset NATIVE_UTF_16 = (ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN)
+            ? StandardCharsets.UTF_16BE : StandardCharsets.UTF_16LE;
+
+    /**
+     * All the 128 ASCII chars
+     */
+    private static final byte[] ASCII_BYTES = new byte[128];
+
+    static {
+        for (var i = 0; i < ASCII_BYTES.length; i++) {
+            ASCII_BYTES[i] = (byte) i;
+        }
+    }
+
     // uninstanciable
     private UnsafeStringOps() {
     }
@@ -25,10 +47,176 @@ public final class UnsafeStringOps {
         return OPS.encode(string, charset);
     }
 
+    /**
+     * Decode bytes encoded with {@code charset} to a String
+     * <p>Never change the parameter byte array after this call, it may become the value of the returned String
+     */
+    public static String decode(byte[] bytes, Charset charset) {
+        return OPS.decode(bytes, charset);
+    }
+
+    /**
+     * Decode a region of off-heap memory encoded with {@code charset} to a String
+     * <p>Bytes are copied once, straight from off-heap memory into the byte array that is decoded
+     *
+     * @param offset from position (inclusive)
+     * @param length number of bytes to decode
+     * @throws UnsupportedOperationException if {@code length} is greater than {@link Integer#MAX_VALUE}, bytes cannot
+     *                                       fit into a byte array
+     */
+    public static String decode(@NotNull OffHeap memory, long offset, long length, Charset charset) {
+        if ((offset | length) < 0 || length > memory.getByteSize() - offset) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Incorrect parameters to decode OffHeap : byteSize=%d, offset=%d, length=%d",
+                            memory.getByteSize(), offset, length));
+        }
+        if (length > Integer.MAX_VALUE) {
+            throw new UnsupportedOperationException(
+                    String.format("Length=%d is too big to decode off-heap memory to a String", length));
+        }
+        final var bytes = new byte[(int) length];
+        memory.readBytesAt(offset, bytes, 0, bytes.length);
+        return OPS.decode(bytes, charset);
+    }
+
+    /**
+     * @return true if ASCII chars are encoded with the same single byte in {@code charset}
+     * @implNote {@link Charset#contains(Charset)} is not enough : UTF-16 contains US_ASCII but is not ASCII compatible
+     */
+    public static boolean isAsciiCompatible(@NotNull Charset charset) {
+        if (charset == StandardCharsets.UTF_8
+                || charset == StandardCharsets.ISO_8859_1
+                || charset == StandardCharsets.US_ASCII) {
+            return true;
+        }
+        return charset.contains(StandardCharsets.US_ASCII)
+                && Arrays.equals(ASCII_BYTES, new String(ASCII_BYTES, StandardCharsets.US_ASCII).getBytes(charset));
+    }
+
+    /**
+     * @return number of bytes of {@code string} encoded in UTF-8
+     */
+    public static long utf8Length(@NotNull String string) {
+        return OPS.utf8Length(string, 0, string.length());
+    }
+
+    /**
+     * @param fromChar index of the first char (inclusive)
+     * @param toChar   index of the last char (exclusive)
+     * @return number of bytes of {@code string} section encoded in UTF-8
+     */
+    public static long utf8Length(@NotNull String string, int fromChar, int toChar) {
+        charsIndexCheck(string, fromChar, toChar);
+        return OPS.utf8Length(string, fromChar, toChar);
+    }
+
+    /**
+     * Encode {@code string} in UTF-8, straight into {@code dst} at {@code index}
+     *
+     * @return number of written bytes, it is {@link #utf8Length(String)}
+     * @throws IndexOutOfBoundsException if there is not enough room in {@code dst} to write encoded bytes
+     */
+    public static long encodeUtf8(@NotNull String string, @NotNull MutableOffHeap dst, long index) {
+        utf8RoomCheck(string, 0, string.length(), dst, index);
+        return OPS.encodeUtf8(string, 0, string.length(), dst, index);
+    }
+
+    /**
+     * Encode {@code string} section in UTF-8, straight into {@code dst} at {@code index}
+     * <p>An unpaired surrogate is encoded as '?', exactly as {@link String#getBytes(Charset)} does, so a surrogate
+     * pair must not be split by {@code fromChar} or {@code toChar}
+     *
+     * @param fromChar index of the first char (inclusive)
+     * @param toChar   index of the last char (exclusive)
+     * @return number of written bytes, it is {@link #utf8Length(String, int, int)}
+     * @throws IndexOutOfBoundsException if there is not enough room in {@code dst} to write encoded bytes
+     */
+    public static long encodeUtf8(@NotNull String string, int fromChar, int toChar, @NotNull MutableOffHeap dst,
+                                  long index) {
+        charsIndexCheck(string, fromChar, toChar);
+        utf8RoomCheck(string, fromChar, toChar, dst, index);
+        return OPS.encodeUtf8(string, fromChar, toChar, dst, index);
+    }
+
+    private static void charsIndexCheck(String string, int fromChar, int toChar) {
+        if ((fromChar | toChar | toChar - fromChar | string.length() - toChar) < 0) {
+            throw new StringIndexOutOfBoundsException(
+                    String.format("Incorrect parameters to encode String : length=%d, fromChar=%d, toChar=%d",
+                            string.length(), fromChar, toChar));
+        }
+    }
+
+    /**
+     * Checks there is enough room in {@code dst} from {@code index} to write the UTF-8 encoded string section. Exact
+     * UTF-8 length is only computed if the upper bound, 3 bytes per char, does not fit
+     */
+    private static void utf8RoomCheck(String string, int fromChar, int toChar, MutableOffHeap dst, long index) {
+        final var room = dst.getByteSize() - index;
+        if (index < 0 || room < 0
+                || (room < 3L * (toChar - fromChar) && room < OPS.utf8Length(string, fromChar, toChar))) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Not enough room to encode String in UTF-8 : byteSize=%d, index=%d",
+                            dst.getByteSize(), index));
+        }
+    }
+
+    /**
+     * Write a not ASCII, not surrogate char encoded in UTF-8
+     *
+     * @return index after the written bytes
+     */
+    private static long writeUtf8Char(MutableOffHeap dst, long index, char c) {
+        if (c < 0x800) {
+            dst.writeByteAt(index, (byte) (0xc0 | (c >> 6)));
+            dst.writeByteAt(index + 1, (byte) (0x80 | (c & 0x3f)));
+            return index + 2;
+        }
+        dst.writeByteAt(index, (byte) (0xe0 | (c >> 12)));
+        dst.writeByteAt(index + 1, (byte) (0x80 | ((c >> 6) & 0x3f)));
+        dst.writeByteAt(index + 2, (byte) (0x80 | (c & 0x3f)));
+        return index + 3;
+    }
+
+    /**
+     * Write a supplementary code point encoded in UTF-8
+     *
+     * @return index after the written bytes
+     */
+    private static long writeUtf8CodePoint(MutableOffHeap dst, long index, int codePoint) {
+        dst.writeByteAt(index, (byte) (0xf0 | (codePoint >> 18)));
+        dst.writeByteAt(index + 1, (byte) (0x80 | ((codePoint >> 12) & 0x3f)));
+        dst.writeByteAt(index + 2, (byte) (0x80 | ((codePoint >> 6) & 0x3f)));
+        dst.writeByteAt(index + 3, (byte) (0x80 | (codePoint & 0x3f)));
+        return index + 4;
+    }
+
+    /**
+     * @return number of bytes of a char encoded in UTF-8, a surrogate pair is encoded with 4 bytes, an unpaired
+     * surrogate with 1 byte : '?'
+     */
+    private static int utf8CharLength(char c, boolean isPaired) {
+        if (c < 0x80) {
+            return 1;
+        }
+        if (c < 0x800) {
+            return 2;
+        }
+        if (Character.isSurrogate(c)) {
+            return isPaired ? 4 : 1;
+        }
+        return 3;
+    }
+
+    /**
+     * @param bytes Latin1 bytes
+     */
     public static String toLatin1String(byte[] bytes) {
         return OPS.toLatin1String(bytes);
     }
 
+    /**
+     * @param bytes UTF-16 bytes in native byte order, must contain at least one char that is not Latin1
+     */
     public static String toUtf16String(byte[] bytes) {
         return OPS.toUtf16String(bytes);
     }
@@ -40,6 +228,16 @@ public final class UnsafeStringOps {
          */
         abstract Result encode(String string, Charset charset);
 
+        /**
+         * Never change the parameter byte array
+         * <p>would break String's immutability when it was used as the value of returned String !
+         */
+        abstract String decode(byte[] bytes, Charset charset);
+
+        abstract long utf8Length(String string, int fromChar, int toChar);
+
+        abstract long encodeUtf8(String string, int fromChar, int toChar, MutableOffHeap dst, long index);
+
         /**
          * Never change the parameter byte array
          * <p>would break String's immutability when using unsafe instantiation !
@@ -58,6 +256,21 @@ public final class UnsafeStringOps {
         private static final byte LATIN1 = 0;
         private static final byte UTF16 = 1;
         private static final UnsafeAccess.StringOffsets STRING_OFFSETS = UnsafeAccess.UNSAFE_STRING_OFFSETS;
+        private static final byte[] EMPTY = new byte[0];
+
+        // UTF-16 value of a String is stored in native byte order
+        private static final int HI_BYTE_SHIFT;
+        private static final int LO_BYTE_SHIFT;
+
+        static {
+            if (ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN) {
+                HI_BYTE_SHIFT = 8;
+                LO_BYTE_SHIFT = 0;
+            } else {
+                HI_BYTE_SHIFT = 0;
+                LO_BYTE_SHIFT = 8;
+            }
+        }
 
         static boolean isLatin1(String string) {
             return UnsafeAccess.getByte(string, STRING_OFFSETS.coderFieldOffset) == LATIN1;
@@ -85,7 +298,7 @@ public final class UnsafeStringOps {
             }
 
             // ASCII compatible target charset require special path
-            if (charset.contains(StandardCharsets.US_ASCII)) {
+            if (isAsciiCompatible(charset)) {
                 // Check for Latin1 (ISO_8859_1) compact String via Unsafe call
                 if (isLatin1(string)) {
                     // get Latin1 byte array directly from String via Unsafe call
@@ -96,13 +309,7 @@ public final class UnsafeStringOps {
                         return new Result().withAscii(bytes);
                     }
 
-                    // 2) UTF-8 is ASCII compatible but is NOT ISO_8859_1 compatible,
-                    // must encode this non Ascii Latin1 byte array to UTF-8
-                    if (charset.contains(StandardCharsets.UTF_8)) {
-                        return new Result().withNotAsciiNotLatin1Utf8(Latin1Ops.encodelatinBytesToUTF8(bytes));
-                    }
-
-                    // 3) Required charset is ASCII compatible but is not UTF-8 compatible,
+                    // 2) Required charset is ASCII compatible but is not UTF-8 or ISO_8859_1,
                     // must encode this non Ascii String to target charset
                 }
             }
@@ -126,8 +333,16 @@ public final class UnsafeStringOps {
                 // must encode this non Ascii Latin1 bytes to UTF-8
                 return new Result().withNotAsciiNotLatin1Utf8(Latin1Ops.encodelatinBytesToUTF8(bytes));
             }
-            // encode this not Latin1 String to target charset
-            return new Result().withNotAsciiNotLatin1(string.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+            // 3) encode this not Latin1 String straight to off-heap memory, sized by a first counting pass
+            final var utf8Length = UnsafeStringOps.utf8Length(string);
+            if (utf8Length > Integer.MAX_VALUE) {
+                // too big for a ByBuOffHeap, let String fail exactly as it always does
+                return new Result().withNotAsciiNotLatin1(string.getBytes(StandardCharsets.UTF_8),
+                        StandardCharsets.UTF_8);
+            }
+            final var bbMemory = OffHeapFactory.allocate((int) utf8Length);
+            encodeUtf16ToUtf8(getBytes(string), 0, string.length(), bbMemory, 0);
+            return new Result().withNotAsciiNotLatin1Utf8(bbMemory);
         }
 
         private static Result encodeLatin1(String string) {
@@ -167,6 +382,329 @@ public final class UnsafeStringOps {
             return new Result().withAscii(string.getBytes(StandardCharsets.US_ASCII));
         }
 
+        @Override
+        final long utf8Length(String string, int fromChar, int toChar) {
+            final var value = getBytes(string);
+            if (isLatin1(string)) {
+                // each non ASCII Latin1 char is encoded with 2 bytes
+                var length = (long) toChar - fromChar;
+                for (var charIndex = fromChar; charIndex < toChar; charIndex++) {
+                    if (value[charIndex] < 0) {
+                        length++;
+                    }
+                }
+                return length;
+            }
+            var length = 0L;
+            for (var charIndex = fromChar; charIndex < toChar; charIndex++) {
+                final var c = getChar(value, charIndex);
+                final var isPaired = Character.isHighSurrogate(c) && charIndex + 1 < toChar
+                        && Character.isLowSurrogate(getChar(value, charIndex + 1));
+                length += utf8CharLength(c, isPaired);
+                if (isPaired) {
+                    charIndex++;
+                }
+            }
+            return length;
+        }
+
+        @Override
+        final long encodeUtf8(String string, int fromChar, int toChar, MutableOffHeap dst, long index) {
+            final var value = getBytes(string);
+            if (isLatin1(string)) {
+                return encodeLatin1ToUtf8(value, fromChar, toChar, dst, index);
+            }
+            return encodeUtf16ToUtf8(value, fromChar, toChar, dst, index);
+        }
+
+        private static long encodeLatin1ToUtf8(byte[] value, int fromChar, int toChar, MutableOffHeap dst,
+                                               long index) {
+            var dstIndex = index;
+            var charIndex = fromChar;
+            while (charIndex < toChar) {
+                // copy 8 ASCII chars at a time
+                if (charIndex <= toChar - Long.BYTES) {
+                    final var chars = UnsafeArrayOps.getLong(value, charIndex);
+                    if ((chars & AsciiOps.NEGATIVES_MASK) == 0) {
+                        // chars were read in native byte order
+                        if (HI_BYTE_SHIFT == 8) {
+                            dst.writeLongAt(dstIndex, chars);
+                        } else {
+                            dst.writeLongAtLE(dstIndex, chars);
+                        }
+                        charIndex += Long.BYTES;
+                        dstIndex += Long.BYTES;
+                        continue;
+                    }
+                }
+                final var c = value[charIndex++];
+                if (c < 0) {
+                    dstIndex = writeUtf8Char(dst, dstIndex, (char) (c & 0xff));
+                } else {
+                    dst.writeByteAt(dstIndex++, c);
+                }
+            }
+            return dstIndex - index;
+        }
+
+        private static long encodeUtf16ToUtf8(byte[] value, int fromChar, int toChar, MutableOffHeap dst,
+                                              long index) {
+            var dstIndex = index;
+            for (var charIndex = fromChar; charIndex < toChar; charIndex++) {
+                final var c = getChar(value, charIndex);
+                if (c < 0x80) {
+                    dst.writeByteAt(dstIndex++, (byte) c);
+                } else if (!Character.isSurrogate(c)) {
+                    dstIndex = writeUtf8Char(dst, dstIndex, c);
+                } else if (Character.isHighSurrogate(c) && charIndex + 1 < toChar
+                        && Character.isLowSurrogate(getChar(value, charIndex + 1))) {
+                    dstIndex = writeUtf8CodePoint(dst, dstIndex, Character.toCodePoint(c, getChar(value, ++charIndex)));
+                } else {
+                    // unpaired surrogate
+                    dst.writeByteAt(dstIndex++, (byte) '?');
+                }
+            }
+            return dstIndex - index;
+        }
+
+        /**
+         * Read a char of a UTF-16 String value, it is stored in native byte order
+         */
+        private static char getChar(byte[] value, int charIndex) {
+            final var index = charIndex << 1;
+            return (char) (((value[index] & 0xff) << HI_BYTE_SHIFT) | ((value[index + 1] & 0xff) << LO_BYTE_SHIFT));
+        }
+
+        @Override
+        final String decode(byte[] bytes, Charset charset) {
+            // fast-path 1) UTF-8 is the most widely used charset, it must be top priority !
+            if (charset == StandardCharsets.UTF_8) {
+                return decodeUtf8(bytes);
+            }
+
+            // fast-path 2) ISO_8859_1 bytes are directly the value of a Latin1 compact String
+            if (charset == StandardCharsets.ISO_8859_1) {
+                return toLatin1String(bytes);
+            }
+
+            // fast-path 3) ASCII
+            if (charset == StandardCharsets.US_ASCII) {
+                if (!AsciiOps.hasNegatives(bytes)) {
+                    return toLatin1String(bytes);
+                }
+                // We know these bytes are not ASCII, let String replace the non ASCII bytes
+                return new String(bytes, StandardCharsets.US_ASCII);
+            }
+
+            // fast-path 4) UTF-16
+            if (charset == StandardCharsets.UTF_16) {
+                // byte-order mark is optional, BIG ENDIAN is the default
+                if (bytes.length >= 2 && bytes[0] == (byte) 0xFF && bytes[1] == (byte) 0xFE) {
+                    return decodeUtf16(bytes, 2, false, charset);
+                }
+                final var hasBom = bytes.length >= 2 && bytes[0] == (byte) 0xFE && bytes[1] == (byte) 0xFF;
+                return decodeUtf16(bytes, hasBom ? 2 : 0, true, charset);
+            }
+            if (charset == StandardCharsets.UTF_16BE) {
+                return decodeUtf16(bytes, 0, true, charset);
+            }
+            if (charset == StandardCharsets.UTF_16LE) {
+                return decodeUtf16(bytes, 0, false, charset);
+            }
+
+            // decode bytes from other charsets
+            return new String(bytes, charset);
+        }
+
+        private String decodeUtf8(byte[] bytes) {
+            // 1) all bytes are Ascii, they are directly the value of a Latin1 compact String
+            if (!AsciiOps.hasNegatives(bytes)) {
+                return toLatin1String(bytes);
+            }
+
+            // first pass : count chars, and check if all chars are Latin1
+            var charCount = 0;
+            var isLatin1 = true;
+            var index = 0;
+            while (index < bytes.length) {
+                final int b1 = bytes[index];
+                if (b1 >= 0) {
+                    // 1 byte : 0xxxxxxx
+                    index++;
+                    charCount++;
+                } else if ((b1 >> 5) == -2 && (b1 & 0x1e) != 0) {
+                    // 2 bytes : 110xxxxx 10xxxxxx, not overlong
+                    if (index + 1 >= bytes.length || isNotContinuation(bytes[index + 1])) {
+                        return decodeMalformedUtf8(bytes);
+                    }
+                    // only 0xC2 and 0xC3 leading bytes encode a Latin1 char
+                    if ((b1 & 0xff) > 0xc3) {
+                        isLatin1 = false;
+                    }
+                    index += 2;
+                    charCount++;
+                } else if ((b1 >> 4) == -2) {
+                    // 3 bytes : 1110xxxx 10xxxxxx 10xxxxxx
+                    if (index + 2 >= bytes.length
+                            || isNotContinuation(bytes[index + 1]) || isNotContinuation(bytes[index + 2])) {
+                        return decodeMalformedUtf8(bytes);
+                    }
+                    final var c = utf8Char(b1, bytes[index + 1], bytes[index + 2]);
+                    if (c < 0x800 || Character.isSurrogate(c)) {
+                        return decodeMalformedUtf8(bytes);
+                    }
+                    isLatin1 = false;
+                    index += 3;
+                    charCount++;
+                } else if ((b1 >> 3) == -2) {
+                    // 4 bytes : 11110xxx 10xxxxxx 10xxxxxx 10xxxxxx, a surrogate pair in UTF-16
+                    if (index + 3 >= bytes.length || isNotContinuation(bytes[index + 1])
+                            || isNotContinuation(bytes[index + 2]) || isNotContinuation(bytes[index + 3])) {
+                        return decodeMalformedUtf8(bytes);
+                    }
+                    final var codePoint = utf8CodePoint(b1, bytes[index + 1], bytes[index + 2], bytes[index + 3]);
+                    if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT || codePoint > Character.MAX_CODE_POINT) {
+                        return decodeMalformedUtf8(bytes);
+                    }
+                    isLatin1 = false;
+                    index += 4;
+                    charCount += 2;
+                } else {
+                    return decodeMalformedUtf8(bytes);
+                }
+            }
+
+            // second pass : bytes are well-formed UTF-8, decode them
+            if (isLatin1) {
+                final var latin1 = new byte[charCount];
+                var charIndex = 0;
+                index = 0;
+                while (index < bytes.length) {
+                    final int b1 = bytes[index++];
+                    if (b1 >= 0) {
+                        latin1[charIndex++] = (byte) b1;
+                    } else {
+                        latin1[charIndex++] = (byte) (((b1 & 0x1f) << 6) | (bytes[index++] & 0x3f));
+                    }
+                }
+                return toLatin1String(latin1);
+            }
+
+            final var utf16 = new byte[charCount << 1];
+            var charIndex = 0;
+            index = 0;
+            while (index < bytes.length) {
+                final int b1 = bytes[index];
+                if (b1 >= 0) {
+                    putChar(utf16, charIndex++, (char) b1);
+                    index++;
+                } else if ((b1 >> 5) == -2) {
+                    putChar(utf16, charIndex++, (char) (((b1 & 0x1f) << 6) | (bytes[index + 1] & 0x3f)));
+                    index += 2;
+                } else if ((b1 >> 4) == -2) {
+                    putChar(utf16, charIndex++, utf8Char(b1, bytes[index + 1], bytes[index + 2]));
+                    index += 3;
+                } else {
+                    final var codePoint = utf8CodePoint(b1, bytes[index + 1], bytes[index + 2], bytes[index + 3]);
+                    putChar(utf16, charIndex++, Character.highSurrogate(codePoint));
+                    putChar(utf16, charIndex++, Character.lowSurrogate(codePoint));
+                    index += 4;
+                }
+            }
+            return toUtf16String(utf16);
+        }
+
+        private static boolean isNotContinuation(byte b) {
+            // continuation byte : 10xxxxxx
+            return (b & 0xc0) != 0x80;
+        }
+
+        private static char utf8Char(int b1, byte b2, byte b3) {
+            return (char) (((b1 & 0x0f) << 12) | ((b2 & 0x3f) << 6) | (b3 & 0x3f));
+        }
+
+        private static int utf8CodePoint(int b1, byte b2, byte b3, byte b4) {
+            return ((b1 & 0x07) << 18) | ((b2 & 0x3f) << 12) | ((b3 & 0x3f) << 6) | (b4 & 0x3f);
+        }
+
+        /**
+         * These bytes are not well-formed UTF-8, let String replace malformed sequences exactly as it always does
+         */
+        private static String decodeMalformedUtf8(byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * @param start index of the first char, after an optional byte-order mark
+         */
+        private String decodeUtf16(byte[] bytes, int start, boolean bigEndian, Charset charset) {
+            final var byteLength = bytes.length - start;
+            if ((byteLength & 1) != 0) {
+                // odd number of bytes, let String replace the last byte
+                return new String(bytes, charset);
+            }
+            if (byteLength == 0) {
+                return toLatin1String(EMPTY);
+            }
+
+            // first pass : check if all chars are Latin1, and that surrogates are paired
+            final var charCount = byteLength >> 1;
+            var isLatin1 = true;
+            for (var charIndex = 0; charIndex < charCount; charIndex++) {
+                final var c = getChar(bytes, start, charIndex, bigEndian);
+                if (c > 0xff) {
+                    isLatin1 = false;
+                    if (Character.isHighSurrogate(c)) {
+                        if (charIndex + 1 == charCount
+                                || !Character.isLowSurrogate(getChar(bytes, start, charIndex + 1, bigEndian))) {
+                            return new String(bytes, charset);
+                        }
+                        charIndex++;
+                    } else if (Character.isLowSurrogate(c)) {
+                        return new String(bytes, charset);
+                    }
+                }
+            }
+
+            // second pass
+            if (isLatin1) {
+                final var latin1 = new byte[charCount];
+                for (var charIndex = 0; charIndex < charCount; charIndex++) {
+                    latin1[charIndex] = (byte) getChar(bytes, start, charIndex, bigEndian);
+                }
+                return toLatin1String(latin1);
+            }
+
+            final var nativeBigEndian = HI_BYTE_SHIFT == 8;
+            if (start == 0 && bigEndian == nativeBigEndian) {
+                // bytes are already in native byte order, they are directly the value of a UTF-16 String
+                return toUtf16String(bytes);
+            }
+            // re-use bytes if possible : each char is read before being written at the same index
+            final var utf16 = (start == 0) ? bytes : new byte[byteLength];
+            for (var charIndex = 0; charIndex < charCount; charIndex++) {
+                putChar(utf16, charIndex, getChar(bytes, start, charIndex, bigEndian));
+            }
+            return toUtf16String(utf16);
+        }
+
+        private static char getChar(byte[] bytes, int start, int charIndex, boolean bigEndian) {
+            final var index = start + (charIndex << 1);
+            if (bigEndian) {
+                return (char) (((bytes[index] & 0xff) << 8) | (bytes[index + 1] & 0xff));
+            }
+            return (char) ((bytes[index] & 0xff) | ((bytes[index + 1] & 0xff) << 8));
+        }
+
+        /**
+         * Write a char in native byte order
+         */
+        private static void putChar(byte[] bytes, int charIndex, char c) {
+            final var index = charIndex << 1;
+            bytes[index] = (byte) (c >> HI_BYTE_SHIFT);
+            bytes[index + 1] = (byte) (c >> LO_BYTE_SHIFT);
+        }
+
         /**
          * This is a unsafe Latin1 String builder
          */
@@ -200,7 +738,7 @@ public final class UnsafeStringOps {
                 string = UnsafeAccess.allocateInstance(String.class);
             } catch (Throwable t) {
                 // should never happen
-                return new String(bytes, StandardCharsets.UTF_16);
+                return new String(bytes, NATIVE_UTF_16);
             }
 
             // init fields
@@ -214,10 +752,15 @@ public final class UnsafeStringOps {
 
     private static final class SafeOps extends Ops {
 
+        @Override
+        final String decode(byte[] bytes, Charset charset) {
+            return new String(bytes, charset);
+        }
+
         @Override
         final Result encode(String string, Charset charset) {
             // ASCII compatible target charset require special path
-            if (charset.contains(StandardCharsets.US_ASCII)) {
+            if (isAsciiCompatible(charset)) {
                 final var bytes = string.getBytes(charset);
 
                 // 1) ASCII bytes
@@ -237,14 +780,49 @@ public final class UnsafeStringOps {
             return new Result().withNotAsciiNotLatin1(string.getBytes(charset), charset);
         }
 
+        @Override
+        final long utf8Length(String string, int fromChar, int toChar) {
+            var length = 0L;
+            for (var charIndex = fromChar; charIndex < toChar; charIndex++) {
+                final var c = string.charAt(charIndex);
+                final var isPaired = Character.isHighSurrogate(c) && charIndex + 1 < toChar
+                        && Character.isLowSurrogate(string.charAt(charIndex + 1));
+                length += utf8CharLength(c, isPaired);
+                if (isPaired) {
+                    charIndex++;
+                }
+            }
+            return length;
+        }
+
+        @Override
+        final long encodeUtf8(String string, int fromChar, int toChar, MutableOffHeap dst, long index) {
+            var dstIndex = index;
+            for (var charIndex = fromChar; charIndex < toChar; charIndex++) {
+                final var c = string.charAt(charIndex);
+                if (c < 0x80) {
+                    dst.writeByteAt(dstIndex++, (byte) c);
+                } else if (!Character.isSurrogate(c)) {
+                    dstIndex = writeUtf8Char(dst, dstIndex, c);
+                } else if (Character.isHighSurrogate(c) && charIndex + 1 < toChar
+                        && Character.isLowSurrogate(string.charAt(charIndex + 1))) {
+                    dstIndex = writeUtf8CodePoint(dst, dstIndex, string.codePointAt(charIndex++));
+                } else {
+                    // unpaired surrogate
+                    dst.writeByteAt(dstIndex++, (byte) '?');
+                }
+            }
+            return dstIndex - index;
+        }
+
         @Override
         final String toLatin1String(byte[] bytes) {
             return new String(bytes, StandardCharsets.ISO_8859_1);
         }
 
         @Override
-        String toUtf16String(byte[] bytes) {
-            return new String(bytes, StandardCharsets.UTF_16);
+        final String toUtf16String(byte[] bytes) {
+            return new String(bytes, NATIVE_UTF_16);
         }
     }
 
@@ -0,0 +1,41 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.memory;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * This interface represents an off-heap memory region that is mapped to a region of a file.
+ * <p>MappedOffHeap can be obtained using one of the factory methods : see {@link OffHeapFactory#map(java.nio.file.Path)}
+ * <p>Closing a MappedOffHeap results in the backing memory-mapped file region to be unmapped
+ * <p>See {@link OffHeap} for a complete behavior description of a OffHeap
+ */
+public interface MappedOffHeap extends OffHeap {
+
+    /**
+     * Loads this memory region content into physical memory, so next reads will not trigger page faults
+     *
+     * @throws IllegalStateException if this memory has been closed, or if access occurs from a thread other than the
+     *                               thread owning this memory.
+     */
+    void load();
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return a new MappedOffHeap view with updated base position and limit addresses.
+     */
+    @Override
+    @NotNull MappedOffHeap slice(long offset, long length);
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return an acquired MappedOffHeap which can be used to access memory associated with this OffHeap from the
+     * current thread.
+     */
+    @Override
+    @NotNull MappedOffHeap acquire();
+}
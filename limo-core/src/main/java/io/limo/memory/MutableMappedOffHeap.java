@@ -0,0 +1,48 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.memory;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * This interface represents a writable off-heap memory region that is mapped to a region of a file.
+ * <p>MutableMappedOffHeap can be obtained using one of the factory methods : see
+ * {@link OffHeapFactory#mapMutable(java.nio.file.Path, long, long)}
+ */
+public interface MutableMappedOffHeap extends MappedOffHeap, MutableOffHeap {
+
+    /**
+     * Forces any changes made to this memory region content to be written to the storage device containing the
+     * mapped file
+     *
+     * @throws IllegalStateException if this memory has been closed, or if access occurs from a thread other than the
+     *                               thread owning this memory.
+     * @throws io.limo.LimoIOException if an I/O error occurs
+     */
+    void force();
+
+    /**
+     * @return a new immutable MappedOffHeap view of this MutableMappedOffHeap.
+     */
+    @Override
+    @NotNull MappedOffHeap asReadOnly();
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return a new MutableMappedOffHeap view with updated base position and limit addresses.
+     */
+    @Override
+    @NotNull MutableMappedOffHeap slice(long offset, long length);
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return an acquired MutableMappedOffHeap which can be used to access memory associated with this OffHeap from
+     * the current thread.
+     */
+    @Override
+    @NotNull MutableMappedOffHeap acquire();
+}
@@ -6,6 +6,8 @@ package io.limo.memory;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.ByteBuffer;
+
 public interface MutableOffHeap extends OffHeap {
 
     /**
@@ -38,6 +40,14 @@ public interface MutableOffHeap extends OffHeap {
      */
     @NotNull MutableByBuOffHeap asByBuOffHeap();
 
+    /**
+     * Set all bytes of this off-heap memory to {@code value}
+     *
+     * @throws IllegalStateException if this memory has been closed, or if access occurs from a thread other than the
+     *                               thread owning this memory.
+     */
+    void fill(byte value);
+
     /**
      * Write a byte at the specified absolute {@code index}
      *
@@ -45,6 +55,22 @@ public interface MutableOffHeap extends OffHeap {
      */
     void writeByteAt(long index, byte value);
 
+    /**
+     * Write a 2-byte short at the specified absolute {@code index}
+     * <p>bytes are using BIG ENDIAN byte order
+     *
+     * @implNote No index check !
+     */
+    void writeShortAt(long index, short value);
+
+    /**
+     * Write a 2-byte short at the specified absolute {@code index}
+     * <p>bytes are using LITTLE ENDIAN byte order
+     *
+     * @implNote No index check !
+     */
+    void writeShortAtLE(long index, short value);
+
     /**
      * Write a 4-byte int at the specified absolute {@code index}
      * <p>bytes are using BIG ENDIAN byte order
@@ -60,4 +86,84 @@ public interface MutableOffHeap extends OffHeap {
      * @implNote No index check !
      */
     void writeIntAtLE(long index, int value);
+
+    /**
+     * Write a 8-byte long at the specified absolute {@code index}
+     * <p>bytes are using BIG ENDIAN byte order
+     *
+     * @implNote No index check !
+     */
+    void writeLongAt(long index, long value);
+
+    /**
+     * Write a 8-byte long at the specified absolute {@code index}
+     * <p>bytes are using LITTLE ENDIAN byte order
+     *
+     * @implNote No index check !
+     */
+    void writeLongAtLE(long index, long value);
+
+    /**
+     * Write a 4-byte float at the specified absolute {@code index}
+     * <p>bytes are using BIG ENDIAN byte order
+     *
+     * @implNote No index check !
+     */
+    default void writeFloatAt(long index, float value) {
+        writeIntAt(index, Float.floatToRawIntBits(value));
+    }
+
+    /**
+     * Write a 4-byte float at the specified absolute {@code index}
+     * <p>bytes are using LITTLE ENDIAN byte order
+     *
+     * @implNote No index check !
+     */
+    default void writeFloatAtLE(long index, float value) {
+        writeIntAtLE(index, Float.floatToRawIntBits(value));
+    }
+
+    /**
+     * Write a 8-byte double at the specified absolute {@code index}
+     * <p>bytes are using BIG ENDIAN byte order
+     *
+     * @implNote No index check !
+     */
+    default void writeDoubleAt(long index, double value) {
+        writeLongAt(index, Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Write a 8-byte double at the specified absolute {@code index}
+     * <p>bytes are using LITTLE ENDIAN byte order
+     *
+     * @implNote No index check !
+     */
+    default void writeDoubleAtLE(long index, double value) {
+        writeLongAtLE(index, Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Copy {@code length} bytes of {@code src} byte array, starting at {@code offset}, at the specified absolute
+     * {@code index}
+     *
+     * @implNote No index check !
+     */
+    void writeBytesAt(long index, byte @NotNull [] src, int offset, int length);
+
+    /**
+     * Copy {@code src.remaining()} bytes of {@code src} at the specified absolute {@code index}.
+     * <p>{@code src} position is increased by the number of copied bytes
+     *
+     * @implNote No index check !
+     */
+    void writeBytesAt(long index, @NotNull ByteBuffer src);
+
+    /**
+     * Copy {@code length} bytes of {@code src} off-heap memory, starting at {@code srcIndex}, at the specified
+     * absolute {@code index}
+     *
+     * @implNote No index check !
+     */
+    void writeBytesAt(long index, @NotNull OffHeap src, long srcIndex, long length);
 }
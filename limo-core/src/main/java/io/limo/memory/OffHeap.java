@@ -6,6 +6,8 @@ package io.limo.memory;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.ByteBuffer;
+
 /**
  * This interface represents a contiguous off-heap memory region of size < Long.MAX_VALUE.
  * <p>OffHeap and all of its sub-types offers strong safety :
@@ -31,7 +33,7 @@ import org.jetbrains.annotations.NotNull;
  *  memory region. Any attempt to perform such operations from a thread other than the owner thread will result in
  *  throwing a {@link IllegalStateException}.
  */
-public interface OffHeap extends AutoCloseable {
+public interface OffHeap extends AutoCloseable, Comparable<OffHeap> {
 
     /**
      * @return the byte size of this off-heap memory region
@@ -83,6 +85,40 @@ public interface OffHeap extends AutoCloseable {
      */
     byte @NotNull [] toByteArray();
 
+    /**
+     * Copy {@code length} bytes of this off-heap memory, starting at {@code srcOffset}, into {@code dst} off-heap
+     * memory, starting at {@code dstOffset}.
+     * <p>Bytes are copied directly from native memory to native memory, without any heap copy
+     *
+     * @throws IndexOutOfBoundsException if {@code srcOffset}, {@code dstOffset} or {@code length} is less than
+     *                                   {@code 0}, or if source or target region is out of bounds
+     * @throws IllegalStateException     if this memory or {@code dst} has been closed, or if access occurs from a
+     *                                   thread other than the thread owning this memory or {@code dst}.
+     */
+    void copyTo(long srcOffset, @NotNull MutableOffHeap dst, long dstOffset, long length);
+
+    /**
+     * Finds the index of the first byte that differs between this off-heap memory and {@code other}
+     *
+     * @return the index of the first mismatching byte, or the byteSize of the smaller memory if it is a prefix of the
+     * other one, or -1 if there is no mismatch
+     * @throws IllegalStateException if this memory or {@code other} has been closed, or if access occurs from a
+     *                               thread other than the thread owning this memory or {@code other}.
+     */
+    long mismatch(@NotNull OffHeap other);
+
+    /**
+     * Compares this off-heap memory content with {@code other}, bytes are compared lexicographically as unsigned
+     * values
+     *
+     * @return 0 if both memories have the same content, a negative value if this memory is lexicographically less than
+     * {@code other}, a positive value otherwise
+     * @throws IllegalStateException if this memory or {@code other} has been closed, or if access occurs from a
+     *                               thread other than the thread owning this memory or {@code other}.
+     */
+    @Override
+    int compareTo(@NotNull OffHeap other);
+
     /**
      * Closes this off-heap memory. Once a off-heap memory has been closed, any attempt to use the off-heap memory,
      * or to access the memory associated with the it will fail with {@link IllegalStateException}.
@@ -101,6 +137,22 @@ public interface OffHeap extends AutoCloseable {
      */
     byte readByteAt(long index);
 
+    /**
+     * Read a 2-bytes short at the specified absolute {@code index}
+     * <p>bytes are using BIG ENDIAN byte order
+     *
+     * @implNote No index check !
+     */
+    short readShortAt(long index);
+
+    /**
+     * Read a 2-bytes short at the specified absolute {@code index}
+     * <p>bytes are using LITTLE ENDIAN byte order
+     *
+     * @implNote No index check !
+     */
+    short readShortAtLE(long index);
+
     /**
      * Read a 4-bytes int at the specified absolute {@code index}
      * <p>bytes are using BIG ENDIAN byte order
@@ -116,4 +168,87 @@ public interface OffHeap extends AutoCloseable {
      * @implNote No index check !
      */
     int readIntAtLE(long index);
+
+    /**
+     * Read a 8-bytes long at the specified absolute {@code index}
+     * <p>bytes are using BIG ENDIAN byte order
+     *
+     * @implNote No index check !
+     */
+    long readLongAt(long index);
+
+    /**
+     * Read a 8-bytes long at the specified absolute {@code index}
+     * <p>bytes are using LITTLE ENDIAN byte order
+     *
+     * @implNote No index check !
+     */
+    long readLongAtLE(long index);
+
+    /**
+     * Read a 4-bytes float at the specified absolute {@code index}
+     * <p>bytes are using BIG ENDIAN byte order
+     *
+     * @implNote No index check !
+     */
+    default float readFloatAt(long index) {
+        return Float.intBitsToFloat(readIntAt(index));
+    }
+
+    /**
+     * Read a 4-bytes float at the specified absolute {@code index}
+     * <p>bytes are using LITTLE ENDIAN byte order
+     *
+     * @implNote No index check !
+     */
+    default float readFloatAtLE(long index) {
+        return Float.intBitsToFloat(readIntAtLE(index));
+    }
+
+    /**
+     * Read a 8-bytes double at the specified absolute {@code index}
+     * <p>bytes are using BIG ENDIAN byte order
+     *
+     * @implNote No index check !
+     */
+    default double readDoubleAt(long index) {
+        return Double.longBitsToDouble(readLongAt(index));
+    }
+
+    /**
+     * Read a 8-bytes double at the specified absolute {@code index}
+     * <p>bytes are using LITTLE ENDIAN byte order
+     *
+     * @implNote No index check !
+     */
+    default double readDoubleAtLE(long index) {
+        return Double.longBitsToDouble(readLongAtLE(index));
+    }
+
+    /**
+     * Copy {@code length} bytes starting at the specified absolute {@code index} into {@code dst} byte array,
+     * starting at {@code offset}
+     *
+     * @implNote No index check !
+     */
+    void readBytesAt(long index, byte @NotNull [] dst, int offset, int length);
+
+    /**
+     * Copy {@code dst.remaining()} bytes starting at the specified absolute {@code index} into {@code dst}.
+     * <p>{@code dst} position is increased by the number of copied bytes
+     *
+     * @implNote No index check !
+     */
+    void readBytesAt(long index, @NotNull ByteBuffer dst);
+
+    /**
+     * Copy {@code length} bytes starting at the specified absolute {@code index} into {@code dst} off-heap memory,
+     * starting at {@code dstIndex}
+     *
+     * @implNote No index check !
+     * @see MutableOffHeap#writeBytesAt(long, OffHeap, long, long)
+     */
+    default void readBytesAt(long index, @NotNull MutableOffHeap dst, long dstIndex, long length) {
+        dst.writeBytesAt(dstIndex, this, index, length);
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.memory;
+
+import io.limo.internal.memory.BaseOffHeapArena;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An arena allocates many small off-heap memories, and releases all of them at once when it is closed
+ * <p>Memories are bump-allocated from large native blocks, so allocating is just moving an index, and closing the
+ * arena frees a few blocks instead of each memory. Memories allocated by an arena must not be closed individually
+ * (it is allowed, but does not release anything), they are not alive anymore once the arena has been closed.
+ * <p>An arena is confined to the thread that created it : only this thread can allocate, close the arena, or access
+ * allocated memories. An arena should be used with a try-with-resources :
+ * <pre>{@code
+ * try (final var arena = OffHeapArena.newArena()) {
+ *     final var memory = arena.allocate(16);
+ *     ...
+ * }
+ * }</pre>
+ */
+public interface OffHeapArena extends AutoCloseable {
+
+    /**
+     * Default byte size of the native blocks
+     */
+    int DEFAULT_BLOCK_SIZE = 64 << 10;
+
+    /**
+     * @return a new arena owned by the current thread, that allocates blocks of {@value #DEFAULT_BLOCK_SIZE} bytes
+     */
+    static @NotNull OffHeapArena newArena() {
+        return newArena(DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * @param blockByteSize byte size of the native blocks, allocations bigger than a quarter of it get their own block
+     * @return a new arena owned by the current thread
+     * @throws IllegalArgumentException if {@code blockByteSize} is less than 64
+     */
+    static @NotNull OffHeapArena newArena(int blockByteSize) {
+        return new BaseOffHeapArena(blockByteSize, Thread.currentThread());
+    }
+
+    /**
+     * @return a new off-heap memory of {@code byteSize} bytes, which content is not initialized
+     * @throws IndexOutOfBoundsException if {@code byteSize} is greater than Integer.MAX_VALUE
+     * @throws IllegalArgumentException  if {@code byteSize} is negative
+     * @throws IllegalStateException     if this arena has been closed, or if allocation occurs from a thread other
+     *                                   than the owner thread
+     */
+    @NotNull MutableOffHeap allocate(long byteSize);
+
+    /**
+     * @return a new off-heap memory of {@code byteSize} bytes, which content is not initialized
+     * @throws IllegalArgumentException if {@code byteSize} is negative
+     * @throws IllegalStateException    if this arena has been closed, or if allocation occurs from a thread other than
+     *                                  the owner thread
+     */
+    @NotNull MutableByBuOffHeap allocate(int byteSize);
+
+    /**
+     * @return a new off-heap memory that contains a copy of {@code bytes}
+     * @throws IllegalStateException if this arena has been closed, or if allocation occurs from a thread other than
+     *                               the owner thread
+     */
+    @NotNull MutableByBuOffHeap copyOf(byte @NotNull [] bytes);
+
+    /**
+     * @return the sum of the byte sizes of all memories allocated by this arena
+     */
+    long getAllocatedByteSize();
+
+    /**
+     * @return the native byte size of all blocks of this arena
+     */
+    long getReservedByteSize();
+
+    /**
+     * Releases all blocks of this arena, all memories allocated by this arena are not alive anymore
+     *
+     * @throws IllegalStateException if this arena has been closed, or if access occurs from a thread other than the
+     *                               owner thread
+     */
+    @Override
+    void close();
+}
@@ -5,10 +5,16 @@
 package io.limo.memory;
 
 import io.limo.internal.memory.OffHeapServiceLoader;
+import io.limo.internal.memory.OffHeapTracker;
 import io.limo.internal.utils.UnsafeByteBufferOps;
 import io.limo.memory.impl.*;
+import io.limo.LimoIOException;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Objects;
 
 public interface OffHeapFactory {
@@ -25,6 +31,21 @@ public interface OffHeapFactory {
 
     @NotNull UnsafeByBuOffHeap newUnsafeByteBufferOffHeap(byte @NotNull [] bytes);
 
+    /**
+     * Map a region of the file located at {@code path} in a read-only off-heap memory
+     *
+     * @throws LimoIOException if an I/O error occurs
+     */
+    @NotNull MappedOffHeap newMappedOffHeap(@NotNull Path path, long offset, long byteSize);
+
+    /**
+     * Map a region of the file located at {@code path} in a writable off-heap memory.
+     * <p>The file is created if it does not exist, and extended if it is smaller than the mapped region
+     *
+     * @throws LimoIOException if an I/O error occurs
+     */
+    @NotNull MutableMappedOffHeap newMutableMappedOffHeap(@NotNull Path path, long offset, long byteSize);
+
     int getLoadPriority();
 
     static @NotNull MutableOffHeap allocate(long byteSize) {
@@ -47,4 +68,56 @@ public interface OffHeapFactory {
         }
         return OffHeapServiceLoader.OFF_HEAP_FACTORY.newSafeByteBufferOffHeap(Objects.requireNonNull(bytes));
     }
+
+    /**
+     * Map the full file located at {@code path} in a read-only off-heap memory
+     *
+     * @throws LimoIOException if an I/O error occurs
+     */
+    static @NotNull MappedOffHeap map(@NotNull Path path) {
+        try {
+            return map(path, 0, Files.size(Objects.requireNonNull(path)));
+        } catch (IOException ioe) {
+            throw new LimoIOException(String.format("Failed to read size of file %s", path), ioe);
+        }
+    }
+
+    /**
+     * Map a region of the file located at {@code path} in a read-only off-heap memory
+     *
+     * @param path     path of the file to map
+     * @param offset   position in the file at which the mapped region starts
+     * @param byteSize byte size of the mapped region
+     * @throws LimoIOException if an I/O error occurs
+     */
+    static @NotNull MappedOffHeap map(@NotNull Path path, long offset, long byteSize) {
+        return OffHeapServiceLoader.OFF_HEAP_FACTORY.newMappedOffHeap(Objects.requireNonNull(path), offset, byteSize);
+    }
+
+    /**
+     * Map a region of the file located at {@code path} in a writable off-heap memory.
+     * <p>The file is created if it does not exist, and extended if it is smaller than the mapped region
+     *
+     * @param path     path of the file to map
+     * @param offset   position in the file at which the mapped region starts
+     * @param byteSize byte size of the mapped region
+     * @throws LimoIOException if an I/O error occurs
+     */
+    static @NotNull MutableMappedOffHeap mapMutable(@NotNull Path path, long offset, long byteSize) {
+        return OffHeapServiceLoader.OFF_HEAP_FACTORY.newMutableMappedOffHeap(Objects.requireNonNull(path), offset,
+                byteSize);
+    }
+
+    /**
+     * Native memory accounting of each off-heap implementation, enabled with the {@code io.limo.memory.tracking}
+     * system property
+     *
+     * @return an empty list if tracking is disabled
+     */
+    static @NotNull List<@NotNull OffHeapTrackingMXBean> getTrackings() {
+        if (!OffHeapTracker.ENABLED) {
+            return List.of();
+        }
+        return List.copyOf(OffHeapTracker.TRACKERS);
+    }
 }
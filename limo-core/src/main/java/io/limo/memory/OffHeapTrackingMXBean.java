@@ -0,0 +1,53 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.memory;
+
+/**
+ * Native memory accounting of one off-heap implementation, registered in the platform MBean server as
+ * {@code io.limo:type=OffHeapTracking,name=<kind>} when tracking is enabled
+ * <p>Tracking is enabled with the {@code io.limo.memory.tracking} system property (for example
+ * {@code -Dio.limo.memory.tracking=true}). The allocation site of one allocation out of
+ * {@code io.limo.memory.tracking.sampleInterval} (128 by default, 1 records all of them) is recorded, it is logged
+ * if this allocation is garbage collected without being closed.
+ *
+ * @see OffHeapFactory#getTrackings()
+ */
+public interface OffHeapTrackingMXBean {
+
+    /**
+     * @return name of the tracked implementation
+     */
+    String getKind();
+
+    /**
+     * @return byte size of all allocated and not released memories
+     */
+    long getLiveBytes();
+
+    /**
+     * @return number of allocated and not released memories
+     */
+    long getLiveRegions();
+
+    /**
+     * @return number of memories allocated since tracking started
+     */
+    long getAllocatedRegions();
+
+    /**
+     * @return number of memories that were garbage collected without being closed
+     */
+    long getLeakedRegions();
+
+    /**
+     * @return byte size of all memories that were garbage collected without being closed
+     */
+    long getLeakedBytes();
+
+    /**
+     * @return the allocation site of one allocation out of this interval is recorded
+     */
+    int getSampleInterval();
+}
@@ -32,10 +32,16 @@ public interface OffString extends AutoCloseable {
      */
     @NotNull Charset getCharset();
 
+    /**
+     * @return the off-heap memory region that store binary String content encoded with {@code charset}, it is
+     * {@link #getMemory()} if no transcoding is required, else it is a new off-heap memory that must be closed by the
+     * caller
+     */
     @NotNull OffHeap toMemory(@NotNull Charset charset);
 
     /**
-     * Best effort to return a String from the memory (that may be too big for one single String)
+     * Decode the memory to a String, bytes are copied once from off-heap memory
+     * <p>Malformed input is replaced exactly as {@link String#String(byte[], Charset)} does
      *
      * @return a String that contains all content of this OffString
      * @throws UnsupportedOperationException if the memory's content cannot fit into a {@link String} instance,
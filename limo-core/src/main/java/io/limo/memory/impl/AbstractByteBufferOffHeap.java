@@ -59,6 +59,18 @@ abstract class AbstractByteBufferOffHeap extends AbstractOffHeap {
         return this.readerWriter.readByteAt(index);
     }
 
+    @Override
+    public final short readShortAt(long index) {
+        checkState();
+        return this.readerWriter.readShortAt(index);
+    }
+
+    @Override
+    public final short readShortAtLE(long index) {
+        checkState();
+        return this.readerWriter.readShortAtLE(index);
+    }
+
     @Override
     public final int readIntAt(long index) {
         checkState();
@@ -71,6 +83,30 @@ abstract class AbstractByteBufferOffHeap extends AbstractOffHeap {
         return this.readerWriter.readIntAtLE(index);
     }
 
+    @Override
+    public final long readLongAt(long index) {
+        checkState();
+        return this.readerWriter.readLongAt(index);
+    }
+
+    @Override
+    public final long readLongAtLE(long index) {
+        checkState();
+        return this.readerWriter.readLongAtLE(index);
+    }
+
+    @Override
+    public final void readBytesAt(long index, byte @NotNull [] dst, int offset, int length) {
+        checkState();
+        this.readerWriter.readBytesAt(index, dst, offset, length);
+    }
+
+    @Override
+    public final void readBytesAt(long index, @NotNull ByteBuffer dst) {
+        checkState();
+        this.readerWriter.readBytesAt(index, dst);
+    }
+
     @Override
     public final void close() {
         checkState();
@@ -6,6 +6,7 @@ package io.limo.memory.impl;
 
 import io.limo.internal.utils.IndexedByBuReaderWriter;
 import io.limo.memory.MutableOffHeap;
+import io.limo.memory.OffHeap;
 import org.jetbrains.annotations.NotNull;
 
 import java.nio.ByteBuffer;
@@ -18,12 +19,30 @@ abstract class AbstractMutableByteBufferOffHeap extends AbstractByteBufferOffHea
         super(baseByBu, false, readerWriter);
     }
 
+    @Override
+    public void fill(byte value) {
+        checkState();
+        this.readerWriter.fill(0, getByteSize(), value);
+    }
+
     @Override
     public void writeByteAt(long index, byte value) {
         checkState();
         this.readerWriter.writeByteAt(index, value);
     }
 
+    @Override
+    public void writeShortAt(long index, short value) {
+        checkState();
+        this.readerWriter.writeShortAt(index, value);
+    }
+
+    @Override
+    public void writeShortAtLE(long index, short value) {
+        checkState();
+        this.readerWriter.writeShortAtLE(index, value);
+    }
+
     @Override
     public void writeIntAt(long index, int value) {
         checkState();
@@ -35,4 +54,36 @@ abstract class AbstractMutableByteBufferOffHeap extends AbstractByteBufferOffHea
         checkState();
         this.readerWriter.writeIntAtLE(index, value);
     }
+
+    @Override
+    public void writeLongAt(long index, long value) {
+        checkState();
+        this.readerWriter.writeLongAt(index, value);
+    }
+
+    @Override
+    public void writeLongAtLE(long index, long value) {
+        checkState();
+        this.readerWriter.writeLongAtLE(index, value);
+    }
+
+    @Override
+    public void writeBytesAt(long index, byte @NotNull [] src, int offset, int length) {
+        checkState();
+        this.readerWriter.writeBytesAt(index, src, offset, length);
+    }
+
+    @Override
+    public void writeBytesAt(long index, @NotNull ByteBuffer src) {
+        checkState();
+        this.readerWriter.writeBytesAt(index, src);
+    }
+
+    @Override
+    public void writeBytesAt(long index, @NotNull OffHeap src, long srcIndex, long length) {
+        checkState();
+        // src copies its bytes directly into a view of the target region of this memory
+        final var target = this.baseByBu.duplicate().position((int) index).limit((int) (index + length));
+        src.readBytesAt(srcIndex, target);
+    }
 }
@@ -4,9 +4,12 @@
 
 package io.limo.memory.impl;
 
+import io.limo.memory.MutableOffHeap;
 import io.limo.memory.OffHeap;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Objects;
+
 /**
  * Base abstract implementation of {@link OffHeap} memory
  */
@@ -21,6 +24,53 @@ public abstract class AbstractOffHeap implements OffHeap {
         return toByteArrayNoIndexCheck();
     }
 
+    @Override
+    public final void copyTo(long srcOffset, @NotNull MutableOffHeap dst, long dstOffset, long length) {
+        Objects.requireNonNull(dst);
+        if ((srcOffset | dstOffset | length) < 0
+                || length > (getByteSize() - srcOffset) || length > (dst.getByteSize() - dstOffset)) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Incorrect parameters to copy : srcOffset=%d, dstOffset=%d, length=%d, " +
+                            "byteSize=%d, dst byteSize=%d", srcOffset, dstOffset, length, getByteSize(), dst.getByteSize()));
+        }
+        readBytesAt(srcOffset, dst, dstOffset, length);
+    }
+
+    @Override
+    public final long mismatch(@NotNull OffHeap other) {
+        final var byteSize = getByteSize();
+        final var otherByteSize = Objects.requireNonNull(other).getByteSize();
+        final var length = Math.min(byteSize, otherByteSize);
+        var index = 0L;
+        // compare 8 bytes at a time
+        for (; index <= length - Long.BYTES; index += Long.BYTES) {
+            final var value = readLongAtLE(index);
+            final var otherValue = other.readLongAtLE(index);
+            if (value != otherValue) {
+                // with little endian, first byte is the least significant one
+                return index + (Long.numberOfTrailingZeros(value ^ otherValue) >>> 3);
+            }
+        }
+        for (; index < length; index++) {
+            if (readByteAt(index) != other.readByteAt(index)) {
+                return index;
+            }
+        }
+        return (byteSize == otherByteSize) ? -1 : length;
+    }
+
+    @Override
+    public final int compareTo(@NotNull OffHeap other) {
+        final var mismatch = mismatch(other);
+        if (mismatch == -1) {
+            return 0;
+        }
+        if (mismatch < getByteSize() && mismatch < other.getByteSize()) {
+            return Byte.compareUnsigned(readByteAt(mismatch), other.readByteAt(mismatch));
+        }
+        return Long.compare(getByteSize(), other.getByteSize());
+    }
+
     protected static void sliceIndexCheck(long offset, long length, long byteSize) {
         if ((offset | length) < 0 || offset > byteSize || length > (byteSize - offset)) {
             throw new IndexOutOfBoundsException(
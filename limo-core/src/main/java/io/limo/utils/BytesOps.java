@@ -24,6 +24,44 @@ public final class BytesOps {
         return (b3 << 24) | ((b2 & 0xff) << 16) | ((b1 & 0xff) << 8) | (b0 & 0xff);
     }
 
+    /**
+     * ZigZag encoding maps signed ints to unsigned ints, so that small negative values have a short varint encoding :
+     * 0 -> 0, -1 -> 1, 1 -> 2, -2 -> 3...
+     */
+    public static int zigZagEncode(final int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    public static int zigZagDecode(final int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * @see #zigZagEncode(int)
+     */
+    public static long zigZagEncode(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    public static long zigZagDecode(final long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * @return number of bytes of the LEB128 varint encoding of {@code value}, from 1 to 5
+     */
+    public static int varIntSize(final int value) {
+        // 7 bits per byte, at least one byte for 0
+        return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    /**
+     * @return number of bytes of the LEB128 varint encoding of {@code value}, from 1 to 10
+     */
+    public static int varLongSize(final long value) {
+        return (63 - Long.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
     public static byte @NotNull [] intToBytes(final int value) {
         return new byte[]{
                 (byte) ((value >> 24) & 0xff),
@@ -0,0 +1,83 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.utils;
+
+import io.limo.internal.memory.ByBuOffHeapOps;
+import io.limo.memory.ByBuOffHeap;
+import io.limo.memory.OffHeap;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.zip.Checksum;
+
+/**
+ * Util class providing checksum operations on off-heap memory
+ * <p>Memory is given to {@link Checksum#update(ByteBuffer)} as direct ByteBuffer views : bytes are not copied on heap,
+ * and {@link java.util.zip.CRC32} and {@link java.util.zip.CRC32C} updates of direct ByteBuffers are intrinsics.
+ */
+public final class ChecksumOps {
+
+    /**
+     * Size of the heap buffer used for memories that cannot be viewed as a ByteBuffer
+     */
+    private static final int COPY_BUFFER_SIZE = 8192;
+
+    // uninstanciable
+    private ChecksumOps() {
+    }
+
+    /**
+     * Updates {@code checksum} with {@code length} bytes of {@code memory} from {@code offset}
+     *
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is less than {@code 0}, or if
+     * {@code length} is greater than {@code memory.getByteSize() - offset}
+     */
+    public static void update(@NotNull Checksum checksum, @NotNull OffHeap memory, long offset, long length) {
+        Objects.requireNonNull(checksum);
+        HashOps.regionCheck(Objects.requireNonNull(memory), offset, length);
+        if (memory instanceof ByBuOffHeap) {
+            // a ByBuOffHeap is never bigger than Integer.MAX_VALUE
+            checksum.update(byteBufferView((ByBuOffHeap) memory, (int) offset, (int) length));
+            return;
+        }
+        // regions are sliced at the boundaries of the ByteBuffers backing memory, like 1 GiB chunks of mapped memory
+        var updated = 0L;
+        while (updated < length) {
+            final var regionLength = (int) Math.min(length - updated,
+                    ByBuOffHeapOps.contiguousByteSize(memory, offset + updated));
+            final var region = memory.slice(offset + updated, regionLength);
+            updated += regionLength;
+            final ByBuOffHeap bybu;
+            try {
+                bybu = region.asByBuOffHeap();
+            } catch (UnsupportedOperationException unsupportedOperationException) {
+                // this region cannot be viewed as a ByteBuffer
+                updateWithCopy(checksum, region, regionLength);
+                continue;
+            }
+            checksum.update(byteBufferView(bybu, 0, regionLength));
+        }
+    }
+
+    /**
+     * @return a new ByteBuffer view of {@code length} bytes of {@code bybu} from {@code offset}
+     */
+    private static @NotNull ByteBuffer byteBufferView(@NotNull ByBuOffHeap bybu, int offset, int length) {
+        return bybu.getByteBuffer().duplicate()
+                .clear()
+                .limit(offset + length)
+                .position(offset);
+    }
+
+    private static void updateWithCopy(@NotNull Checksum checksum, @NotNull OffHeap memory, int length) {
+        final var buffer = new byte[Math.min(COPY_BUFFER_SIZE, length)];
+        for (var updated = 0L; updated < length; updated += buffer.length) {
+            final var copied = (int) Math.min(buffer.length, length - updated);
+            memory.readBytesAt(updated, buffer, 0, copied);
+            checksum.update(buffer, 0, copied);
+        }
+    }
+}
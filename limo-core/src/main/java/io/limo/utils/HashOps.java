@@ -0,0 +1,53 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.utils;
+
+import io.limo.memory.OffHeap;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Operations shared by the {@link Hasher64} implementations and {@link ChecksumOps}
+ */
+final class HashOps {
+
+    private static final VarHandle LONG_LE_HANDLE =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final VarHandle INT_LE_HANDLE =
+            MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    // uninstanciable
+    private HashOps() {
+    }
+
+    /**
+     * Checks that {@code length} bytes can be read in {@code memory} from {@code offset}
+     */
+    static void regionCheck(@NotNull OffHeap memory, long offset, long length) {
+        if ((offset | length) < 0 || length > memory.getByteSize() - offset) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Incorrect parameters to read memory region : offset=%d, length=%d, byteSize=%d",
+                            offset, length, memory.getByteSize()));
+        }
+    }
+
+    /**
+     * @return the 8-bytes long at {@code index} in {@code bytes}, using LITTLE ENDIAN byte order
+     */
+    static long readLongLE(byte @NotNull [] bytes, int index) {
+        return (long) LONG_LE_HANDLE.get(bytes, index);
+    }
+
+    /**
+     * @return the 4-bytes int at {@code index} in {@code bytes}, using LITTLE ENDIAN byte order
+     */
+    static int readIntLE(byte @NotNull [] bytes, int index) {
+        return (int) INT_LE_HANDLE.get(bytes, index);
+    }
+}
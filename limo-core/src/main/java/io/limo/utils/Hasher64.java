@@ -0,0 +1,38 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.utils;
+
+import io.limo.memory.OffHeap;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A streaming non-cryptographic 64-bit hash function
+ * <p>Bytes are read in place from off-heap memory, 8 bytes at a time : no byte is copied on heap. Updating a hasher
+ * with several consecutive regions gives the same value than a one-shot hash of the concatenation of these regions.
+ * A hasher is not thread-safe.
+ *
+ * @see XxHash64
+ * @see Murmur3Hash64
+ */
+public interface Hasher64 {
+
+    /**
+     * Updates this hasher with {@code length} bytes of {@code memory} from {@code offset}
+     *
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is less than {@code 0}, or if
+     * {@code length} is greater than {@code memory.getByteSize() - offset}
+     */
+    void update(@NotNull OffHeap memory, long offset, long length);
+
+    /**
+     * @return the hash value of all bytes since creation or last {@link #reset()}, this hasher can still be updated
+     */
+    long getValue();
+
+    /**
+     * Resets this hasher to its initial state
+     */
+    void reset();
+}
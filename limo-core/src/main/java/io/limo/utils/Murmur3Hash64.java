@@ -0,0 +1,178 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.utils;
+
+import io.limo.memory.OffHeap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * MurmurHash3 non-cryptographic hash function : the value is the first 64 bits of the 128 bits hash, identical to
+ * {@code MurmurHash3_x64_128} reference implementation
+ * <p>Input is consumed in 16-bytes blocks, each block is read in place with two 8-bytes LITTLE ENDIAN reads. The 32 bits
+ * seed is unsigned, like in the reference implementation.
+ *
+ * @see <a href="https://github.com/aappleby/smhasher">SMHasher</a>
+ */
+public final class Murmur3Hash64 implements Hasher64 {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private static final int BLOCK_SIZE = 16;
+
+    private final int seed;
+
+    private long h1;
+    private long h2;
+
+    private long totalLength;
+
+    /**
+     * Bytes that do not fill a complete block yet
+     */
+    private final byte @NotNull [] pending = new byte[BLOCK_SIZE];
+
+    private int pendingLength;
+
+    public Murmur3Hash64() {
+        this(0);
+    }
+
+    public Murmur3Hash64(int seed) {
+        this.seed = seed;
+        reset();
+    }
+
+    /**
+     * One-shot MurmurHash3 of {@code length} bytes of {@code memory} from {@code offset}
+     *
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is less than {@code 0}, or if
+     * {@code length} is greater than {@code memory.getByteSize() - offset}
+     */
+    public static long hash(@NotNull OffHeap memory, long offset, long length, int seed) {
+        HashOps.regionCheck(Objects.requireNonNull(memory), offset, length);
+        final var end = offset + length;
+        var index = offset;
+        var h1 = seed & 0xffffffffL;
+        var h2 = h1;
+        for (; index <= end - BLOCK_SIZE; index += BLOCK_SIZE) {
+            h1 = Long.rotateLeft(h1 ^ mixK1(memory.readLongAtLE(index)), 27) + h2;
+            h1 = h1 * 5 + 0x52dce729;
+            h2 = Long.rotateLeft(h2 ^ mixK2(memory.readLongAtLE(index + 8)), 31) + h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        // tail bytes, LITTLE ENDIAN
+        final var tailLength = (int) (end - index);
+        var k1 = 0L;
+        var k2 = 0L;
+        for (var tailIndex = tailLength - 1; tailIndex >= Long.BYTES; tailIndex--) {
+            k2 = (k2 << 8) | (memory.readByteAt(index + tailIndex) & 0xff);
+        }
+        for (var tailIndex = Math.min(tailLength, Long.BYTES) - 1; tailIndex >= 0; tailIndex--) {
+            k1 = (k1 << 8) | (memory.readByteAt(index + tailIndex) & 0xff);
+        }
+        return finish(h1, h2, k1, k2, tailLength, length);
+    }
+
+    @Override
+    public void update(@NotNull OffHeap memory, long offset, long length) {
+        HashOps.regionCheck(Objects.requireNonNull(memory), offset, length);
+        this.totalLength += length;
+        final var end = offset + length;
+        var index = offset;
+
+        // 1) complete the pending block first
+        if (this.pendingLength > 0) {
+            final var copied = (int) Math.min(BLOCK_SIZE - this.pendingLength, length);
+            memory.readBytesAt(index, this.pending, this.pendingLength, copied);
+            this.pendingLength += copied;
+            index += copied;
+            if (this.pendingLength < BLOCK_SIZE) {
+                return;
+            }
+            block(HashOps.readLongLE(this.pending, 0), HashOps.readLongLE(this.pending, 8));
+            this.pendingLength = 0;
+        }
+
+        // 2) complete blocks are read in place
+        for (; index <= end - BLOCK_SIZE; index += BLOCK_SIZE) {
+            block(memory.readLongAtLE(index), memory.readLongAtLE(index + 8));
+        }
+
+        // 3) remaining bytes wait for the next update
+        if (index < end) {
+            this.pendingLength = (int) (end - index);
+            memory.readBytesAt(index, this.pending, 0, this.pendingLength);
+        }
+    }
+
+    @Override
+    public long getValue() {
+        var k1 = 0L;
+        var k2 = 0L;
+        for (var tailIndex = this.pendingLength - 1; tailIndex >= Long.BYTES; tailIndex--) {
+            k2 = (k2 << 8) | (this.pending[tailIndex] & 0xff);
+        }
+        for (var tailIndex = Math.min(this.pendingLength, Long.BYTES) - 1; tailIndex >= 0; tailIndex--) {
+            k1 = (k1 << 8) | (this.pending[tailIndex] & 0xff);
+        }
+        return finish(this.h1, this.h2, k1, k2, this.pendingLength, this.totalLength);
+    }
+
+    @Override
+    public void reset() {
+        this.h1 = this.seed & 0xffffffffL;
+        this.h2 = this.h1;
+        this.totalLength = 0;
+        this.pendingLength = 0;
+    }
+
+    private void block(long k1, long k2) {
+        this.h1 = Long.rotateLeft(this.h1 ^ mixK1(k1), 27) + this.h2;
+        this.h1 = this.h1 * 5 + 0x52dce729;
+        this.h2 = Long.rotateLeft(this.h2 ^ mixK2(k2), 31) + this.h1;
+        this.h2 = this.h2 * 5 + 0x38495ab5;
+    }
+
+    /**
+     * Mix the tail bytes, then finalize the hash
+     *
+     * @return the first 64 bits of the 128 bits hash
+     */
+    private static long finish(long h1, long h2, long k1, long k2, int tailLength, long length) {
+        if (tailLength > Long.BYTES) {
+            h2 ^= mixK2(k2);
+        }
+        if (tailLength > 0) {
+            h1 ^= mixK1(k1);
+        }
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+        return h1 + h2;
+    }
+
+    private static long mixK1(long k1) {
+        return Long.rotateLeft(k1 * C1, 31) * C2;
+    }
+
+    private static long mixK2(long k2) {
+        return Long.rotateLeft(k2 * C2, 33) * C1;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        return k ^ (k >>> 33);
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.utils;
+
+import io.limo.memory.OffHeap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * xxHash64 non-cryptographic hash function, values are identical to the XXH64 reference implementation
+ * <p>Input is consumed in 32-bytes stripes, each stripe is read in place with four 8-bytes LITTLE ENDIAN reads.
+ *
+ * @see <a href="https://github.com/Cyan4973/xxHash">xxHash</a>
+ */
+public final class XxHash64 implements Hasher64 {
+
+    private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME64_3 = 0x165667B19E3779F9L;
+    private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+
+    private static final int STRIPE_SIZE = 32;
+
+    private final long seed;
+
+    /**
+     * The four accumulators, one for each 8-bytes lane of a stripe
+     */
+    private long acc1;
+    private long acc2;
+    private long acc3;
+    private long acc4;
+
+    private long totalLength;
+
+    /**
+     * Bytes that do not fill a complete stripe yet
+     */
+    private final byte @NotNull [] pending = new byte[STRIPE_SIZE];
+
+    private int pendingLength;
+
+    public XxHash64() {
+        this(0L);
+    }
+
+    public XxHash64(long seed) {
+        this.seed = seed;
+        reset();
+    }
+
+    /**
+     * One-shot xxHash64 of {@code length} bytes of {@code memory} from {@code offset}
+     *
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is less than {@code 0}, or if
+     * {@code length} is greater than {@code memory.getByteSize() - offset}
+     */
+    public static long hash(@NotNull OffHeap memory, long offset, long length, long seed) {
+        HashOps.regionCheck(Objects.requireNonNull(memory), offset, length);
+        final var end = offset + length;
+        var index = offset;
+        long hash;
+        if (length >= STRIPE_SIZE) {
+            var acc1 = seed + PRIME64_1 + PRIME64_2;
+            var acc2 = seed + PRIME64_2;
+            var acc3 = seed;
+            var acc4 = seed - PRIME64_1;
+            for (; index <= end - STRIPE_SIZE; index += STRIPE_SIZE) {
+                acc1 = round(acc1, memory.readLongAtLE(index));
+                acc2 = round(acc2, memory.readLongAtLE(index + 8));
+                acc3 = round(acc3, memory.readLongAtLE(index + 16));
+                acc4 = round(acc4, memory.readLongAtLE(index + 24));
+            }
+            hash = converge(acc1, acc2, acc3, acc4);
+        } else {
+            hash = seed + PRIME64_5;
+        }
+        hash += length;
+
+        for (; index <= end - Long.BYTES; index += Long.BYTES) {
+            hash = mixLong(hash, memory.readLongAtLE(index));
+        }
+        if (index <= end - Integer.BYTES) {
+            hash = mixInt(hash, memory.readIntAtLE(index));
+            index += Integer.BYTES;
+        }
+        for (; index < end; index++) {
+            hash = mixByte(hash, memory.readByteAt(index));
+        }
+        return avalanche(hash);
+    }
+
+    @Override
+    public void update(@NotNull OffHeap memory, long offset, long length) {
+        HashOps.regionCheck(Objects.requireNonNull(memory), offset, length);
+        this.totalLength += length;
+        final var end = offset + length;
+        var index = offset;
+
+        // 1) complete the pending stripe first
+        if (this.pendingLength > 0) {
+            final var copied = (int) Math.min(STRIPE_SIZE - this.pendingLength, length);
+            memory.readBytesAt(index, this.pending, this.pendingLength, copied);
+            this.pendingLength += copied;
+            index += copied;
+            if (this.pendingLength < STRIPE_SIZE) {
+                return;
+            }
+            this.acc1 = round(this.acc1, HashOps.readLongLE(this.pending, 0));
+            this.acc2 = round(this.acc2, HashOps.readLongLE(this.pending, 8));
+            this.acc3 = round(this.acc3, HashOps.readLongLE(this.pending, 16));
+            this.acc4 = round(this.acc4, HashOps.readLongLE(this.pending, 24));
+            this.pendingLength = 0;
+        }
+
+        // 2) complete stripes are read in place
+        for (; index <= end - STRIPE_SIZE; index += STRIPE_SIZE) {
+            this.acc1 = round(this.acc1, memory.readLongAtLE(index));
+            this.acc2 = round(this.acc2, memory.readLongAtLE(index + 8));
+            this.acc3 = round(this.acc3, memory.readLongAtLE(index + 16));
+            this.acc4 = round(this.acc4, memory.readLongAtLE(index + 24));
+        }
+
+        // 3) remaining bytes wait for the next update
+        if (index < end) {
+            this.pendingLength = (int) (end - index);
+            memory.readBytesAt(index, this.pending, 0, this.pendingLength);
+        }
+    }
+
+    @Override
+    public long getValue() {
+        var hash = (this.totalLength >= STRIPE_SIZE)
+                ? converge(this.acc1, this.acc2, this.acc3, this.acc4)
+                : this.seed + PRIME64_5;
+        hash += this.totalLength;
+
+        var index = 0;
+        for (; index <= this.pendingLength - Long.BYTES; index += Long.BYTES) {
+            hash = mixLong(hash, HashOps.readLongLE(this.pending, index));
+        }
+        if (index <= this.pendingLength - Integer.BYTES) {
+            hash = mixInt(hash, HashOps.readIntLE(this.pending, index));
+            index += Integer.BYTES;
+        }
+        for (; index < this.pendingLength; index++) {
+            hash = mixByte(hash, this.pending[index]);
+        }
+        return avalanche(hash);
+    }
+
+    @Override
+    public void reset() {
+        this.acc1 = this.seed + PRIME64_1 + PRIME64_2;
+        this.acc2 = this.seed + PRIME64_2;
+        this.acc3 = this.seed;
+        this.acc4 = this.seed - PRIME64_1;
+        this.totalLength = 0;
+        this.pendingLength = 0;
+    }
+
+    private static long round(long acc, long input) {
+        return Long.rotateLeft(acc + input * PRIME64_2, 31) * PRIME64_1;
+    }
+
+    private static long mergeRound(long hash, long acc) {
+        return (hash ^ round(0, acc)) * PRIME64_1 + PRIME64_4;
+    }
+
+    private static long converge(long acc1, long acc2, long acc3, long acc4) {
+        var hash = Long.rotateLeft(acc1, 1) + Long.rotateLeft(acc2, 7) + Long.rotateLeft(acc3, 12)
+                + Long.rotateLeft(acc4, 18);
+        hash = mergeRound(hash, acc1);
+        hash = mergeRound(hash, acc2);
+        hash = mergeRound(hash, acc3);
+        return mergeRound(hash, acc4);
+    }
+
+    private static long mixLong(long hash, long value) {
+        return Long.rotateLeft(hash ^ round(0, value), 27) * PRIME64_1 + PRIME64_4;
+    }
+
+    private static long mixInt(long hash, int value) {
+        return Long.rotateLeft(hash ^ (value & 0xffffffffL) * PRIME64_1, 23) * PRIME64_2 + PRIME64_3;
+    }
+
+    private static long mixByte(long hash, byte value) {
+        return Long.rotateLeft(hash ^ (value & 0xff) * PRIME64_5, 11) * PRIME64_1;
+    }
+
+    private static long avalanche(long hash) {
+        hash ^= hash >>> 33;
+        hash *= PRIME64_2;
+        hash ^= hash >>> 29;
+        hash *= PRIME64_3;
+        return hash ^ (hash >>> 32);
+    }
+}
@@ -2,17 +2,25 @@
  * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
  */
 
+import io.limo.internal.memory.PooledByteBufferOffHeapFactory;
 import io.limo.memory.OffHeapFactory;
 
+@SuppressWarnings("module")
 module limo.core {
+    requires java.management;
     requires jdk.unsupported;
     requires org.jetbrains.annotations;
     requires org.slf4j;
 
     uses OffHeapFactory;
 
+    provides OffHeapFactory with PooledByteBufferOffHeapFactory;
+
     exports io.limo;
     exports io.limo.memory;
     exports io.limo.memory.impl;
     exports io.limo.utils;
+
+    exports io.limo.internal.memory to limo.benchmarks, limo.transfer;
+    exports io.limo.internal.utils to limo.transfer;
 }
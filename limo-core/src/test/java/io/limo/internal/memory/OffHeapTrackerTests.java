@@ -0,0 +1,77 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.memory;
+
+import io.limo.internal.utils.BaseOffHeapOps;
+import io.limo.memory.MutableByBuOffHeap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OffHeapTrackerTests {
+
+    @Test
+    @DisplayName("Verify live counters of a tracked OffHeap are updated on close")
+    void trackClose() {
+        final var tracker = new OffHeapTracker("TestClose", true);
+        final var memory = allocate(tracker, 64);
+        assertThat(tracker.getLiveBytes()).isEqualTo(64L);
+        assertThat(tracker.getLiveRegions()).isEqualTo(1L);
+        memory.close();
+        assertThat(tracker.getLiveBytes()).isZero();
+        assertThat(tracker.getLiveRegions()).isZero();
+        assertThat(tracker.getAllocatedRegions()).isEqualTo(1L);
+        assertThat(tracker.getLeakedRegions()).isZero();
+    }
+
+    @Test
+    @DisplayName("Verify an unclosed OffHeap is reported as leaked when it becomes unreachable")
+    void trackLeak() throws InterruptedException {
+        final var tracker = new OffHeapTracker("TestLeak", true);
+        allocate(tracker, 64);
+        for (var attempt = 0; attempt < 100 && tracker.getLeakedRegions() == 0; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(tracker.getLeakedRegions()).isEqualTo(1L);
+        assertThat(tracker.getLeakedBytes()).isEqualTo(64L);
+        assertThat(tracker.getLiveBytes()).isZero();
+        assertThat(tracker.getLiveRegions()).isZero();
+    }
+
+    @Test
+    @DisplayName("Verify a slice keeps its unclosed parent OffHeap reachable, so native memory is not released under it")
+    void sliceKeepsParentReachable() throws InterruptedException {
+        final var tracker = new OffHeapTracker("TestSlice", true);
+        final var slice = allocate(tracker, 64).slice(8, 16);
+        slice.writeLongAt(0, 42L);
+        for (var attempt = 0; attempt < 10; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(tracker.getLeakedRegions()).isZero();
+        assertThat(tracker.getLiveRegions()).isEqualTo(1L);
+        assertThat(slice.readLongAt(0)).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("Verify a disabled tracker does not count anything")
+    void disabled() {
+        final var tracker = new OffHeapTracker("TestDisabled", false);
+        final var memory = allocate(tracker, 64);
+        assertThat(tracker.getLiveBytes()).isZero();
+        assertThat(tracker.getAllocatedRegions()).isZero();
+        memory.close();
+    }
+
+    private static MutableByBuOffHeap allocate(OffHeapTracker tracker, int byteSize) {
+        final var bb = ByteBuffer.allocateDirect(byteSize);
+        return tracker.track(byteSize, BaseOffHeapOps.cleanByteBuffer(bb), cleanupAction ->
+                new BaseMutableSafeByBuOffHeap(bb, cleanupAction, Thread.currentThread()));
+    }
+}
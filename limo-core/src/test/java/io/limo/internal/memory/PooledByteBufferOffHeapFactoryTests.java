@@ -0,0 +1,99 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.memory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PooledByteBufferOffHeapFactoryTests {
+
+    private static final byte[] BYTES = new byte[]{0xa, 0, 0, 0, 42, 0xe, 0, 0, 0x11, (byte) 0xd8};
+
+    @Test
+    @DisplayName("Verify size classes are power of two")
+    void sizeClass() {
+        assertThat(ByteBufferPool.sizeClass(1)).isEqualTo(0);
+        assertThat(ByteBufferPool.sizeClass(64)).isEqualTo(0);
+        assertThat(ByteBufferPool.sizeClass(65)).isEqualTo(1);
+        assertThat(ByteBufferPool.sizeClass(1 << ByteBufferPool.MAX_SHIFT))
+                .isEqualTo(ByteBufferPool.MAX_SHIFT - ByteBufferPool.MIN_SHIFT);
+    }
+
+    @Test
+    @DisplayName("Verify a released ByteBuffer is recycled")
+    void recycle() {
+        final var pool = new ByteBufferPool();
+        final var bb = pool.allocate(100);
+        assertThat(bb.capacity()).isEqualTo(128);
+        pool.release(bb);
+        assertThat(pool.allocate(120)).isSameAs(bb);
+    }
+
+    @Test
+    @DisplayName("Verify a ByteBuffer released by a short-lived thread goes straight to the shared arena")
+    void releaseFromShortLivedThread() throws InterruptedException {
+        final var pool = new ByteBufferPool();
+        final var released = new AtomicReference<ByteBuffer>();
+        final var thread = new Thread(() -> {
+            final var bb = pool.allocate(100);
+            pool.release(bb);
+            released.set(bb);
+        });
+        thread.start();
+        thread.join();
+        assertThat(pool.allocate(100)).isSameAs(released.get());
+    }
+
+    @Test
+    @DisplayName("Verify a ByteBuffer released by a pool worker thread is cached, then flushed to the shared arena")
+    void flushThreadCache() throws Exception {
+        final var pool = new ByteBufferPool();
+        final var worker = new ForkJoinPool(1);
+        try {
+            final var released = worker.submit(() -> {
+                final var bb = pool.allocate(100);
+                pool.release(bb);
+                return bb;
+            }).get();
+            // ByteBuffer is in the worker thread cache
+            assertThat(pool.allocate(100)).isNotSameAs(released);
+
+            worker.submit(pool::flushThreadCache).get();
+            assertThat(pool.allocate(100)).isSameAs(released);
+        } finally {
+            worker.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Verify pooled MutableOffHeap has requested size and can be written after recycling")
+    void allocateAfterClose() {
+        final var factory = new PooledByteBufferOffHeapFactory();
+        factory.newMutableSafeByBuOffHeap(10).close();
+        try (final var memory = factory.newMutableSafeByBuOffHeap(10)) {
+            assertThat(memory.getByteSize()).isEqualTo(10);
+            memory.writeByteAt(0, (byte) 0xa);
+            memory.writeIntAt(1, 42);
+            memory.writeByteAt(5, (byte) 0xe);
+            memory.writeIntAt(6, 4568);
+            assertThat(memory.toByteArray()).isEqualTo(BYTES);
+        }
+    }
+
+    @Test
+    @DisplayName("Verify pooled OffHeap built from a byte array")
+    void ofBytes() {
+        try (final var memory = new PooledByteBufferOffHeapFactory().newSafeByteBufferOffHeap(BYTES)) {
+            assertThat(memory.getByteSize()).isEqualTo(BYTES.length);
+            assertThat(memory.toByteArray()).isEqualTo(BYTES);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.utils;
+
+import io.limo.memory.OffHeapFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AsciiOpsTests {
+
+    /**
+     * 19 bytes : 2 full longs and a 3 bytes tail
+     */
+    private final static byte[] ASCII = "limo-ascii-headers!".getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    @DisplayName("check that hasNegatives detects a non ASCII byte in any position, in long parts and in tail")
+    void hasNegatives() {
+        assertThat(AsciiOps.hasNegatives(ASCII)).isFalse();
+        for (var i = 0; i < ASCII.length; i++) {
+            final var bytes = ASCII.clone();
+            bytes[i] = (byte) 0xc3;
+            assertThat(AsciiOps.hasNegatives(bytes)).isTrue();
+            // section that excludes the non ASCII byte
+            assertThat(AsciiOps.hasNegatives(bytes, i + 1, bytes.length - i - 1)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("check that hasNegatives detects a non ASCII byte in an OffHeap")
+    void hasNegativesOffHeap() {
+        try (final var memory = OffHeapFactory.allocate((long) ASCII.length)) {
+            memory.writeBytesAt(0, ASCII, 0, ASCII.length);
+            assertThat(AsciiOps.hasNegatives(memory, 0, ASCII.length)).isFalse();
+            memory.writeByteAt(17, (byte) 0x80);
+            assertThat(AsciiOps.hasNegatives(memory, 0, ASCII.length)).isTrue();
+            assertThat(AsciiOps.hasNegatives(memory, 0, 17)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BoundedFreeListTests {
+
+    @Test
+    @DisplayName("Verify offer fails when free list is full, and poll returns null when it is empty, over several laps")
+    void fullAndEmpty() {
+        final var freeList = new BoundedFreeList<Integer>(3);
+        assertThat(freeList.capacity()).isEqualTo(4);
+        assertThat(freeList.poll()).isNull();
+        for (var lap = 0; lap < 3; lap++) {
+            for (var i = 0; i < 4; i++) {
+                assertThat(freeList.offer(lap * 4 + i)).isTrue();
+            }
+            assertThat(freeList.offer(-1)).isFalse();
+            for (var i = 0; i < 4; i++) {
+                assertThat(freeList.poll()).isEqualTo(lap * 4 + i);
+            }
+            assertThat(freeList.poll()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Verify an element offered by a thread is polled by another thread")
+    void pollFromAnotherThread() throws InterruptedException {
+        final var freeList = new BoundedFreeList<String>(1 << 17);
+        final var thread = new Thread(() -> freeList.offer("released"));
+        thread.start();
+        thread.join();
+        assertThat(freeList.poll()).isEqualTo("released");
+        assertThat(freeList.poll()).isNull();
+    }
+
+    @Test
+    @DisplayName("Verify concurrent offers and polls neither lose nor duplicate elements")
+    void concurrentOfferPoll() throws InterruptedException {
+        final var freeList = new BoundedFreeList<Integer>(64);
+        final var threadCount = 4;
+        final var elementsPerThread = 10_000;
+        final var polled = ConcurrentHashMap.<Integer>newKeySet();
+        final var duplicates = new AtomicInteger();
+        final var threads = new ArrayList<Thread>();
+        for (var t = 0; t < threadCount; t++) {
+            final var first = t * elementsPerThread;
+            threads.add(new Thread(() -> {
+                for (var element = first; element < first + elementsPerThread; element++) {
+                    // when free list is full, help to empty it
+                    while (!freeList.offer(element)) {
+                        pollInto(freeList, polled, duplicates);
+                    }
+                    pollInto(freeList, polled, duplicates);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (final var thread : threads) {
+            thread.join();
+        }
+        while (pollInto(freeList, polled, duplicates)) {
+            // drain remaining elements
+        }
+        assertThat(duplicates.get()).isZero();
+        assertThat(polled).hasSize(threadCount * elementsPerThread);
+    }
+
+    private static boolean pollInto(BoundedFreeList<Integer> freeList, Set<Integer> polled, AtomicInteger duplicates) {
+        final var element = freeList.poll();
+        if (element == null) {
+            return false;
+        }
+        if (!polled.add(element)) {
+            duplicates.incrementAndGet();
+        }
+        return true;
+    }
+}
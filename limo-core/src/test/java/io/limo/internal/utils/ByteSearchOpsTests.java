@@ -0,0 +1,51 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.utils;
+
+import io.limo.memory.OffHeapFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ByteSearchOpsTests {
+
+    /**
+     * 19 bytes : 2 full longs and a 3 bytes tail
+     */
+    private final static byte[] BYTES = "limo-search-bytes!!".getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    @DisplayName("check that indexOf finds a byte in any position, in long parts and in tail")
+    void indexOf() {
+        try (final var memory = OffHeapFactory.allocate((long) BYTES.length)) {
+            memory.writeBytesAt(0, BYTES, 0, BYTES.length);
+            assertThat(ByteSearchOps.indexOf(memory, 0, BYTES.length, (byte) '\n')).isEqualTo(-1L);
+            for (var i = 0; i < BYTES.length; i++) {
+                memory.writeByteAt(i, (byte) '\n');
+                assertThat(ByteSearchOps.indexOf(memory, 0, BYTES.length, (byte) '\n')).isEqualTo(i);
+                // section that excludes the searched byte
+                assertThat(ByteSearchOps.indexOf(memory, i + 1, BYTES.length, (byte) '\n')).isEqualTo(-1L);
+                memory.writeByteAt(i, BYTES[i]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("check that indexOf has no false positive for bytes next to the searched one, or with high bit set")
+    void indexOfNoFalsePositive() {
+        try (final var memory = OffHeapFactory.allocate(16L)) {
+            // a 0x01 byte just after a matching byte would be reported by a borrowing zero byte test
+            memory.writeLongAt(0, 0x0001010101010180L);
+            memory.writeLongAt(8, 0x8080808080808001L);
+            assertThat(ByteSearchOps.indexOf(memory, 0, 16, (byte) 0x01)).isEqualTo(1L);
+            assertThat(ByteSearchOps.indexOf(memory, 2, 16, (byte) 0x80)).isEqualTo(7L);
+            assertThat(ByteSearchOps.indexOf(memory, 8, 16, (byte) 0x01)).isEqualTo(15L);
+            assertThat(ByteSearchOps.indexOf(memory, 1, 16, (byte) 0x00)).isEqualTo(-1L);
+        }
+    }
+}
@@ -4,10 +4,14 @@
 
 package io.limo.internal.utils;
 
+import io.limo.memory.OffHeapFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class UnsafeStringOpsTests {
 
@@ -44,4 +48,62 @@ public class UnsafeStringOpsTests {
         assertThat(UnsafeStringOps.UnsafeOps.isLatin1(UTF_16))
             .isFalse();
     }
+
+    @Test
+    @DisplayName("decode UTF-8 bytes to a String")
+    void decodeUtf8() {
+        final var string = ASCII + ISO_8859_1 + UTF_16 + "\uD83D\uDE00";
+        assertThat(UnsafeStringOps.decode(string.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8))
+                .isEqualTo(string);
+        assertThat(UnsafeStringOps.decode((ASCII + ISO_8859_1).getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8))
+                .isEqualTo(ASCII + ISO_8859_1);
+    }
+
+    @Test
+    @DisplayName("decode malformed UTF-8 bytes to a String exactly as String constructor does")
+    void decodeMalformedUtf8() {
+        final var bytes = new byte[]{'a', (byte) 0xc3, 'b', (byte) 0xe2, (byte) 0x82, (byte) 0xed, (byte) 0xa0, (byte) 0x80};
+        assertThat(UnsafeStringOps.decode(bytes.clone(), StandardCharsets.UTF_8))
+                .isEqualTo(new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("decode UTF-16 bytes with or without byte-order mark to a String")
+    void decodeUtf16() {
+        final var string = ASCII + ISO_8859_1 + UTF_16;
+        assertThat(UnsafeStringOps.decode(string.getBytes(StandardCharsets.UTF_16), StandardCharsets.UTF_16))
+                .isEqualTo(string);
+        assertThat(UnsafeStringOps.decode(string.getBytes(StandardCharsets.UTF_16LE), StandardCharsets.UTF_16LE))
+                .isEqualTo(string);
+        assertThat(UnsafeStringOps.decode((ASCII + ISO_8859_1).getBytes(StandardCharsets.UTF_16BE),
+                StandardCharsets.UTF_16BE))
+                .isEqualTo(ASCII + ISO_8859_1);
+    }
+
+    @Test
+    @DisplayName("encode a UTF-16 String in UTF-8 straight into off-heap memory")
+    void encodeUtf8() {
+        final var string = ASCII + ISO_8859_1 + UTF_16 + "\u4E2D\uD83D\uDE00\uD800";
+        final var expected = string.getBytes(StandardCharsets.UTF_8);
+        assertThat(UnsafeStringOps.utf8Length(string)).isEqualTo(expected.length);
+        try (final var memory = OffHeapFactory.allocate((long) expected.length)) {
+            assertThat(UnsafeStringOps.encodeUtf8(string, memory, 0)).isEqualTo(expected.length);
+            assertThat(memory.toByteArray()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("encode a String in UTF-8 into a too small off-heap memory throws IndexOutOfBoundsException")
+    void encodeUtf8NoRoom() {
+        final var string = "\u4E2D" + ASCII + ASCII + ASCII;
+        try (final var memory = OffHeapFactory.allocate(8L)) {
+            assertThat(UnsafeStringOps.encodeUtf8(string, memory, 2)).isEqualTo(6L);
+            assertThatThrownBy(() -> UnsafeStringOps.encodeUtf8(string, memory, 3))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatThrownBy(() -> UnsafeStringOps.encodeUtf8(string, memory, 9))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatThrownBy(() -> UnsafeStringOps.encodeUtf8(string, memory, -1))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
 }
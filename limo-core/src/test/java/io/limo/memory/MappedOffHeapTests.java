@@ -0,0 +1,52 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.memory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MappedOffHeapTests {
+
+    private static final byte[] BYTES = new byte[]{0xa, 0, 0, 0, 42, 0xe, 0, 0, 0x11, (byte) 0xd8};
+
+    @Test
+    @DisplayName("Verify bytes written in a mutable mapped file are read from a read-only mapped file")
+    void writeThenRead(@TempDir Path tempDir) throws IOException {
+        final var path = tempDir.resolve("mapped.bin");
+        try (final var memory = OffHeapFactory.mapMutable(path, 0, BYTES.length)) {
+            memory.writeByteAt(0, (byte) 0xa);
+            memory.writeIntAt(1, 42);
+            memory.writeByteAt(5, (byte) 0xe);
+            memory.writeIntAtLE(6, 0xd8110000);
+            memory.force();
+        }
+        assertThat(Files.readAllBytes(path)).isEqualTo(BYTES);
+
+        try (final var memory = OffHeapFactory.map(path)) {
+            memory.load();
+            assertThat(memory.getByteSize()).isEqualTo(BYTES.length);
+            assertThat(memory.readIntAt(1)).isEqualTo(42);
+            assertThat(memory.toByteArray()).isEqualTo(BYTES);
+        }
+    }
+
+    @Test
+    @DisplayName("Verify a mapped region starting at an offset")
+    void mapAtOffset(@TempDir Path tempDir) throws IOException {
+        final var path = Files.write(tempDir.resolve("mapped.bin"), BYTES);
+        try (final var memory = OffHeapFactory.map(path, 5, 5)) {
+            assertThat(memory.readByteAt(0)).isEqualTo((byte) 0xe);
+            assertThat(memory.slice(1, 4).readIntAtLE(0)).isEqualTo(0xd8110000);
+            assertThat(memory.asByBuOffHeap().toByteArray()).isEqualTo(new byte[]{0xe, 0, 0, 0x11, (byte) 0xd8});
+        }
+    }
+}
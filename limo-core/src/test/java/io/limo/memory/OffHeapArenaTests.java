@@ -0,0 +1,101 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.memory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OffHeapArenaTests {
+
+    @Test
+    @DisplayName("Verify small allocations are distinct slices of a single block")
+    void smallAllocations() {
+        try (final var arena = OffHeapArena.newArena(1024)) {
+            final var memories = new ArrayList<MutableOffHeap>();
+            for (var i = 0; i < 50; i++) {
+                final var memory = arena.allocate(5L);
+                memory.writeIntAt(0, i);
+                memory.writeByteAt(4, (byte) i);
+                memories.add(memory);
+            }
+            for (var i = 0; i < 50; i++) {
+                assertThat(memories.get(i).getByteSize()).isEqualTo(5L);
+                assertThat(memories.get(i).readIntAt(0)).isEqualTo(i);
+                assertThat(memories.get(i).readByteAt(4)).isEqualTo((byte) i);
+            }
+            assertThat(arena.getAllocatedByteSize()).isEqualTo(250L);
+            // each allocation is aligned on 8 bytes, 128 of them fit in a block
+            assertThat(arena.getReservedByteSize()).isEqualTo(1024L);
+        }
+    }
+
+    @Test
+    @DisplayName("Verify a big allocation gets its own block")
+    void bigAllocation() {
+        try (final var arena = OffHeapArena.newArena(1024)) {
+            final var small = arena.allocate(8);
+            final var big = arena.allocate(1000);
+            big.writeLongAt(992, 42L);
+            small.writeLongAt(0, 17L);
+            assertThat(big.readLongAt(992)).isEqualTo(42L);
+            assertThat(small.readLongAt(0)).isEqualTo(17L);
+            assertThat(arena.getReservedByteSize()).isEqualTo(2024L);
+        }
+    }
+
+    @Test
+    @DisplayName("Verify allocated memories are not alive once arena is closed")
+    void closeArena() {
+        final MutableByBuOffHeap memory;
+        final MutableByBuOffHeap closedMemory;
+        try (final var arena = OffHeapArena.newArena()) {
+            memory = arena.copyOf(new byte[]{1, 2, 3});
+            assertThat(memory.toByteArray()).isEqualTo(new byte[]{1, 2, 3});
+            closedMemory = arena.allocate(4);
+            // closing an arena memory is allowed, it releases nothing
+            closedMemory.close();
+        }
+        assertThatThrownBy(() -> memory.readByteAt(0))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("not alive");
+        assertThatThrownBy(() -> closedMemory.readByteAt(0))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Verify an arena is confined to its owner thread")
+    void threadConfinement() throws InterruptedException {
+        try (final var arena = OffHeapArena.newArena()) {
+            final var memory = arena.allocate(8);
+            final var errors = Collections.synchronizedList(new ArrayList<Throwable>());
+            final var thread = new Thread(() -> {
+                try {
+                    arena.allocate(8);
+                } catch (Throwable t) {
+                    errors.add(t);
+                }
+                try {
+                    memory.readLongAt(0);
+                } catch (Throwable t) {
+                    errors.add(t);
+                }
+            });
+            thread.start();
+            thread.join();
+            assertThat(errors).hasSize(2);
+            for (final var error : errors) {
+                assertThat(error)
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("outside owning thread");
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.memory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OffStringTests {
+
+    private final static String LATIN1 = "ASCII then Latin1 éèÿ";
+
+    @Test
+    @DisplayName("OffString decodes its off-heap UTF-8 memory to a String")
+    void utf8ToString() {
+        final var string = LATIN1 + " then UTF-16 €";
+        try (final var offString = OffString.of(OffHeapFactory.of(string.getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8)) {
+            assertThat(offString.toString()).isEqualTo(string);
+        }
+    }
+
+    @Test
+    @DisplayName("Latin1 OffString is transcoded to UTF-8 off-heap memory")
+    void latin1ToUtf8Memory() {
+        try (final var offString = OffString.of(OffHeapFactory.of(LATIN1.getBytes(StandardCharsets.ISO_8859_1)),
+                StandardCharsets.ISO_8859_1);
+             final var utf8 = offString.toMemory(StandardCharsets.UTF_8)) {
+            assertThat(utf8.toByteArray()).isEqualTo(LATIN1.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("ASCII OffString memory is returned as is for an ASCII compatible charset")
+    void asciiToLatin1Memory() {
+        try (final var offString = OffString.of(OffHeapFactory.of("ASCII".getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8)) {
+            assertThat(offString.toMemory(StandardCharsets.ISO_8859_1)).isSameAs(offString.getMemory());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.utils;
+
+import io.limo.memory.OffHeapFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public final class ChecksumOpsTests {
+
+    @Test
+    @DisplayName("Verify checksums of off-heap memory regions are the checksums of the same heap bytes")
+    void update() {
+        final var bytes = new byte[1000];
+        for (var index = 0; index < bytes.length; index++) {
+            bytes[index] = (byte) (index * 31 + 7);
+        }
+        try (final var memory = OffHeapFactory.of(bytes)) {
+            final var crc32c = new CRC32C();
+            ChecksumOps.update(crc32c, memory, 10, 900);
+            final var expectedCrc32c = new CRC32C();
+            expectedCrc32c.update(bytes, 10, 900);
+            assertThat(crc32c.getValue()).isEqualTo(expectedCrc32c.getValue());
+
+            // a slice, updated in 2 regions
+            final var crc32 = new CRC32();
+            final var slice = memory.slice(100, 500);
+            ChecksumOps.update(crc32, slice, 0, 123);
+            ChecksumOps.update(crc32, slice, 123, 377);
+            final var expectedCrc32 = new CRC32();
+            expectedCrc32.update(bytes, 100, 500);
+            assertThat(crc32.getValue()).isEqualTo(expectedCrc32.getValue());
+
+            assertThatThrownBy(() -> ChecksumOps.update(crc32, slice, 1, 500))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Verify checksum of a mapped region that straddles 2 mapped chunks of 1 GiB")
+    void updateMapped(@TempDir Path tempDir) {
+        final var bytes = new byte[200];
+        for (var index = 0; index < bytes.length; index++) {
+            bytes[index] = (byte) (index * 31 + 7);
+        }
+        // sparse file, only the pages around the first chunk boundary are touched
+        final var chunkByteSize = 1L << 30;
+        try (final var memory = OffHeapFactory.mapMutable(tempDir.resolve("big.bin"), 0, Integer.MAX_VALUE + 1L)) {
+            final var region = memory.slice(chunkByteSize - 100, bytes.length);
+            region.writeBytesAt(0, bytes, 0, bytes.length);
+            final var crc32c = new CRC32C();
+            ChecksumOps.update(crc32c, region, 0, bytes.length);
+            final var expectedCrc32c = new CRC32C();
+            expectedCrc32c.update(bytes, 0, bytes.length);
+            assertThat(crc32c.getValue()).isEqualTo(expectedCrc32c.getValue());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.utils;
+
+import io.limo.memory.OffHeapFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public final class Hasher64Tests {
+
+    /**
+     * 43 bytes : more than one xxHash64 stripe and more than two MurmurHash3 blocks
+     */
+    private static final String FOX = "The quick brown fox jumps over the lazy dog";
+
+    @Test
+    @DisplayName("Verify xxHash64 values are identical to the reference implementation")
+    void xxHash64() {
+        try (final var memory = OffHeapFactory.of(FOX.getBytes(StandardCharsets.US_ASCII))) {
+            assertThat(XxHash64.hash(memory, 0, 0, 0L)).isEqualTo(0xef46db3751d8e999L);
+            assertThat(XxHash64.hash(memory, 4, 3, 0L)).isEqualTo(0x78738e28de79a796L);
+            assertThat(XxHash64.hash(memory, 0, FOX.length(), 0L)).isEqualTo(0x0b242d361fda71bcL);
+            assertThat(XxHash64.hash(memory, 0, FOX.length(), 42L)).isEqualTo(0xaa9f288a8baa3d3fL);
+        }
+    }
+
+    @Test
+    @DisplayName("Verify MurmurHash3 values are the first 64 bits of the reference x64 128 bits implementation")
+    void murmur3Hash64() {
+        try (final var memory = OffHeapFactory.of((FOX + "hello").getBytes(StandardCharsets.US_ASCII))) {
+            assertThat(Murmur3Hash64.hash(memory, 0, 0, 0)).isEqualTo(0L);
+            assertThat(Murmur3Hash64.hash(memory, 0, 0, 42)).isEqualTo(0xf02aa77dfa1b8523L);
+            assertThat(Murmur3Hash64.hash(memory, FOX.length(), 5, 0)).isEqualTo(0xcbd8a7b341bd9b02L);
+            assertThat(Murmur3Hash64.hash(memory, FOX.length(), 5, 42)).isEqualTo(0xc4b8b3c960af6f08L);
+            assertThat(Murmur3Hash64.hash(memory, 0, FOX.length(), 0)).isEqualTo(0xe34bbc7bbc071b6cL);
+            assertThat(Murmur3Hash64.hash(memory, 0, FOX.length(), 42)).isEqualTo(0x740dcf93fe0bd5d7L);
+        }
+    }
+
+    @Test
+    @DisplayName("Verify streaming updates give the one-shot value, whatever the update boundaries are")
+    void streaming() {
+        final var bytes = new byte[300];
+        for (var index = 0; index < bytes.length; index++) {
+            bytes[index] = (byte) (index * 31 + 7);
+        }
+        try (final var memory = OffHeapFactory.of(bytes)) {
+            final var xxHasher = new XxHash64(42L);
+            final var murmur3Hasher = new Murmur3Hash64(42);
+            for (final var updateSize : new int[]{1, 5, 16, 31, 32, 33, 100, 300}) {
+                xxHasher.reset();
+                murmur3Hasher.reset();
+                for (var offset = 0; offset < bytes.length; offset += updateSize) {
+                    final var length = Math.min(updateSize, bytes.length - offset);
+                    xxHasher.update(memory, offset, length);
+                    murmur3Hasher.update(memory, offset, length);
+                }
+                assertThat(xxHasher.getValue()).isEqualTo(XxHash64.hash(memory, 0, bytes.length, 42L));
+                assertThat(murmur3Hasher.getValue()).isEqualTo(Murmur3Hash64.hash(memory, 0, bytes.length, 42));
+            }
+            assertThatThrownBy(() -> xxHasher.update(memory, 290, 11)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+}
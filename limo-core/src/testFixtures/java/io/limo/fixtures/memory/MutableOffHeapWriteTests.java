@@ -6,6 +6,8 @@ package io.limo.fixtures.memory;
 
 import io.limo.memory.MutableOffHeap;
 
+import java.nio.ByteBuffer;
+
 import static io.limo.fixtures.BinaryTestData.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -30,4 +32,45 @@ interface MutableOffHeapWriteTests {
             assertThat(mutableMemory.toByteArray()).isEqualTo(BYTES_LITTLE_ENDIAN);
         }
     }
+
+    default void writeReadPrimitivesTest(MutableOffHeap mutableMemory) {
+        try (mutableMemory) {
+            mutableMemory.writeShortAt(0, (short) 0x0102);
+            mutableMemory.writeShortAtLE(2, (short) 0x0102);
+            mutableMemory.writeLongAt(4, 0x0102030405060708L);
+            mutableMemory.writeLongAtLE(12, 0x0102030405060708L);
+            mutableMemory.writeFloatAt(20, 4.2f);
+            mutableMemory.writeDoubleAtLE(24, 45.68d);
+            assertThat(mutableMemory.readByteAt(1)).isEqualTo((byte) 2);
+            assertThat(mutableMemory.readByteAt(3)).isEqualTo((byte) 1);
+            assertThat(mutableMemory.readByteAt(4)).isEqualTo((byte) 1);
+            assertThat(mutableMemory.readByteAt(12)).isEqualTo((byte) 8);
+            assertThat(mutableMemory.readShortAt(0)).isEqualTo((short) 0x0102);
+            assertThat(mutableMemory.readShortAtLE(2)).isEqualTo((short) 0x0102);
+            assertThat(mutableMemory.readLongAt(4)).isEqualTo(0x0102030405060708L);
+            assertThat(mutableMemory.readLongAtLE(12)).isEqualTo(0x0102030405060708L);
+            assertThat(mutableMemory.readFloatAt(20)).isEqualTo(4.2f);
+            assertThat(mutableMemory.readDoubleAtLE(24)).isEqualTo(45.68d);
+        }
+    }
+
+    default void writeReadBytesTest(MutableOffHeap mutableMemory, MutableOffHeap otherMemory) {
+        try (mutableMemory; otherMemory) {
+            mutableMemory.writeBytesAt(0, BYTES_BIG_ENDIAN, 0, 5);
+            mutableMemory.writeBytesAt(5, ByteBuffer.wrap(BYTES_BIG_ENDIAN, 5, 5));
+            assertThat(mutableMemory.toByteArray()).isEqualTo(BYTES_BIG_ENDIAN);
+
+            final var bytes = new byte[10];
+            mutableMemory.readBytesAt(0, bytes, 0, 10);
+            assertThat(bytes).isEqualTo(BYTES_BIG_ENDIAN);
+
+            final var bb = ByteBuffer.allocateDirect(10);
+            mutableMemory.readBytesAt(0, bb);
+            assertThat(bb.position()).isEqualTo(10);
+            assertThat(bb.getInt(1)).isEqualTo(FIRST_INT);
+
+            otherMemory.writeBytesAt(0, mutableMemory, 0, 10);
+            assertThat(otherMemory.toByteArray()).isEqualTo(BYTES_BIG_ENDIAN);
+        }
+    }
 }
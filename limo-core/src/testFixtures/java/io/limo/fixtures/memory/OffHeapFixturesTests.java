@@ -61,6 +61,54 @@ public class OffHeapFixturesTests implements OffHeapReadTests, MutableOffHeapWri
         writeLETest(OffHeapFactory.allocate(10));
     }
 
+    @Test
+    @DisplayName("Verify short, long, float and double read and write are working with MutableOffHeap")
+    void writeReadPrimitivesOffHeap() {
+        writeReadPrimitivesTest(OffHeapFactory.allocate(32L));
+    }
+
+    @Test
+    @DisplayName("Verify short, long, float and double read and write are working with MutableByBuOffHeap")
+    void writeReadPrimitivesByBuOffHeap() {
+        writeReadPrimitivesTest(OffHeapFactory.allocate(32));
+    }
+
+    @Test
+    @DisplayName("Verify bulk read and write are working with MutableOffHeap")
+    void writeReadBytesOffHeap() {
+        writeReadBytesTest(OffHeapFactory.allocate(10L), OffHeapFactory.allocate(10));
+    }
+
+    @Test
+    @DisplayName("Verify bulk read and write are working with MutableByBuOffHeap")
+    void writeReadBytesByBuOffHeap() {
+        writeReadBytesTest(OffHeapFactory.allocate(10), OffHeapFactory.allocate(10L));
+    }
+
+    @Test
+    @DisplayName("Verify fill, copyTo, mismatch and compareTo between OffHeap and ByBuOffHeap")
+    void fillCopyCompare() {
+        try (final var memory = OffHeapFactory.allocate(20L);
+             final var byBuMemory = OffHeapFactory.allocate(20)) {
+            memory.fill(SECOND_BYTE);
+            byBuMemory.fill(SECOND_BYTE);
+            assertThat(memory.mismatch(byBuMemory)).isEqualTo(-1);
+            assertThat(memory.compareTo(byBuMemory)).isZero();
+
+            byBuMemory.writeByteAt(11, (byte) 0x80);
+            assertThat(memory.mismatch(byBuMemory)).isEqualTo(11);
+            assertThat(memory.compareTo(byBuMemory)).isNegative();
+            assertThat(memory.slice(0, 11).mismatch(byBuMemory)).isEqualTo(11);
+
+            memory.writeIntAt(0, FIRST_INT);
+            memory.copyTo(0, byBuMemory, 4, 16);
+            assertThat(byBuMemory.readIntAt(4)).isEqualTo(FIRST_INT);
+            assertThat(byBuMemory.readByteAt(19)).isEqualTo(SECOND_BYTE);
+            assertThatThrownBy(() -> memory.copyTo(5, byBuMemory, 0, 16))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
     @Test
     @DisplayName("Verify all operations on closed OffHeap throw IllegalStateException")
     void closedOffHeap() {
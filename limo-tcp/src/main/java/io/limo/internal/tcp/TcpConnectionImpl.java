@@ -0,0 +1,234 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.tcp;
+
+import io.limo.LimoIOException;
+import io.limo.concurrent.ThreadExecutorFactory;
+import io.limo.internal.transfer.FrameDecoder;
+import io.limo.internal.transfer.MutableByBuArrayData;
+import io.limo.internal.transfer.MutableMemorySupplier;
+import io.limo.tcp.FrameHandler;
+import io.limo.tcp.TcpConnection;
+import io.limo.tcp.TcpHandler;
+import io.limo.transfer.FrameFormat;
+import io.limo.transfer.MutableData;
+import io.limo.transfer.Writer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.net.SocketAddress;
+import java.nio.channels.SocketChannel;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of {@link TcpConnection} based on a blocking {@link SocketChannel}, with one reader thread and one
+ * writer thread
+ * <p>Each thread only uses the pooled off-heap memory it obtained itself, so thread-confinement of off-heap memory is
+ * respected : received bytes are read by the reader thread, scheduled writes are executed by the writer thread.
+ * <p>Received bytes are either handed to a {@link TcpHandler} as they come, or split into frames handed to a
+ * {@link FrameHandler}.
+ */
+public final class TcpConnectionImpl implements TcpConnection {
+    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    /**
+     * Scheduled after all other writes to stop the writer thread
+     */
+    private static final Consumer<MutableByBuArrayData> STOP_WRITER = data -> {};
+
+    private final @NotNull SocketChannel channel;
+    private final @NotNull SocketAddress remoteAddress;
+    private final @Nullable TcpHandler handler;
+    private final @Nullable FrameFormat frameFormat;
+    private final @Nullable FrameHandler frameHandler;
+    private final @NotNull MutableMemorySupplier mutableMemorySupplier;
+    private final @NotNull Consumer<? super TcpConnectionImpl> onClose;
+    private final @NotNull BlockingQueue<Consumer<? super MutableByBuArrayData>> writes = new LinkedBlockingQueue<>();
+    private final @NotNull AtomicBoolean open = new AtomicBoolean(true);
+
+    /**
+     * @param onClose invoked once, when this connection is closed
+     */
+    public TcpConnectionImpl(@NotNull SocketChannel channel, @NotNull TcpHandler handler,
+                             @NotNull MutableMemorySupplier mutableMemorySupplier,
+                             @NotNull Consumer<? super TcpConnectionImpl> onClose) {
+        this(channel, Objects.requireNonNull(handler), null, null, mutableMemorySupplier, onClose);
+    }
+
+    /**
+     * @param onClose invoked once, when this connection is closed
+     */
+    public TcpConnectionImpl(@NotNull SocketChannel channel, @NotNull FrameFormat frameFormat,
+                             @NotNull FrameHandler frameHandler, @NotNull MutableMemorySupplier mutableMemorySupplier,
+                             @NotNull Consumer<? super TcpConnectionImpl> onClose) {
+        this(channel, null, Objects.requireNonNull(frameFormat), Objects.requireNonNull(frameHandler),
+                mutableMemorySupplier, onClose);
+    }
+
+    private TcpConnectionImpl(@NotNull SocketChannel channel, @Nullable TcpHandler handler,
+                              @Nullable FrameFormat frameFormat, @Nullable FrameHandler frameHandler,
+                              @NotNull MutableMemorySupplier mutableMemorySupplier,
+                              @NotNull Consumer<? super TcpConnectionImpl> onClose) {
+        this.channel = Objects.requireNonNull(channel);
+        this.remoteAddress = channel.socket().getRemoteSocketAddress();
+        this.handler = handler;
+        this.frameFormat = frameFormat;
+        this.frameHandler = frameHandler;
+        this.mutableMemorySupplier = Objects.requireNonNull(mutableMemorySupplier);
+        this.onClose = Objects.requireNonNull(onClose);
+    }
+
+    /**
+     * Starts the writer thread, then the reader thread of this connection
+     * <p>They run as long as this connection is open, so each one is a dedicated thread obtained with
+     * {@link ThreadExecutorFactory#newThread(String, Runnable)}, never a thread of the shared bounded executor.
+     */
+    public void start(@NotNull ThreadExecutorFactory threadExecutorFactory) {
+        threadExecutorFactory.newThread("limo-tcp-writer-" + this.remoteAddress, this::writeLoop).start();
+        threadExecutorFactory.newThread("limo-tcp-reader-" + this.remoteAddress, this::readLoop).start();
+    }
+
+    @Override
+    public @NotNull SocketAddress getRemoteAddress() {
+        return this.remoteAddress;
+    }
+
+    @Override
+    public void write(@NotNull Consumer<? super Writer> action) {
+        Objects.requireNonNull(action);
+        if (!this.open.get()) {
+            throw new IllegalStateException("Connection is closed");
+        }
+        this.writes.add(action);
+    }
+
+    @Override
+    public void writeFrame(@NotNull FrameFormat format, @NotNull Consumer<? super MutableData> action) {
+        Objects.requireNonNull(format);
+        Objects.requireNonNull(action);
+        if (!this.open.get()) {
+            throw new IllegalStateException("Connection is closed");
+        }
+        this.writes.add(data -> format.writeFrame(data, action));
+    }
+
+    @Override
+    public boolean isOpen() {
+        return this.open.get();
+    }
+
+    @Override
+    public void close() {
+        if (!this.open.compareAndSet(true, false)) {
+            return;
+        }
+        this.writes.clear();
+        this.writes.add(STOP_WRITER);
+        try {
+            // unblocks the reader thread and the writer thread if they are blocked on the channel
+            this.channel.close();
+        } catch (IOException ioException) {
+            logger.debug("Failed to close connection {}", this.remoteAddress, ioException);
+        }
+        this.onClose.accept(this);
+    }
+
+    /**
+     * Reads bytes from the channel in pooled off-heap memory, then hands them to the handler
+     */
+    private void readLoop() {
+        try {
+            if (this.frameFormat != null) {
+                readFrames(this.frameFormat, Objects.requireNonNull(this.frameHandler));
+                return;
+            }
+            final var handler = Objects.requireNonNull(this.handler);
+            // one byte sequence per connection while it is idle, more are only taken when it is full
+            try (final var data = new MutableByBuArrayData(this.mutableMemorySupplier)) {
+                while (this.open.get()) {
+                    final var readBytes = data.readFrom(this.channel);
+                    if (readBytes < 0) {
+                        // end of stream, client closed its connection
+                        return;
+                    }
+                    if (readBytes > 0) {
+                        handler.onRead(data, readBytes, this);
+                        // bytes that were not read are discarded
+                        data.clear();
+                    }
+                }
+            }
+        } catch (LimoIOException limoIOException) {
+            if (this.open.get()) {
+                logger.debug("Failed to read from connection {}", this.remoteAddress, limoIOException);
+            }
+        } catch (RuntimeException runtimeException) {
+            logger.warn("Handler failed on connection {}", this.remoteAddress, runtimeException);
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Accumulates bytes from the channel in pooled off-heap memory, then hands each complete frame to the frame
+     * handler
+     */
+    private void readFrames(@NotNull FrameFormat frameFormat, @NotNull FrameHandler frameHandler) {
+        try (final var decoder = new FrameDecoder(frameFormat, this.mutableMemorySupplier)) {
+            while (this.open.get()) {
+                final var readBytes = decoder.readFrom(this.channel);
+                if (readBytes < 0) {
+                    // end of stream, client closed its connection
+                    return;
+                }
+                if (readBytes > 0) {
+                    decoder.decode(frame -> frameHandler.onFrame(frame, this));
+                }
+            }
+        }
+    }
+
+    /**
+     * Executes scheduled writes in pooled off-heap memory, then sends it to the client
+     */
+    private void writeLoop() {
+        try {
+            var action = this.writes.take();
+            while (action != STOP_WRITER) {
+                try (final var data = new MutableByBuArrayData(this.mutableMemorySupplier)) {
+                    // writes that are already scheduled are batched in one gathering write
+                    while (action != null && action != STOP_WRITER) {
+                        action.accept(data);
+                        action = this.writes.poll();
+                    }
+                    if (data.getWriteIndex() > 0) {
+                        data.writeTo(this.channel);
+                    }
+                }
+                if (action == null) {
+                    action = this.writes.take();
+                }
+            }
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        } catch (LimoIOException limoIOException) {
+            if (this.open.get()) {
+                logger.debug("Failed to write to connection {}", this.remoteAddress, limoIOException);
+            }
+        } catch (RuntimeException runtimeException) {
+            logger.warn("Write failed on connection {}", this.remoteAddress, runtimeException);
+        } finally {
+            close();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.tcp;
+
+import io.limo.transfer.Data;
+import io.limo.transfer.FrameFormat;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * User code that handles the length-prefixed frames received from a client of a {@link TcpServer}
+ *
+ * @see FrameFormat
+ */
+@FunctionalInterface
+public interface FrameHandler {
+
+    /**
+     * Invoked by the reader thread of {@code connection} for each complete frame, in the order they were received
+     * <p>{@code frame} contains the frame bytes, without the length prefix. It is a view over the received bytes, they
+     * are not copied : it is only valid during this call. Responses are sent with
+     * {@link TcpConnection#writeFrame(FrameFormat, java.util.function.Consumer)}.
+     *
+     * @param frame      the frame bytes, from index 0 to its write index
+     * @param connection the client connection
+     */
+    void onFrame(@NotNull Data frame, @NotNull TcpConnection connection);
+}
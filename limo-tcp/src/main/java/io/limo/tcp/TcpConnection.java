@@ -0,0 +1,56 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.tcp;
+
+import io.limo.transfer.FrameFormat;
+import io.limo.transfer.MutableData;
+import io.limo.transfer.Writer;
+import org.jetbrains.annotations.NotNull;
+
+import java.net.SocketAddress;
+import java.util.function.Consumer;
+
+/**
+ * A client connection accepted by a {@link TcpServer}
+ * <p>Each connection runs with two threads : a reader thread that receives bytes and invokes the {@link TcpHandler},
+ * and a writer thread that sends responses to the client.
+ */
+public interface TcpConnection extends AutoCloseable {
+
+    /**
+     * @return the address of the client
+     */
+    @NotNull SocketAddress getRemoteAddress();
+
+    /**
+     * Schedules a write to the client. This method can be invoked from any thread.
+     * <p>{@code action} is executed by the writer thread of this connection, it writes bytes into a pooled off-heap
+     * {@link Writer} that is sent to the client just after. Actions are executed in the order they were scheduled.
+     *
+     * @throws IllegalStateException if this connection is closed
+     */
+    void write(@NotNull Consumer<? super Writer> action);
+
+    /**
+     * Schedules the write of a length-prefixed frame to the client. This method can be invoked from any thread.
+     * <p>{@code action} writes the frame bytes, the length prefix is then back-patched in place.
+     *
+     * @throws IllegalStateException if this connection is closed
+     * @see FrameFormat#writeFrame(MutableData, Consumer)
+     */
+    void writeFrame(@NotNull FrameFormat format, @NotNull Consumer<? super MutableData> action);
+
+    /**
+     * @return true if this connection is not closed
+     */
+    boolean isOpen();
+
+    /**
+     * Closes this connection, its reader and writer threads stop. Scheduled writes that were not sent yet are
+     * discarded.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,28 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.tcp;
+
+import io.limo.transfer.Reader;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+/**
+ * User code that handles the bytes received from a client of a {@link TcpServer}
+ */
+@FunctionalInterface
+public interface TcpHandler {
+
+    /**
+     * Invoked by the reader thread of {@code connection} each time some bytes were received
+     * <p>{@code reader} is only valid during this call, bytes that were not read are discarded when it returns.
+     * Responses are sent with {@link TcpConnection#write(java.util.function.Consumer)}.
+     *
+     * @param reader        the received bytes
+     * @param readableBytes the number of received bytes that can be read from {@code reader}
+     * @param connection    the client connection
+     */
+    void onRead(@NotNull Reader reader, @Range(from = 1, to = Long.MAX_VALUE) long readableBytes,
+                @NotNull TcpConnection connection);
+}
@@ -0,0 +1,176 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.tcp;
+
+import io.limo.LimoIOException;
+import io.limo.concurrent.ThreadExecutorFactory;
+import io.limo.internal.tcp.TcpConnectionImpl;
+import io.limo.internal.transfer.RecyclingMutableMemorySupplier;
+import io.limo.transfer.FrameFormat;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A TCP server that runs two threads per client connection : one thread for read operations and one thread for write
+ * operations. Blocking IO is used, no Selector is involved.
+ * <p>Threads are supplied by {@link ThreadExecutorFactory} : virtual threads are used when a module that supports them
+ * is present, so a lot of mostly idle connections can be served concurrently. Otherwise each connection costs two
+ * platform threads.
+ * <p>With platform threads, max number of open connections is {@value #DEFAULT_MAX_CONNECTIONS}. With virtual threads
+ * the number of open connections is not limited by default. In both cases the limit can be set with the
+ * {@value #MAX_CONNECTIONS_PROPERTY} system property. A connection accepted when this limit is reached is closed
+ * straight away, so the client sees it is not served.
+ */
+public final class TcpServer implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    static final String MAX_CONNECTIONS_PROPERTY = "io.limo.tcp.maxConnections";
+
+    /**
+     * Default max number of open connections when platform threads are used
+     */
+    static final int DEFAULT_MAX_CONNECTIONS = 1024;
+
+    private final @NotNull ServerSocketChannel serverChannel;
+    private final @Nullable TcpHandler handler;
+    private final @Nullable FrameFormat frameFormat;
+    private final @Nullable FrameHandler frameHandler;
+    private final @NotNull ThreadExecutorFactory threadExecutorFactory;
+    private final @NotNull Set<TcpConnection> connections = ConcurrentHashMap.newKeySet();
+    private final @NotNull Thread acceptor;
+    private final int maxConnections;
+
+    /**
+     * Binds a server on {@code address}, it accepts connections when {@link #start()} is invoked
+     *
+     * @throws LimoIOException if bind failed
+     */
+    public TcpServer(@NotNull SocketAddress address, @NotNull TcpHandler handler) {
+        this(address, Objects.requireNonNull(handler), null, null);
+    }
+
+    /**
+     * Binds a server on {@code address} that splits received bytes into length-prefixed frames, it accepts
+     * connections when {@link #start()} is invoked
+     *
+     * @throws LimoIOException if bind failed
+     */
+    public TcpServer(@NotNull SocketAddress address, @NotNull FrameFormat frameFormat,
+                     @NotNull FrameHandler frameHandler) {
+        this(address, null, Objects.requireNonNull(frameFormat), Objects.requireNonNull(frameHandler));
+    }
+
+    private TcpServer(@NotNull SocketAddress address, @Nullable TcpHandler handler, @Nullable FrameFormat frameFormat,
+                      @Nullable FrameHandler frameHandler) {
+        Objects.requireNonNull(address);
+        this.handler = handler;
+        this.frameFormat = frameFormat;
+        this.frameHandler = frameHandler;
+        try {
+            this.serverChannel = ServerSocketChannel.open().bind(address);
+        } catch (IOException ioException) {
+            throw new LimoIOException(ioException);
+        }
+        this.threadExecutorFactory = ThreadExecutorFactory.get();
+        this.maxConnections = Integer.getInteger(MAX_CONNECTIONS_PROPERTY,
+                this.threadExecutorFactory.hasVirtualThreads() ? Integer.MAX_VALUE : DEFAULT_MAX_CONNECTIONS);
+        this.acceptor = this.threadExecutorFactory.newThread("limo-tcp-acceptor", this::acceptLoop);
+    }
+
+    /**
+     * Starts accepting client connections
+     *
+     * @return this instance
+     */
+    public @NotNull TcpServer start() {
+        this.acceptor.start();
+        return this;
+    }
+
+    /**
+     * @return the address this server is bound to, useful when it was bound to port 0
+     */
+    public @NotNull InetSocketAddress getLocalAddress() {
+        try {
+            return (InetSocketAddress) this.serverChannel.getLocalAddress();
+        } catch (IOException ioException) {
+            throw new LimoIOException(ioException);
+        }
+    }
+
+    /**
+     * @return the number of open client connections
+     */
+    public int getConnectionCount() {
+        return this.connections.size();
+    }
+
+    /**
+     * Stops accepting connections, then closes all client connections
+     *
+     * @throws LimoIOException if an I/O error occurs
+     */
+    @Override
+    public void close() {
+        try {
+            this.serverChannel.close();
+        } catch (IOException ioException) {
+            throw new LimoIOException(ioException);
+        } finally {
+            this.connections.forEach(TcpConnection::close);
+        }
+    }
+
+    private void acceptLoop() {
+        while (this.serverChannel.isOpen()) {
+            try {
+                final var channel = this.serverChannel.accept();
+                if (this.connections.size() >= this.maxConnections) {
+                    // saturated : reject this connection rather than accepting it without serving it
+                    logger.warn("Max number of {} connections is reached, closing connection from {}",
+                            this.maxConnections, channel.socket().getRemoteSocketAddress());
+                    channel.close();
+                    continue;
+                }
+                final var connection = newConnection(channel);
+                this.connections.add(connection);
+                if (!this.serverChannel.isOpen()) {
+                    // server was closed concurrently
+                    connection.close();
+                    return;
+                }
+                connection.start(this.threadExecutorFactory);
+            } catch (ClosedChannelException closedChannelException) {
+                // server was closed
+                return;
+            } catch (IOException ioException) {
+                logger.warn("Failed to accept a connection", ioException);
+            }
+        }
+    }
+
+    private @NotNull TcpConnectionImpl newConnection(@NotNull SocketChannel channel) {
+        if (this.handler != null) {
+            return new TcpConnectionImpl(channel, this.handler, RecyclingMutableMemorySupplier.SHARED,
+                    this.connections::remove);
+        }
+        return new TcpConnectionImpl(channel, Objects.requireNonNull(this.frameFormat),
+                Objects.requireNonNull(this.frameHandler), RecyclingMutableMemorySupplier.SHARED,
+                this.connections::remove);
+    }
+}
@@ -0,0 +1,13 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+module limo.tcp {
+    requires limo.concurrent;
+    requires limo.core;
+    requires limo.transfer;
+    requires org.jetbrains.annotations;
+    requires org.slf4j;
+
+    exports io.limo.tcp;
+}
@@ -0,0 +1,134 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.tcp;
+
+import io.limo.transfer.FrameFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class TcpServerTests {
+
+    /**
+     * Echoes all received bytes to the client
+     */
+    private static final TcpHandler ECHO = (reader, readableBytes, connection) -> {
+        final var bytes = new byte[(int) readableBytes];
+        for (var index = 0; index < bytes.length; index++) {
+            bytes[index] = reader.readByte();
+        }
+        connection.write(writer -> {
+            for (final var b : bytes) {
+                writer.writeByte(b);
+            }
+        });
+    };
+
+    @Test
+    @DisplayName("Verify several clients are served concurrently")
+    void echoSeveralClients() throws IOException {
+        final var address = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+        try (final var server = new TcpServer(address, ECHO).start()) {
+            final var clients = new ArrayList<Socket>();
+            try {
+                for (var i = 0; i < 50; i++) {
+                    clients.add(new Socket(InetAddress.getLoopbackAddress(), server.getLocalAddress().getPort()));
+                }
+                final var random = new Random(42);
+                for (final var client : clients) {
+                    final var sent = new byte[20_000];
+                    random.nextBytes(sent);
+                    client.getOutputStream().write(sent);
+                    assertThat(client.getInputStream().readNBytes(sent.length)).isEqualTo(sent);
+                }
+            } finally {
+                for (final var client : clients) {
+                    client.close();
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Verify closing the server closes client connections")
+    void closeServer() throws IOException {
+        final var address = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+        final var server = new TcpServer(address, ECHO).start();
+        try (final var client = new Socket(InetAddress.getLoopbackAddress(), server.getLocalAddress().getPort())) {
+            client.getOutputStream().write(42);
+            assertThat(client.getInputStream().read()).isEqualTo(42);
+            server.close();
+            assertThat(client.getInputStream().read()).isEqualTo(-1);
+            assertThat(server.getConnectionCount()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Verify a connection accepted when max number of connections is reached is closed")
+    void maxConnections() throws IOException {
+        final var address = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+        System.setProperty(TcpServer.MAX_CONNECTIONS_PROPERTY, "1");
+        final TcpServer server;
+        try {
+            server = new TcpServer(address, ECHO).start();
+        } finally {
+            System.clearProperty(TcpServer.MAX_CONNECTIONS_PROPERTY);
+        }
+        try (server;
+             final var served = new Socket(InetAddress.getLoopbackAddress(), server.getLocalAddress().getPort())) {
+            served.getOutputStream().write(42);
+            assertThat(served.getInputStream().read()).isEqualTo(42);
+            try (final var rejected = new Socket(InetAddress.getLoopbackAddress(), server.getLocalAddress().getPort())) {
+                assertThat(rejected.getInputStream().read()).isEqualTo(-1);
+            }
+            assertThat(server.getConnectionCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Verify length-prefixed frames are decoded and encoded, even when sent byte by byte")
+    void echoFrames() throws IOException {
+        final var format = FrameFormat.fixedLength(4, ByteOrder.BIG_ENDIAN, 100_000);
+        final FrameHandler echoFrame = (frame, connection) -> {
+            final var bytes = new byte[(int) frame.getWriteIndex()];
+            for (var index = 0; index < bytes.length; index++) {
+                bytes[index] = frame.readByte();
+            }
+            connection.writeFrame(format, writer -> {
+                for (final var b : bytes) {
+                    writer.writeByte(b);
+                }
+            });
+        };
+        final var address = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+        try (final var server = new TcpServer(address, format, echoFrame).start();
+             final var client = new Socket(InetAddress.getLoopbackAddress(), server.getLocalAddress().getPort())) {
+            final var random = new Random(42);
+            final var sent = new byte[20_000];
+            random.nextBytes(sent);
+            final var framed = ByteBuffer.allocate(4 + sent.length).putInt(sent.length).put(sent).array();
+            // first frame in one write, second frame byte by byte
+            client.getOutputStream().write(framed);
+            for (final var b : framed) {
+                client.getOutputStream().write(b);
+            }
+            for (var frameIndex = 0; frameIndex < 2; frameIndex++) {
+                final var prefix = client.getInputStream().readNBytes(4);
+                assertThat(ByteBuffer.wrap(prefix).getInt()).isEqualTo(sent.length);
+                assertThat(client.getInputStream().readNBytes(sent.length)).isEqualTo(sent);
+            }
+        }
+    }
+}
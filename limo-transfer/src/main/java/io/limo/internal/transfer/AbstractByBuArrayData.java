@@ -4,11 +4,21 @@
 
 package io.limo.internal.transfer;
 
+import io.limo.LimoIOException;
+import io.limo.internal.utils.ByteSearchOps;
+import io.limo.internal.utils.UnsafeStringOps;
 import io.limo.memory.ByBuOffHeap;
+import io.limo.transfer.Data;
 import io.limo.utils.BytesOps;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.OptionalInt;
 import java.util.stream.Stream;
@@ -30,6 +40,19 @@ abstract class AbstractByBuArrayData<T extends ByBuOffHeap> extends AbstractData
      */
     int @NotNull [] limits;
 
+    /**
+     * The array of absolute index of the first byte of each {@link ByBuOffHeap} : prefix sums of {@link #limits}
+     *
+     * @implNote only the last written {@link ByBuOffHeap} can be partially written, so offsets never change once
+     * computed
+     */
+    long @NotNull [] offsets;
+
+    /**
+     * Index of the {@link ByBuOffHeap} in array that contained the last random access index
+     */
+    private int lastHitIndex = 0;
+
     /**
      * Index of the {@link ByBuOffHeap} in array that is currently read
      */
@@ -54,21 +77,16 @@ abstract class AbstractByBuArrayData<T extends ByBuOffHeap> extends AbstractData
      */
     private int currentPosition = 0;
 
-    /**
-     * Number of bytes loaded in the current {@link #memory}
-     */
-    private int currentLimit;
-
     long readIndex;
 
     long writeIndex;
 
     /**
-     * Current byte sequence is the first in the data array
+     * Current byte sequence to read from is the first in the data array
+     * <p>Must be invoked by subclasses constructor, once {@link #bybuArray} and {@link #limits} are initialized
      */
-    protected AbstractByBuArrayData() {
-            this.memory = Objects.requireNonNull(bybuArray[0]);
-            this.currentLimit = limits[0];
+    final void initReadMemory() {
+        this.memory = Objects.requireNonNull(bybuArray[0]);
     }
 
     /**
@@ -103,7 +121,14 @@ abstract class AbstractByBuArrayData<T extends ByBuOffHeap> extends AbstractData
     public final void close() {
         Stream.of(this.bybuArray)
                 .filter(Objects::nonNull)
-                .forEach(ByBuOffHeap::close);
+                .forEach(this::closeMemory);
+    }
+
+    /**
+     * Release one byte sequence of the data array when this data is closed
+     */
+    void closeMemory(@NotNull T memory) {
+        memory.close();
     }
 
     @Override
@@ -119,12 +144,11 @@ abstract class AbstractByBuArrayData<T extends ByBuOffHeap> extends AbstractData
     @Override
     public byte readByte() {
         final var currentPosition = this.currentPosition;
-        final var currentLimit = this.currentLimit;
         final var byteSize = 1;
         final var targetLimit = currentPosition + byteSize;
 
         // 1) at least 1 byte left to read a byte in current byte sequence
-        if (currentLimit >= targetLimit) {
+        if (this.limits[this.currentReadIndex] >= targetLimit) {
             this.currentPosition = targetLimit;
             this.readIndex += byteSize;
             return this.memory.readByteAt(currentPosition);
@@ -132,136 +156,492 @@ abstract class AbstractByBuArrayData<T extends ByBuOffHeap> extends AbstractData
 
         // 2) current byte sequence is exactly exhausted
         // let's get next byte sequence and if present read it
-        nextMemory();
+        nextMemory(byteSize);
 
         // we are at 0 index in newly obtained byte sequence
-
-        if (this.currentLimit >= byteSize) {
-            this.currentPosition = byteSize;
-            this.readIndex += byteSize;
-            return this.memory.readByteAt(0);
-        }
-
-        // 3) memory is exhausted
-        throw new IndexOutOfBoundsException("todo");
+        this.currentPosition = byteSize;
+        this.readIndex += byteSize;
+        return this.memory.readByteAt(0);
     }
 
     @Override
     public int readInt() {
         final var currentPosition = this.currentPosition;
-        final var currentLimit = this.currentLimit;
+        final var currentLimit = this.limits[this.currentReadIndex];
         final var intSize = 4;
         final var targetLimit = currentPosition + intSize;
 
         // 1) at least 4 bytes left to read an int in current byte sequence
         if (currentLimit >= targetLimit) {
             this.currentPosition = targetLimit;
+            this.readIndex += intSize;
             return this.memory.readIntAt(currentPosition);
         }
 
         // 2) current byte sequence is exactly exhausted
         if (currentLimit == currentPosition) {
             // let's get next byte sequence and if present read it
-            nextMemory();
+            nextMemory(intSize);
 
             // we are at 0 index in newly obtained byte sequence
-            if (this.currentLimit >= intSize) {
+            if (this.limits[this.currentReadIndex] >= intSize) {
                 this.currentPosition = intSize;
+                this.readIndex += intSize;
                 return this.memory.readIntAt(0);
             }
-
-            // 3) memory is exhausted
-            throw new IndexOutOfBoundsException("todo");
         }
 
         // 3) must read some bytes in current byte sequence, some others from next one
-        final var value = BytesOps.bytesToInt(readByte(), readByte(), readByte(), readByte());
-        this.readIndex += intSize;
-        return value;
+        readableIndexCheck(this.readIndex, intSize);
+        return BytesOps.bytesToInt(readByte(), readByte(), readByte(), readByte());
     }
 
     @Override
     public int readIntLE() {
         final var currentPosition = this.currentPosition;
-        final var currentLimit = this.currentLimit;
+        final var currentLimit = this.limits[this.currentReadIndex];
         final var intSize = 4;
         final var targetLimit = currentPosition + intSize;
 
         // 1) at least 4 bytes left to read an int in current byte sequence
         if (currentLimit >= targetLimit) {
             this.currentPosition = targetLimit;
+            this.readIndex += intSize;
             return this.memory.readIntAtLE(currentPosition);
         }
 
         // 2) current byte sequence is exactly exhausted
         if (currentLimit == currentPosition) {
             // let's get next byte sequence and if present read it
-            nextMemory();
+            nextMemory(intSize);
 
             // we are at 0 index in newly obtained byte sequence
-            if (this.currentLimit >= intSize) {
+            if (this.limits[this.currentReadIndex] >= intSize) {
                 this.currentPosition = intSize;
+                this.readIndex += intSize;
                 return this.memory.readIntAtLE(0);
             }
-
-            // 3) memory is exhausted
-            throw new IndexOutOfBoundsException("todo");
         }
 
         // 3) must read some bytes in current byte sequence, some others from next one
-        final var value = BytesOps.bytesToIntLE(readByte(), readByte(), readByte(), readByte());
-        this.readIndex += intSize;
-        return value;
+        readableIndexCheck(this.readIndex, intSize);
+        return BytesOps.bytesToIntLE(readByte(), readByte(), readByte(), readByte());
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote fast-path : if at least 8 bytes are left in current byte sequence, the first 8 bytes of the varint
+     * are obtained with a single long read
+     */
     @Override
-    public byte readByteAt(long index) {
-        if (index < 0 || index > this.writeIndex) {
-            throw new IndexOutOfBoundsException("todo");
+    public int readVarInt() {
+        final var currentPosition = this.currentPosition;
+
+        // 1) the longest varint int (5 bytes) fits in the 8 bytes left in current byte sequence
+        if (this.limits[this.currentReadIndex] - currentPosition >= Long.BYTES) {
+            final var word = this.memory.readLongAtLE(currentPosition);
+            var value = 0;
+            for (var byteIndex = 0; byteIndex < 5; byteIndex++) {
+                final var b = (int) (word >>> (byteIndex << 3));
+                value |= (b & 0x7f) << (byteIndex * 7);
+                if ((b & 0x80) == 0) {
+                    skipFastRead(byteIndex + 1);
+                    return value;
+                }
+            }
+            // discard the upper bytes of a sign-extended varint, 9th and 10th bytes may be in next byte sequence
+            for (var byteIndex = 5; byteIndex < Long.BYTES; byteIndex++) {
+                if ((word & (0x80L << (byteIndex << 3))) == 0) {
+                    skipFastRead(byteIndex + 1);
+                    return value;
+                }
+            }
+            skipFastRead(Long.BYTES);
+            if (readByte() >= 0 || readByte() >= 0) {
+                return value;
+            }
+            throw new LimoIOException("Malformed varint : more than 10 bytes");
         }
-        var currentIndex = 0;
-        var limit = 0L;
-        while (index > (limit += this.limits[currentIndex])) {
-            currentIndex++;
-            limit++;
+
+        // 2) read byte by byte in current byte sequence and next one(s)
+        var value = 0;
+        for (var shift = 0; shift < 35; shift += 7) {
+            final var b = readByte();
+            value |= (b & 0x7f) << shift;
+            if (b >= 0) {
+                return value;
+            }
         }
-        final var currentPosition = (int) (index + this.limits[currentIndex] - limit);
-        final var byteSize = 1;
-        final var targetLimit = currentPosition + byteSize;
+        // discard the upper bytes of a sign-extended varint
+        for (var size = 5; size < 10; size++) {
+            if (readByte() >= 0) {
+                return value;
+            }
+        }
+        throw new LimoIOException("Malformed varint : more than 10 bytes");
+    }
 
-        // todo
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote fast-path : if at least 10 bytes are left in current byte sequence, the first 8 bytes of the varint
+     * are obtained with a single long read
+     */
+    @Override
+    public long readVarLong() {
+        final var currentPosition = this.currentPosition;
 
-        // 1) at least 1 byte left to read a byte in current byte sequence
-        if (currentLimit >= targetLimit) {
-            this.currentPosition = targetLimit;
-            this.readIndex += byteSize;
-            return this.memory.readByteAt(currentPosition);
+        // 1) the longest varint long (10 bytes) fits in current byte sequence
+        if (this.limits[this.currentReadIndex] - currentPosition >= 10) {
+            final var word = this.memory.readLongAtLE(currentPosition);
+            var value = 0L;
+            for (var byteIndex = 0; byteIndex < Long.BYTES; byteIndex++) {
+                final var b = word >>> (byteIndex << 3);
+                value |= (b & 0x7f) << (byteIndex * 7);
+                if ((b & 0x80) == 0) {
+                    skipFastRead(byteIndex + 1);
+                    return value;
+                }
+            }
+            // 9th and 10th bytes of the longest values
+            final var b8 = this.memory.readByteAt(currentPosition + 8);
+            value |= (long) (b8 & 0x7f) << 56;
+            if (b8 >= 0) {
+                skipFastRead(9);
+                return value;
+            }
+            final var b9 = this.memory.readByteAt(currentPosition + 9);
+            if (b9 >= 0) {
+                skipFastRead(10);
+                return value | ((long) b9 << 63);
+            }
+            throw new LimoIOException("Malformed varint : more than 10 bytes");
         }
 
-        // 2) current byte sequence is exactly exhausted
-        // let's get next byte sequence and if present read it
-        nextMemory();
+        // 2) read byte by byte in current byte sequence and next one(s)
+        var value = 0L;
+        for (var shift = 0; shift < 70; shift += 7) {
+            final var b = readByte();
+            value |= (long) (b & 0x7f) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new LimoIOException("Malformed varint : more than 10 bytes");
+    }
 
-        // we are at 0 index in newly obtained byte sequence
+    @Override
+    public final byte readByteAt(long index) {
+        readableIndexCheck(index, 1);
+        final var memoryIndex = memoryIndexOf(index);
+        return this.bybuArray[memoryIndex].readByteAt(index - this.offsets[memoryIndex]);
+    }
 
-        if (this.currentLimit >= byteSize) {
-            this.currentPosition = byteSize;
-            this.readIndex += byteSize;
-            return this.memory.readByteAt(0);
+    @Override
+    public final int readIntAt(long index) {
+        readableIndexCheck(index, 4);
+        final var memoryIndex = memoryIndexOf(index);
+        final var position = index - this.offsets[memoryIndex];
+
+        // 1) at least 4 bytes left to read an int in this byte sequence
+        if (position + 4 <= this.limits[memoryIndex]) {
+            return this.bybuArray[memoryIndex].readIntAt(position);
+        }
+
+        // 2) must read some bytes in this byte sequence, some others from next one
+        return BytesOps.bytesToInt(readByteAt(index), readByteAt(index + 1), readByteAt(index + 2),
+                readByteAt(index + 3));
+    }
+
+    @Override
+    public final int readIntAtLE(long index) {
+        readableIndexCheck(index, 4);
+        final var memoryIndex = memoryIndexOf(index);
+        final var position = index - this.offsets[memoryIndex];
+
+        // 1) at least 4 bytes left to read an int in this byte sequence
+        if (position + 4 <= this.limits[memoryIndex]) {
+            return this.bybuArray[memoryIndex].readIntAtLE(position);
         }
 
-        // 3) memory is exhausted
-        throw new IndexOutOfBoundsException("todo");
+        // 2) must read some bytes in this byte sequence, some others from next one
+        return BytesOps.bytesToIntLE(readByteAt(index), readByteAt(index + 1), readByteAt(index + 2),
+                readByteAt(index + 3));
     }
 
     @Override
-    public int readIntAt(long index) {
-        return 0;
+    public final @NotNull String readStringAt(long index, int byteLength, @NotNull Charset charset) {
+        Objects.requireNonNull(charset);
+        readableIndexCheck(index, byteLength);
+        // gather bytes from all byte sequences of the region directly into the byte array to decode
+        final var bytes = new byte[byteLength];
+        var copied = 0;
+        for (var memoryIndex = memoryIndexOf(index); copied < byteLength; memoryIndex++) {
+            final var position = (int) (index + copied - this.offsets[memoryIndex]);
+            final var length = Math.min(this.limits[memoryIndex] - position, byteLength - copied);
+            this.bybuArray[memoryIndex].readBytesAt(position, bytes, copied, length);
+            copied += length;
+        }
+        return UnsafeStringOps.decode(bytes, charset);
     }
 
     @Override
-    public int readIntAtLE(long index) {
-        return 0;
+    public final long writeTo(@NotNull GatheringByteChannel channel) {
+        Objects.requireNonNull(channel);
+        // one ByteBuffer view for each byte sequence that contains readable bytes
+        final var firstIndex = this.currentReadIndex;
+        final var byteBuffers = new ByteBuffer[this.lastWrittenIndex - firstIndex + 1];
+        for (var memoryIndex = firstIndex; memoryIndex <= this.lastWrittenIndex; memoryIndex++) {
+            byteBuffers[memoryIndex - firstIndex] = this.bybuArray[memoryIndex].getByteBuffer().duplicate()
+                    .position((memoryIndex == firstIndex) ? this.currentPosition : 0)
+                    .limit(this.limits[memoryIndex]);
+        }
+        final var readableBytes = this.writeIndex - this.readIndex;
+        var writtenBytes = 0L;
+        try {
+            while (writtenBytes < readableBytes) {
+                final var written = channel.write(byteBuffers);
+                if (written == 0) {
+                    // non-blocking channel is full
+                    break;
+                }
+                writtenBytes += written;
+            }
+        } catch (IOException ioException) {
+            throw new LimoIOException(ioException);
+        } finally {
+            skipRead(writtenBytes);
+        }
+        return writtenBytes;
+    }
+
+    /**
+     * Obtains a view of {@code length} bytes from {@code index}, bytes are not copied and this data is not modified
+     * <p>The view is only valid as long as this data is not closed, closing the view does nothing.
+     */
+    final @NotNull Data slice(long index, long length) {
+        readableIndexCheck(index, length);
+        var memoryIndex = memoryIndexOf(index);
+        var position = (int) (index - this.offsets[memoryIndex]);
+
+        // 1) all bytes are in this byte sequence
+        if (this.limits[memoryIndex] - position >= length) {
+            return new ByBuData(this.bybuArray[memoryIndex].slice(position, length), (int) length);
+        }
+
+        // 2) one view for each byte sequence of the region
+        final var views = new ArrayList<Data>();
+        var sliced = 0L;
+        while (sliced < length) {
+            final var viewLength = (int) Math.min(this.limits[memoryIndex] - position, length - sliced);
+            if (viewLength > 0) {
+                views.add(new ByBuData(this.bybuArray[memoryIndex].slice(position, viewLength), viewLength));
+            }
+            sliced += viewLength;
+            memoryIndex++;
+            position = 0;
+        }
+        return new ByBuArrayData(views.get(0), views.subList(1, views.size()).toArray(new Data[0]));
+    }
+
+    @Override
+    final long indexOf(byte value, long fromIndex) {
+        if (fromIndex >= this.writeIndex) {
+            return -1;
+        }
+        // SWAR search in each byte sequence, from the one that contains fromIndex
+        final var firstIndex = memoryIndexOf(fromIndex);
+        var position = fromIndex - this.offsets[firstIndex];
+        for (var memoryIndex = firstIndex; memoryIndex <= this.lastWrittenIndex; memoryIndex++) {
+            final var index = ByteSearchOps.indexOf(this.bybuArray[memoryIndex], position, this.limits[memoryIndex],
+                    value);
+            if (index >= 0) {
+                return this.offsets[memoryIndex] + index;
+            }
+            position = 0;
+        }
+        return -1;
+    }
+
+    @Override
+    final void forEachRegion(long index, long length, @NotNull RegionAction action) {
+        readableIndexCheck(index, length);
+        var memoryIndex = memoryIndexOf(index);
+        var position = index - this.offsets[memoryIndex];
+        var remaining = length;
+        while (remaining > 0) {
+            final var regionLength = Math.min(this.limits[memoryIndex] - position, remaining);
+            if (regionLength > 0) {
+                action.accept(this.bybuArray[memoryIndex], position, regionLength);
+            }
+            remaining -= regionLength;
+            memoryIndex++;
+            position = 0;
+        }
+    }
+
+    @Override
+    final @NotNull Data readView(long length, int skippedLength) {
+        final var view = slice(this.readIndex, length);
+        skip(length + skippedLength);
+        return view;
+    }
+
+    /**
+     * Move the read cursor {@code length} bytes forward
+     *
+     * @throws IndexOutOfBoundsException if there is less than {@code length} bytes left to read
+     */
+    final void skip(long length) {
+        readableIndexCheck(this.readIndex, length);
+        skipRead(length);
+    }
+
+    /**
+     * Releases byte sequences that were entirely read, remaining ones are moved at the beginning of the data array.
+     * Bytes are not copied, read and write indexes are decreased by the byte length of the released byte sequences.
+     */
+    final void discardReadMemories() {
+        final var discardedCount = this.currentReadIndex;
+        if (discardedCount == 0) {
+            return;
+        }
+        for (var memoryIndex = 0; memoryIndex < discardedCount; memoryIndex++) {
+            this.byteSize -= this.bybuArray[memoryIndex].getByteSize();
+            closeMemory(this.bybuArray[memoryIndex]);
+        }
+        final var discardedBytes = this.offsets[discardedCount];
+        final var keptCount = this.lastWrittenIndex - discardedCount + 1;
+        System.arraycopy(this.bybuArray, discardedCount, this.bybuArray, 0, keptCount);
+        System.arraycopy(this.limits, discardedCount, this.limits, 0, keptCount);
+        Arrays.fill(this.bybuArray, keptCount, this.lastWrittenIndex + 1, null);
+        Arrays.fill(this.limits, keptCount, this.lastWrittenIndex + 1, 0);
+        for (var memoryIndex = 0; memoryIndex < keptCount; memoryIndex++) {
+            this.offsets[memoryIndex] = this.offsets[memoryIndex + discardedCount] - discardedBytes;
+        }
+        this.lastWrittenIndex = keptCount - 1;
+        this.currentReadIndex = 0;
+        this.lastHitIndex = 0;
+        this.readIndex -= discardedBytes;
+        this.writeIndex -= discardedBytes;
+    }
+
+    /**
+     * Releases all byte sequences but the first one, then resets read and write indexes to {@code 0} : the first byte
+     * sequence is kept to be written again
+     */
+    final void discardAllButFirstMemory() {
+        for (var memoryIndex = 1; memoryIndex <= this.lastWrittenIndex; memoryIndex++) {
+            this.byteSize -= this.bybuArray[memoryIndex].getByteSize();
+            closeMemory(this.bybuArray[memoryIndex]);
+        }
+        Arrays.fill(this.bybuArray, 1, this.lastWrittenIndex + 1, null);
+        Arrays.fill(this.limits, 0, this.lastWrittenIndex + 1, 0);
+        Arrays.fill(this.offsets, 0, this.lastWrittenIndex + 1, 0L);
+        this.lastWrittenIndex = 0;
+        this.currentReadIndex = 0;
+        this.lastHitIndex = 0;
+        this.memory = this.bybuArray[0];
+        this.currentPosition = 0;
+        this.readIndex = 0;
+        this.writeIndex = 0;
+    }
+
+    /**
+     * Releases all byte sequences after the one at {@code memoryIndex}, that becomes the last one
+     */
+    final void discardMemoriesAfter(int memoryIndex) {
+        for (var index = memoryIndex + 1; index <= this.lastWrittenIndex; index++) {
+            this.byteSize -= this.bybuArray[index].getByteSize();
+            closeMemory(this.bybuArray[index]);
+        }
+        Arrays.fill(this.bybuArray, memoryIndex + 1, this.lastWrittenIndex + 1, null);
+        Arrays.fill(this.limits, memoryIndex + 1, this.lastWrittenIndex + 1, 0);
+        Arrays.fill(this.offsets, memoryIndex + 1, this.lastWrittenIndex + 1, 0L);
+        this.lastWrittenIndex = memoryIndex;
+        this.lastHitIndex = 0;
+    }
+
+    /**
+     * Move the read cursor {@code length} bytes forward in current byte sequence, caller already checked they are
+     * readable
+     */
+    private void skipFastRead(int length) {
+        this.currentPosition += length;
+        this.readIndex += length;
+    }
+
+    /**
+     * Move the read cursor {@code length} bytes forward
+     */
+    private void skipRead(long length) {
+        this.readIndex += length;
+        var memoryIndex = this.currentReadIndex;
+        var position = this.currentPosition + length;
+        while (memoryIndex < this.lastWrittenIndex && position >= this.limits[memoryIndex]) {
+            position -= this.limits[memoryIndex];
+            memoryIndex++;
+        }
+        this.currentReadIndex = memoryIndex;
+        this.memory = Objects.requireNonNull(this.bybuArray[memoryIndex]);
+        this.currentPosition = (int) position;
+    }
+
+    /**
+     * Checks that {@code requestedLength} bytes are already written from {@code index}
+     */
+    final void readableIndexCheck(long index, long requestedLength) {
+        if ((index | requestedLength) < 0 || index > this.writeIndex - requestedLength) {
+            throw new IndexOutOfBoundsException(
+                    String.format("requested index=%d is less than 0 or greater than (writeIndex=%d - %d)",
+                            index, this.writeIndex, requestedLength));
+        }
+    }
+
+    /**
+     * Binary search of the byte sequence that contains {@code index} in {@link #offsets}, with a look at the last
+     * found one (and the following) first : reads usually have locality
+     *
+     * @return index in data array of the byte sequence that contains {@code index}
+     */
+    final int memoryIndexOf(long index) {
+        final var lastHit = this.lastHitIndex;
+        if (index >= this.offsets[lastHit]) {
+            if (index < this.offsets[lastHit] + this.limits[lastHit]) {
+                return lastHit;
+            }
+            final var next = lastHit + 1;
+            if (next <= this.lastWrittenIndex && index < this.offsets[next] + this.limits[next]) {
+                return this.lastHitIndex = next;
+            }
+        }
+
+        // search the last byte sequence that starts before or at index
+        var low = 0;
+        var high = this.lastWrittenIndex;
+        while (low < high) {
+            final var middle = (low + high + 1) >>> 1;
+            if (this.offsets[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return this.lastHitIndex = low;
+    }
+
+    /**
+     * Compute {@link #offsets} from {@link #limits}
+     * <p>Must be invoked by subclasses constructor, once {@link #limits} and {@link #lastWrittenIndex} are initialized
+     */
+    final void initOffsets() {
+        this.offsets = new long[this.limits.length];
+        var offset = 0L;
+        for (var memoryIndex = 0; memoryIndex <= this.lastWrittenIndex; memoryIndex++) {
+            this.offsets[memoryIndex] = offset;
+            offset += this.limits[memoryIndex];
+        }
     }
 
     /**
@@ -269,9 +649,16 @@ abstract class AbstractByBuArrayData<T extends ByBuOffHeap> extends AbstractData
      *
      * @throws IndexOutOfBoundsException if no readable next byte sequence
      */
-    private void nextMemory() {
-        final var nextReadIndex = getNextReadIndex().orElseThrow(() -> new IndexOutOfBoundsException("todo"));
+    private void nextMemory(int requestedLength) {
+        final var nextReadIndex = getNextReadIndex().orElseThrow(() -> new IndexOutOfBoundsException(
+                String.format("readIndex=%d : there is no byte sequence left to read %d bytes",
+                        this.readIndex, requestedLength)));
         this.memory = Objects.requireNonNull(bybuArray[nextReadIndex]);
-        this.currentLimit = limits[nextReadIndex];
+        this.currentPosition = 0;
+        if (this.limits[nextReadIndex] == 0) {
+            throw new IndexOutOfBoundsException(
+                    String.format("readIndex=%d : there is no byte left to read %d bytes",
+                            this.readIndex, requestedLength));
+        }
     }
 }
@@ -4,10 +4,27 @@
 
 package io.limo.internal.transfer;
 
+import io.limo.memory.OffHeap;
 import io.limo.transfer.Data;
+import io.limo.utils.ChecksumOps;
+import io.limo.utils.Hasher64;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.zip.Checksum;
 
 abstract class AbstractData implements Data {
 
+    /**
+     * Patterns longer than this are searched with {@link TwoWaySearch}, shorter ones are anchored on their first byte
+     */
+    private static final int SHORT_PATTERN_MAX_LENGTH = 8;
+
+    private static final byte LF = '\n';
+
+    private static final byte CR = '\r';
+
     /**
      * Checks that there is at least 'requestedLength' bytes available
      */
@@ -29,4 +46,113 @@ abstract class AbstractData implements Data {
                             index, limit, requestedLength));
         }
     }
+
+    @Override
+    public final long indexOf(byte value) {
+        return indexOf(value, getReadIndex());
+    }
+
+    @Override
+    public final long indexOf(byte @NotNull [] pattern) {
+        if (pattern.length == 0) {
+            throw new IllegalArgumentException("Searched pattern must not be empty");
+        }
+        final var readIndex = getReadIndex();
+        if (pattern.length > SHORT_PATTERN_MAX_LENGTH) {
+            return TwoWaySearch.indexOf(this, readIndex, getWriteIndex(), pattern);
+        }
+
+        // short pattern : fast search of its first byte, then check following ones
+        final var lastIndex = getWriteIndex() - pattern.length;
+        var fromIndex = readIndex;
+        while (fromIndex <= lastIndex) {
+            final var index = indexOf(pattern[0], fromIndex);
+            if (index < 0 || index > lastIndex) {
+                return -1;
+            }
+            if (matchesAt(index, pattern)) {
+                return index;
+            }
+            fromIndex = index + 1;
+        }
+        return -1;
+    }
+
+    @Override
+    public final @Nullable Data readUntil(byte @NotNull [] delimiter) {
+        final var index = indexOf(delimiter);
+        if (index < 0) {
+            return null;
+        }
+        return readView(index - getReadIndex(), delimiter.length);
+    }
+
+    @Override
+    public final @Nullable Data readLine() {
+        final var index = indexOf(LF, getReadIndex());
+        if (index < 0) {
+            return null;
+        }
+        final var length = index - getReadIndex();
+        if (length > 0 && readByteAt(index - 1) == CR) {
+            return readView(length - 1, 2);
+        }
+        return readView(length, 1);
+    }
+
+    @Override
+    public final void updateHash(@NotNull Hasher64 hasher, long index, long length) {
+        Objects.requireNonNull(hasher);
+        forEachRegion(index, length, hasher::update);
+    }
+
+    @Override
+    public final void updateChecksum(@NotNull Checksum checksum, long index, long length) {
+        Objects.requireNonNull(checksum);
+        forEachRegion(index, length, (memory, offset, regionLength) ->
+                ChecksumOps.update(checksum, memory, offset, regionLength));
+    }
+
+    /**
+     * Search the first occurrence of {@code value} in the readable bytes, from {@code fromIndex} to
+     * {@code writeIndex}
+     *
+     * @return absolute index of the first occurrence of {@code value}, or {@code -1} if there is none
+     * @implSpec do not modify {@code readIndex}
+     */
+    abstract long indexOf(byte value, long fromIndex);
+
+    /**
+     * Invokes {@code action} for each region of the byte sequences that store {@code length} bytes from the absolute
+     * {@code index}, in order
+     *
+     * @throws IndexOutOfBoundsException if {@code index} or {@code length} is less than {@code 0}, or if
+     * {@code index} is greater than {@code (writeIndex - length)}
+     * @implSpec do not modify {@code readIndex}
+     */
+    abstract void forEachRegion(long index, long length, @NotNull RegionAction action);
+
+    /**
+     * Obtains a view of the {@code length} bytes from {@code readIndex}, bytes are not copied. Then increase
+     * {@code readIndex} by {@code length + skippedLength}
+     * <p>The view is only valid as long as this data is not closed, closing the view does nothing.
+     */
+    abstract @NotNull Data readView(long length, int skippedLength);
+
+    private boolean matchesAt(long index, byte @NotNull [] pattern) {
+        for (var patternIndex = 1; patternIndex < pattern.length; patternIndex++) {
+            if (readByteAt(index + patternIndex) != pattern[patternIndex]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * An action on a region of {@code length} bytes from {@code offset} in an {@link OffHeap}
+     */
+    @FunctionalInterface
+    interface RegionAction {
+        void accept(@NotNull OffHeap memory, long offset, long length);
+    }
 }
@@ -54,14 +54,13 @@ public final class ByBuArrayData extends AbstractByBuArrayData<ByBuOffHeap> {
             if (totalCapacity < DEFAULT_CAPACITY) {
                 totalCapacity = DEFAULT_CAPACITY;
             }
-            this.bybuArray = new Bytes[totalCapacity];
+            this.bybuArray = new ByBuOffHeap[totalCapacity];
             this.bybuArray[0] = bytesData.bybu;
             this.limits = new int[totalCapacity];
-            this.limits[0] = bytesData.limit;
+            this.limits[0] = bytesData.writeIndex;
         } else {
             throw new IllegalArgumentException("data type " + first.getClass().getTypeName() + " is not supported");
         }
-        this.lastWrittenIndex = totalCapacity;
 
         int dataLength;
         for (final var data : rest) {
@@ -72,15 +71,20 @@ public final class ByBuArrayData extends AbstractByBuArrayData<ByBuOffHeap> {
                 System.arraycopy(arrayData.bybuArray, 0, this.bybuArray, offset, dataLength);
                 System.arraycopy(arrayData.limits, 0, this.limits, offset, dataLength);
                 offset += dataLength;
-            } else if (first instanceof ByBuData) {
+            } else if (data instanceof ByBuData) {
                 final var bytesData = (ByBuData) data;
                 this.bybuArray[offset] = bytesData.bybu;
-                this.limits[offset] = bytesData.limit;
+                this.limits[offset] = bytesData.writeIndex;
                 offset++;
             }
         }
         this.byteSize = byteSizesSum;
+        this.lastWrittenIndex = offset - 1;
+        for (var index = 0; index < offset; index++) {
+            this.writeIndex += this.limits[index];
+        }
 
-        this.reader = new ReaderImpl();
+        initOffsets();
+        initReadMemory();
     }
 }
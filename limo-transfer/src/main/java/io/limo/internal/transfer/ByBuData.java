@@ -4,11 +4,17 @@
 
 package io.limo.internal.transfer;
 
+import io.limo.LimoIOException;
+import io.limo.internal.utils.ByteSearchOps;
+import io.limo.internal.utils.UnsafeStringOps;
 import io.limo.memory.ByBuOffHeap;
 import io.limo.transfer.Data;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 
+import java.io.IOException;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.charset.Charset;
 import java.util.Objects;
 
 /**
@@ -126,4 +132,68 @@ public class ByBuData extends AbstractData {
         indexCheck(index, this.writeIndex, 4);
         return this.bybu.readIntAtLE(index);
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec {@inheritDoc}
+     */
+    @Override
+    public final @NotNull String readStringAt(long index, int byteLength, @NotNull Charset charset) {
+        indexCheck(index, this.writeIndex, byteLength);
+        return UnsafeStringOps.decode(this.bybu, index, byteLength, Objects.requireNonNull(charset));
+    }
+
+    @Override
+    final long indexOf(byte value, long fromIndex) {
+        if (fromIndex >= this.writeIndex) {
+            return -1;
+        }
+        return ByteSearchOps.indexOf(this.bybu, fromIndex, this.writeIndex, value);
+    }
+
+    @Override
+    final void forEachRegion(long index, long length, @NotNull RegionAction action) {
+        if ((index | length) < 0 || index > this.writeIndex - length) {
+            throw new IndexOutOfBoundsException(
+                    String.format("requested index=%d is less than 0 or greater than (limit=%d - %d)",
+                            index, this.writeIndex, length));
+        }
+        action.accept(this.bybu, index, length);
+    }
+
+    @Override
+    final @NotNull Data readView(long length, int skippedLength) {
+        final var viewLength = (int) length;
+        existingIndexCheck(this.readIndex, this.writeIndex, viewLength + skippedLength);
+        final var view = new ByBuData(this.bybu.slice(this.readIndex, viewLength), viewLength);
+        this.readIndex += viewLength + skippedLength;
+        return view;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec {@inheritDoc}
+     */
+    @Override
+    public final long writeTo(@NotNull GatheringByteChannel channel) {
+        final var startIndex = this.readIndex;
+        final var byteBuffer = this.bybu.getByteBuffer().duplicate()
+                .position(this.readIndex)
+                .limit(this.writeIndex);
+        try {
+            while (byteBuffer.hasRemaining()) {
+                if (channel.write(byteBuffer) == 0) {
+                    // non-blocking channel is full
+                    break;
+                }
+            }
+        } catch (IOException ioException) {
+            throw new LimoIOException(ioException);
+        } finally {
+            this.readIndex = byteBuffer.position();
+        }
+        return this.readIndex - startIndex;
+    }
 }
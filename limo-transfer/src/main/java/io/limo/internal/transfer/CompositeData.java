@@ -0,0 +1,455 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.transfer;
+
+import io.limo.LimoIOException;
+import io.limo.internal.utils.ByteSearchOps;
+import io.limo.internal.utils.UnsafeStringOps;
+import io.limo.memory.OffHeap;
+import io.limo.transfer.Data;
+import io.limo.utils.BytesOps;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Implementation of the immutable {@link Data} interface that stitches an ordered list of {@link OffHeap} by
+ * reference : no byte is ever copied to build, slice or concatenate it
+ * <p>Closing this data closes all its {@link OffHeap} components, a slice is a view that does nothing on close
+ */
+public final class CompositeData extends AbstractData {
+
+    /**
+     * The ordered array of {@link OffHeap} components
+     */
+    private final OffHeap @NotNull [] memories;
+
+    /**
+     * The array of absolute index of the first byte of each component : prefix sums of components byte sizes
+     */
+    private final long @NotNull [] offsets;
+
+    private final long byteSize;
+
+    private final @NotNull Runnable cleanupAction;
+
+    /**
+     * Index of the component that contains {@link #readIndex}, or the one just before if it was exhausted
+     */
+    private int currentReadIndex = 0;
+
+    /**
+     * Index of the component that contained the last random access index
+     */
+    private int lastHitIndex = 0;
+
+    private long readIndex;
+
+    /**
+     * The {@link OffHeap} components will be closed when close method will be invoked
+     */
+    public CompositeData(@NotNull OffHeap first, OffHeap @NotNull ... rest) {
+        this(toArray(Objects.requireNonNull(first), Objects.requireNonNull(rest)));
+    }
+
+    /**
+     * The {@link OffHeap} components will be closed when close method will be invoked
+     */
+    public CompositeData(@NotNull List<? extends OffHeap> memories) {
+        this(Objects.requireNonNull(memories).toArray(new OffHeap[0]));
+    }
+
+    private CompositeData(OffHeap @NotNull [] memories) {
+        this(memories, () -> {
+            for (final var memory : memories) {
+                memory.close();
+            }
+        });
+    }
+
+    private CompositeData(OffHeap @NotNull [] memories, @NotNull Runnable cleanupAction) {
+        if (memories.length == 0) {
+            throw new IllegalArgumentException("A CompositeData must contain at least one OffHeap");
+        }
+        this.memories = memories;
+        this.offsets = new long[memories.length];
+        var offset = 0L;
+        for (var memoryIndex = 0; memoryIndex < memories.length; memoryIndex++) {
+            this.offsets[memoryIndex] = offset;
+            offset += Objects.requireNonNull(memories[memoryIndex]).getByteSize();
+        }
+        this.byteSize = offset;
+        this.cleanupAction = cleanupAction;
+    }
+
+    private static OffHeap @NotNull [] toArray(@NotNull OffHeap first, OffHeap @NotNull [] rest) {
+        final var memories = new OffHeap[rest.length + 1];
+        memories[0] = first;
+        System.arraycopy(rest, 0, memories, 1, rest.length);
+        return memories;
+    }
+
+    @Override
+    public @Range(from = 1, to = Long.MAX_VALUE) long getByteSize() {
+        return this.byteSize;
+    }
+
+    @Override
+    public long getReadIndex() {
+        return this.readIndex;
+    }
+
+    /**
+     * @return byte size, all bytes of the components are readable
+     */
+    @Override
+    public long getWriteIndex() {
+        return this.byteSize;
+    }
+
+    @Override
+    public void close() {
+        this.cleanupAction.run();
+    }
+
+    /**
+     * Obtains a new data view of {@code length} bytes starting at {@code offset}, it references slices of the
+     * components of this data
+     *
+     * @throws IndexOutOfBoundsException if {@code offset} is less than {@code 0}, {@code length} is less than {@code 1}
+     *                                   or greater than {@code byteSize - offset}
+     * @implNote closing the slice does nothing, only this data closes its components
+     */
+    public @NotNull CompositeData slice(long offset, long length) {
+        if (offset < 0 || length < 1 || length > this.byteSize - offset) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Incorrect parameters to slice data : byteSize=%d, offset=%d, length=%d",
+                            this.byteSize, offset, length));
+        }
+        final var end = offset + length;
+        final var slices = new ArrayList<OffHeap>();
+        for (var memoryIndex = memoryIndexOf(offset); memoryIndex < this.memories.length; memoryIndex++) {
+            final var memoryStart = this.offsets[memoryIndex];
+            if (memoryStart >= end) {
+                break;
+            }
+            final var memory = this.memories[memoryIndex];
+            final var sliceStart = Math.max(offset - memoryStart, 0);
+            final var sliceEnd = Math.min(end - memoryStart, memory.getByteSize());
+            if (sliceStart == 0 && sliceEnd == memory.getByteSize()) {
+                slices.add(memory);
+            } else if (sliceEnd > sliceStart) {
+                slices.add(memory.slice(sliceStart, sliceEnd - sliceStart));
+            }
+        }
+        // call constructor to do nothing on close, only the root data closes its components
+        return new CompositeData(slices.toArray(new OffHeap[0]), () -> {});
+    }
+
+    /**
+     * Obtains a new data that references the components of this data followed by the components of {@code other}
+     *
+     * @implNote closing the returned data closes both this data and {@code other}, they must not be closed anymore
+     */
+    public @NotNull CompositeData concat(@NotNull CompositeData other) {
+        Objects.requireNonNull(other);
+        final var memories = new OffHeap[this.memories.length + other.memories.length];
+        System.arraycopy(this.memories, 0, memories, 0, this.memories.length);
+        System.arraycopy(other.memories, 0, memories, this.memories.length, other.memories.length);
+        return new CompositeData(memories, () -> {
+            close();
+            other.close();
+        });
+    }
+
+    /**
+     * @return the components of this data as ByteBuffers, ready for a gathering write
+     * @throws UnsupportedOperationException if a component cannot be represented as a ByteBuffer
+     * @implNote each ByteBuffer is a new view of a component, its position is 0 and its limit is its byte size. A
+     * component bigger than {@link Integer#MAX_VALUE} is split into several ByteBuffers
+     */
+    public @NotNull ByteBuffer @NotNull [] toByteBuffers() {
+        return toByteBuffers(0);
+    }
+
+    @Override
+    public long writeTo(@NotNull GatheringByteChannel channel) {
+        Objects.requireNonNull(channel);
+        final var readableBytes = this.byteSize - this.readIndex;
+        if (readableBytes == 0) {
+            return 0;
+        }
+        final var byteBuffers = toByteBuffers(this.readIndex);
+        var writtenBytes = 0L;
+        try {
+            while (writtenBytes < readableBytes) {
+                final var written = channel.write(byteBuffers);
+                if (written == 0) {
+                    // non-blocking channel is full
+                    break;
+                }
+                writtenBytes += written;
+            }
+        } catch (IOException ioException) {
+            throw new LimoIOException(ioException);
+        } finally {
+            this.readIndex += writtenBytes;
+        }
+        return writtenBytes;
+    }
+
+    /**
+     * @return ByteBuffer views of the bytes of this data starting at {@code fromIndex}
+     */
+    private @NotNull ByteBuffer @NotNull [] toByteBuffers(long fromIndex) {
+        final var firstIndex = memoryIndexOf(fromIndex);
+        final var byteBuffers = new ArrayList<ByteBuffer>(this.memories.length - firstIndex);
+        for (var memoryIndex = firstIndex; memoryIndex < this.memories.length; memoryIndex++) {
+            final var memory = this.memories[memoryIndex];
+            final var memoryByteSize = memory.getByteSize();
+            final var start = Math.max(fromIndex - this.offsets[memoryIndex], 0);
+            if (start == 0 && memoryByteSize <= Integer.MAX_VALUE) {
+                if (memoryByteSize > 0) {
+                    byteBuffers.add(toByteBuffer(memory));
+                }
+                continue;
+            }
+            for (var offset = start; offset < memoryByteSize; offset += Integer.MAX_VALUE) {
+                byteBuffers.add(toByteBuffer(memory.slice(offset, Math.min(Integer.MAX_VALUE, memoryByteSize - offset))));
+            }
+        }
+        return byteBuffers.toArray(new ByteBuffer[0]);
+    }
+
+    private static @NotNull ByteBuffer toByteBuffer(@NotNull OffHeap memory) {
+        return memory.asByBuOffHeap().getByteBuffer().duplicate()
+                .position(0)
+                .limit((int) memory.getByteSize());
+    }
+
+    @Override
+    public byte readByte() {
+        final var byteSize = 1;
+        readableIndexCheck(this.readIndex, byteSize);
+        final var memoryIndex = readMemoryIndex();
+        final var position = this.readIndex - this.offsets[memoryIndex];
+        this.readIndex += byteSize;
+        return this.memories[memoryIndex].readByteAt(position);
+    }
+
+    @Override
+    public int readInt() {
+        final var intSize = 4;
+        readableIndexCheck(this.readIndex, intSize);
+        final var memoryIndex = readMemoryIndex();
+        final var position = this.readIndex - this.offsets[memoryIndex];
+        final var memory = this.memories[memoryIndex];
+
+        // 1) at least 4 bytes left to read an int in current component
+        if (position + intSize <= memory.getByteSize()) {
+            this.readIndex += intSize;
+            return memory.readIntAt(position);
+        }
+
+        // 2) must read some bytes in current component, some others from next ones
+        return BytesOps.bytesToInt(readByte(), readByte(), readByte(), readByte());
+    }
+
+    @Override
+    public int readIntLE() {
+        final var intSize = 4;
+        readableIndexCheck(this.readIndex, intSize);
+        final var memoryIndex = readMemoryIndex();
+        final var position = this.readIndex - this.offsets[memoryIndex];
+        final var memory = this.memories[memoryIndex];
+
+        // 1) at least 4 bytes left to read an int in current component
+        if (position + intSize <= memory.getByteSize()) {
+            this.readIndex += intSize;
+            return memory.readIntAtLE(position);
+        }
+
+        // 2) must read some bytes in current component, some others from next ones
+        return BytesOps.bytesToIntLE(readByte(), readByte(), readByte(), readByte());
+    }
+
+    @Override
+    public byte readByteAt(long index) {
+        readableIndexCheck(index, 1);
+        final var memoryIndex = memoryIndexOf(index);
+        return this.memories[memoryIndex].readByteAt(index - this.offsets[memoryIndex]);
+    }
+
+    @Override
+    public int readIntAt(long index) {
+        readableIndexCheck(index, 4);
+        final var memoryIndex = memoryIndexOf(index);
+        final var position = index - this.offsets[memoryIndex];
+        final var memory = this.memories[memoryIndex];
+
+        // 1) at least 4 bytes left to read an int in this component
+        if (position + 4 <= memory.getByteSize()) {
+            return memory.readIntAt(position);
+        }
+
+        // 2) must read some bytes in this component, some others from next ones
+        return BytesOps.bytesToInt(readByteAt(index), readByteAt(index + 1), readByteAt(index + 2),
+                readByteAt(index + 3));
+    }
+
+    @Override
+    public int readIntAtLE(long index) {
+        readableIndexCheck(index, 4);
+        final var memoryIndex = memoryIndexOf(index);
+        final var position = index - this.offsets[memoryIndex];
+        final var memory = this.memories[memoryIndex];
+
+        // 1) at least 4 bytes left to read an int in this component
+        if (position + 4 <= memory.getByteSize()) {
+            return memory.readIntAtLE(position);
+        }
+
+        // 2) must read some bytes in this component, some others from next ones
+        return BytesOps.bytesToIntLE(readByteAt(index), readByteAt(index + 1), readByteAt(index + 2),
+                readByteAt(index + 3));
+    }
+
+    @Override
+    public @NotNull String readStringAt(long index, int byteLength, @NotNull Charset charset) {
+        Objects.requireNonNull(charset);
+        readableIndexCheck(index, byteLength);
+        // gather bytes from all components of the region directly into the byte array to decode
+        final var bytes = new byte[byteLength];
+        var copied = 0;
+        for (var memoryIndex = memoryIndexOf(index); copied < byteLength; memoryIndex++) {
+            final var memory = this.memories[memoryIndex];
+            final var position = index + copied - this.offsets[memoryIndex];
+            final var length = (int) Math.min(memory.getByteSize() - position, byteLength - copied);
+            memory.readBytesAt(position, bytes, copied, length);
+            copied += length;
+        }
+        return UnsafeStringOps.decode(bytes, charset);
+    }
+
+    @Override
+    long indexOf(byte value, long fromIndex) {
+        if (fromIndex >= this.byteSize) {
+            return -1;
+        }
+        // SWAR search in each component, from the one that contains fromIndex
+        final var firstIndex = memoryIndexOf(fromIndex);
+        var position = fromIndex - this.offsets[firstIndex];
+        for (var memoryIndex = firstIndex; memoryIndex < this.memories.length; memoryIndex++) {
+            final var memory = this.memories[memoryIndex];
+            final var index = ByteSearchOps.indexOf(memory, position, memory.getByteSize(), value);
+            if (index >= 0) {
+                return this.offsets[memoryIndex] + index;
+            }
+            position = 0;
+        }
+        return -1;
+    }
+
+    @Override
+    void forEachRegion(long index, long length, @NotNull RegionAction action) {
+        readableIndexCheck(index, length);
+        var memoryIndex = memoryIndexOf(index);
+        var position = index - this.offsets[memoryIndex];
+        var remaining = length;
+        while (remaining > 0) {
+            final var memory = this.memories[memoryIndex];
+            final var regionLength = Math.min(memory.getByteSize() - position, remaining);
+            if (regionLength > 0) {
+                action.accept(memory, position, regionLength);
+            }
+            remaining -= regionLength;
+            memoryIndex++;
+            position = 0;
+        }
+    }
+
+    @Override
+    @NotNull CompositeData readView(long length, int skippedLength) {
+        if (length > this.byteSize - this.readIndex - skippedLength) {
+            throw new IndexOutOfBoundsException(
+                    String.format("readIndex=%d : there is less than %d bytes left to read",
+                            this.readIndex, length + skippedLength));
+        }
+        final CompositeData view;
+        if (length == 0) {
+            // an empty view of the component that contains readIndex
+            final var memoryIndex = readMemoryIndex();
+            final var empty = this.memories[memoryIndex].slice(this.readIndex - this.offsets[memoryIndex], 0);
+            view = new CompositeData(new OffHeap[]{empty}, () -> {});
+        } else {
+            view = slice(this.readIndex, length);
+        }
+        this.readIndex += length + skippedLength;
+        return view;
+    }
+
+    /**
+     * Checks that {@code requestedLength} bytes are readable from {@code index}
+     */
+    private void readableIndexCheck(long index, long requestedLength) {
+        if ((index | requestedLength) < 0 || index > this.byteSize - requestedLength) {
+            throw new IndexOutOfBoundsException(
+                    String.format("requested index=%d is less than 0 or greater than (byteSize=%d - %d)",
+                            index, this.byteSize, requestedLength));
+        }
+    }
+
+    /**
+     * Skip exhausted (or empty) components
+     *
+     * @return index of the component that contains {@link #readIndex}
+     */
+    private int readMemoryIndex() {
+        var memoryIndex = this.currentReadIndex;
+        while (this.readIndex >= this.offsets[memoryIndex] + this.memories[memoryIndex].getByteSize()) {
+            memoryIndex++;
+        }
+        return this.currentReadIndex = memoryIndex;
+    }
+
+    /**
+     * Binary search of the component that contains {@code index} in {@link #offsets}, with a look at the last found
+     * one (and the following) first : reads usually have locality
+     *
+     * @return index of the component that contains {@code index}
+     */
+    private int memoryIndexOf(long index) {
+        final var lastHit = this.lastHitIndex;
+        if (index >= this.offsets[lastHit]) {
+            if (index < this.offsets[lastHit] + this.memories[lastHit].getByteSize()) {
+                return lastHit;
+            }
+            final var next = lastHit + 1;
+            if (next < this.memories.length && index < this.offsets[next] + this.memories[next].getByteSize()) {
+                return this.lastHitIndex = next;
+            }
+        }
+
+        // search the last component that starts before or at index
+        var low = 0;
+        var high = this.memories.length - 1;
+        while (low < high) {
+            final var middle = (low + high + 1) >>> 1;
+            if (this.offsets[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return this.lastHitIndex = low;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.transfer;
+
+import io.limo.LimoIOException;
+import io.limo.transfer.Data;
+import io.limo.transfer.FrameFormat;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteOrder;
+import java.nio.channels.ScatteringByteChannel;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Splits a stream of bytes into length-prefixed frames described by a {@link FrameFormat}
+ * <p>Received bytes are accumulated in off-heap byte sequences obtained from a {@link MutableMemorySupplier}, each
+ * complete frame is emitted as a view over these byte sequences, even if it spans several of them : frame bytes are
+ * never copied. A frame is only valid during the callback it is passed to.
+ * <p>This decoder must be used by the thread that created it, and must be closed to give its byte sequences back.
+ */
+public final class FrameDecoder implements AutoCloseable {
+
+    /**
+     * Max byte size of a varint frame length
+     */
+    private static final int MAX_VARINT_SIZE = 5;
+
+    private final @NotNull FrameFormat format;
+
+    /**
+     * Received bytes that were not decoded yet, its first byte sequence is kept while all bytes are decoded
+     */
+    final @NotNull MutableByBuArrayData buffer;
+
+    public FrameDecoder(@NotNull FrameFormat format, @NotNull MutableMemorySupplier mutableMemorySupplier) {
+        this.format = Objects.requireNonNull(format);
+        this.buffer = new MutableByBuArrayData(mutableMemorySupplier);
+    }
+
+    /**
+     * Reads available bytes from the channel, after the bytes that were not decoded yet
+     *
+     * @return number of read bytes, possibly zero, or {@code -1} if the channel has reached end-of-stream
+     * @throws LimoIOException if an I/O error occurs
+     */
+    public long readFrom(@NotNull ScatteringByteChannel channel) {
+        return this.buffer.readFrom(channel);
+    }
+
+    /**
+     * Emits all complete frames to {@code onFrame}, bytes of a partially received frame are kept until next
+     * {@link #readFrom(ScatteringByteChannel)}
+     *
+     * @return number of emitted frames
+     * @throws LimoIOException if a frame is longer than max frame size, or if a varint length prefix is malformed
+     */
+    public int decode(@NotNull Consumer<? super Data> onFrame) {
+        Objects.requireNonNull(onFrame);
+        var frameCount = 0;
+        while (true) {
+            final var readIndex = this.buffer.getReadIndex();
+            final var readableBytes = this.buffer.getWriteIndex() - readIndex;
+
+            // 1) decode the length prefix without consuming it
+            final long frameLength;
+            final int prefixSize;
+            if (this.format.isVarInt()) {
+                var length = 0L;
+                var size = 0;
+                var complete = false;
+                while (!complete && size < readableBytes) {
+                    if (size == MAX_VARINT_SIZE) {
+                        throw new LimoIOException("Malformed varint frame length : more than 5 bytes");
+                    }
+                    final var b = this.buffer.readByteAt(readIndex + size);
+                    length |= (long) (b & 0x7f) << (size++ * 7);
+                    complete = b >= 0;
+                }
+                if (!complete) {
+                    break;
+                }
+                frameLength = length;
+                prefixSize = size;
+            } else {
+                prefixSize = this.format.getPrefixSize();
+                if (readableBytes < prefixSize) {
+                    break;
+                }
+                frameLength = readFixedLength(readIndex, prefixSize);
+            }
+            if (frameLength > this.format.getMaxFrameSize()) {
+                throw new LimoIOException(String.format("Frame of %d bytes exceeds max frame size of %d bytes",
+                        frameLength, this.format.getMaxFrameSize()));
+            }
+
+            // 2) emit the frame if it is complete
+            if (readableBytes - prefixSize < frameLength) {
+                break;
+            }
+            final var frame = this.buffer.slice(readIndex + prefixSize, (int) frameLength);
+            this.buffer.skip(prefixSize + (int) frameLength);
+            onFrame.accept(frame);
+            frameCount++;
+        }
+
+        // 3) byte sequences that were entirely decoded are given back, a partial frame stays in place
+        if (this.buffer.getReadIndex() == this.buffer.getWriteIndex()) {
+            this.buffer.clear();
+        } else {
+            this.buffer.discardReadMemories();
+        }
+        return frameCount;
+    }
+
+    /**
+     * Gives byte sequences back to the supplier, bytes of a partially received frame are discarded
+     */
+    @Override
+    public void close() {
+        this.buffer.close();
+    }
+
+    /**
+     * @return unsigned length prefix, Long.MAX_VALUE if an 8 bytes prefix does not fit in a long
+     */
+    private long readFixedLength(long index, int prefixSize) {
+        final var bigEndian = this.format.getByteOrder() == ByteOrder.BIG_ENDIAN;
+        switch (prefixSize) {
+            case 1:
+                return this.buffer.readByteAt(index) & 0xff;
+            case 2:
+                final var b0 = this.buffer.readByteAt(index) & 0xff;
+                final var b1 = this.buffer.readByteAt(index + 1) & 0xff;
+                return bigEndian ? (b0 << 8) | b1 : (b1 << 8) | b0;
+            case 4:
+                return (bigEndian ? this.buffer.readIntAt(index) : this.buffer.readIntAtLE(index)) & 0xffffffffL;
+            default:
+                final var first = (bigEndian ? this.buffer.readIntAt(index) : this.buffer.readIntAtLE(index))
+                        & 0xffffffffL;
+                final var second = (bigEndian ? this.buffer.readIntAt(index + 4) : this.buffer.readIntAtLE(index + 4))
+                        & 0xffffffffL;
+                final var length = bigEndian ? (first << 32) | second : (second << 32) | first;
+                // an unsigned length greater than Long.MAX_VALUE is also too long
+                return (length < 0) ? Long.MAX_VALUE : length;
+        }
+    }
+}
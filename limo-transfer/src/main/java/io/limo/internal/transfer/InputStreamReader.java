@@ -5,64 +5,136 @@
 package io.limo.internal.transfer;
 
 import io.limo.LimoIOException;
+import io.limo.memory.MutableByBuOffHeap;
 import io.limo.transfer.Reader;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
 
 /**
- * Implementation of the {@link Reader} interface based on a {@link InputStream}
+ * Implementation of the {@link Reader} interface based on a {@link InputStream}, or on a {@link ReadableByteChannel}
+ * <p>Bytes are staged in an off-heap buffer obtained from a {@link MutableMemorySupplier}, it is refilled with bulk
+ * reads. This reader must be used by the thread that created it, and must be closed to give its buffer back.
  */
-public final class InputStreamReader implements Reader {
+public final class InputStreamReader implements Reader, AutoCloseable {
 
-    private final @NotNull InputStream in;
+    private final @NotNull ReadableByteChannel in;
+    private final @NotNull MutableMemorySupplier mutableMemorySupplier;
+
+    /**
+     * The off-heap buffer that stages read bytes
+     */
+    private final @NotNull MutableByBuOffHeap buffer;
+
+    private final int capacity;
+
+    /**
+     * Reading index in {@link #buffer}
+     */
+    private int position = 0;
+
+    /**
+     * Number of bytes loaded in {@link #buffer}
+     */
+    private int limit = 0;
 
     public InputStreamReader(@NotNull InputStream in) {
-        this.in = in;
+        this(Channels.newChannel(Objects.requireNonNull(in)), RecyclingMutableMemorySupplier.SHARED);
     }
 
+    public InputStreamReader(@NotNull InputStream in, @NotNull MutableMemorySupplier mutableMemorySupplier) {
+        this(Channels.newChannel(Objects.requireNonNull(in)), mutableMemorySupplier);
+    }
+
+    /**
+     * @param mutableMemorySupplier supplies the buffer, it must be at least 4 bytes long
+     */
+    public InputStreamReader(@NotNull ReadableByteChannel in, @NotNull MutableMemorySupplier mutableMemorySupplier) {
+        this.in = Objects.requireNonNull(in);
+        this.mutableMemorySupplier = Objects.requireNonNull(mutableMemorySupplier);
+        this.buffer = mutableMemorySupplier.get();
+        this.capacity = (int) this.buffer.getByteSize();
+        if (this.capacity < 4) {
+            mutableMemorySupplier.recycle(this.buffer);
+            throw new IllegalArgumentException("Supplied memory is too small to read an int");
+        }
+    }
 
     @Override
     public byte readByte() {
-        try {
-            final var ch = in.read();
-            if (ch < 0) {
-                throw new IndexOutOfBoundsException("There is no byte left to read");
-            }
-            return (byte) ch;
-        } catch (IOException ioException) {
-            throw new LimoIOException(ioException);
+        if (this.position == this.limit) {
+            fill(1);
         }
+        return this.buffer.readByteAt(this.position++);
     }
 
     @Override
     public int readInt() {
+        final var intSize = 4;
+        if (this.limit - this.position < intSize) {
+            fill(intSize);
+        }
+        final var value = this.buffer.readIntAt(this.position);
+        this.position += intSize;
+        return value;
+    }
+
+    @Override
+    public int readIntLE() {
+        final var intSize = 4;
+        if (this.limit - this.position < intSize) {
+            fill(intSize);
+        }
+        final var value = this.buffer.readIntAtLE(this.position);
+        this.position += intSize;
+        return value;
+    }
+
+    /**
+     * Gives the buffer back to its supplier, then closes the stream
+     *
+     * @throws LimoIOException if an I/O error occurs
+     */
+    @Override
+    public void close() {
+        this.mutableMemorySupplier.recycle(this.buffer);
         try {
-            final var i0 = this.in.read();
-            final var i1 = this.in.read();
-            final var i2 = this.in.read();
-            final var i3 = this.in.read();
-            if ((i0 | i1 | i2 | i3) < 0) {
-                throw new IndexOutOfBoundsException("There is less than 4 bytes left to read");
-            }
-            return ((i0 << 24) + (i1 << 16) + (i2 << 8) + i3);
+            this.in.close();
         } catch (IOException ioException) {
             throw new LimoIOException(ioException);
         }
     }
 
-    @Override
-    public int readIntLE() {
+    /**
+     * Move remaining bytes at the beginning of {@link #buffer}, then read from the stream until at least
+     * {@code requestedLength} bytes are loaded
+     *
+     * @throws IndexOutOfBoundsException if end of stream is reached before {@code requestedLength} bytes were loaded
+     */
+    private void fill(int requestedLength) {
+        final var remaining = this.limit - this.position;
+        for (var index = 0; index < remaining; index++) {
+            this.buffer.writeByteAt(index, this.buffer.readByteAt(this.position + index));
+        }
+        this.position = 0;
+        this.limit = remaining;
+
+        final var byteBuffer = this.buffer.getByteBuffer().duplicate()
+                .position(remaining)
+                .limit(this.capacity);
         try {
-            final var i0 = this.in.read();
-            final var i1 = this.in.read();
-            final var i2 = this.in.read();
-            final var i3 = this.in.read();
-            if ((i0 | i1 | i2 | i3) < 0) {
-                throw new IndexOutOfBoundsException("There is less than 4 bytes left to read");
+            while (this.limit < requestedLength) {
+                final var readBytes = this.in.read(byteBuffer);
+                if (readBytes < 0) {
+                    throw new IndexOutOfBoundsException(
+                            String.format("There is less than %d bytes left to read", requestedLength));
+                }
+                this.limit += readBytes;
             }
-            return ((i3 << 24) + (i2 << 16) + (i1 << 8) + i0);
         } catch (IOException ioException) {
             throw new LimoIOException(ioException);
         }
@@ -4,24 +4,33 @@
 
 package io.limo.internal.transfer;
 
+import io.limo.LimoIOException;
+import io.limo.internal.utils.UnsafeStringOps;
+import io.limo.memory.MutableByBuOffHeap;
 import io.limo.transfer.MutableData;
-import io.limo.transfer.Writer;
-import io.limo.internal.bytes.MutableBytes;
-import io.limo.utils.BytesOps;
 import org.jetbrains.annotations.NotNull;
 
-import java.nio.ByteOrder;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ScatteringByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Objects;
-import java.util.stream.IntStream;
 
 /**
- * Implementation of the mutable {@link MutableData} interface based on a resizable array of {@link MutableBytes}
+ * Implementation of the mutable {@link MutableData} interface based on a resizable array of {@link MutableByBuOffHeap}
  *
  * @implNote Inspired by ArrayList
  * @see ByBuArrayData
  */
-public final class MutableByBuArrayData extends AbstractByBuArrayData<MutableBytes> implements MutableData {
+public final class MutableByBuArrayData extends AbstractByBuArrayData<MutableByBuOffHeap> implements MutableData {
+
+    /**
+     * {@link #readFrom(ScatteringByteChannel)} only takes a spare byte sequence from {@link #mutableMemorySupplier}
+     * when less than 1/8 of the current byte sequence is left to read in
+     */
+    private static final int SPARE_ROOM_SHIFT = 3;
 
     /**
      * The bytes supplier, can act as a pool
@@ -29,157 +38,416 @@ public final class MutableByBuArrayData extends AbstractByBuArrayData<MutableByt
     private final @NotNull MutableMemorySupplier mutableMemorySupplier;
 
     /**
-     * The data writer
+     * Current byte sequence to write in
      */
-    private final @NotNull Writer writer;
+    private @NotNull MutableByBuOffHeap writeMemory;
+
+    /**
+     * Writing index in the current {@link #writeMemory}
+     */
+    private int writeLimit = 0;
+
+    /**
+     * Capacity of the current {@link #writeMemory}
+     */
+    private int writeCapacity;
 
     public MutableByBuArrayData(@NotNull MutableMemorySupplier mutableMemorySupplier) {
         this.mutableMemorySupplier = Objects.requireNonNull(mutableMemorySupplier);
 
         // init memories and limits with DEFAULT_CAPACITY size
-        this.bybuArray = new MutableBytes[DEFAULT_CAPACITY];
+        this.bybuArray = new MutableByBuOffHeap[DEFAULT_CAPACITY];
         this.limits = new int[DEFAULT_CAPACITY];
-        this.byteSize = 0;
-        this.bybuArray[0] = mutableMemorySupplier.get();
-        this.reader = new ReaderImpl();
-        this.writer = new WriterImpl();
+        this.offsets = new long[DEFAULT_CAPACITY];
+        final var memory = mutableMemorySupplier.get();
+        this.bybuArray[0] = memory;
+        this.byteSize = memory.getByteSize();
+        this.writeMemory = memory;
+        this.writeCapacity = (int) memory.getByteSize();
+        initReadMemory();
+    }
+
+    @Override
+    public @NotNull MutableByBuArrayData writeByte(byte value) {
+        final var currentLimit = this.writeLimit;
+        final var byteSize = 1;
+        final var targetLimit = currentLimit + byteSize;
+
+        // 1) at least 1 byte left to write a byte in current byte sequence
+        if (this.writeCapacity >= targetLimit) {
+            this.writeMemory.writeByteAt(currentLimit, value);
+            updateWriteLimit(targetLimit, byteSize);
+            return this;
+        }
+
+        // 2) current byte sequence is exactly full
+        // let's add a new byte sequence from supplier
+        addNewMemory();
+
+        // we are at 0 index in newly obtained byte sequence
+        if (this.writeCapacity < byteSize) {
+            throw new IndexOutOfBoundsException("Supplied memory is too small to write a byte");
+        }
+        this.writeMemory.writeByteAt(0, value);
+        updateWriteLimit(byteSize, byteSize);
+        return this;
+    }
+
+    @Override
+    public @NotNull MutableByBuArrayData writeInt(int value) {
+        final var currentLimit = this.writeLimit;
+        final var intSize = 4;
+        final var targetLimit = currentLimit + intSize;
+
+        // 1) at least 4 bytes left to write an int in current byte sequence
+        if (this.writeCapacity >= targetLimit) {
+            this.writeMemory.writeIntAt(currentLimit, value);
+            updateWriteLimit(targetLimit, intSize);
+            return this;
+        }
+
+        // 2) current byte sequence is exactly full
+        if (currentLimit == this.writeCapacity) {
+            // let's add a new byte sequence from supplier
+            addNewMemory();
+
+            // we are at 0 index in newly obtained byte sequence
+            if (this.writeCapacity >= intSize) {
+                this.writeMemory.writeIntAt(0, value);
+                updateWriteLimit(intSize, intSize);
+                return this;
+            }
+            // newly obtained byte sequence is smaller than an int, go on with 3)
+        }
+
+        // 3) must write some bytes in current byte sequence, some others in next one(s)
+        return writeByte((byte) (value >> 24))
+                .writeByte((byte) (value >> 16))
+                .writeByte((byte) (value >> 8))
+                .writeByte((byte) value);
     }
 
     @Override
-    public @NotNull Writer getWriter() {
-        return this.writer;
+    public @NotNull MutableByBuArrayData writeIntLE(int value) {
+        return writeInt(Integer.reverseBytes(value));
     }
 
     /**
-     * Get a new byte sequence from {@link #mutableMemorySupplier}
+     * {@inheritDoc}
      *
-     * @return newly obtained byte sequence
+     * @implNote fast-path : if at least 8 bytes are left in current byte sequence, the varint is written with a single
+     * long write, bytes after the varint will be overwritten by next writes
      */
-    private @NotNull MutableBytes supplyNewBytes() {
-        // no room left in array
-        this.lastWrittenIndex += 1;
-        if (this.lastWrittenIndex == this.bybuArray.length) {
-            // increase array size by 2 times
-            final var newLength = this.bybuArray.length * 2;
-            this.bybuArray = Arrays.copyOf(bybuArray, newLength);
-            this.limits = Arrays.copyOf(limits, newLength);
+    @Override
+    public @NotNull MutableByBuArrayData writeVarInt(int value) {
+        final var currentLimit = this.writeLimit;
+
+        // 1) the longest varint int (5 bytes) fits in the 8 bytes left in current byte sequence
+        if (this.writeCapacity - currentLimit >= Long.BYTES) {
+            var word = 0L;
+            var varIntSize = 0;
+            while ((value & ~0x7f) != 0) {
+                word |= (long) ((value & 0x7f) | 0x80) << (varIntSize++ << 3);
+                value >>>= 7;
+            }
+            word |= (long) value << (varIntSize++ << 3);
+            this.writeMemory.writeLongAtLE(currentLimit, word);
+            updateWriteLimit(currentLimit + varIntSize, varIntSize);
+            return this;
+        }
+
+        // 2) write byte by byte in current byte sequence and next one(s)
+        while ((value & ~0x7f) != 0) {
+            writeByte((byte) ((value & 0x7f) | 0x80));
+            value >>>= 7;
         }
-        final var bytes = this.mutableMemorySupplier.get();
-        this.bybuArray[this.lastWrittenIndex] = bytes;
-        return bytes;
+        return writeByte((byte) value);
     }
 
     /**
-     * Implementation of the {@code Writer} interface that writes in data array of {@link ByBuArrayData}
+     * {@inheritDoc}
+     *
+     * @implNote fast-path : if at least 10 bytes are left in current byte sequence, the first 8 bytes of the varint
+     * are written with a single long write
      */
-    private final class WriterImpl implements Writer {
-
-        /**
-         * Current byte sequence to write in
-         */
-        private @NotNull MutableBytes bytes;
-
-        /**
-         * Writing index in the current {@link #bytes}
-         */
-        private int limit = 0;
-
-        /**
-         * Capacity of the current {@link #bytes}
-         */
-        private int capacity;
-
-        boolean isBigEndian = true;
-
-        /**
-         * Current byte sequence is the last not null in the data array of {@code ArrayData}
-         */
-        private WriterImpl() {
-            this.bytes = IntStream.rangeClosed(1, bybuArray.length)
-                    .mapToObj(i -> bybuArray[bybuArray.length - i])
-                    .filter(Objects::nonNull)
-                    .findFirst()
-                    .orElseThrow();
-            this.capacity = this.bytes.getByteSize();
-        }
-
-        @Override
-        public void writeByte(byte value) {
-            final var currentLimit = this.limit;
-            final var byteSize = 1;
-            final var targetLimit = currentLimit + byteSize;
-
-            // 1) at least 1 byte left to write a byte in current byte sequence
-            if (this.capacity >= targetLimit) {
-                this.limit = targetLimit;
-                this.bytes.writeByteAt(currentLimit, value);
-                return;
+    @Override
+    public @NotNull MutableByBuArrayData writeVarLong(long value) {
+        final var currentLimit = this.writeLimit;
+
+        // 1) the longest varint long (10 bytes) fits in current byte sequence
+        if (this.writeCapacity - currentLimit >= 10) {
+            var word = 0L;
+            var varLongSize = 0;
+            while ((value & ~0x7fL) != 0 && varLongSize < Long.BYTES) {
+                word |= ((value & 0x7f) | 0x80) << (varLongSize++ << 3);
+                value >>>= 7;
+            }
+            if (varLongSize < Long.BYTES) {
+                word |= value << (varLongSize++ << 3);
+                this.writeMemory.writeLongAtLE(currentLimit, word);
+            } else {
+                // 9th and 10th bytes of the longest values
+                this.writeMemory.writeLongAtLE(currentLimit, word);
+                if ((value & ~0x7fL) != 0) {
+                    this.writeMemory.writeByteAt(currentLimit + varLongSize++, (byte) ((value & 0x7f) | 0x80));
+                    value >>>= 7;
+                }
+                this.writeMemory.writeByteAt(currentLimit + varLongSize++, (byte) value);
             }
+            updateWriteLimit(currentLimit + varLongSize, varLongSize);
+            return this;
+        }
 
-            // 2) current byte sequence is exactly full
-            // let's add a new byte sequence from supplier
-            addNewBytes();
+        // 2) write byte by byte in current byte sequence and next one(s)
+        while ((value & ~0x7fL) != 0) {
+            writeByte((byte) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        return writeByte((byte) value);
+    }
 
-            // we are at 0 index in newly obtained byte sequence
+    @Override
+    public @NotNull MutableByBuArrayData writeString(@NotNull String string, @NotNull Charset charset) {
+        // fast-path : UTF-8 is encoded straight into byte sequences
+        if (Objects.requireNonNull(charset) == StandardCharsets.UTF_8) {
+            return writeUtf8(Objects.requireNonNull(string));
+        }
+        return writeBytes(string.getBytes(charset));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec bytes are written directly in the byte sequences, so there is nothing to flush
+     */
+    @Override
+    public @NotNull MutableByBuArrayData flush() {
+        return this;
+    }
 
-            if (this.capacity < byteSize) {
-                throw new WriterOverflowException();
+    @Override
+    public long readFrom(@NotNull ScatteringByteChannel channel) {
+        Objects.requireNonNull(channel);
+        final var room = this.writeCapacity - this.writeLimit;
+        final var current = this.writeMemory.getByteBuffer().duplicate()
+                .position(this.writeLimit)
+                .limit(this.writeCapacity);
+
+        // 1) enough room left in current byte sequence, bytes are only read in it
+        if (room >= (this.writeCapacity >> SPARE_ROOM_SHIFT) && room > 0) {
+            final int readBytes;
+            try {
+                readBytes = channel.read(current);
+            } catch (IOException ioException) {
+                throw new LimoIOException(ioException);
+            }
+            if (readBytes > 0) {
+                updateWriteLimit(this.writeLimit + readBytes, readBytes);
             }
-            this.limit = byteSize;
-            this.bytes.writeByteAt(currentLimit, value);
+            return readBytes;
         }
 
-        @Override
-        public void writeInt(int value) {
-            final var currentLimit = this.limit;
-            final var intSize = 4;
-            final var targetLimit = currentLimit + intSize;
+        // 2) current byte sequence is almost full, a spare byte sequence receives the bytes that do not fit in it
+        final var spare = this.mutableMemorySupplier.get();
+        final var byteBuffers = new ByteBuffer[]{
+                current,
+                spare.getByteBuffer().duplicate()
+                        .position(0)
+                        .limit((int) spare.getByteSize())
+        };
+        final long readBytes;
+        try {
+            readBytes = channel.read(byteBuffers);
+        } catch (IOException ioException) {
+            this.mutableMemorySupplier.recycle(spare);
+            throw new LimoIOException(ioException);
+        }
 
-            // 1) at least 4 bytes left to write an int in current byte sequence
-            if (this.capacity >= targetLimit) {
-                this.limit = targetLimit;
-                this.bytes.writeIntAt(currentLimit, value);
-                return;
+        // 2.1) read bytes fit in current byte sequence, spare one is not needed
+        if (readBytes <= room) {
+            this.mutableMemorySupplier.recycle(spare);
+            if (readBytes > 0) {
+                updateWriteLimit(this.writeLimit + (int) readBytes, (int) readBytes);
             }
+            return readBytes;
+        }
 
-            // 2) current byte sequence is exactly full
-            if (currentLimit == this.capacity) {
-                // let's add a new byte sequence from supplier
-                addNewBytes();
+        // 2.2) current byte sequence is full, spare one is added in data array
+        updateWriteLimit(this.writeCapacity, room);
+        addMemory(spare);
+        final var readInSpare = (int) (readBytes - room);
+        updateWriteLimit(readInSpare, readInSpare);
+        return readBytes;
+    }
 
-                // we are at 0 index in newly obtained byte sequence
-                if (this.capacity >= intSize) {
-                    this.limit = intSize;
-                    this.bytes.writeIntAt(currentLimit, value);
-                    return;
-                }
-                throw new WriterOverflowException();
+    @Override
+    public @NotNull MutableByBuArrayData writeByteAt(long index, byte value) {
+        writableIndexCheck(index, 1);
+        final var memoryIndex = memoryIndexOf(index);
+        this.bybuArray[memoryIndex].writeByteAt(index - this.offsets[memoryIndex], value);
+        return this;
+    }
+
+    @Override
+    public @NotNull MutableByBuArrayData writeIntAt(long index, int value) {
+        writableIndexCheck(index, 4);
+        final var memoryIndex = memoryIndexOf(index);
+        final var position = index - this.offsets[memoryIndex];
+        final var memory = this.bybuArray[memoryIndex];
+
+        // 1) at least 4 bytes left to write an int in this byte sequence
+        if (position + 4 <= memory.getByteSize()) {
+            memory.writeIntAt(position, value);
+            return this;
+        }
+
+        // 2) must write some bytes in this byte sequence, some others in next one
+        return writeByteAt(index, (byte) (value >> 24))
+                .writeByteAt(index + 1, (byte) (value >> 16))
+                .writeByteAt(index + 2, (byte) (value >> 8))
+                .writeByteAt(index + 3, (byte) value);
+    }
+
+    private @NotNull MutableByBuArrayData writeUtf8(@NotNull String string) {
+        final var length = string.length();
+        var charIndex = 0;
+        while (charIndex < length) {
+            // 1) encode as many chars as surely fit in current byte sequence, a char is encoded with at most 3 bytes
+            var toChar = (int) Math.min(length, charIndex + (this.writeCapacity - this.writeLimit) / 3L);
+            // do not split a surrogate pair
+            if (toChar > charIndex && toChar < length && Character.isHighSurrogate(string.charAt(toChar - 1))) {
+                toChar--;
             }
+            if (toChar > charIndex) {
+                final var writtenBytes =
+                        (int) UnsafeStringOps.encodeUtf8(string, charIndex, toChar, this.writeMemory, this.writeLimit);
+                updateWriteLimit(this.writeLimit + writtenBytes, writtenBytes);
+                charIndex = toChar;
+                continue;
+            }
+
+            // 2) current byte sequence is almost full, write next code point byte by byte in current and next one
+            final var codePoint = string.codePointAt(charIndex);
+            charIndex += Character.charCount(codePoint);
+            if (codePoint < 0x80) {
+                writeByte((byte) codePoint);
+            } else if (codePoint < 0x800) {
+                writeByte((byte) (0xc0 | (codePoint >> 6)))
+                        .writeByte((byte) (0x80 | (codePoint & 0x3f)));
+            } else if (Character.isSurrogate((char) codePoint)) {
+                // unpaired surrogate
+                writeByte((byte) '?');
+            } else if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                writeByte((byte) (0xe0 | (codePoint >> 12)))
+                        .writeByte((byte) (0x80 | ((codePoint >> 6) & 0x3f)))
+                        .writeByte((byte) (0x80 | (codePoint & 0x3f)));
+            } else {
+                writeByte((byte) (0xf0 | (codePoint >> 18)))
+                        .writeByte((byte) (0x80 | ((codePoint >> 12) & 0x3f)))
+                        .writeByte((byte) (0x80 | ((codePoint >> 6) & 0x3f)))
+                        .writeByte((byte) (0x80 | (codePoint & 0x3f)));
+            }
+        }
+        return this;
+    }
 
-            // 3) must write some bytes in current byte sequence, some others in next one
-            for (final var b : BytesOps.intToBytes(value, this.isBigEndian)) {
-                writeByte(b);
+    @Override
+    public @NotNull MutableByBuArrayData writeBytes(byte @NotNull [] bytes) {
+        var offset = 0;
+        while (offset < bytes.length) {
+            if (this.writeLimit == this.writeCapacity) {
+                // current byte sequence is exactly full, let's add a new byte sequence from supplier
+                addNewMemory();
             }
+            final var length = Math.min(this.writeCapacity - this.writeLimit, bytes.length - offset);
+            this.writeMemory.writeBytesAt(this.writeLimit, bytes, offset, length);
+            updateWriteLimit(this.writeLimit + length, length);
+            offset += length;
         }
+        return this;
+    }
 
-        @Override
-        public final @NotNull ByteOrder getByteOrder() {
-            return byteOrder;
+    @Override
+    public void truncate(long writeIndex) {
+        if (writeIndex < this.readIndex || writeIndex > this.writeIndex) {
+            throw new IndexOutOfBoundsException(
+                    String.format("requested writeIndex=%d is less than readIndex=%d or greater than writeIndex=%d",
+                            writeIndex, this.readIndex, this.writeIndex));
         }
+        final var memoryIndex = memoryIndexOf(writeIndex);
+        discardMemoriesAfter(memoryIndex);
+        this.writeMemory = this.bybuArray[memoryIndex];
+        this.writeCapacity = (int) this.writeMemory.getByteSize();
+        this.writeLimit = (int) (writeIndex - this.offsets[memoryIndex]);
+        this.limits[memoryIndex] = this.writeLimit;
+        this.writeIndex = writeIndex;
+    }
+
+    /**
+     * Discards all bytes : byte sequences are given back to {@link #mutableMemorySupplier}, except the first one that
+     * is kept to write again from index {@code 0}
+     * <p>A data that is cleared after each read keeps a single byte sequence while nothing is read in it.
+     */
+    public void clear() {
+        discardAllButFirstMemory();
+        this.writeMemory = this.bybuArray[0];
+        this.writeCapacity = (int) this.writeMemory.getByteSize();
+        this.writeLimit = 0;
+    }
 
-        @Override
-        public final void setByteOrder(@NotNull ByteOrder byteOrder) {
-            this.isBigEndian = (byteOrder == ByteOrder.BIG_ENDIAN);
-            MutableByBuArrayData.this.setByteOrder(byteOrder);
+    /**
+     * Give byte sequence back to {@link #mutableMemorySupplier} instead of releasing it
+     */
+    @Override
+    void closeMemory(@NotNull MutableByBuOffHeap memory) {
+        this.mutableMemorySupplier.recycle(memory);
+    }
+
+    /**
+     * Checks that {@code index} is already written, or is the current {@code writeIndex}, and that there is room to
+     * write {@code requestedLength} bytes in already supplied byte sequences
+     */
+    private void writableIndexCheck(long index, int requestedLength) {
+        if (index < 0 || index > this.writeIndex
+                || index > this.writeIndex - this.writeLimit + this.writeCapacity - requestedLength) {
+            throw new IndexOutOfBoundsException(
+                    String.format("requested index=%d is less than 0 or greater than writeIndex=%d, or there is no room " +
+                            "left to write %d bytes", index, this.writeIndex, requestedLength));
         }
+    }
+
+    private void updateWriteLimit(int writeLimit, int writtenBytes) {
+        this.writeLimit = writeLimit;
+        this.limits[this.lastWrittenIndex] = writeLimit;
+        this.writeIndex += writtenBytes;
+    }
 
-        /**
-         * Current byte sequence is full, add a new Bytes in data array
-         */
-        private void addNewBytes() {
-            this.bytes = supplyNewBytes();
-            this.capacity = this.bytes.getByteSize();
-            this.limit = 0;
+    /**
+     * Current byte sequence is full, get a new byte sequence from {@link #mutableMemorySupplier} and add it in data
+     * array
+     */
+    private void addNewMemory() {
+        addMemory(this.mutableMemorySupplier.get());
+    }
+
+    /**
+     * Add {@code memory} in data array, it becomes the current byte sequence to write in
+     */
+    private void addMemory(@NotNull MutableByBuOffHeap memory) {
+        this.lastWrittenIndex += 1;
+        if (this.lastWrittenIndex == this.bybuArray.length) {
+            // no room left in array, increase array size by 2 times
+            final var newLength = this.bybuArray.length * 2;
+            this.bybuArray = Arrays.copyOf(this.bybuArray, newLength);
+            this.limits = Arrays.copyOf(this.limits, newLength);
+            this.offsets = Arrays.copyOf(this.offsets, newLength);
         }
+        // previous byte sequences are full, this one starts at writeIndex
+        this.offsets[this.lastWrittenIndex] = this.writeIndex;
+        this.bybuArray[this.lastWrittenIndex] = memory;
+        this.byteSize += memory.getByteSize();
+        this.writeMemory = memory;
+        this.writeCapacity = (int) memory.getByteSize();
+        this.writeLimit = 0;
     }
 }
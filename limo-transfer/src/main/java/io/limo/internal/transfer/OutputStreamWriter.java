@@ -5,55 +5,190 @@
 package io.limo.internal.transfer;
 
 import io.limo.LimoIOException;
+import io.limo.internal.utils.UnsafeStringOps;
+import io.limo.memory.MutableByBuOffHeap;
 import io.limo.transfer.Writer;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 
 /**
  * Implementation of the {@link Writer} interface based on a {@link OutputStream}
+ * <p>Bytes are staged in an off-heap buffer obtained from a {@link MutableMemorySupplier}, it is written to the
+ * stream with bulk writes when it is full, or when {@link #flush()} is invoked. This writer must be used by the thread
+ * that created it, and must be closed to write remaining bytes and give its buffer back.
  */
-public final class OutputStreamWriter implements Writer {
+public final class OutputStreamWriter implements Writer, AutoCloseable {
 
-    private final @NotNull OutputStream out;
+    private final @NotNull WritableByteChannel out;
+    private final @NotNull OutputStream outputStream;
+    private final @NotNull MutableMemorySupplier mutableMemorySupplier;
+
+    /**
+     * The off-heap buffer that stages written bytes
+     */
+    private final @NotNull MutableByBuOffHeap buffer;
+
+    private final int capacity;
+
+    /**
+     * Writing index in {@link #buffer}
+     */
+    private int position = 0;
 
     public OutputStreamWriter(@NotNull OutputStream out) {
-        this.out = out;
+        this(out, RecyclingMutableMemorySupplier.SHARED);
+    }
+
+    /**
+     * @param mutableMemorySupplier supplies the buffer, it must be at least 8 bytes long
+     */
+    public OutputStreamWriter(@NotNull OutputStream out, @NotNull MutableMemorySupplier mutableMemorySupplier) {
+        this.outputStream = Objects.requireNonNull(out);
+        this.out = Channels.newChannel(out);
+        this.mutableMemorySupplier = Objects.requireNonNull(mutableMemorySupplier);
+        this.buffer = mutableMemorySupplier.get();
+        this.capacity = (int) this.buffer.getByteSize();
+        // at least 2 chars (a surrogate pair) must fit in buffer after it was flushed
+        if (this.capacity < Long.BYTES) {
+            mutableMemorySupplier.recycle(this.buffer);
+            throw new IllegalArgumentException("Supplied memory is too small, it must be at least 8 bytes long");
+        }
     }
 
     @Override
-    public OutputStreamWriter writeByte(byte value) {
-        try {
-            out.write(value);
-        } catch (IOException ioException) {
-            throw new LimoIOException(ioException);
+    public @NotNull OutputStreamWriter writeByte(byte value) {
+        if (this.position == this.capacity) {
+            flushBuffer();
         }
+        this.buffer.writeByteAt(this.position++, value);
         return this;
     }
 
     @Override
-    public OutputStreamWriter writeInt(int value) {
+    public @NotNull OutputStreamWriter writeInt(int value) {
+        final var intSize = 4;
+        if (this.capacity - this.position < intSize) {
+            flushBuffer();
+        }
+        this.buffer.writeIntAt(this.position, value);
+        this.position += intSize;
+        return this;
+    }
+
+    @Override
+    public @NotNull OutputStreamWriter writeIntLE(int value) {
+        final var intSize = 4;
+        if (this.capacity - this.position < intSize) {
+            flushBuffer();
+        }
+        this.buffer.writeIntAtLE(this.position, value);
+        this.position += intSize;
+        return this;
+    }
+
+    @Override
+    public @NotNull OutputStreamWriter writeString(@NotNull String string, @NotNull Charset charset) {
+        Objects.requireNonNull(string);
+        // fast-path : UTF-8 is encoded straight into the buffer
+        if (Objects.requireNonNull(charset) == StandardCharsets.UTF_8) {
+            final var length = string.length();
+            var charIndex = 0;
+            while (charIndex < length) {
+                // each char is encoded with at most 3 bytes in UTF-8
+                var charCount = Math.min((this.capacity - this.position) / 3, length - charIndex);
+                if (charCount > 0 && charCount < length - charIndex
+                        && Character.isHighSurrogate(string.charAt(charIndex + charCount - 1))) {
+                    // do not split a surrogate pair
+                    charCount--;
+                }
+                if (charCount == 0) {
+                    // an empty buffer always has room for at least 2 chars
+                    flushBuffer();
+                    continue;
+                }
+                this.position += UnsafeStringOps.encodeUtf8(string, charIndex, charIndex + charCount, this.buffer,
+                        this.position);
+                charIndex += charCount;
+            }
+            return this;
+        }
+        return writeBytes(string.getBytes(charset));
+    }
+
+    @Override
+    public @NotNull OutputStreamWriter writeBytes(byte @NotNull [] bytes) {
+        var offset = 0;
+        while (offset < bytes.length) {
+            if (this.position == this.capacity) {
+                flushBuffer();
+            }
+            final var length = Math.min(this.capacity - this.position, bytes.length - offset);
+            this.buffer.writeBytesAt(this.position, bytes, offset, length);
+            this.position += length;
+            offset += length;
+        }
+        return this;
+    }
+
+    /**
+     * Writes all buffered bytes to the stream, then flushes the stream
+     *
+     * @throws LimoIOException if an I/O error occurs
+     */
+    @Override
+    public @NotNull OutputStreamWriter flush() {
+        flushBuffer();
         try {
-            out.write((value >>> 24) & 0xFF);
-            out.write((value >>> 16) & 0xFF);
-            out.write((value >>> 8) & 0xFF);
-            out.write((value) & 0xFF);
+            this.outputStream.flush();
         } catch (IOException ioException) {
             throw new LimoIOException(ioException);
         }
         return this;
     }
 
-    public OutputStreamWriter writeIntLE(int value) {
+    /**
+     * Writes all buffered bytes, gives the buffer back to its supplier, then closes the stream
+     *
+     * @throws LimoIOException if an I/O error occurs
+     */
+    @Override
+    public void close() {
+        try {
+            flushBuffer();
+        } finally {
+            this.mutableMemorySupplier.recycle(this.buffer);
+            try {
+                this.out.close();
+            } catch (IOException ioException) {
+                throw new LimoIOException(ioException);
+            }
+        }
+    }
+
+    /**
+     * Writes all buffered bytes to the stream with bulk writes
+     */
+    private void flushBuffer() {
+        if (this.position == 0) {
+            return;
+        }
+        final var byteBuffer = this.buffer.getByteBuffer().duplicate()
+                .position(0)
+                .limit(this.position);
         try {
-            out.write((value) & 0xFF);
-            out.write((value >>> 8) & 0xFF);
-            out.write((value >>> 16) & 0xFF);
-            out.write((value >>> 24) & 0xFF);
+            while (byteBuffer.hasRemaining()) {
+                this.out.write(byteBuffer);
+            }
         } catch (IOException ioException) {
             throw new LimoIOException(ioException);
         }
-        return this;
+        this.position = 0;
     }
 }
@@ -0,0 +1,94 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.transfer;
+
+import io.limo.internal.memory.ByBuOffHeapOps;
+import io.limo.internal.utils.BoundedFreeList;
+import io.limo.internal.utils.UnsafeByteBufferOps;
+import io.limo.memory.MutableByBuOffHeap;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Implementation of {@link MutableMemorySupplier} that supplies fixed size chunks of native memory, backed by a
+ * bounded lock-free free list of direct ByteBuffers.
+ * <p>This supplier can be shared by many threads : each supplied {@link MutableByBuOffHeap} is owned by the thread
+ * that invoked {@link #get()}, closing it returns its native memory to the free list, so it can be supplied to any
+ * other thread. Native memory is only freed when the free list is full.
+ *
+ * @implNote Content of a recycled chunk is not cleared
+ */
+public final class RecyclingMutableMemorySupplier implements MutableMemorySupplier {
+
+    /**
+     * Default byte size of a chunk
+     */
+    public static final int DEFAULT_CHUNK_BYTE_SIZE = 8 * 1024;
+
+    /**
+     * Default max number of chunks retained in the free list
+     */
+    public static final int DEFAULT_MAX_FREE_CHUNKS = 4 * 1024;
+
+    /**
+     * Supplier shared by the stream based readers and writers, it supplies chunks of default byte size
+     */
+    public static final RecyclingMutableMemorySupplier SHARED = new RecyclingMutableMemorySupplier();
+
+    private final int chunkByteSize;
+    private final @NotNull BoundedFreeList<ByteBuffer> freeChunks;
+
+    public RecyclingMutableMemorySupplier() {
+        this(DEFAULT_CHUNK_BYTE_SIZE, DEFAULT_MAX_FREE_CHUNKS);
+    }
+
+    /**
+     * @param chunkByteSize byte size of each supplied chunk
+     * @param maxFreeChunks max number of chunks retained in the free list
+     */
+    public RecyclingMutableMemorySupplier(int chunkByteSize, int maxFreeChunks) {
+        if (chunkByteSize <= 0) {
+            throw new IllegalArgumentException("chunkByteSize must be a positive Integer");
+        }
+        this.chunkByteSize = chunkByteSize;
+        this.freeChunks = new BoundedFreeList<>(maxFreeChunks);
+    }
+
+    /**
+     * @return a chunk from the free list, or a newly allocated one if free list is empty
+     */
+    @Override
+    public @NotNull MutableByBuOffHeap get() {
+        var bb = this.freeChunks.poll();
+        if (bb == null) {
+            bb = ByteBuffer.allocateDirect(this.chunkByteSize);
+        }
+        final var chunk = bb;
+        return ByBuOffHeapOps.wrapMutable(chunk, () -> release(chunk));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec closes the {@code memory}, this returns its native memory to the free list
+     */
+    @Override
+    public void recycle(@NotNull MutableByBuOffHeap memory) {
+        Objects.requireNonNull(memory).close();
+    }
+
+    public int getChunkByteSize() {
+        return this.chunkByteSize;
+    }
+
+    private void release(ByteBuffer bb) {
+        if (!this.freeChunks.offer(bb)) {
+            // free list is full, free native memory
+            UnsafeByteBufferOps.invokeCleaner(bb);
+        }
+    }
+}
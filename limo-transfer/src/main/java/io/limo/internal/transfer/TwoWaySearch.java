@@ -0,0 +1,131 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.transfer;
+
+import io.limo.transfer.IndexedReader;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Two-Way string matching (Crochemore-Perrin) : linear time and constant space, each readable byte is compared at
+ * most twice whatever the pattern is
+ * <p>The pattern is split at a critical factorization {@code u.v}, then {@code v} is matched left to right and
+ * {@code u} right to left. On mismatch the search moves forward by the period of the pattern, or by a length derived
+ * from the factorization when the pattern is not periodic.
+ */
+final class TwoWaySearch {
+
+    // uninstanciable
+    private TwoWaySearch() {
+    }
+
+    /**
+     * Search the first occurrence of {@code pattern} in {@code reader}, from {@code fromIndex} (inclusive) to
+     * {@code toIndex} (exclusive)
+     *
+     * @return absolute index of the first byte of the first occurrence of {@code pattern}, or {@code -1} if there is
+     * none
+     */
+    static long indexOf(@NotNull IndexedReader reader, long fromIndex, long toIndex, byte @NotNull [] pattern) {
+        final var length = pattern.length;
+        final var lastShift = toIndex - fromIndex - length;
+        if (lastShift < 0) {
+            return -1;
+        }
+
+        // critical factorization from the maximal suffixes for both orderings, keep the longest one
+        final var suffixAndPeriod = maximalSuffix(pattern, false);
+        final var reverseSuffixAndPeriod = maximalSuffix(pattern, true);
+        final long factorization = Math.max(suffixAndPeriod, reverseSuffixAndPeriod);
+        final var suffix = (int) (factorization >>> 32);
+        var period = (int) factorization;
+
+        if (Arrays.equals(pattern, 0, suffix, pattern, period, period + suffix)) {
+            // periodic pattern : remember the length of the prefix known to match after a shift by period
+            var memory = 0;
+            var shift = 0L;
+            while (shift <= lastShift) {
+                final var start = fromIndex + shift;
+                var index = Math.max(suffix, memory);
+                while (index < length && pattern[index] == reader.readByteAt(start + index)) {
+                    index++;
+                }
+                if (index < length) {
+                    shift += index - suffix + 1;
+                    memory = 0;
+                    continue;
+                }
+                index = suffix - 1;
+                while (index >= memory && pattern[index] == reader.readByteAt(start + index)) {
+                    index--;
+                }
+                if (index < memory) {
+                    return start;
+                }
+                shift += period;
+                memory = length - period;
+            }
+            return -1;
+        }
+
+        // not periodic pattern : a shift by the longest of the two factors is always safe
+        period = Math.max(suffix, length - suffix) + 1;
+        var shift = 0L;
+        while (shift <= lastShift) {
+            final var start = fromIndex + shift;
+            var index = suffix;
+            while (index < length && pattern[index] == reader.readByteAt(start + index)) {
+                index++;
+            }
+            if (index < length) {
+                shift += index - suffix + 1;
+                continue;
+            }
+            index = suffix - 1;
+            while (index >= 0 && pattern[index] == reader.readByteAt(start + index)) {
+                index--;
+            }
+            if (index < 0) {
+                return start;
+            }
+            shift += period;
+        }
+        return -1;
+    }
+
+    /**
+     * Computes the maximal suffix of {@code pattern} for the unsigned byte ordering, or its reverse
+     *
+     * @return start index of the maximal suffix in the 32 high bits, its period in the 32 low bits
+     */
+    private static long maximalSuffix(byte @NotNull [] pattern, boolean reverse) {
+        var maxSuffix = -1;
+        var index = 0;
+        var offset = 1;
+        var period = 1;
+        while (index + offset < pattern.length) {
+            final var current = pattern[index + offset] & 0xff;
+            final var reference = pattern[maxSuffix + offset] & 0xff;
+            if (current == reference) {
+                if (offset == period) {
+                    index += period;
+                    offset = 1;
+                } else {
+                    offset++;
+                }
+            } else if ((current < reference) != reverse) {
+                index += offset;
+                offset = 1;
+                period = index - maxSuffix;
+            } else {
+                maxSuffix = index++;
+                offset = 1;
+                period = 1;
+            }
+        }
+        return ((long) (maxSuffix + 1) << 32) | period;
+    }
+}
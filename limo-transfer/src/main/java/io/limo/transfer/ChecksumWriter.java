@@ -0,0 +1,135 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.transfer;
+
+import io.limo.utils.BytesOps;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.Charset;
+import java.util.Objects;
+import java.util.zip.Checksum;
+
+/**
+ * A {@link Writer} decorator that updates a running {@link Checksum}, for example a {@link java.util.zip.CRC32C}, with
+ * all bytes written to the decorated writer : there is no second pass over written bytes to compute the checksum
+ * <p>A String written to a {@link MutableData} is not encoded twice, the checksum is updated with the encoded bytes
+ * straight from the data's off-heap memory.
+ */
+public final class ChecksumWriter implements Writer {
+
+    private final @NotNull Writer writer;
+    private final @NotNull Checksum checksum;
+
+    /**
+     * Bytes of the last written number, a varint long is at most 10 bytes long
+     */
+    private final byte @NotNull [] scratch = new byte[10];
+
+    public ChecksumWriter(@NotNull Writer writer, @NotNull Checksum checksum) {
+        this.writer = Objects.requireNonNull(writer);
+        this.checksum = Objects.requireNonNull(checksum);
+    }
+
+    /**
+     * @return the running checksum, updated with all bytes written since it was last reset
+     */
+    public @NotNull Checksum getChecksum() {
+        return this.checksum;
+    }
+
+    @Override
+    public @NotNull ChecksumWriter writeByte(byte value) {
+        this.writer.writeByte(value);
+        this.checksum.update(value);
+        return this;
+    }
+
+    @Override
+    public @NotNull ChecksumWriter writeInt(int value) {
+        this.writer.writeInt(value);
+        this.scratch[0] = (byte) (value >> 24);
+        this.scratch[1] = (byte) (value >> 16);
+        this.scratch[2] = (byte) (value >> 8);
+        this.scratch[3] = (byte) value;
+        this.checksum.update(this.scratch, 0, 4);
+        return this;
+    }
+
+    @Override
+    public @NotNull ChecksumWriter writeIntLE(int value) {
+        this.writer.writeIntLE(value);
+        this.scratch[0] = (byte) value;
+        this.scratch[1] = (byte) (value >> 8);
+        this.scratch[2] = (byte) (value >> 16);
+        this.scratch[3] = (byte) (value >> 24);
+        this.checksum.update(this.scratch, 0, 4);
+        return this;
+    }
+
+    @Override
+    public @NotNull ChecksumWriter writeVarInt(int value) {
+        // the decorated writer may have a faster varint encoding than a byte at a time
+        this.writer.writeVarInt(value);
+        var length = 0;
+        while ((value & ~0x7f) != 0) {
+            this.scratch[length++] = (byte) ((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        this.scratch[length++] = (byte) value;
+        this.checksum.update(this.scratch, 0, length);
+        return this;
+    }
+
+    @Override
+    public @NotNull ChecksumWriter writeVarLong(long value) {
+        this.writer.writeVarLong(value);
+        var length = 0;
+        while ((value & ~0x7fL) != 0) {
+            this.scratch[length++] = (byte) ((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        this.scratch[length++] = (byte) value;
+        this.checksum.update(this.scratch, 0, length);
+        return this;
+    }
+
+    @Override
+    public @NotNull ChecksumWriter writeZigZagVarInt(int value) {
+        return writeVarInt(BytesOps.zigZagEncode(value));
+    }
+
+    @Override
+    public @NotNull ChecksumWriter writeZigZagVarLong(long value) {
+        return writeVarLong(BytesOps.zigZagEncode(value));
+    }
+
+    @Override
+    public @NotNull ChecksumWriter writeString(@NotNull String string, @NotNull Charset charset) {
+        Objects.requireNonNull(string);
+        Objects.requireNonNull(charset);
+        if (this.writer instanceof MutableData) {
+            final var data = (MutableData) this.writer;
+            final var fromIndex = data.getWriteIndex();
+            data.writeString(string, charset);
+            data.updateChecksum(this.checksum, fromIndex, data.getWriteIndex() - fromIndex);
+            return this;
+        }
+        // the String is encoded once, encoded bytes are written then checksummed
+        return writeBytes(string.getBytes(charset));
+    }
+
+    @Override
+    public @NotNull ChecksumWriter writeBytes(byte @NotNull [] bytes) {
+        this.writer.writeBytes(bytes);
+        this.checksum.update(bytes);
+        return this;
+    }
+
+    @Override
+    public @NotNull ChecksumWriter flush() {
+        this.writer.flush();
+        return this;
+    }
+}
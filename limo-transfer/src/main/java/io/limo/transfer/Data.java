@@ -4,8 +4,13 @@
 
 package io.limo.transfer;
 
+import io.limo.utils.Hasher64;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 
+import java.nio.channels.GatheringByteChannel;
+import java.util.zip.Checksum;
+
 /**
  * A complete read-only (immutable) binary data
  */
@@ -16,6 +21,38 @@ public interface Data extends IndexedReader, AutoCloseable {
      */
     @Range(from = 1, to = Long.MAX_VALUE) long getByteSize();
 
+    /**
+     * Write the readable bytes, from {@code readIndex} to {@code writeIndex}, into the channel with vectored
+     * {@link GatheringByteChannel#write(java.nio.ByteBuffer[])} calls : no byte is copied on heap
+     * <p>A blocking channel writes all readable bytes, a non-blocking channel may write less
+     *
+     * @return number of written bytes
+     * @throws io.limo.LimoIOException if an I/O error occurs
+     * @implSpec increase {@code readIndex} by the number of written bytes
+     */
+    long writeTo(@NotNull GatheringByteChannel channel);
+
+    /**
+     * Updates {@code hasher} with {@code length} bytes from the absolute {@code index}, each byte sequence of this
+     * data is read in place : no byte is copied on heap
+     *
+     * @throws IndexOutOfBoundsException if {@code index} or {@code length} is less than {@code 0}, or if
+     * {@code index} is greater than {@code (writeIndex - length)}, then the region is out of the readable bounds
+     * @implSpec do not modify {@code readIndex}
+     */
+    void updateHash(@NotNull Hasher64 hasher, long index, long length);
+
+    /**
+     * Updates {@code checksum} with {@code length} bytes from the absolute {@code index}, each byte sequence of this
+     * data is given to {@link Checksum#update(java.nio.ByteBuffer)} as a direct ByteBuffer view : no byte is copied on
+     * heap
+     *
+     * @throws IndexOutOfBoundsException if {@code index} or {@code length} is less than {@code 0}, or if
+     * {@code index} is greater than {@code (writeIndex - length)}, then the region is out of the readable bounds
+     * @implSpec do not modify {@code readIndex}
+     */
+    void updateChecksum(@NotNull Checksum checksum, long index, long length);
+
     /**
      * Closes all resources that store binary data
      */
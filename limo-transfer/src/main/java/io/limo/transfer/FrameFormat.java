@@ -0,0 +1,147 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.transfer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+
+import java.nio.ByteOrder;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Format of length-prefixed frames : each frame is preceded by its byte length, encoded as an unsigned 1, 2, 4 or 8
+ * bytes integer in either byte order, or as a LEB128 varint
+ * <p>A frame longer than {@link #getMaxFrameSize()} is rejected, by the decoder and by the encoder.
+ */
+public final class FrameFormat {
+
+    /**
+     * A varint prefix is reserved with this number of bytes, then back-patched
+     */
+    private static final int RESERVED_VARINT_SIZE = 5;
+
+    /**
+     * 1, 2, 4 or 8 for a fixed size prefix, 0 for a varint prefix
+     */
+    private final int prefixSize;
+    private final @NotNull ByteOrder byteOrder;
+    private final int maxFrameSize;
+
+    private FrameFormat(int prefixSize, @NotNull ByteOrder byteOrder, int maxFrameSize) {
+        this.prefixSize = prefixSize;
+        this.byteOrder = byteOrder;
+        this.maxFrameSize = maxFrameSize;
+    }
+
+    /**
+     * @param prefixSize   byte size of the length prefix : 1, 2, 4 or 8
+     * @param byteOrder    byte order of the length prefix
+     * @param maxFrameSize max byte length of a frame, excluding its prefix
+     * @throws IllegalArgumentException if {@code prefixSize} is not supported, or if {@code maxFrameSize} is negative
+     *                                  or cannot be encoded with {@code prefixSize} bytes
+     */
+    public static @NotNull FrameFormat fixedLength(int prefixSize, @NotNull ByteOrder byteOrder, int maxFrameSize) {
+        Objects.requireNonNull(byteOrder);
+        if (prefixSize != 1 && prefixSize != 2 && prefixSize != 4 && prefixSize != 8) {
+            throw new IllegalArgumentException(
+                    String.format("prefixSize must be 1, 2, 4 or 8, but was %d", prefixSize));
+        }
+        if (maxFrameSize < 0 || (prefixSize < 4 && maxFrameSize >= (1 << (prefixSize << 3)))) {
+            throw new IllegalArgumentException(String.format(
+                    "maxFrameSize=%d is negative or cannot be encoded with %d bytes", maxFrameSize, prefixSize));
+        }
+        return new FrameFormat(prefixSize, byteOrder, maxFrameSize);
+    }
+
+    /**
+     * @param maxFrameSize max byte length of a frame, excluding its prefix
+     * @throws IllegalArgumentException if {@code maxFrameSize} is negative
+     */
+    public static @NotNull FrameFormat varIntLength(int maxFrameSize) {
+        if (maxFrameSize < 0) {
+            throw new IllegalArgumentException(
+                    String.format("maxFrameSize must be positive, but was %d", maxFrameSize));
+        }
+        return new FrameFormat(0, ByteOrder.LITTLE_ENDIAN, maxFrameSize);
+    }
+
+    /**
+     * @return byte size of the length prefix, 0 if it is a varint
+     */
+    public @Range(from = 0, to = 8) int getPrefixSize() {
+        return this.prefixSize;
+    }
+
+    public boolean isVarInt() {
+        return this.prefixSize == 0;
+    }
+
+    /**
+     * @return byte order of a fixed size length prefix, LEB128 varints are always little endian
+     */
+    public @NotNull ByteOrder getByteOrder() {
+        return this.byteOrder;
+    }
+
+    public int getMaxFrameSize() {
+        return this.maxFrameSize;
+    }
+
+    /**
+     * Writes a frame at the current {@code writeIndex} of {@code data} : room for the length prefix is reserved, then
+     * {@code body} writes the frame, then the length prefix is back-patched in place. Frame bytes are never copied.
+     * <p>A varint prefix is always written with 5 bytes, padded with continuation bits if needed, because its length
+     * is not known before the frame is written. Decoders of LEB128 varints accept it.
+     *
+     * @throws IllegalStateException if the frame written by {@code body} is longer than {@link #getMaxFrameSize()}, data
+     *                               is then truncated to its {@code writeIndex} before this call
+     */
+    public void writeFrame(@NotNull MutableData data, @NotNull Consumer<? super MutableData> body) {
+        Objects.requireNonNull(body);
+        final var prefixIndex = data.getWriteIndex();
+        final var reservedSize = isVarInt() ? RESERVED_VARINT_SIZE : this.prefixSize;
+        for (var index = 0; index < reservedSize; index++) {
+            data.writeByte((byte) 0);
+        }
+
+        body.accept(data);
+
+        final var frameLength = data.getWriteIndex() - prefixIndex - reservedSize;
+        if (frameLength > this.maxFrameSize) {
+            // this frame is discarded, so data is left as it was before this call
+            data.truncate(prefixIndex);
+            throw new IllegalStateException(String.format("Frame of %d bytes exceeds max frame size of %d bytes",
+                    frameLength, this.maxFrameSize));
+        }
+        final var length = (int) frameLength;
+        final var bigEndian = this.byteOrder == ByteOrder.BIG_ENDIAN;
+        switch (this.prefixSize) {
+            case 0:
+                for (var index = 0; index < RESERVED_VARINT_SIZE - 1; index++) {
+                    data.writeByteAt(prefixIndex + index, (byte) (((length >>> (index * 7)) & 0x7f) | 0x80));
+                }
+                data.writeByteAt(prefixIndex + RESERVED_VARINT_SIZE - 1, (byte) (length >>> 28));
+                break;
+            case 1:
+                data.writeByteAt(prefixIndex, (byte) length);
+                break;
+            case 2:
+                data.writeByteAt(prefixIndex, (byte) (bigEndian ? length >> 8 : length))
+                        .writeByteAt(prefixIndex + 1, (byte) (bigEndian ? length : length >> 8));
+                break;
+            case 4:
+                data.writeIntAt(prefixIndex, bigEndian ? length : Integer.reverseBytes(length));
+                break;
+            default:
+                // a frame length is an int, so high 4 bytes are always 0
+                if (bigEndian) {
+                    data.writeIntAt(prefixIndex + 4, length);
+                } else {
+                    data.writeIntAt(prefixIndex, Integer.reverseBytes(length));
+                }
+        }
+    }
+}
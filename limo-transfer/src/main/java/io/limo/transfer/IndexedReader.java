@@ -4,6 +4,11 @@
 
 package io.limo.transfer;
 
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.Charset;
+
 /**
  * This interface allows to read in a memory region using a {@code readIndex}
  */
@@ -73,4 +78,58 @@ public interface IndexedReader extends Reader {
      * @implSpec do not modify {@code readIndex}
      */
     int readIntAtLE(long index);
+
+    /**
+     * Read a String of {@code byteLength} bytes encoded with {@code charset} at the specified absolute {@code index}
+     * <p>bytes are copied once, straight from off-heap memory to the byte array that is decoded
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is less than {@code 0} or is greater than
+     * {@code (writeIndex - byteLength)}, then {@code index} is out of the readable bounds
+     * @implSpec do not modify {@code readIndex}
+     */
+    @NotNull String readStringAt(long index, int byteLength, @NotNull Charset charset);
+
+    /**
+     * Search the first occurrence of {@code value} in the readable bytes, from {@code readIndex} to
+     * {@code writeIndex}
+     *
+     * @return absolute index of the first occurrence of {@code value}, or {@code -1} if there is none
+     * @implSpec do not modify {@code readIndex}
+     */
+    long indexOf(byte value);
+
+    /**
+     * Search the first occurrence of {@code pattern} in the readable bytes, from {@code readIndex} to
+     * {@code writeIndex}
+     *
+     * @return absolute index of the first byte of the first occurrence of {@code pattern}, or {@code -1} if there is
+     * none
+     * @throws IllegalArgumentException if {@code pattern} is empty
+     * @implSpec do not modify {@code readIndex}
+     */
+    long indexOf(byte @NotNull [] pattern);
+
+    /**
+     * Read the bytes from the current {@code readIndex} to the first occurrence of {@code delimiter}
+     * <p>Bytes are not copied : the returned data is a view that is only valid as long as this reader is not closed,
+     * closing it does nothing.
+     *
+     * @return a view of the bytes before {@code delimiter} (that may be empty), or {@code null} if there is no
+     * occurrence of {@code delimiter} in the readable bytes
+     * @throws IllegalArgumentException if {@code delimiter} is empty
+     * @implSpec increase {@code readIndex} after the delimiter if it was found, else do not modify {@code readIndex}
+     */
+    @Nullable Data readUntil(byte @NotNull [] delimiter);
+
+    /**
+     * Read a line terminated by {@code '\n'} or {@code "\r\n"} from the current {@code readIndex}
+     * <p>Bytes are not copied : the returned data is a view that is only valid as long as this reader is not closed,
+     * closing it does nothing.
+     *
+     * @return a view of the bytes of the line without its terminator (that may be empty), or {@code null} if there is
+     * no line terminator in the readable bytes
+     * @implSpec increase {@code readIndex} after the line terminator if it was found, else do not modify
+     * {@code readIndex}
+     */
+    @Nullable Data readLine();
 }
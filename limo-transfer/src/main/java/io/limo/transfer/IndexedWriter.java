@@ -4,6 +4,10 @@
 
 package io.limo.transfer;
 
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.Charset;
+
 public interface IndexedWriter extends Writer {
 
     /**
@@ -29,6 +33,16 @@ public interface IndexedWriter extends Writer {
     @Override
     IndexedWriter writeInt(int value);
 
+    /**
+     * Write a String encoded with {@code charset} at the current {@code writeIndex}
+     *
+     * @return this instance
+     * @throws IndexOutOfBoundsException if there is no room left to write encoded String
+     * @implSpec increase {@code writeIndex} by the number of encoded bytes after write
+     */
+    @Override
+    IndexedWriter writeString(@NotNull String string, @NotNull Charset charset);
+
     /**
      * Write a byte at the specified absolute {@code index}
      *
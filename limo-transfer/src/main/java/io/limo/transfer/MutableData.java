@@ -4,8 +4,32 @@
 
 package io.limo.transfer;
 
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.channels.ScatteringByteChannel;
+
 /**
  * A complete read-write (mutable) binary data
  */
 public interface MutableData extends Data, IndexedWriter {
+
+    /**
+     * Read bytes from the channel at the current {@code writeIndex}, with a vectored
+     * {@link ScatteringByteChannel#read(java.nio.ByteBuffer[])} call if the current byte sequence is almost full : no
+     * byte is copied on heap
+     *
+     * @return number of read bytes, possibly zero, or {@code -1} if the channel has reached end-of-stream
+     * @throws io.limo.LimoIOException if an I/O error occurs
+     * @implSpec increase {@code writeIndex} by the number of read bytes
+     */
+    long readFrom(@NotNull ScatteringByteChannel channel);
+
+    /**
+     * Discards the bytes written from {@code writeIndex}, next bytes will be written at {@code writeIndex}
+     * <p>Byte sequences that only contained discarded bytes are released.
+     *
+     * @throws IndexOutOfBoundsException if {@code writeIndex} is less than {@code readIndex}, or greater than current
+     *                                   {@code writeIndex}
+     */
+    void truncate(long writeIndex);
 }
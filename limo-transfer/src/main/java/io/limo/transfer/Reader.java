@@ -4,6 +4,9 @@
 
 package io.limo.transfer;
 
+import io.limo.LimoIOException;
+import io.limo.utils.BytesOps;
+
 /**
  * This interface allows to read some binary data
  */
@@ -29,4 +32,70 @@ public interface Reader {
      * @throws IndexOutOfBoundsException if there is less than 4 bytes left to read
      */
     int readIntLE();
+
+    /**
+     * Read a LEB128 variable-length int in the data, encoded with 1 to 5 bytes
+     * <p>each byte holds 7 bits of the value, least significant group first, its high bit is set if more bytes follow
+     * <p>Like protobuf, a varint of up to 10 bytes is accepted and only its low 32 bits are kept : protobuf encodes a
+     * negative int as a 10 bytes varint, sign-extended to a long.
+     *
+     * @throws IndexOutOfBoundsException if there is no byte left to read before the last byte of the varint
+     * @throws LimoIOException           if the varint is longer than 10 bytes
+     */
+    default int readVarInt() {
+        var value = 0;
+        for (var shift = 0; shift < 35; shift += 7) {
+            final var b = readByte();
+            value |= (b & 0x7f) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        // discard the upper bytes of a sign-extended varint
+        for (var size = 5; size < 10; size++) {
+            if (readByte() >= 0) {
+                return value;
+            }
+        }
+        throw new LimoIOException("Malformed varint : more than 10 bytes");
+    }
+
+    /**
+     * Read a LEB128 variable-length long in the data, encoded with 1 to 10 bytes
+     *
+     * @throws IndexOutOfBoundsException if there is no byte left to read before the last byte of the varint
+     * @throws LimoIOException           if the varint is longer than 10 bytes
+     * @see #readVarInt()
+     */
+    default long readVarLong() {
+        var value = 0L;
+        for (var shift = 0; shift < 70; shift += 7) {
+            final var b = readByte();
+            value |= (long) (b & 0x7f) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new LimoIOException("Malformed varint : more than 10 bytes");
+    }
+
+    /**
+     * Read a ZigZag encoded LEB128 variable-length int in the data
+     *
+     * @see #readVarInt()
+     * @see BytesOps#zigZagEncode(int)
+     */
+    default int readZigZagVarInt() {
+        return BytesOps.zigZagDecode(readVarInt());
+    }
+
+    /**
+     * Read a ZigZag encoded LEB128 variable-length long in the data
+     *
+     * @see #readVarLong()
+     * @see BytesOps#zigZagEncode(long)
+     */
+    default long readZigZagVarLong() {
+        return BytesOps.zigZagDecode(readVarLong());
+    }
 }
@@ -4,6 +4,11 @@
 
 package io.limo.transfer;
 
+import io.limo.utils.BytesOps;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.Charset;
+
 /**
  * This interface allows to write some binary data
  */
@@ -34,4 +39,85 @@ public interface Writer {
      * @throws IndexOutOfBoundsException if there is no room in data to write an int (4 bytes)
      */
     Writer writeIntLE(int value);
+
+    /**
+     * Writes a LEB128 variable-length int in the data, encoded with 1 to 5 bytes
+     * <p>{@code value} is encoded as an unsigned int : each byte holds 7 bits of the value, least significant group
+     * first, its high bit is set if more bytes follow
+     *
+     * @return this instance
+     * @throws IndexOutOfBoundsException if there is no room in data to write the encoded int
+     */
+    default Writer writeVarInt(int value) {
+        while ((value & ~0x7f) != 0) {
+            writeByte((byte) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        return writeByte((byte) value);
+    }
+
+    /**
+     * Writes a LEB128 variable-length long in the data, encoded with 1 to 10 bytes
+     *
+     * @return this instance
+     * @throws IndexOutOfBoundsException if there is no room in data to write the encoded long
+     * @see #writeVarInt(int)
+     */
+    default Writer writeVarLong(long value) {
+        while ((value & ~0x7fL) != 0) {
+            writeByte((byte) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        return writeByte((byte) value);
+    }
+
+    /**
+     * Writes a ZigZag encoded LEB128 variable-length int in the data, small negative values are encoded with few bytes
+     *
+     * @return this instance
+     * @see #writeVarInt(int)
+     * @see BytesOps#zigZagEncode(int)
+     */
+    default Writer writeZigZagVarInt(int value) {
+        return writeVarInt(BytesOps.zigZagEncode(value));
+    }
+
+    /**
+     * Writes a ZigZag encoded LEB128 variable-length long in the data
+     *
+     * @return this instance
+     * @see #writeVarLong(long)
+     * @see BytesOps#zigZagEncode(long)
+     */
+    default Writer writeZigZagVarLong(long value) {
+        return writeVarLong(BytesOps.zigZagEncode(value));
+    }
+
+    /**
+     * Writes a String encoded with {@code charset} in the data
+     *
+     * @return this instance
+     * @throws IndexOutOfBoundsException if there is no room in data to write encoded String
+     */
+    Writer writeString(@NotNull String string, @NotNull Charset charset);
+
+    /**
+     * Writes all bytes of {@code bytes} in the data
+     *
+     * @return this instance
+     * @throws IndexOutOfBoundsException if there is no room in data to write the bytes
+     */
+    default Writer writeBytes(byte @NotNull [] bytes) {
+        for (final var value : bytes) {
+            writeByte(value);
+        }
+        return this;
+    }
+
+    /**
+     * Writes all buffered bytes, if any, to the underlying destination
+     *
+     * @return this instance
+     */
+    Writer flush();
 }
@@ -9,4 +9,6 @@ module limo.transfer {
     requires org.slf4j;
 
     exports io.limo.transfer;
+
+    exports io.limo.internal.transfer to limo.tcp;
 }
@@ -0,0 +1,70 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.transfer;
+
+import io.limo.transfer.ChecksumWriter;
+import io.limo.transfer.Writer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+import static io.limo.internal.BinaryTestData.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class ChecksumWriterTests {
+
+    private static final String STRING = "CJK \u4E2D\u6587 and emoji \uD83D\uDE00 then \u20AC";
+
+    private static void writeAll(Writer writer) {
+        writer.writeByte(FIRST_BYTE)
+                .writeInt(FIRST_INT)
+                .writeIntLE(SECOND_INT)
+                .writeVarInt(300)
+                .writeZigZagVarLong(-1234567890123L)
+                .writeString(STRING, StandardCharsets.UTF_8)
+                .writeString(STRING, StandardCharsets.UTF_16BE)
+                .writeBytes(STRING.getBytes(StandardCharsets.UTF_16LE))
+                .flush();
+    }
+
+    @Test
+    @DisplayName("Verify the running checksum of a Data is the checksum of its written bytes, read across chunks")
+    void checksumData() {
+        try (final var data = new MutableByBuArrayData(new RecyclingMutableMemorySupplier(7, 4))) {
+            final var writer = new ChecksumWriter(data, new CRC32C());
+            writeAll(writer);
+
+            final var expected = new CRC32C();
+            final var bytes = new byte[(int) data.getWriteIndex()];
+            for (var index = 0; index < bytes.length; index++) {
+                bytes[index] = data.readByteAt(index);
+            }
+            expected.update(bytes);
+            assertThat(writer.getChecksum().getValue()).isEqualTo(expected.getValue());
+
+            final var checksum = new CRC32C();
+            data.updateChecksum(checksum, 0, data.getWriteIndex());
+            assertThat(checksum.getValue()).isEqualTo(expected.getValue());
+            assertThat(data.getReadIndex()).isEqualTo(0L);
+        }
+    }
+
+    @Test
+    @DisplayName("Verify the running checksum of a stream is the checksum of its written bytes")
+    void checksumStream() {
+        final var out = new ByteArrayOutputStream();
+        final ChecksumWriter writer;
+        try (final var streamWriter = new OutputStreamWriter(out, new RecyclingMutableMemorySupplier(8, 4))) {
+            writer = new ChecksumWriter(streamWriter, new CRC32C());
+            writeAll(writer);
+        }
+        final var expected = new CRC32C();
+        expected.update(out.toByteArray());
+        assertThat(writer.getChecksum().getValue()).isEqualTo(expected.getValue());
+    }
+}
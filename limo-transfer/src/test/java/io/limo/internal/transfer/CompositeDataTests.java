@@ -0,0 +1,79 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.transfer;
+
+import io.limo.memory.OffHeapFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static io.limo.internal.BinaryTestData.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class CompositeDataTests {
+
+    /**
+     * 3 components, both ints straddle 2 components
+     */
+    private static CompositeData newCompositeData() {
+        return new CompositeData(
+                OffHeapFactory.of(Arrays.copyOfRange(BYTES_BIG_ENDIAN, 0, 3)),
+                OffHeapFactory.of(Arrays.copyOfRange(BYTES_BIG_ENDIAN, 3, 7)),
+                OffHeapFactory.of(Arrays.copyOfRange(BYTES_BIG_ENDIAN, 7, BYTES_BIG_ENDIAN.length)));
+    }
+
+    @Test
+    @DisplayName("Verify read across components is working")
+    void readSeveralComponents() {
+        try (final var data = newCompositeData()) {
+            assertThat(data.getByteSize()).isEqualTo(BYTES_BIG_ENDIAN.length);
+            assertThat(data.readIntAt(6)).isEqualTo(SECOND_INT);
+            assertThat(data.getReadIndex()).isEqualTo(0);
+            assertThat(data.readByte()).isEqualTo(FIRST_BYTE);
+            assertThat(data.readInt()).isEqualTo(FIRST_INT);
+            assertThat(data.readByte()).isEqualTo(SECOND_BYTE);
+            assertThat(data.readInt()).isEqualTo(SECOND_INT);
+        }
+    }
+
+    @Test
+    @DisplayName("Verify slice and concat reference components without copy")
+    void sliceAndConcat() {
+        final var data = newCompositeData();
+        final var slice = data.slice(5, 5);
+        assertThat(slice.readByte()).isEqualTo(SECOND_BYTE);
+        assertThat(slice.readInt()).isEqualTo(SECOND_INT);
+        try (final var concat = data.concat(slice)) {
+            assertThat(concat.getByteSize()).isEqualTo(BYTES_BIG_ENDIAN.length + 5);
+            assertThat(concat.readIntAt(BYTES_BIG_ENDIAN.length + 1)).isEqualTo(SECOND_INT);
+            final var byteBuffers = concat.toByteBuffers();
+            assertThat(byteBuffers).hasSize(5);
+            assertThat(byteBuffers[3].remaining()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("Verify readLine and readUntil return views across components")
+    void readLines() {
+        final var text = "+OK\r\n$5\r\nhello\r\n".getBytes(StandardCharsets.US_ASCII);
+        try (final var data = new CompositeData(
+                OffHeapFactory.of(Arrays.copyOfRange(text, 0, 4)),
+                OffHeapFactory.of(Arrays.copyOfRange(text, 4, 10)),
+                OffHeapFactory.of(Arrays.copyOfRange(text, 10, text.length)))) {
+            final var ok = data.readLine();
+            assertThat(ok.readStringAt(0, (int) ok.getByteSize(), StandardCharsets.US_ASCII)).isEqualTo("+OK");
+            assertThat(data.indexOf((byte) 'h')).isEqualTo(9L);
+            final var length = data.readUntil("\r\n".getBytes(StandardCharsets.US_ASCII));
+            assertThat(length.readStringAt(0, 2, StandardCharsets.US_ASCII)).isEqualTo("$5");
+            final var hello = data.readLine();
+            assertThat(hello.getByteSize()).isEqualTo(5L);
+            assertThat(hello.readStringAt(0, 5, StandardCharsets.US_ASCII)).isEqualTo("hello");
+            assertThat(data.getReadIndex()).isEqualTo(text.length);
+            assertThat(data.readLine()).isNull();
+        }
+    }
+}
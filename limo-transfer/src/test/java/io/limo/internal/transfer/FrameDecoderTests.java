@@ -0,0 +1,127 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.transfer;
+
+import io.limo.LimoIOException;
+import io.limo.transfer.Data;
+import io.limo.transfer.FrameFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public final class FrameDecoderTests {
+
+    private static final byte[][] FRAMES = {
+            {}, {42}, {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20}, new byte[200]
+    };
+
+    @Test
+    @DisplayName("Verify encoded frames are decoded for all prefix formats, when received a few bytes at a time")
+    void encodeDecode() {
+        final var formats = List.of(
+                FrameFormat.fixedLength(1, ByteOrder.BIG_ENDIAN, 255),
+                FrameFormat.fixedLength(2, ByteOrder.BIG_ENDIAN, 1000),
+                FrameFormat.fixedLength(2, ByteOrder.LITTLE_ENDIAN, 1000),
+                FrameFormat.fixedLength(4, ByteOrder.BIG_ENDIAN, 1000),
+                FrameFormat.fixedLength(4, ByteOrder.LITTLE_ENDIAN, 1000),
+                FrameFormat.fixedLength(8, ByteOrder.BIG_ENDIAN, 1000),
+                FrameFormat.fixedLength(8, ByteOrder.LITTLE_ENDIAN, 1000),
+                FrameFormat.varIntLength(1000));
+        for (final var format : formats) {
+            final var encoded = encode(format);
+            // chunks of 8 bytes, so frames span several chunks
+            try (final var decoder = new FrameDecoder(format, new RecyclingMutableMemorySupplier(8, 4))) {
+                final var decoded = new ArrayList<byte[]>();
+                for (var index = 0; index < encoded.length; index++) {
+                    decoder.buffer.writeByte(encoded[index]);
+                    if (index % 3 == 0) {
+                        decoder.decode(frame -> decoded.add(toBytes(frame)));
+                    }
+                }
+                decoder.decode(frame -> decoded.add(toBytes(frame)));
+                assertThat(decoded).hasSize(FRAMES.length);
+                for (var frameIndex = 0; frameIndex < FRAMES.length; frameIndex++) {
+                    assertThat(decoded.get(frameIndex)).isEqualTo(FRAMES[frameIndex]);
+                }
+                // all chunks were released
+                assertThat(decoder.buffer.getWriteIndex()).isZero();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Verify decoded chunks are released while a partial frame is kept")
+    void partialFrame() {
+        final var format = FrameFormat.fixedLength(4, ByteOrder.BIG_ENDIAN, 1000);
+        final var encoded = encode(format);
+        try (final var decoder = new FrameDecoder(format, new RecyclingMutableMemorySupplier(8, 4))) {
+            // first 3 frames and the prefix of last one
+            final var partialLength = 4 + 4 + 1 + 4 + 20 + 4 + 10;
+            for (var index = 0; index < partialLength; index++) {
+                decoder.buffer.writeByte(encoded[index]);
+            }
+            assertThat(decoder.decode(frame -> {})).isEqualTo(3);
+            assertThat(decoder.buffer.getReadIndex()).isLessThan(8L);
+            assertThat(decoder.buffer.getWriteIndex() - decoder.buffer.getReadIndex()).isEqualTo(14L);
+            for (var index = partialLength; index < encoded.length; index++) {
+                decoder.buffer.writeByte(encoded[index]);
+            }
+            final var decoded = new ArrayList<byte[]>();
+            assertThat(decoder.decode(frame -> decoded.add(toBytes(frame)))).isEqualTo(1);
+            assertThat(decoded.get(0)).isEqualTo(FRAMES[3]);
+        }
+    }
+
+    @Test
+    @DisplayName("Verify a frame longer than max frame size is rejected")
+    void maxFrameSize() {
+        final var format = FrameFormat.fixedLength(2, ByteOrder.BIG_ENDIAN, 10);
+        try (final var data = new MutableByBuArrayData(new RecyclingMutableMemorySupplier(8, 4))) {
+            format.writeFrame(data, frame -> frame.writeInt(1));
+            assertThatThrownBy(() -> format.writeFrame(data, frame -> frame.writeInt(1).writeInt(2).writeInt(3)))
+                    .isInstanceOf(IllegalStateException.class);
+            // rejected frame, that spanned several chunks, is discarded
+            assertThat(data.getWriteIndex()).isEqualTo(6L);
+            assertThat(data.lastWrittenIndex).isZero();
+            format.writeFrame(data, frame -> frame.writeInt(2));
+            assertThat(data.getWriteIndex()).isEqualTo(12L);
+            assertThat(data.readIntAt(2)).isEqualTo(1);
+            assertThat(data.readIntAt(8)).isEqualTo(2);
+        }
+        try (final var decoder = new FrameDecoder(format, new RecyclingMutableMemorySupplier(64, 4))) {
+            decoder.buffer.writeByte((byte) 0).writeByte((byte) 11);
+            assertThatThrownBy(() -> decoder.decode(frame -> {})).isInstanceOf(LimoIOException.class);
+        }
+        assertThatThrownBy(() -> FrameFormat.fixedLength(1, ByteOrder.BIG_ENDIAN, 256))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] encode(FrameFormat format) {
+        try (final var data = new MutableByBuArrayData(new RecyclingMutableMemorySupplier(16, 4))) {
+            for (final var frame : FRAMES) {
+                format.writeFrame(data, writer -> {
+                    for (final var b : frame) {
+                        writer.writeByte(b);
+                    }
+                });
+            }
+            return toBytes(data);
+        }
+    }
+
+    private static byte[] toBytes(Data data) {
+        final var bytes = new byte[(int) (data.getWriteIndex() - data.getReadIndex())];
+        for (var index = 0; index < bytes.length; index++) {
+            bytes[index] = data.readByte();
+        }
+        return bytes;
+    }
+}
@@ -5,13 +5,32 @@
 package io.limo.internal.transfer;
 
 import io.limo.transfer.Reader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
 
+import static io.limo.internal.BinaryTestData.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 public class InputStreamReaderTests implements ReaderTests {
 
     @Override
     public Reader instanciateReader(byte[] byteArray) {
         return new InputStreamReader(new ByteArrayInputStream(byteArray));
     }
+
+    @Test
+    @DisplayName("Verify ints are read across several buffer refills")
+    void readSeveralRefills() {
+        final var in = new ByteArrayInputStream(BYTES_BIG_ENDIAN);
+        try (final var reader = new InputStreamReader(in, new RecyclingMutableMemorySupplier(4, 4))) {
+            assertThat(reader.readByte()).isEqualTo(FIRST_BYTE);
+            assertThat(reader.readInt()).isEqualTo(FIRST_INT);
+            assertThat(reader.readByte()).isEqualTo(SECOND_BYTE);
+            assertThat(reader.readInt()).isEqualTo(SECOND_INT);
+            assertThatThrownBy(reader::readByte).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
 }
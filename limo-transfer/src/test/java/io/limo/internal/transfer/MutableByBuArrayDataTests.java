@@ -0,0 +1,330 @@
+/*
+ * This is free and unencumbered software released into the public domain, following <https://unlicense.org>
+ */
+
+package io.limo.internal.transfer;
+
+import io.limo.LimoIOException;
+import io.limo.memory.MutableByBuOffHeap;
+import io.limo.memory.OffHeapFactory;
+import io.limo.transfer.Data;
+import io.limo.utils.XxHash64;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.limo.internal.BinaryTestData.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public final class MutableByBuArrayDataTests {
+
+    @Test
+    @DisplayName("Verify write across several chunks is working")
+    void writeSeveralChunks() {
+        try (final var data = new MutableByBuArrayData(new RecyclingMutableMemorySupplier(3, 4))) {
+            data.writeByte(FIRST_BYTE)
+                    .writeInt(FIRST_INT)
+                    .writeByte(SECOND_BYTE)
+                    .writeInt(SECOND_INT);
+            assertThat(data.getWriteIndex()).isEqualTo(BYTES_BIG_ENDIAN.length);
+            assertThat(data.lastWrittenIndex).isEqualTo(3);
+            for (var index = 0; index < data.lastWrittenIndex; index++) {
+                assertThat(data.bybuArray[index].toByteArray())
+                        .containsExactly(BYTES_BIG_ENDIAN[index * 3], BYTES_BIG_ENDIAN[index * 3 + 1], BYTES_BIG_ENDIAN[index * 3 + 2]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Verify closing a Data gives its chunks back to the supplier")
+    void recycleOnClose() {
+        final var supplier = new RecyclingMutableMemorySupplier(8, 4);
+        final var data = new MutableByBuArrayData(supplier);
+        final var chunk = data.bybuArray[0].getByteBuffer();
+        data.writeInt(FIRST_INT);
+        data.close();
+        try (final var recycled = supplier.get()) {
+            assertThat(recycled.getByteBuffer()).isSameAs(chunk);
+        }
+    }
+
+    @Test
+    @DisplayName("Verify clearing a Data gives back all chunks but the first one, that is written again")
+    void clear() {
+        final var supplier = new RecyclingMutableMemorySupplier(4, 4);
+        try (final var data = new MutableByBuArrayData(supplier)) {
+            final var firstChunk = data.bybuArray[0];
+            final var secondChunk = data.writeByte(FIRST_BYTE)
+                    .writeInt(FIRST_INT)
+                    .bybuArray[1].getByteBuffer();
+            data.readByte();
+            data.clear();
+            assertThat(data.lastWrittenIndex).isZero();
+            assertThat(data.bybuArray[0]).isSameAs(firstChunk);
+            assertThat(data.getByteSize()).isEqualTo(4L);
+            assertThat(data.getReadIndex()).isZero();
+            assertThat(data.getWriteIndex()).isZero();
+            try (final var recycled = supplier.get()) {
+                assertThat(recycled.getByteBuffer()).isSameAs(secondChunk);
+            }
+            data.writeByte(SECOND_BYTE)
+                    .writeInt(SECOND_INT);
+            assertThat(data.readByte()).isEqualTo(SECOND_BYTE);
+            assertThat(data.readInt()).isEqualTo(SECOND_INT);
+        }
+    }
+
+    @Test
+    @DisplayName("Verify a UTF-8 String is written across several chunks")
+    void writeUtf8SeveralChunks() {
+        final var string = "CJK \u4E2D\u6587 and emoji \uD83D\uDE00 then \u20AC";
+        final var utf8 = string.getBytes(StandardCharsets.UTF_8);
+        try (final var data = new MutableByBuArrayData(new RecyclingMutableMemorySupplier(5, 4))) {
+            data.writeByte(FIRST_BYTE)
+                    .writeString(string, StandardCharsets.UTF_8);
+            assertThat(data.getWriteIndex()).isEqualTo(1 + utf8.length);
+            assertThat(data.readStringAt(1, utf8.length, StandardCharsets.UTF_8)).isEqualTo(string);
+        }
+    }
+
+    @Test
+    @DisplayName("Verify random access across several chunks does not move the read cursor")
+    void readAtSeveralChunks() {
+        try (final var data = new MutableByBuArrayData(new RecyclingMutableMemorySupplier(4, 4))) {
+            data.writeByte(FIRST_BYTE)
+                    .writeInt(FIRST_INT)
+                    .writeByte(SECOND_BYTE)
+                    .writeInt(SECOND_INT);
+            // second int straddles the 2nd and 3rd chunks
+            assertThat(data.readIntAt(6)).isEqualTo(SECOND_INT);
+            assertThat(data.readIntAt(1)).isEqualTo(FIRST_INT);
+            assertThat(data.readIntAtLE(6)).isEqualTo(Integer.reverseBytes(SECOND_INT));
+            assertThat(data.readByteAt(5)).isEqualTo(SECOND_BYTE);
+            assertThat(data.getReadIndex()).isEqualTo(0);
+            assertThat(data.readByte()).isEqualTo(FIRST_BYTE);
+            assertThat(data.readInt()).isEqualTo(FIRST_INT);
+            assertThat(data.readByte()).isEqualTo(SECOND_BYTE);
+            assertThat(data.readInt()).isEqualTo(SECOND_INT);
+            assertThat(data.getReadIndex()).isEqualTo(BYTES_BIG_ENDIAN.length);
+        }
+    }
+
+    @Test
+    @DisplayName("Verify vectored read from and write to a channel across several chunks")
+    void readFromWriteToChannel(@TempDir Path tempDir) throws IOException {
+        final var in = tempDir.resolve("in.bin");
+        final var out = tempDir.resolve("out.bin");
+        Files.write(in, BYTES_BIG_ENDIAN);
+        try (final var data = new MutableByBuArrayData(new RecyclingMutableMemorySupplier(4, 4))) {
+            try (final var channel = FileChannel.open(in)) {
+                var readBytes = 0L;
+                while (readBytes < BYTES_BIG_ENDIAN.length) {
+                    readBytes += data.readFrom(channel);
+                }
+            }
+            assertThat(data.getWriteIndex()).isEqualTo(BYTES_BIG_ENDIAN.length);
+            assertThat(data.readByte()).isEqualTo(FIRST_BYTE);
+            try (final var channel = FileChannel.open(out, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                assertThat(data.writeTo(channel)).isEqualTo(BYTES_BIG_ENDIAN.length - 1);
+            }
+            assertThat(data.getReadIndex()).isEqualTo(BYTES_BIG_ENDIAN.length);
+        }
+        assertThat(Files.readAllBytes(out)).isEqualTo(Arrays.copyOfRange(BYTES_BIG_ENDIAN, 1, BYTES_BIG_ENDIAN.length));
+    }
+
+    @Test
+    @DisplayName("Verify read from a channel only takes a spare chunk when current chunk is almost full")
+    void readFromSpareChunk(@TempDir Path tempDir) throws IOException {
+        final var in = tempDir.resolve("in.bin");
+        final var bytes = new byte[20];
+        new Random().nextBytes(bytes);
+        Files.write(in, bytes);
+        final var recycling = new RecyclingMutableMemorySupplier(16, 4);
+        final var suppliedCount = new AtomicInteger();
+        final var supplier = new MutableMemorySupplier() {
+            @Override
+            public @NotNull MutableByBuOffHeap get() {
+                suppliedCount.incrementAndGet();
+                return recycling.get();
+            }
+
+            @Override
+            public void recycle(@NotNull MutableByBuOffHeap memory) {
+                recycling.recycle(memory);
+            }
+        };
+        try (final var data = new MutableByBuArrayData(supplier);
+             final var channel = FileChannel.open(in)) {
+            // current chunk is empty : bytes are only read in it
+            assertThat(data.readFrom(channel)).isEqualTo(16L);
+            assertThat(suppliedCount.get()).isEqualTo(1);
+            // current chunk is full : a spare chunk is added
+            assertThat(data.readFrom(channel)).isEqualTo(4L);
+            assertThat(suppliedCount.get()).isEqualTo(2);
+            assertThat(data.lastWrittenIndex).isEqualTo(1);
+            for (var index = 0; index < bytes.length; index++) {
+                assertThat(data.readByte()).isEqualTo(bytes[index]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Verify varints are written and read in a single chunk and across several chunks")
+    void varInts() {
+        final int[] ints = {0, 1, 127, 128, 300, 16_383, 16_384, Integer.MAX_VALUE, -1, Integer.MIN_VALUE};
+        final long[] longs = {0L, 127L, 128L, 1L << 55, (1L << 56) - 1, 1L << 56, 1L << 62, Long.MAX_VALUE, -1L,
+                Long.MIN_VALUE};
+        // chunks of 3 bytes only use byte by byte paths, chunks of 64 bytes mostly use fast paths
+        for (final var chunkSize : new int[]{3, 64}) {
+            try (final var data = new MutableByBuArrayData(new RecyclingMutableMemorySupplier(chunkSize, 4))) {
+                for (final var value : ints) {
+                    data.writeVarInt(value);
+                    data.writeZigZagVarInt(value);
+                }
+                for (final var value : longs) {
+                    data.writeVarLong(value);
+                    data.writeZigZagVarLong(value);
+                }
+                for (final var value : ints) {
+                    assertThat(data.readVarInt()).isEqualTo(value);
+                    assertThat(data.readZigZagVarInt()).isEqualTo(value);
+                }
+                for (final var value : longs) {
+                    assertThat(data.readVarLong()).isEqualTo(value);
+                    assertThat(data.readZigZagVarLong()).isEqualTo(value);
+                }
+                assertThat(data.getReadIndex()).isEqualTo(data.getWriteIndex());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Verify varint encoding is LEB128 and a too long varint is rejected")
+    void varIntEncoding() {
+        try (final var data = new MutableByBuArrayData(new RecyclingMutableMemorySupplier(64, 4))) {
+            data.writeVarInt(300);
+            assertThat(data.getWriteIndex()).isEqualTo(2L);
+            assertThat(data.readByteAt(0)).isEqualTo((byte) 0xac);
+            assertThat(data.readByteAt(1)).isEqualTo((byte) 0x02);
+            assertThat(data.readVarInt()).isEqualTo(300);
+
+            for (var index = 0; index < 10; index++) {
+                data.writeByte((byte) 0x80);
+            }
+            data.writeByte((byte) 0);
+            assertThatThrownBy(data::readVarInt).isInstanceOf(LimoIOException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Verify a negative int sign-extended to a 10 bytes varint, like protobuf encodes it, is read as an int")
+    void varIntSignExtended() {
+        final int[] ints = {-1, -300, Integer.MIN_VALUE, 1, Integer.MAX_VALUE};
+        // chunks of 3 bytes only use byte by byte paths, chunks of 9 bytes split the fast path, 64 bytes do not
+        for (final var chunkSize : new int[]{3, 9, 64}) {
+            try (final var data = new MutableByBuArrayData(new RecyclingMutableMemorySupplier(chunkSize, 4))) {
+                // protobuf encoding of -1 as an int32
+                for (var index = 0; index < 9; index++) {
+                    data.writeByte((byte) 0xff);
+                }
+                data.writeByte((byte) 0x01);
+                for (final var value : ints) {
+                    data.writeVarLong(value);
+                }
+                assertThat(data.readVarInt()).isEqualTo(-1);
+                for (final var value : ints) {
+                    assertThat(data.readVarInt()).isEqualTo(value);
+                }
+                assertThat(data.getReadIndex()).isEqualTo(data.getWriteIndex());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Verify lines are read as views, with line terminators split across several chunks")
+    void readLines() {
+        final var text = "GET / HTTP/1.1\r\nHost: limo\r\n\nbody";
+        for (final var chunkSize : new int[]{3, 8, 64}) {
+            try (final var data = new MutableByBuArrayData(new RecyclingMutableMemorySupplier(chunkSize, 4))) {
+                data.writeString(text, StandardCharsets.US_ASCII);
+                assertThat(data.indexOf((byte) '\n')).isEqualTo(15L);
+                assertThat(asString(data.readLine())).isEqualTo("GET / HTTP/1.1");
+                assertThat(asString(data.readLine())).isEqualTo("Host: limo");
+                assertThat(asString(data.readLine())).isEqualTo("");
+                assertThat(data.readLine()).isNull();
+                assertThat(data.readUntil("\r\n".getBytes(StandardCharsets.US_ASCII))).isNull();
+                assertThat(data.getReadIndex()).isEqualTo(text.length() - 4L);
+                assertThat(asString(data.readUntil("dy".getBytes(StandardCharsets.US_ASCII)))).isEqualTo("bo");
+                assertThat(data.getReadIndex()).isEqualTo(data.getWriteIndex());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Verify short and long patterns are found across several chunks")
+    void indexOfPatterns() {
+        // a 2 letters alphabet produces many partial matches and periodic patterns
+        final var random = new Random(42);
+        final var bytes = new byte[500];
+        for (var index = 0; index < bytes.length; index++) {
+            bytes[index] = (byte) (random.nextBoolean() ? 'a' : 'b');
+        }
+        try (final var data = new MutableByBuArrayData(new RecyclingMutableMemorySupplier(7, 4))) {
+            data.writeString(new String(bytes, StandardCharsets.US_ASCII), StandardCharsets.US_ASCII);
+            data.skip(3);
+            for (var length = 1; length <= 24; length++) {
+                for (var start = 0; start < 40; start++) {
+                    final var pattern = Arrays.copyOfRange(bytes, start * 11, start * 11 + length);
+                    assertThat(data.indexOf(pattern)).isEqualTo(naiveIndexOf(bytes, 3, pattern));
+                    // periodic pattern that is not in the data
+                    final var periodic = new byte[length + 12];
+                    Arrays.fill(periodic, (byte) 'a');
+                    periodic[length] = 'b';
+                    assertThat(data.indexOf(periodic)).isEqualTo(naiveIndexOf(bytes, 3, periodic));
+                }
+            }
+            assertThatThrownBy(() -> data.indexOf(new byte[0])).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Verify hashing a region across several chunks gives the one-shot hash of the same bytes")
+    void updateHash() {
+        final var text = "The quick brown fox jumps over the lazy dog";
+        try (final var data = new MutableByBuArrayData(new RecyclingMutableMemorySupplier(7, 4));
+             final var memory = OffHeapFactory.of(text.getBytes(StandardCharsets.US_ASCII))) {
+            data.writeString(text, StandardCharsets.US_ASCII);
+            final var hasher = new XxHash64(42L);
+            data.updateHash(hasher, 3, text.length() - 3);
+            assertThat(hasher.getValue()).isEqualTo(XxHash64.hash(memory, 3, text.length() - 3, 42L));
+            assertThat(data.getReadIndex()).isEqualTo(0L);
+            assertThatThrownBy(() -> data.updateHash(hasher, 3, text.length()))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    private static long naiveIndexOf(byte[] bytes, int fromIndex, byte[] pattern) {
+        for (var index = fromIndex; index <= bytes.length - pattern.length; index++) {
+            if (Arrays.equals(bytes, index, index + pattern.length, pattern, 0, pattern.length)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static String asString(Data view) {
+        return view.readStringAt(0, (int) view.getWriteIndex(), StandardCharsets.US_ASCII);
+    }
+}
@@ -5,21 +5,65 @@
 package io.limo.internal.transfer;
 
 import io.limo.transfer.Writer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static io.limo.internal.BinaryTestData.*;
+import static org.assertj.core.api.Assertions.assertThat;
 
 public class OutputStreamWriterTests implements WriterTests {
 
     private ByteArrayOutputStream out;
+    private OutputStreamWriter writer;
 
     @Override
     public Writer instanciateWriter() {
         this.out = new ByteArrayOutputStream(10);
-        return new OutputStreamWriter(this.out);
+        this.writer = new OutputStreamWriter(this.out);
+        return this.writer;
     }
 
     @Override
     public byte[] writtenByteArray() {
+        this.writer.flush();
         return this.out.toByteArray();
     }
+
+    @Test
+    @DisplayName("Verify bytes are buffered until flush")
+    void writeIsBuffered() {
+        final var out = new ByteArrayOutputStream();
+        try (final var writer = new OutputStreamWriter(out)) {
+            writer.writeByte(FIRST_BYTE)
+                    .writeInt(FIRST_INT);
+            assertThat(out.size()).isZero();
+            writer.writeByte(SECOND_BYTE)
+                    .writeInt(SECOND_INT)
+                    .flush();
+            assertThat(out.toByteArray()).isEqualTo(BYTES_BIG_ENDIAN);
+        }
+    }
+
+    @Test
+    @DisplayName("Verify Strings are written across several buffer flushes")
+    void writeStringSeveralFlushes() {
+        final var string = "CJK \u4E2D\u6587 and emoji \uD83D\uDE00\uD83D\uDE00 then \u20AC";
+        final var out = new ByteArrayOutputStream();
+        try (final var writer = new OutputStreamWriter(out, new RecyclingMutableMemorySupplier(8, 4))) {
+            writer.writeByte(FIRST_BYTE)
+                    .writeString(string, StandardCharsets.UTF_8)
+                    .writeString(string, StandardCharsets.UTF_16BE)
+                    .writeIntLE(FIRST_INT);
+        }
+        final var expected = new ByteArrayOutputStream();
+        expected.write(FIRST_BYTE);
+        expected.writeBytes(string.getBytes(StandardCharsets.UTF_8));
+        expected.writeBytes(string.getBytes(StandardCharsets.UTF_16BE));
+        expected.writeBytes(new byte[]{(byte) FIRST_INT, (byte) (FIRST_INT >> 8), (byte) (FIRST_INT >> 16),
+                (byte) (FIRST_INT >> 24)});
+        assertThat(out.toByteArray()).isEqualTo(expected.toByteArray());
+    }
 }
@@ -42,5 +42,13 @@ interface ReaderTests {
         assertThat(reader.readInt()).isEqualTo(SECOND_INT);
     }
 
+    @Test
+    @DisplayName("Verify a 10 bytes varint, like protobuf encodes a negative int, is read as an int")
+    default void readVarIntSignExtended() {
+        final var reader = instanciateReader(new byte[]{-1, -1, -1, -1, -1, -1, -1, -1, -1, 1, (byte) 0xac, 2});
+        assertThat(reader.readVarInt()).isEqualTo(-1);
+        assertThat(reader.readVarInt()).isEqualTo(300);
+    }
+
     Reader instanciateReader(byte[] byteArray);
 }